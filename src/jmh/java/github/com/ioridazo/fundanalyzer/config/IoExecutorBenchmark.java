@@ -0,0 +1,95 @@
+package github.com.ioridazo.fundanalyzer.config;
+
+import github.com.ioridazo.fundanalyzer.domain.util.ParallelExecution;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * I/O待ちが中心の処理の実行環境ごとの負荷試験
+ * <ul>
+ *    <li>"pool"は固定数のスレッドプール、"elastic"はelasticプロファイルのタスクごとのスレッドで実行する<li/>
+ *    <li>接続先はコネクションプールを模した{@value #CONNECTIONS}個の枠を取り合い、1件あたり{@value #IO_MILLIS}ミリ秒待機する<li/>
+ *    <li>1回の呼び出しを{@value #TASKS}件として計測するため、スループットは1秒あたりの処理件数となる<li/>
+ *    <li>メモリはGCプロファイラのアロケーション量と、{@link PeakThreadProfiler}のスレッド数の最大値で比較する<li/>
+ *    <li>例: -Djmh.args="IoExecutorBenchmark -prof gc -prof github.com.ioridazo.fundanalyzer.config.PeakThreadProfiler"<li/>
+ * </>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class IoExecutorBenchmark {
+
+    private static final int TASKS = 200;
+
+    // 本番のコネクションプールの最大数の目安
+    private static final int CONNECTIONS = 30;
+
+    private static final int IO_MILLIS = 5;
+
+    @Param({"pool", "elastic"})
+    String mode;
+
+    private final List<Integer> taskList = IntStream.range(0, TASKS).boxed().toList();
+
+    private final Semaphore connections = new Semaphore(CONNECTIONS);
+
+    private Executor executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // application.yml と application-elastic.yml の設定値を使用する
+        executor = switch (mode) {
+            case "pool" -> new AppConfig().stockExecutor(4, 50, meterRegistry);
+            case "elastic" -> new ElasticExecutorConfig().stockExecutor(50, meterRegistry);
+            default -> throw new IllegalArgumentException(mode);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void execute() {
+        ParallelExecution.forEach(taskList, task -> io(), executor);
+    }
+
+    private void io() {
+        connections.acquireUninterruptibly();
+        try {
+            TimeUnit.MILLISECONDS.sleep(IO_MILLIS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connections.release();
+        }
+    }
+}
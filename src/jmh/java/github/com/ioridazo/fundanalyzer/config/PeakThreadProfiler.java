@@ -0,0 +1,43 @@
+package github.com.ioridazo.fundanalyzer.config;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 試行ごとのスレッド数の最大値を計測結果として出力するプロファイラ
+ * <ul>
+ *    <li>"-prof github.com.ioridazo.fundanalyzer.config.PeakThreadProfiler"で指定する<li/>
+ *    <li>試行の開始時に最大値をリセットし、試行の間の最大値を"threads.peak"として出力する<li/>
+ *    <li>試行ごとの値を合計せず、すべての試行の最大値を計測結果とする<li/>
+ * </>
+ */
+public class PeakThreadProfiler implements InternalProfiler {
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    @Override
+    public String getDescription() {
+        return "試行ごとのスレッド数の最大値";
+    }
+
+    @Override
+    public void beforeIteration(final BenchmarkParams benchmarkParams, final IterationParams iterationParams) {
+        threadMXBean.resetPeakThreadCount();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(
+            final BenchmarkParams benchmarkParams, final IterationParams iterationParams, final IterationResult result) {
+        return List.of(new ScalarResult("threads.peak", threadMXBean.getPeakThreadCount(), "threads", AggregationPolicy.MAX));
+    }
+}
@@ -0,0 +1,165 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.jsoup;
+
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.ScrapingKeywordEntity;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentStatus;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentTypeCode;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.FinancialTableResultBean;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.Unit;
+import github.com.ioridazo.fundanalyzer.domain.value.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * XBRLスクレイピングのベンチマーク
+ * <ul>
+ *    <li>テストリソースの"honbun"ファイルを使用する<li/>
+ *    <li>"large"は同じファイルに大量の注記を追加し、大容量の書類を再現する<li/>
+ *    <li>1回の呼び出しが1書類分の処理となるよう、解析済みの文書モデルは毎回破棄する<li/>
+ * </>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class XbrlScrapingBenchmark {
+
+    private static final String RESOURCE_DIRECTORY = "src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/";
+
+    private static final String BALANCE_SHEET = "jpcrp_cor:BalanceSheetTextBlock";
+
+    private static final String NUMBER_OF_SHARES = "jpcrp_cor:IssuedSharesTotalNumberOfSharesEtcTextBlock";
+
+    private static final String STATEMENT_OF_INCOME = "jpcrp_cor:YearToQuarterEndConsolidatedStatementOfIncomeTextBlock";
+
+    // 大容量の書類とみなすファイルサイズ
+    private static final DataSize LARGE_SIZE = DataSize.ofMegabytes(16);
+
+    // 注記を模した、キーワードに合致しないエレメント
+    private static final String FILLER = """
+            <div class="note"><table><tbody>
+            <tr><td><p>その他の注記事項</p></td><td><p>1,234,567</p></td><td><p>△89,012</p></td></tr>
+            <tr><td><p>関係会社に対する金銭債権</p></td><td><p>345,678</p></td><td><p>901,234</p></td></tr>
+            </tbody></table></div>
+            """;
+
+    @Param({"small", "large"})
+    String size;
+
+    @Param({"false", "true"})
+    boolean streaming;
+
+    @Param({"false", "true"})
+    boolean prefilter;
+
+    private final Document document = new Document(
+            "benchmark",
+            DocumentTypeCode.DTC_120,
+            null,
+            "E00000",
+            null,
+            null,
+            null,
+            null,
+            DocumentStatus.DONE,
+            DocumentStatus.DONE,
+            DocumentStatus.NOT_YET,
+            null,
+            DocumentStatus.NOT_YET,
+            null,
+            DocumentStatus.NOT_YET,
+            null,
+            false
+    );
+
+    private Path corpus;
+
+    private File statementFile;
+
+    private File numberOfSharesFile;
+
+    private File unitFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        corpus = Files.createTempDirectory("fundanalyzer-benchmark");
+        statementFile = copy("scrape-financial-statement/jsoup_main.html", "0101010_honbun_jpcrp030000-asr-001.htm");
+        numberOfSharesFile = copy("scrape-number-of-shares/jsoup_ok.htm", "0104010_honbun_jpcrp030000-asr-001.htm");
+        unitFile = copy("scrape-financial-statement/jsoup_unit_millions_3.html", "0105010_honbun_jpcrp040300-q3r-001.htm");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(corpus);
+    }
+
+    @Benchmark
+    public Optional<File> findFile() {
+        return xbrlScraping().findFile(corpus.toFile(), new ScrapingKeywordEntity(1, "1", BALANCE_SHEET, 1, null, null), document);
+    }
+
+    @Benchmark
+    public List<FinancialTableResultBean> scrapeFinancialStatement() {
+        return xbrlScraping().scrapeFinancialStatement(statementFile, BALANCE_SHEET);
+    }
+
+    @Benchmark
+    public Unit unit() {
+        return xbrlScraping().unit(unitFile, STATEMENT_OF_INCOME);
+    }
+
+    @Benchmark
+    public String scrapeNumberOfShares() {
+        return xbrlScraping().scrapeNumberOfShares(numberOfSharesFile, NUMBER_OF_SHARES);
+    }
+
+    // 解析済みの文書モデルを引き継がないよう、呼び出しごとに生成する
+    private XbrlScraping xbrlScraping() {
+        final XbrlScraping xbrlScraping = new XbrlScraping();
+        xbrlScraping.streamingEnabled = streaming;
+        xbrlScraping.streamingThreshold = DataSize.ofMegabytes(5);
+        xbrlScraping.prefilterEnabled = prefilter;
+        return xbrlScraping;
+    }
+
+    private File copy(final String resource, final String name) throws IOException {
+        final Path target = corpus.resolve(name);
+        final String html = Files.readString(Path.of(RESOURCE_DIRECTORY + resource), StandardCharsets.UTF_8);
+        if ("large".equals(size)) {
+            final int body = html.lastIndexOf("</body>");
+            final StringBuilder padded = new StringBuilder((int) LARGE_SIZE.toBytes() + html.length());
+            padded.append(html, 0, body);
+            while (padded.length() < LARGE_SIZE.toBytes()) {
+                padded.append(FILLER);
+            }
+            padded.append(html, body, html.length());
+            Files.writeString(target, padded, StandardCharsets.UTF_8);
+        } else {
+            Files.writeString(target, html, StandardCharsets.UTF_8);
+        }
+        return target.toFile();
+    }
+}
@@ -0,0 +1,188 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.specification;
+
+import github.com.ioridazo.fundanalyzer.domain.domain.dao.transaction.FinancialStatementDaoImpl;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.CreatedType;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentStatus;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentTypeCode;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEnum;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.QuarterType;
+import github.com.ioridazo.fundanalyzer.domain.value.Company;
+import github.com.ioridazo.fundanalyzer.domain.value.Document;
+import github.com.ioridazo.fundanalyzer.domain.value.FinancialStatementValue;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.JdbcLogger;
+import org.seasar.doma.jdbc.Naming;
+import org.seasar.doma.jdbc.UtilLoggingJdbcLogger;
+import org.seasar.doma.jdbc.dialect.Dialect;
+import org.seasar.doma.jdbc.dialect.H2Dialect;
+import org.seasar.doma.jdbc.tx.LocalTransactionDataSource;
+import org.seasar.doma.jdbc.tx.LocalTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 財務諸表の値の登録のベンチマーク
+ * <ul>
+ *    <li>H2（MySQLモード）のインメモリデータベースに、1書類分の値を登録する<li/>
+ *    <li>"perRow"は値ごとに登録・コミットし、"batch"は1回のバッチ・1つのトランザクションで登録する<li/>
+ *    <li>1回の呼び出しを{@value #ROWS}行として計測するため、スループットは1秒あたりの登録行数となる<li/>
+ * </>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class FinancialStatementSpecificationBenchmark {
+
+    // 1書類の貸借対照表・損益計算書の科目数の目安
+    private static final int ROWS = 80;
+
+    private static final String DDL = """
+            CREATE TABLE IF NOT EXISTS financial_statement
+            (
+                id                     BIGINT AUTO_INCREMENT PRIMARY KEY,
+                company_code           CHAR(5),
+                edinet_code            CHAR(6)     NOT NULL,
+                financial_statement_id VARCHAR(10) NOT NULL,
+                subject_id             VARCHAR(10) NOT NULL,
+                period_start           DATE        NOT NULL,
+                period_end             DATE        NOT NULL,
+                value                  BIGINT,
+                document_type_code     CHAR(3)     NOT NULL,
+                quarter_type           CHAR(1),
+                submit_date            DATE        NOT NULL,
+                document_id            CHAR(8)     NOT NULL,
+                created_type           CHAR(1)     NOT NULL,
+                derived                CHAR(1)     NOT NULL DEFAULT '0',
+                created_at             DATETIME    NOT NULL,
+                UNIQUE KEY uk_fs (edinet_code, financial_statement_id, subject_id, period_end, document_type_code, submit_date)
+            )
+            """;
+
+    private final Company company = new Company(
+            "00000", null, null, null, "E00000", null, null, null, null, false, true);
+
+    private final List<FinancialStatementValue> valueList = IntStream.range(0, ROWS)
+            .mapToObj(i -> FinancialStatementValue.of(String.valueOf(i), 1_000_000L + i, CreatedType.AUTO))
+            .toList();
+
+    private Connection keepAlive;
+
+    private LocalTransactionManager transactionManager;
+
+    private FinancialStatementSpecification financialStatementSpecification;
+
+    // 一意制約に違反しないよう、呼び出しごとに提出日をずらす
+    private int sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        final JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;MODE=MySQL;NON_KEYWORDS=VALUE");
+        keepAlive = h2.getConnection();
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute(DDL);
+        }
+
+        final JdbcLogger jdbcLogger = new UtilLoggingJdbcLogger(java.util.logging.Level.FINEST);
+        final LocalTransactionDataSource dataSource = new LocalTransactionDataSource(h2);
+        transactionManager = new LocalTransactionManager(dataSource, jdbcLogger);
+        final Config config = new Config() {
+            @Override
+            public DataSource getDataSource() {
+                return dataSource;
+            }
+
+            @Override
+            public Dialect getDialect() {
+                return new H2Dialect();
+            }
+
+            @Override
+            public Naming getNaming() {
+                return Naming.SNAKE_UPPER_CASE;
+            }
+
+            @Override
+            public JdbcLogger getJdbcLogger() {
+                return jdbcLogger;
+            }
+        };
+        financialStatementSpecification = new FinancialStatementSpecification(new FinancialStatementDaoImpl(config), null);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("TRUNCATE TABLE financial_statement");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        keepAlive.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void perRow() {
+        final Document document = nextDocument();
+        // 本番ではDAOの @Transactional によって値ごとのトランザクションとなる
+        valueList.forEach(value -> transactionManager.required(() -> financialStatementSpecification.insert(
+                company, FinancialStatementEnum.BALANCE_SHEET, value.subjectId(), document, value.value(), value.createdType())));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void batch() {
+        final Document document = nextDocument();
+        // 本番ではDAOの @Transactional によって1つのトランザクションとなる
+        transactionManager.required(() -> financialStatementSpecification.insert(
+                company, FinancialStatementEnum.BALANCE_SHEET, document, valueList));
+    }
+
+    private Document nextDocument() {
+        return new Document(
+                "S1000000",
+                DocumentTypeCode.DTC_120,
+                QuarterType.QT_4,
+                company.edinetCode(),
+                LocalDate.parse("2022-03-31"),
+                LocalDate.parse("2000-01-01").plusDays(sequence++),
+                LocalDate.parse("2021-04-01"),
+                LocalDate.parse("2022-03-31"),
+                DocumentStatus.DONE,
+                DocumentStatus.DONE,
+                DocumentStatus.NOT_YET,
+                null,
+                DocumentStatus.NOT_YET,
+                null,
+                DocumentStatus.NOT_YET,
+                null,
+                false
+        );
+    }
+}
@@ -0,0 +1,70 @@
+package github.com.ioridazo.fundanalyzer.domain.interactor;
+
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentStatus;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentTypeCode;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.Unit;
+import github.com.ioridazo.fundanalyzer.domain.value.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 数値解析のベンチマーク
+ * <ul>
+ *    <li>財務諸表のセルに現れる表記（桁区切り・三角・注記記号・"株"・"－"）ごとに計測する<li/>
+ * </>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ScrapingInteractorBenchmark {
+
+    @Param({"1,234,567", "△1,234,567", "※1 1,234,567", "1,234,567株", "－"})
+    String value;
+
+    private final Document document = new Document(
+            "benchmark",
+            DocumentTypeCode.DTC_120,
+            null,
+            "E00000",
+            null,
+            null,
+            null,
+            null,
+            DocumentStatus.DONE,
+            DocumentStatus.DONE,
+            DocumentStatus.NOT_YET,
+            null,
+            DocumentStatus.NOT_YET,
+            null,
+            DocumentStatus.NOT_YET,
+            null,
+            false
+    );
+
+    private final ScrapingInteractor scrapingInteractor = new ScrapingInteractor(
+            null, null, null, null, null, null, null, null, null, null, null, null, Runnable::run);
+
+    @Benchmark
+    public Optional<Long> parseValue() {
+        return scrapingInteractor.parseValue(value, Unit.MILLIONS_OF_YEN, document);
+    }
+
+    @Benchmark
+    public Optional<Long> parseNumberOfShares() {
+        return scrapingInteractor.parseValue(value, document);
+    }
+}
@@ -9,6 +9,7 @@ import github.com.ioridazo.fundanalyzer.client.log.Category;
 import github.com.ioridazo.fundanalyzer.client.log.FundanalyzerLogClient;
 import github.com.ioridazo.fundanalyzer.client.log.Process;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerCircuitBreakerRecordException;
+import github.com.ioridazo.fundanalyzer.exception.FundanalyzerFileException;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerRestClientException;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
@@ -219,10 +220,27 @@ public class EdinetClient {
     @Observed
     public void acquisition(final File storagePath, final AcquisitionRequestParameter parameter) {
         makeDirectory(storagePath);
+        acquisition(parameter, body -> copyFile(body, Paths.get(storagePath + "/" + parameter.docId() + ".zip")));
+    }
 
+    /**
+     * 書類取得API
+     * <ul>
+     *    <li>レスポンスボディをファイルに保存せずに、受信しながら処理する<li/>
+     *    <li>リトライするときはボディの処理も最初からやり直す<li/>
+     *    <li>ボディの処理が {@link FundanalyzerFileException} をスローしたときは、リトライせずにそのままスローする<li/>
+     * </>
+     *
+     * @param parameter   パラメータ
+     * @param bodyHandler レスポンスボディの処理
+     * @param <T>         処理結果の型
+     * @return 処理結果（ファイルが既に存在していたときは null）
+     */
+    @Observed
+    public <T> T acquisition(final AcquisitionRequestParameter parameter, final BodyHandler<T> bodyHandler) {
         try {
             // retry
-            retryTemplate.execute(retryContext -> {
+            final T result = retryTemplate.execute(retryContext -> {
                 if (retryContext.getRetryCount() == 0) {
                     log.info(FundanalyzerLogClient.toClientLogObject(
                             MessageFormat.format("書類のダウンロード処理を実行します。\t書類管理番号:{0}", parameter.docId()),
@@ -259,7 +277,7 @@ public class EdinetClient {
                                                     request -> request
                                                             .getHeaders()
                                                             .setAccept(Arrays.asList(MediaType.APPLICATION_OCTET_STREAM, MediaType.ALL)),
-                                                    response -> copyFile(response.getBody(), Paths.get(storagePath + "/" + parameter.docId() + ".zip")),
+                                                    response -> bodyHandler.handle(response.getBody()),
                                                     Map.of(
                                                             "docId", parameter.docId(),
                                                             "type", parameter.type().toValue(),
@@ -329,10 +347,15 @@ public class EdinetClient {
                     Category.DOCUMENT,
                     Process.DOWNLOAD
             ));
+
+            return result;
         } catch (final RequestNotPermitted e) {
             throw new FundanalyzerRestClientException(EDINET + "との通信でレートリミッターが作動しました。", true);
         } catch (final CallNotPermittedException e) {
             throw new FundanalyzerRestClientException(EDINET + "との通信でサーキットブレーカーがオープンしました。", true);
+        } catch (final FundanalyzerFileException e) {
+            // ボディの処理に失敗したときは、通信の失敗と区別する
+            throw e;
         } catch (final Exception e) {
             throw new FundanalyzerRestClientException(e.getMessage(), e.getCause());
         }
@@ -373,6 +396,17 @@ public class EdinetClient {
         return null;
     }
 
+    /**
+     * レスポンスボディの処理
+     *
+     * @param <T> 処理結果の型
+     */
+    @FunctionalInterface
+    public interface BodyHandler<T> {
+
+        T handle(InputStream body) throws IOException;
+    }
+
     public static class RecordFailurePredicate implements Predicate<Throwable> {
 
         @Override
@@ -0,0 +1,20 @@
+package github.com.ioridazo.fundanalyzer.client.file;
+
+/**
+ * ダウンロードしながら解凍したZIPファイルの処理結果
+ *
+ * @param checksum       ZIPファイルのSHA-256
+ * @param archiveBytes   受信したZIPファイルのサイズ
+ * @param downloadMillis 受信を待機した時間
+ * @param extractedFiles 解凍したファイル数
+ * @param extractedBytes 解凍したファイルの合計サイズ
+ * @param decodeMillis   解凍・書き込みに要した時間
+ */
+public record DecodeResult(
+        String checksum,
+        long archiveBytes,
+        long downloadMillis,
+        int extractedFiles,
+        long extractedBytes,
+        long decodeMillis) {
+}
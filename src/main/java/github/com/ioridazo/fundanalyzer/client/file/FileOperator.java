@@ -3,6 +3,11 @@ package github.com.ioridazo.fundanalyzer.client.file;
 import github.com.ioridazo.fundanalyzer.client.log.Category;
 import github.com.ioridazo.fundanalyzer.client.log.FundanalyzerLogClient;
 import github.com.ioridazo.fundanalyzer.client.log.Process;
+import github.com.ioridazo.fundanalyzer.exception.FundanalyzerFileException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.annotation.Observed;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -14,13 +19,25 @@ import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.MessageFormat;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
@@ -30,6 +47,14 @@ public class FileOperator {
 
     private static final Logger log = LogManager.getLogger(FileOperator.class);
 
+    private static final String METRIC_NAME = "fundanalyzer.edinet.archive.stream";
+
+    private static final String SKIPPED_METRIC_NAME = "fundanalyzer.edinet.archive.skipped";
+
+    private static final Charset ZIP_CHARSET = Charset.forName("MS932");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     @Value("${app.settings.file.path.company.company}")
     String pathCompany;
     @Value("${app.settings.file.path.company.zip}")
@@ -37,7 +62,39 @@ public class FileOperator {
     @Value("${app.settings.file.path.decode}")
     String pathDecode;
 
-    FileOperator() {
+    private final Timer downloadTimer;
+    private final Timer decodeTimer;
+    private final DistributionSummary downloadBytes;
+    private final DistributionSummary decodeBytes;
+    private final Counter skippedFiles;
+    private final Counter skippedBytes;
+
+    FileOperator(final MeterRegistry meterRegistry) {
+        this.downloadTimer = Timer.builder(METRIC_NAME)
+                .description("ZIPファイルの受信を待機した時間")
+                .tag("stage", "download")
+                .register(meterRegistry);
+        this.decodeTimer = Timer.builder(METRIC_NAME)
+                .description("ZIPファイルの解凍・書き込みに要した時間")
+                .tag("stage", "decode")
+                .register(meterRegistry);
+        this.downloadBytes = DistributionSummary.builder(METRIC_NAME + ".bytes")
+                .description("受信したZIPファイルのサイズ")
+                .baseUnit("bytes")
+                .tag("stage", "download")
+                .register(meterRegistry);
+        this.decodeBytes = DistributionSummary.builder(METRIC_NAME + ".bytes")
+                .description("解凍したファイルの合計サイズ")
+                .baseUnit("bytes")
+                .tag("stage", "decode")
+                .register(meterRegistry);
+        this.skippedFiles = Counter.builder(SKIPPED_METRIC_NAME + ".files")
+                .description("解凍の対象外として書き込まなかったファイル数")
+                .register(meterRegistry);
+        this.skippedBytes = Counter.builder(SKIPPED_METRIC_NAME + ".bytes")
+                .description("解凍の対象外として書き込まなかったファイルの合計サイズ")
+                .baseUnit("bytes")
+                .register(meterRegistry);
     }
 
     /**
@@ -47,9 +104,27 @@ public class FileOperator {
      * @param fileOutputPath 出力ファイルパス
      * @throws IOException IOException
      */
-    @SuppressWarnings("ResultOfMethodCallIgnored")
     @Observed
     public void decodeZipFile(final File fileInputPath, final File fileOutputPath) throws IOException {
+        decodeZipFile(fileInputPath, fileOutputPath, entryName -> true);
+    }
+
+    /**
+     * ZIPファイルをデコードする
+     * <ul>
+     *    <li>条件に合致するエントリのみ書き込む<li/>
+     *    <li>対象外のエントリも最後まで読み込み、ZIPファイル全体の破損を検知する<li/>
+     * </>
+     *
+     * @param fileInputPath  入力ファイルパス
+     * @param fileOutputPath 出力ファイルパス
+     * @param entryFilter    解凍するエントリ名の条件
+     * @throws IOException IOException
+     */
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    @Observed
+    public void decodeZipFile(
+            final File fileInputPath, final File fileOutputPath, final Predicate<String> entryFilter) throws IOException {
         log.info(FundanalyzerLogClient.toClientLogObject(
                 MessageFormat.format("zipファイルの解凍処理を実行します。\tパス:{0}", fileInputPath.getPath()),
                 Category.DOCUMENT,
@@ -57,9 +132,11 @@ public class FileOperator {
         ));
 
         byte[] buffer = new byte[1024];
+        int skippedFileCount = 0;
+        long skippedByteCount = 0;
 
         try (ZipInputStream zis = new ZipInputStream(
-                new BufferedInputStream(new FileInputStream(fileInputPath + ".zip")), Charset.forName("MS932"))) {
+                new BufferedInputStream(new FileInputStream(fileInputPath + ".zip")), ZIP_CHARSET)) {
 
             if (!fileOutputPath.exists()) {
                 fileOutputPath.mkdir();
@@ -68,6 +145,17 @@ public class FileOperator {
             ZipEntry zipEntry = zis.getNextEntry();
 
             while (zipEntry != null) {
+                if (zipEntry.isDirectory()) {
+                    zipEntry = zis.getNextEntry();
+                    continue;
+                }
+                if (!entryFilter.test(zipEntry.getName())) {
+                    skippedByteCount += zis.transferTo(OutputStream.nullOutputStream());
+                    skippedFileCount++;
+                    zipEntry = zis.getNextEntry();
+                    continue;
+                }
+
                 File newFile = new File(fileOutputPath, zipEntry.getName());
                 File parentDir = new File(newFile.getParent());
 
@@ -84,14 +172,140 @@ public class FileOperator {
                 zipEntry = zis.getNextEntry();
             }
         }
+        recordSkipped(skippedFileCount, skippedByteCount);
 
         log.info(FundanalyzerLogClient.toClientLogObject(
-                MessageFormat.format("zipファイルの解凍処理が正常に実行されました。\tパス:{0}", fileOutputPath.getPath()),
+                MessageFormat.format(
+                        "zipファイルの解凍処理が正常に実行されました。\tパス:{0}\t対象外ファイル数:{1}\t対象外サイズ:{2}",
+                        fileOutputPath.getPath(),
+                        skippedFileCount,
+                        skippedByteCount
+                ),
                 Category.DOCUMENT,
                 Process.DECODE
         ));
     }
 
+    /**
+     * ダウンロードしながらZIPファイルをデコードする
+     * <ul>
+     *    <li>受信したバイトをZIPファイルに保存しながら、同じバイトから対象のエントリのみを解凍する<li/>
+     *    <li>ZIPファイルのチェックサムは受信しながら計算する<li/>
+     *    <li>ZIPファイルは受信を完了してから保存先に移動するため、途中で失敗したときは保存先に残らない<li/>
+     *    <li>対象のエントリがないときは出力先のフォルダを作成しない<li/>
+     *    <li>受信に失敗したときは {@link IOException} をスローし、解凍・保存に失敗したときは {@link FundanalyzerFileException} をスローする<li/>
+     * </>
+     *
+     * @param body           レスポンスボディ
+     * @param archive        ZIPファイルの保存先
+     * @param fileOutputPath 出力ファイルパス
+     * @param entryFilter    解凍するエントリ名の条件
+     * @return 処理結果
+     * @throws IOException                ZIPファイルが既に存在するとき、または受信に失敗したとき
+     * @throws FundanalyzerFileException 解凍・保存に失敗したとき
+     */
+    public DecodeResult decodeZipStream(
+            final InputStream body,
+            final File archive,
+            final File fileOutputPath,
+            final Predicate<String> entryFilter) throws IOException {
+        final long startTime = System.nanoTime();
+        final Path archivePath = archive.toPath();
+        if (Files.exists(archivePath)) {
+            throw new FileAlreadyExistsException(archivePath.toString());
+        }
+
+        final Path outputPath = fileOutputPath.toPath().toAbsolutePath().normalize();
+        final Path partPath = archivePath.resolveSibling(archive.getName() + ".part");
+        Files.createDirectories(partPath.toAbsolutePath().getParent());
+
+        int extractedFiles = 0;
+        long extractedBytes = 0;
+        int skippedFileCount = 0;
+        long skippedByteCount = 0;
+        final ArchiveInputStream source;
+        try (OutputStream out = Files.newOutputStream(partPath)) {
+            source = new ArchiveInputStream(body, out);
+            final ZipInputStream zis = new ZipInputStream(new BufferedInputStream(source, BUFFER_SIZE), ZIP_CHARSET);
+
+            ZipEntry zipEntry = zis.getNextEntry();
+            while (zipEntry != null) {
+                if (!zipEntry.isDirectory() && entryFilter.test(zipEntry.getName())) {
+                    final Path newFile = outputPath.resolve(zipEntry.getName()).normalize();
+                    if (!newFile.startsWith(outputPath)) {
+                        throw new IOException(MessageFormat.format("出力先の外に解凍するエントリです。\tエントリ名:{0}", zipEntry.getName()));
+                    }
+                    Files.createDirectories(newFile.getParent());
+                    extractedBytes += Files.copy(zis, newFile, StandardCopyOption.REPLACE_EXISTING);
+                    extractedFiles++;
+                } else if (!zipEntry.isDirectory()) {
+                    skippedByteCount += zis.transferTo(OutputStream.nullOutputStream());
+                    skippedFileCount++;
+                }
+                zipEntry = zis.getNextEntry();
+            }
+
+            // 中央ディレクトリまで受信して、ZIPファイルを完全に保存する
+            source.transferTo(OutputStream.nullOutputStream());
+        } catch (final ReceiveException e) {
+            Files.deleteIfExists(partPath);
+            throw e.getCause();
+        } catch (final IOException e) {
+            Files.deleteIfExists(partPath);
+            throw new FundanalyzerFileException(
+                    MessageFormat.format("zipファイルの解凍に失敗しました。\tパス:{0}", fileOutputPath.getPath()), e);
+        }
+        Files.move(partPath, archivePath, StandardCopyOption.ATOMIC_MOVE);
+
+        final long elapsedNanos = System.nanoTime() - startTime;
+        final long decodeNanos = Math.max(0, elapsedNanos - source.readNanos);
+        downloadTimer.record(source.readNanos, TimeUnit.NANOSECONDS);
+        decodeTimer.record(decodeNanos, TimeUnit.NANOSECONDS);
+        downloadBytes.record(source.bytes);
+        decodeBytes.record(extractedBytes);
+        recordSkipped(skippedFileCount, skippedByteCount);
+
+        final DecodeResult result = new DecodeResult(
+                HexFormat.of().formatHex(source.digest.digest()),
+                source.bytes,
+                TimeUnit.NANOSECONDS.toMillis(source.readNanos),
+                extractedFiles,
+                extractedBytes,
+                TimeUnit.NANOSECONDS.toMillis(decodeNanos)
+        );
+
+        log.info(FundanalyzerLogClient.toClientLogObject(
+                MessageFormat.format(
+                        "zipファイルをダウンロードしながら解凍しました。\tパス:{0}\t受信サイズ:{1}\t受信時間:{2}ms" +
+                        "\t解凍ファイル数:{3}\t解凍サイズ:{4}\t解凍時間:{5}ms\t対象外ファイル数:{6}\t対象外サイズ:{7}\tSHA-256:{8}",
+                        fileOutputPath.getPath(),
+                        result.archiveBytes(),
+                        result.downloadMillis(),
+                        result.extractedFiles(),
+                        result.extractedBytes(),
+                        result.decodeMillis(),
+                        skippedFileCount,
+                        skippedByteCount,
+                        result.checksum()
+                ),
+                Category.DOCUMENT,
+                Process.DECODE
+        ));
+
+        return result;
+    }
+
+    /**
+     * 解凍の対象外としたエントリを記録する
+     *
+     * @param fileCount ファイル数
+     * @param byteCount 合計サイズ
+     */
+    private void recordSkipped(final int fileCount, final long byteCount) {
+        skippedFiles.increment(fileCount);
+        skippedBytes.increment(byteCount);
+    }
+
     /**
      * デコード済みのファイルを取得する
      *
@@ -109,4 +323,82 @@ public class FileOperator {
     private File makeTargetPath(final String prePath, final LocalDate targetDate) {
         return new File(String.format("%s/%d/%s/%s", prePath, targetDate.getYear(), targetDate.getMonth(), targetDate));
     }
+
+    /**
+     * 受信したバイトをファイルに書き込みながら、サイズ・チェックサム・受信の待機時間を記録する
+     */
+    private static class ArchiveInputStream extends FilterInputStream {
+
+        private final OutputStream out;
+
+        private final MessageDigest digest;
+
+        private long bytes = 0;
+
+        private long readNanos = 0;
+
+        // 1バイトずつ読み込むときに使い回す
+        private final byte[] single = new byte[1];
+
+        ArchiveInputStream(final InputStream in, final OutputStream out) {
+            super(in);
+            this.out = out;
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (final NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final long start = System.nanoTime();
+            final int n;
+            try {
+                n = in.read(b, off, len);
+            } catch (final IOException e) {
+                throw new ReceiveException(e);
+            }
+            readNanos += System.nanoTime() - start;
+            if (n > 0) {
+                out.write(b, off, n);
+                digest.update(b, off, n);
+                bytes += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            // 読み飛ばしたバイトも保存するため、読み込んで破棄する
+            final byte[] buffer = new byte[(int) Math.min(n, BUFFER_SIZE)];
+            final int read = read(buffer, 0, buffer.length);
+            return Math.max(0, read);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
+    /**
+     * レスポンスボディの受信に失敗したことを、解凍・保存の失敗と区別する
+     */
+    private static class ReceiveException extends IOException {
+
+        ReceiveException(final IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
 }
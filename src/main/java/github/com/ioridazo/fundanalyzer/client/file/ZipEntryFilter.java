@@ -0,0 +1,44 @@
+package github.com.ioridazo.fundanalyzer.client.file;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * 解凍するZIPファイル内のエントリの条件
+ * <ul>
+ *    <li>エントリ名をglob形式のパターンと照合する（"*"はフォルダの区切りをまたがない）<li/>
+ *    <li>パターンが未指定のときはすべてのエントリを解凍する<li/>
+ * </>
+ */
+public final class ZipEntryFilter {
+
+    private ZipEntryFilter() {
+    }
+
+    /**
+     * glob形式のパターンから条件を生成する
+     *
+     * @param globPatternList パターンのリスト
+     * @return いずれかのパターンに合致するエントリを解凍する条件
+     */
+    public static Predicate<String> of(final List<String> globPatternList) {
+        final List<PathMatcher> matcherList = globPatternList.stream()
+                .filter(Objects::nonNull)
+                .map(String::strip)
+                .filter(pattern -> !pattern.isEmpty())
+                .map(pattern -> FileSystems.getDefault().getPathMatcher("glob:" + pattern))
+                .toList();
+
+        if (matcherList.isEmpty()) {
+            return entryName -> true;
+        }
+        return entryName -> {
+            final Path path = Path.of(entryName);
+            return matcherList.stream().anyMatch(matcher -> matcher.matches(path));
+        };
+    }
+}
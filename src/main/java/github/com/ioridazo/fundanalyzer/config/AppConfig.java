@@ -1,19 +1,30 @@
 package github.com.ioridazo.fundanalyzer.config;
 
+import github.com.ioridazo.fundanalyzer.exception.FundanalyzerFileException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import io.micrometer.observation.ObservationRegistry;
 import io.micrometer.observation.aop.ObservedAspect;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.retry.support.RetryTemplateBuilder;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @EnableAsync
 @Configuration
@@ -72,6 +83,8 @@ public class AppConfig {
         return new RetryTemplateBuilder()
                 .maxAttempts(settings.getMaxAttempts())
                 .fixedBackoff(settings.getBackOff().toMillis())
+                // 受信しながらの解凍に失敗したときは、受信し直しても解消しないためリトライしない
+                .notRetryOn(FundanalyzerFileException.class)
                 .build();
     }
 
@@ -102,6 +115,8 @@ public class AppConfig {
                 .build();
     }
 
+    // elasticプロファイルではElasticExecutorConfigの実行環境を使用する
+    @Profile("!elastic")
     @Bean
     public Executor executor(
             @Value("${app.config.executor.core-pool-size}") final int corePoolSize,
@@ -115,6 +130,134 @@ public class AppConfig {
         return executor;
     }
 
+    @Bean("scrapingExecutor")
+    public ExecutorService scrapingExecutor(
+            @Value("${app.config.executor.scraping.pool-size:6}") final int poolSize,
+            @Value("${app.config.executor.scraping.queue-capacity:30}") final int queueCapacity,
+            final MeterRegistry meterRegistry) {
+        // キューが溢れたときは呼び出し元のスレッドで実行して、同時に実行する数を抑える
+        return namedExecutor("scraping", poolSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry);
+    }
+
+    // elasticプロファイルではElasticExecutorConfigの実行環境を使用する
+    @Profile("!elastic")
+    @Bean("documentExecutor")
+    public ExecutorService documentExecutor(
+            @Value("${app.config.executor.document.pool-size:4}") final int poolSize,
+            @Value("${app.config.executor.document.queue-capacity:20}") final int queueCapacity,
+            final MeterRegistry meterRegistry) {
+        return namedExecutor("document", poolSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry);
+    }
+
+    @Bean("analyzeExecutor")
+    public ExecutorService analyzeExecutor(
+            @Value("${app.config.executor.analyze.pool-size:4}") final int poolSize,
+            @Value("${app.config.executor.analyze.queue-capacity:50}") final int queueCapacity,
+            final MeterRegistry meterRegistry) {
+        return namedExecutor("analyze", poolSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry);
+    }
+
+    // elasticプロファイルではElasticExecutorConfigの実行環境を使用する
+    @Profile("!elastic")
+    @Bean("stockExecutor")
+    public ExecutorService stockExecutor(
+            @Value("${app.config.executor.stock.pool-size:4}") final int poolSize,
+            @Value("${app.config.executor.stock.queue-capacity:50}") final int queueCapacity,
+            final MeterRegistry meterRegistry) {
+        return namedExecutor("stock", poolSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry);
+    }
+
+    @Bean("companyExecutor")
+    public ExecutorService companyExecutor(
+            @Value("${app.config.executor.company.pool-size:4}") final int poolSize,
+            @Value("${app.config.executor.company.queue-capacity:100}") final int queueCapacity,
+            final MeterRegistry meterRegistry) {
+        return namedExecutor("company", poolSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry);
+    }
+
+    @Bean("viewExecutor")
+    public ExecutorService viewExecutor(
+            @Value("${app.config.executor.view.pool-size:4}") final int poolSize,
+            @Value("${app.config.executor.view.queue-capacity:100}") final int queueCapacity,
+            final MeterRegistry meterRegistry) {
+        return namedExecutor("view", poolSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry);
+    }
+
+    @Bean("documentDownloadExecutor")
+    public ThreadPoolExecutor documentDownloadExecutor(
+            @Value("${app.config.executor.pipeline.download.pool-size:4}") final int poolSize,
+            @Value("${app.config.executor.pipeline.download.queue-capacity:20}") final int queueCapacity,
+            final MeterRegistry meterRegistry) {
+        return stageExecutor("document-download", poolSize, queueCapacity, meterRegistry);
+    }
+
+    @Bean("documentScrapeExecutor")
+    public ThreadPoolExecutor documentScrapeExecutor(
+            @Value("${app.config.executor.pipeline.scrape.pool-size:2}") final int poolSize,
+            @Value("${app.config.executor.pipeline.scrape.queue-capacity:10}") final int queueCapacity,
+            final MeterRegistry meterRegistry) {
+        return stageExecutor("document-scrape", poolSize, queueCapacity, meterRegistry);
+    }
+
+    @Bean("documentFinishExecutor")
+    public ThreadPoolExecutor documentFinishExecutor(
+            @Value("${app.config.executor.pipeline.finish.pool-size:1}") final int poolSize,
+            @Value("${app.config.executor.pipeline.finish.queue-capacity:20}") final int queueCapacity,
+            final MeterRegistry meterRegistry) {
+        return stageExecutor("document-finish", poolSize, queueCapacity, meterRegistry);
+    }
+
+    /**
+     * パイプラインの段階を実行するスレッドプールを生成する
+     * <ul>
+     *    <li>受け付ける件数はパイプラインがキューの容量までに制限する<li/>
+     *    <li>スレッド数とキューの容量の合計を受け付けられるよう、キューの容量にスレッド数を加える<li/>
+     * </>
+     *
+     * @param name          スレッドプールの名前
+     * @param poolSize      スレッド数
+     * @param queueCapacity キューの容量
+     * @param meterRegistry メトリクスの登録先
+     * @return スレッドプール
+     */
+    private ThreadPoolExecutor stageExecutor(
+            final String name, final int poolSize, final int queueCapacity, final MeterRegistry meterRegistry) {
+        return namedExecutor(name, poolSize, poolSize + queueCapacity, new ThreadPoolExecutor.AbortPolicy(), meterRegistry);
+    }
+
+    /**
+     * 処理ごとに名前を付けたスレッドプールを生成する
+     * <ul>
+     *    <li>スレッド名の接頭辞にスレッドプールの名前を付ける<li/>
+     *    <li>スレッドプールの名前をタグとして、Micrometerのexecutorメトリクスを公開する<li/>
+     * </>
+     *
+     * @param name          スレッドプールの名前
+     * @param poolSize      スレッド数
+     * @param queueCapacity キューの容量
+     * @param handler       キューが溢れたときの処理
+     * @param meterRegistry メトリクスの登録先
+     * @return スレッドプール
+     */
+    private ThreadPoolExecutor namedExecutor(
+            final String name,
+            final int poolSize,
+            final int queueCapacity,
+            final RejectedExecutionHandler handler,
+            final MeterRegistry meterRegistry) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory(name + "-"),
+                handler
+        );
+        new ExecutorServiceMetrics(executor, name, Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+
     @Bean
     public ObservedAspect observedAspect(final ObservationRegistry observationRegistry) {
         return new ObservedAspect(observationRegistry);
@@ -0,0 +1,86 @@
+package github.com.ioridazo.fundanalyzer.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * I/O待ちが中心の処理をタスクごとのスレッドで実行する設定
+ * <ul>
+ *    <li>"elastic"プロファイルを指定したときのみ、非同期処理・株価取得・書類取得のスレッドプールを置き換える<li/>
+ *    <li>同時実行数はスレッド数ではなく、レートリミッターとコネクションプールの待機によって抑える<li/>
+ *    <li>仮想スレッドを使用できないため、生成するスレッド数には安全のための上限を設ける<li/>
+ *    <li>書類の処理のパイプラインはキューの容量で流量を制御するため置き換えず、このプロファイルでは使用しない<li/>
+ * </>
+ */
+@Profile("elastic")
+@Configuration
+public class ElasticExecutorConfig {
+
+    // 非同期処理（@Async）はTaskExecutorのまま登録して、ほかのスレッドプールより優先する
+    @Primary
+    @Bean
+    public SimpleAsyncTaskExecutor executor(
+            @Value("${app.config.executor.elastic.async.concurrency-limit:100}") final int concurrencyLimit,
+            final MeterRegistry meterRegistry) {
+        return elasticExecutor("async", concurrencyLimit, meterRegistry);
+    }
+
+    @Bean("stockExecutor")
+    public Executor stockExecutor(
+            @Value("${app.config.executor.elastic.stock.concurrency-limit:50}") final int concurrencyLimit,
+            final MeterRegistry meterRegistry) {
+        return ExecutorServiceMetrics.monitor(
+                meterRegistry, elasticExecutor("stock", concurrencyLimit, meterRegistry), "stock", Tags.empty());
+    }
+
+    @Bean("documentExecutor")
+    public Executor documentExecutor(
+            @Value("${app.config.executor.elastic.document.concurrency-limit:30}") final int concurrencyLimit,
+            final MeterRegistry meterRegistry) {
+        return ExecutorServiceMetrics.monitor(
+                meterRegistry, elasticExecutor("document", concurrencyLimit, meterRegistry), "document", Tags.empty());
+    }
+
+    /**
+     * タスクごとにスレッドを生成する実行環境を生成する
+     * <ul>
+     *    <li>同時に実行しているタスクが上限に達したときは、空くまで呼び出し元のスレッドを待たせる<li/>
+     *    <li>実行中のタスク数を"fundanalyzer.executor.elastic.active"として公開する<li/>
+     * </>
+     *
+     * @param name             実行環境の名前
+     * @param concurrencyLimit 同時に実行するタスク数の上限
+     * @param meterRegistry    メトリクスの登録先
+     * @return 実行環境
+     */
+    SimpleAsyncTaskExecutor elasticExecutor(final String name, final int concurrencyLimit, final MeterRegistry meterRegistry) {
+        final AtomicInteger active = new AtomicInteger();
+        Gauge.builder("fundanalyzer.executor.elastic.active", active, AtomicInteger::get)
+                .description("タスクごとのスレッドで実行中のタスク数")
+                .tags("name", name)
+                .register(meterRegistry);
+
+        final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(name + "-");
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskDecorator(task -> () -> {
+            active.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+            }
+        });
+        return executor;
+    }
+}
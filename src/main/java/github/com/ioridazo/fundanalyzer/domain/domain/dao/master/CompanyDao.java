@@ -25,6 +25,9 @@ public interface CompanyDao {
     @Select
     Optional<LocalDateTime> maxUpdatedAt();
 
+    @Select
+    List<CompanyEntity> selectAll();
+
     @Select
     List<CompanyEntity> selectByCodeIsNotNull();
 
@@ -11,6 +11,9 @@ import java.util.List;
 @Dao
 public interface ScrapingKeywordDao {
 
+    @Select
+    List<ScrapingKeywordEntity> selectAll();
+
     @Select
     List<ScrapingKeywordEntity> selectByFinancialStatementId(String financialStatementId);
 }
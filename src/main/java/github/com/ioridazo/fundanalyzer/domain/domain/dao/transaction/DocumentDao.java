@@ -1,11 +1,13 @@
 package github.com.ioridazo.fundanalyzer.domain.domain.dao.transaction;
 
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentEntity;
+import org.seasar.doma.BatchInsert;
 import org.seasar.doma.Dao;
 import org.seasar.doma.Insert;
 import org.seasar.doma.Select;
 import org.seasar.doma.Update;
 import org.seasar.doma.boot.ConfigAutowireable;
+import org.seasar.doma.jdbc.BatchResult;
 import org.seasar.doma.jdbc.Result;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,9 @@ public interface DocumentDao {
     @Select
     Optional<DocumentEntity> selectByDocumentId(String documentId);
 
+    @Select
+    List<String> selectDocumentIdByDocumentIdList(List<String> documentIdList);
+
     @Select
     List<DocumentEntity> selectByEdinetCodeAndType(String edinetCode, List<String> documentTypeCode);
 
@@ -40,6 +45,11 @@ public interface DocumentDao {
     @Insert(excludeNull = true)
     Result<DocumentEntity> insert(DocumentEntity documentEntity);
 
+    // 未設定の項目はテーブルの初期値とするため、登録時に値のある項目のみ指定する
+    @Transactional
+    @BatchInsert(include = {"documentId", "documentTypeCode", "edinetCode", "documentPeriod", "submitDate", "createdAt", "updatedAt"})
+    BatchResult<DocumentEntity> batchInsert(List<DocumentEntity> documentEntityList);
+
     @Update(excludeNull = true)
     Result<DocumentEntity> update(DocumentEntity documentEntity);
 }
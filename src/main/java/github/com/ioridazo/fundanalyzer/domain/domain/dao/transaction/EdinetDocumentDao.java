@@ -1,10 +1,12 @@
 package github.com.ioridazo.fundanalyzer.domain.domain.dao.transaction;
 
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.EdinetDocumentEntity;
+import org.seasar.doma.BatchInsert;
 import org.seasar.doma.Dao;
 import org.seasar.doma.Insert;
 import org.seasar.doma.Select;
 import org.seasar.doma.boot.ConfigAutowireable;
+import org.seasar.doma.jdbc.BatchResult;
 import org.seasar.doma.jdbc.Result;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,10 +23,17 @@ public interface EdinetDocumentDao {
     @Select
     List<EdinetDocumentEntity> selectBySubmitDate(String submitDate);
 
+    @Select
+    List<String> selectDocIdByDocIdList(List<String> docIdList);
+
     @Select
     int count(String submitDate);
 
     @Transactional
     @Insert
     Result<EdinetDocumentEntity> insert(EdinetDocumentEntity edinetDocumentEntity);
+
+    @Transactional
+    @BatchInsert
+    BatchResult<EdinetDocumentEntity> batchInsert(List<EdinetDocumentEntity> edinetDocumentEntityList);
 }
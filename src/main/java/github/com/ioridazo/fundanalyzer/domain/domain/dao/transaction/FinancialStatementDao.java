@@ -1,10 +1,12 @@
 package github.com.ioridazo.fundanalyzer.domain.domain.dao.transaction;
 
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEntity;
+import org.seasar.doma.BatchInsert;
 import org.seasar.doma.Dao;
 import org.seasar.doma.Insert;
 import org.seasar.doma.Select;
 import org.seasar.doma.boot.ConfigAutowireable;
+import org.seasar.doma.jdbc.BatchResult;
 import org.seasar.doma.jdbc.Result;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,12 @@ public interface FinancialStatementDao {
     Optional<FinancialStatementEntity> selectByUniqueKey(
             String documentId, String financialStatementId, String subjectId);
 
+    @Select
+    List<FinancialStatementEntity> selectByDocumentIdList(List<String> documentIdList);
+
+    @Select
+    List<FinancialStatementEntity> selectDerivedByDocumentIdList(List<String> documentIdList);
+
     @Select
     List<FinancialStatementEntity> selectByCode(String edinetCode);
 
@@ -28,7 +36,15 @@ public interface FinancialStatementDao {
     List<FinancialStatementEntity> selectByCodeAndPeriod(
             String edinetCode, LocalDate periodEnd, String documentTypeCode, LocalDate submitDate);
 
+    @Select
+    List<FinancialStatementEntity> selectBySubmission(
+            String edinetCode, String financialStatementId, String documentTypeCode, LocalDate submitDate);
+
     @Transactional
     @Insert
     Result<FinancialStatementEntity> insert(FinancialStatementEntity financialStatementEntity);
+
+    @Transactional
+    @BatchInsert
+    BatchResult<FinancialStatementEntity> batchInsert(List<FinancialStatementEntity> financialStatementEntityList);
 }
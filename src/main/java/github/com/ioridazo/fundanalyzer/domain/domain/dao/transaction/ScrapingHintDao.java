@@ -0,0 +1,27 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.dao.transaction;
+
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.ScrapingHintEntity;
+import org.seasar.doma.Dao;
+import org.seasar.doma.Insert;
+import org.seasar.doma.Select;
+import org.seasar.doma.Update;
+import org.seasar.doma.boot.ConfigAutowireable;
+import org.seasar.doma.jdbc.Result;
+
+import java.util.Optional;
+
+@SuppressWarnings("UnusedReturnValue")
+@ConfigAutowireable
+@Dao
+public interface ScrapingHintDao {
+
+    @Select
+    Optional<ScrapingHintEntity> selectByEdinetCodeAndDocumentTypeCodeAndFinancialStatementId(
+            String edinetCode, String documentTypeCode, String financialStatementId);
+
+    @Insert
+    Result<ScrapingHintEntity> insert(ScrapingHintEntity scrapingHintEntity);
+
+    @Update
+    Result<ScrapingHintEntity> update(ScrapingHintEntity scrapingHintEntity);
+}
@@ -0,0 +1,26 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.dao.transaction;
+
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.ScrapingResultCacheEntity;
+import org.seasar.doma.Dao;
+import org.seasar.doma.Insert;
+import org.seasar.doma.Select;
+import org.seasar.doma.Update;
+import org.seasar.doma.boot.ConfigAutowireable;
+import org.seasar.doma.jdbc.Result;
+
+import java.util.Optional;
+
+@SuppressWarnings("UnusedReturnValue")
+@ConfigAutowireable
+@Dao
+public interface ScrapingResultCacheDao {
+
+    @Select
+    Optional<ScrapingResultCacheEntity> selectByDocumentIdAndFinancialStatementId(String documentId, String financialStatementId);
+
+    @Insert
+    Result<ScrapingResultCacheEntity> insert(ScrapingResultCacheEntity scrapingResultCacheEntity);
+
+    @Update
+    Result<ScrapingResultCacheEntity> update(ScrapingResultCacheEntity scrapingResultCacheEntity);
+}
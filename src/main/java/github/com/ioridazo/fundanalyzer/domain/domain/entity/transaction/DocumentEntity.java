@@ -2,6 +2,7 @@ package github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction;
 
 import github.com.ioridazo.fundanalyzer.client.edinet.entity.response.Results;
 import github.com.ioridazo.fundanalyzer.domain.value.Document;
+import github.com.ioridazo.fundanalyzer.domain.value.ScrapingResult;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerRuntimeException;
 import lombok.Builder;
 import lombok.Value;
@@ -12,6 +13,7 @@ import org.seasar.doma.Table;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @SuppressWarnings("RedundantModifiersValueLombok")
@@ -188,6 +190,30 @@ public class DocumentEntity {
         };
     }
 
+    public static DocumentEntity ofUpdateFsList(
+            final String documentId,
+            final List<ScrapingResult> resultList,
+            final LocalDateTime updatedAt) {
+        final DocumentEntity.DocumentEntityBuilder builder = DocumentEntity.builder()
+                .documentId(documentId)
+                .updatedAt(updatedAt);
+        resultList.forEach(result -> {
+            switch (result.fs()) {
+                case BALANCE_SHEET -> builder
+                        .scrapedBs(result.status().toValue())
+                        .bsDocumentPath(result.path());
+                case PROFIT_AND_LESS_STATEMENT -> builder
+                        .scrapedPl(result.status().toValue())
+                        .plDocumentPath(result.path());
+                case TOTAL_NUMBER_OF_SHARES -> builder
+                        .scrapedNumberOfShares(result.status().toValue())
+                        .numberOfSharesDocumentPath(result.path());
+                default -> throw new FundanalyzerRuntimeException();
+            }
+        });
+        return builder.build();
+    }
+
     public Optional<String> getDocumentTypeCode() {
         return Optional.ofNullable(documentTypeCode);
     }
@@ -48,6 +48,9 @@ public class FinancialStatementEntity {
 
     private final String createdType;
 
+    // 前期の値から導出したとき "1"（書類IDは導出元の書類）
+    private final String derived;
+
     @Column(updatable = false)
     private final LocalDateTime createdAt;
 
@@ -65,6 +68,43 @@ public class FinancialStatementEntity {
             final String documentId,
             final String createdType,
             final LocalDateTime createdAt) {
+        return of(companyCode, edinetCode, financialStatementId, subjectId, periodStart, periodEnd, value,
+                documentTypeCode, quarterType, submitDate, documentId, createdType, Flag.OFF, createdAt);
+    }
+
+    public static FinancialStatementEntity ofDerived(
+            final String companyCode,
+            final String edinetCode,
+            final String financialStatementId,
+            final String subjectId,
+            final LocalDate periodStart,
+            final LocalDate periodEnd,
+            final Long value,
+            final DocumentTypeCode documentTypeCode,
+            final QuarterType quarterType,
+            final LocalDate submitDate,
+            final String documentId,
+            final String createdType,
+            final LocalDateTime createdAt) {
+        return of(companyCode, edinetCode, financialStatementId, subjectId, periodStart, periodEnd, value,
+                documentTypeCode, quarterType, submitDate, documentId, createdType, Flag.ON, createdAt);
+    }
+
+    private static FinancialStatementEntity of(
+            final String companyCode,
+            final String edinetCode,
+            final String financialStatementId,
+            final String subjectId,
+            final LocalDate periodStart,
+            final LocalDate periodEnd,
+            final Long value,
+            final DocumentTypeCode documentTypeCode,
+            final QuarterType quarterType,
+            final LocalDate submitDate,
+            final String documentId,
+            final String createdType,
+            final Flag derived,
+            final LocalDateTime createdAt) {
         if (DocumentTypeCode.DTC_140 == documentTypeCode && Objects.isNull(quarterType.toValue())) {
             throw new FundanalyzerNotExistException("四半期種別");
         }
@@ -83,6 +123,7 @@ public class FinancialStatementEntity {
                 submitDate,
                 documentId,
                 createdType,
+                derived.getValue(),
                 createdAt
         );
     }
@@ -94,4 +135,8 @@ public class FinancialStatementEntity {
     public Optional<Long> getValue() {
         return Optional.ofNullable(value);
     }
+
+    public boolean isDerived() {
+        return Flag.ON.getValue().equals(derived);
+    }
 }
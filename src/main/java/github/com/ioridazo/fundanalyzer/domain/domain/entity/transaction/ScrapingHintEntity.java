@@ -0,0 +1,52 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction;
+
+import lombok.Value;
+import org.seasar.doma.Column;
+import org.seasar.doma.Entity;
+import org.seasar.doma.Id;
+import org.seasar.doma.Table;
+
+import java.time.LocalDateTime;
+
+@SuppressWarnings("RedundantModifiersValueLombok")
+@Value
+@Entity(immutable = true)
+@Table(name = "scraping_hint")
+public class ScrapingHintEntity {
+
+    @Id
+    private final String edinetCode;
+
+    @Id
+    private final String documentTypeCode;
+
+    @Id
+    private final String financialStatementId;
+
+    private final String keyword;
+
+    private final String filePrefix;
+
+    @Column(updatable = false)
+    private final LocalDateTime createdAt;
+
+    private final LocalDateTime updatedAt;
+
+    public static ScrapingHintEntity of(
+            final String edinetCode,
+            final String documentTypeCode,
+            final FinancialStatementEnum fs,
+            final String keyword,
+            final String filePrefix,
+            final LocalDateTime nowLocalDateTime) {
+        return new ScrapingHintEntity(
+                edinetCode,
+                documentTypeCode,
+                fs.getId(),
+                keyword,
+                filePrefix,
+                nowLocalDateTime,
+                nowLocalDateTime
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction;
+
+import lombok.Value;
+import org.seasar.doma.Column;
+import org.seasar.doma.Entity;
+import org.seasar.doma.Id;
+import org.seasar.doma.Table;
+
+import java.time.LocalDateTime;
+
+@SuppressWarnings("RedundantModifiersValueLombok")
+@Value
+@Entity(immutable = true)
+@Table(name = "scraping_result_cache")
+public class ScrapingResultCacheEntity {
+
+    @Id
+    private final String documentId;
+
+    @Id
+    private final String financialStatementId;
+
+    private final String keyword;
+
+    private final String filePath;
+
+    private final String fileHash;
+
+    private final String extractionMode;
+
+    private final String keywordVersion;
+
+    private final byte[] result;
+
+    @Column(updatable = false)
+    private final LocalDateTime createdAt;
+
+    private final LocalDateTime updatedAt;
+
+    public static ScrapingResultCacheEntity of(
+            final String documentId,
+            final FinancialStatementEnum fs,
+            final String keyword,
+            final String filePath,
+            final String fileHash,
+            final String extractionMode,
+            final String keywordVersion,
+            final byte[] result,
+            final LocalDateTime nowLocalDateTime) {
+        return new ScrapingResultCacheEntity(
+                documentId,
+                fs.getId(),
+                keyword,
+                filePath,
+                fileHash,
+                extractionMode,
+                keywordVersion,
+                result,
+                nowLocalDateTime,
+                nowLocalDateTime
+        );
+    }
+}
@@ -0,0 +1,236 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.jsoup;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * 解凍先のパスからファイルを参照する
+ * <ul>
+ *    <li>ZIPファイルが登録されている解凍先のときは、解凍せずにZIPファイル内のエントリを参照する<li/>
+ *    <li>ZIPファイルは登録している間だけ一度開いておき、一覧・読み込み・サイズの取得で共有する<li/>
+ *    <li>それ以外のときはディスク上のファイルを参照する<li/>
+ * </>
+ */
+class XbrlArchiveResolver {
+
+    private static final Charset ZIP_CHARSET = Charset.forName("MS932");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // 解凍先のフォルダと開いているZIPファイルの対応
+    private final Map<File, Archive> archiveByDirectory = new ConcurrentHashMap<>();
+
+    /**
+     * 解凍先のフォルダにZIPファイルを対応付ける
+     * <ul>
+     *    <li>ZIPファイルを開き、返却した登録を閉じるまで開いたままにする<li/>
+     *    <li>同じ解凍先が重ねて登録されたときは、開いているZIPファイルを共有し、すべての登録を閉じたときに閉じる<li/>
+     *    <li>ZIPファイルを閉じると、そこから取得したストリームもすべて閉じられる<li/>
+     * </>
+     *
+     * @param directory 解凍先のフォルダ
+     * @param archive   ZIPファイル
+     * @return 登録（閉じると登録を解除する）
+     * @throws IOException ZIPファイルを開けなかったとき
+     */
+    Closeable register(final File directory, final File archive) throws IOException {
+        final Archive registered;
+        synchronized (archiveByDirectory) {
+            final Archive opened = archiveByDirectory.get(directory.getAbsoluteFile());
+            if (opened == null) {
+                registered = new Archive(directory.getAbsoluteFile(), new ZipFile(archive, ZIP_CHARSET));
+                archiveByDirectory.put(registered.directory(), registered);
+            } else {
+                registered = opened;
+            }
+            registered.references++;
+        }
+
+        final AtomicBoolean closed = new AtomicBoolean();
+        return () -> {
+            if (closed.compareAndSet(false, true)) {
+                unregister(registered);
+            }
+        };
+    }
+
+    private void unregister(final Archive archive) throws IOException {
+        synchronized (archiveByDirectory) {
+            if (--archive.references > 0) {
+                return;
+            }
+            archiveByDirectory.remove(archive.directory(), archive);
+        }
+        archive.zipFile().close();
+    }
+
+    /**
+     * フォルダ直下のファイルを取得する
+     *
+     * @param directory フォルダ
+     * @return ファイルのリスト
+     * @throws IOException ZIPファイルの読み込みに失敗したとき
+     */
+    List<File> listFiles(final File directory) throws IOException {
+        final Optional<Archive> archive = findArchive(directory);
+        if (archive.isEmpty()) {
+            return List.of(Objects.requireNonNullElse(directory.listFiles(), File.listRoots()));
+        }
+
+        final String prefix = archive.get().entryName(directory) + "/";
+        final List<File> fileList = new ArrayList<>();
+        final Enumeration<? extends ZipEntry> entries = archive.get().zipFile().entries();
+        while (entries.hasMoreElements()) {
+            final ZipEntry entry = entries.nextElement();
+            final String name = entry.getName();
+            if (!entry.isDirectory() && name.startsWith(prefix) && name.indexOf('/', prefix.length()) < 0) {
+                fileList.add(new File(archive.get().directory(), name));
+            }
+        }
+        return fileList;
+    }
+
+    /**
+     * ファイルを読み込むストリームを取得する
+     * <ul>
+     *    <li>ZIPファイル内のエントリのストリームは、閉じなくても登録を解除したときに閉じられる<li/>
+     * </>
+     *
+     * @param file ファイル
+     * @return ストリーム
+     * @throws IOException ファイルの読み込みに失敗したとき
+     */
+    InputStream open(final File file) throws IOException {
+        final Optional<Archive> archive = findArchive(file);
+        if (archive.isEmpty()) {
+            return Files.newInputStream(file.toPath());
+        }
+
+        final ZipFile zipFile = archive.get().zipFile();
+        final ZipEntry entry = zipFile.getEntry(archive.get().entryName(file));
+        if (entry == null) {
+            throw new IOException("ZIPファイルにエントリが存在しません。\t" + file.getPath());
+        }
+        return zipFile.getInputStream(entry);
+    }
+
+    /**
+     * ファイルのバイト列を先頭から順に読み込む
+     * <ul>
+     *    <li>ディスク上のファイルはチャネルから再利用するバッファに読み込む（メモリマップはファイルの上書き・削除を妨げるため使用しない）<li/>
+     *    <li>ZIPファイル内のエントリはストリームで読み込む<li/>
+     *    <li>読み込み先がfalseを返したときは、以降を読み込まない<li/>
+     * </>
+     *
+     * @param file   ファイル
+     * @param reader 読み込み先
+     * @throws IOException ファイルの読み込みに失敗したとき
+     */
+    void read(final File file, final Predicate<ByteBuffer> reader) throws IOException {
+        if (findArchive(file).isEmpty()) {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                while (channel.read(buffer) >= 0) {
+                    buffer.flip();
+                    if (!reader.test(buffer)) {
+                        return;
+                    }
+                    buffer.clear();
+                }
+            }
+            return;
+        }
+
+        try (InputStream inputStream = open(file)) {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int length;
+            while ((length = inputStream.read(buffer)) >= 0) {
+                if (!reader.test(ByteBuffer.wrap(buffer, 0, length))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * ファイルのサイズを取得する
+     * <ul>
+     *    <li>ZIPファイル内のエントリは、開いているZIPファイルの中央ディレクトリから取得する<li/>
+     * </>
+     *
+     * @param file ファイル
+     * @return バイト数（取得できないときは0）
+     */
+    long length(final File file) {
+        final Optional<Archive> archive = findArchive(file);
+        if (archive.isEmpty()) {
+            return file.length();
+        }
+
+        final ZipEntry entry = archive.get().zipFile().getEntry(archive.get().entryName(file));
+        return entry == null ? 0 : Math.max(0, entry.getSize());
+    }
+
+    private Optional<Archive> findArchive(final File file) {
+        if (archiveByDirectory.isEmpty()) {
+            return Optional.empty();
+        }
+
+        File directory = file.getAbsoluteFile();
+        while (directory != null) {
+            final Archive archive = archiveByDirectory.get(directory);
+            if (archive != null) {
+                return Optional.of(archive);
+            }
+            directory = directory.getParentFile();
+        }
+        return Optional.empty();
+    }
+
+    private static class Archive {
+
+        private final File directory;
+
+        private final ZipFile zipFile;
+
+        // 解凍先のフォルダの対応を更新するときに同期して数える
+        private int references = 0;
+
+        Archive(final File directory, final ZipFile zipFile) {
+            this.directory = directory;
+            this.zipFile = zipFile;
+        }
+
+        File directory() {
+            return directory;
+        }
+
+        ZipFile zipFile() {
+            return zipFile;
+        }
+
+        // 解凍先のフォルダからの相対パスをZIPファイル内のエントリ名にする
+        String entryName(final File target) {
+            return directory.toPath().relativize(target.getAbsoluteFile().toPath()).toString()
+                    .replace(File.separatorChar, '/');
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.jsoup;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.Elements;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 一度だけ解析したファイルの文書モデル
+ * <ul>
+ *    <li>"name"属性の値ごとにエレメントを索引しておき、キーワードによる検索を1回のマップ参照で行う<li/>
+ *    <li>生成後は参照のみを行うため、貸借対照表・損益計算書・株式総数のスクレイピングで共有できる<li/>
+ *    <li>保持に必要なメモリ量を生成時に一度だけ見積もる<li/>
+ * </>
+ */
+public class XbrlDocument {
+
+    private static final String NAME = "name";
+
+    // ノード1つあたりのオブジェクト・属性・子ノードのリストの見積もりバイト数
+    private static final long NODE_BYTES = 160;
+
+    private final File file;
+
+    private final Map<String, Elements> elementsByName;
+
+    private final long estimatedBytes;
+
+    private XbrlDocument(final File file, final Map<String, Elements> elementsByName, final long estimatedBytes) {
+        this.file = file;
+        this.elementsByName = elementsByName;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * 解析済みのドキュメントから文書モデルを生成する
+     *
+     * @param file     対象ファイル
+     * @param document 解析済みのドキュメント
+     * @return 文書モデル
+     */
+    public static XbrlDocument of(final File file, final Document document) {
+        final Map<String, Elements> index = new HashMap<>();
+        for (final Element element : document.getElementsByAttribute(NAME)) {
+            index.computeIfAbsent(normalize(element.attr(NAME)), key -> new Elements()).add(element);
+        }
+        return new XbrlDocument(file, Map.copyOf(index), estimateBytes(document));
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * 文書モデルの保持に必要なメモリ量の見積もりを取得する
+     *
+     * @return バイト数
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * "name"属性の値がキーワードに合致するエレメントを取得する
+     *
+     * @param keyword キーワード
+     * @return エレメント
+     */
+    public Elements elementsByName(final String keyword) {
+        final Elements elements = elementsByName.get(normalize(keyword));
+        // 索引を呼び出し元に変更されないように複製して返却する
+        return elements == null ? new Elements() : new Elements(elements);
+    }
+
+    /**
+     * キーワードに合致するテキストが存在するかを確認する
+     *
+     * @param keyword キーワード
+     * @return boolean
+     */
+    public boolean hasText(final String keyword) {
+        final Elements elements = elementsByName.get(normalize(keyword));
+        return elements != null && elements.hasText();
+    }
+
+    /**
+     * 文書モデルのノード数とテキストの文字数からメモリ量を見積もる
+     *
+     * @param document 解析済みのドキュメント
+     * @return バイト数
+     */
+    static long estimateBytes(final Document document) {
+        final long[] bytes = {0};
+        document.traverse((node, depth) -> {
+            bytes[0] += NODE_BYTES;
+            if (node instanceof TextNode textNode) {
+                // 文字列はUTF-16として見積もる
+                bytes[0] += textNode.getWholeText().length() * 2L;
+            }
+        });
+        return bytes[0];
+    }
+
+    // Jsoup#getElementsByAttributeValue と同じく前後の空白と大文字小文字を区別しない
+    static String normalize(final String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,170 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.jsoup;
+
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.FinancialFactResultBean;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * インラインXBRLのタグ付けされた数値（ix:nonFraction）から財務諸表の科目とその値を取得する
+ * <ul>
+ *    <li>当期・前期の判定はテーブルの列順ではなく"contextRef"属性から行う<li/>
+ *    <li>金額は"scale"属性と"sign"属性を適用して円単位の数値にする<li/>
+ * </>
+ */
+class XbrlFactExtractor {
+
+    private static final String NON_FRACTION = "ix:nonfraction";
+    private static final String CONTEXT_REF = "contextRef";
+    private static final String SCALE = "scale";
+    private static final String SIGN = "sign";
+    private static final String FORMAT = "format";
+    private static final String NIL = "xsi:nil";
+
+    private static final String CURRENT = "Current";
+    private static final String PRIOR = "Prior1";
+    private static final String NON_CONSOLIDATED_MEMBER = "NonConsolidatedMember";
+
+    /**
+     * 文書モデルからキーワードに合致する財務諸表の科目とその値を取得する
+     * <ul>
+     *    <li>タグ付けされた数値を含む行のみを対象とし、行の先頭の項目を科目とする<li/>
+     *    <li>セグメントなど連結/個別以外のメンバーを持つコンテキストは除外する<li/>
+     *    <li>"売上原価明細書"の行は除外する<li/>
+     * </>
+     *
+     * @param document      文書モデル
+     * @param keyword       キーワード
+     * @param ignoreKeyword 除外するキーワード
+     * @return 科目とその値のリスト（タグ付けされた数値が存在しないときは空）
+     */
+    List<FinancialFactResultBean> extract(final XbrlDocument document, final String keyword, final String ignoreKeyword) {
+        final Set<Element> ignoreRowSet = new HashSet<>(document.elementsByName(ignoreKeyword).select(Tag.TR.getName()));
+        final List<Element> rowList = document.elementsByName(keyword)
+                .select(Tag.TABLE.getName())
+                .select(Tag.TR.getName()).stream()
+                .filter(tr -> !ignoreRowSet.contains(tr))
+                .toList();
+
+        // 連結/個別はキーワードから判定し、該当するコンテキストが存在しない場合はもう一方を採用する
+        final boolean preferConsolidated = isConsolidatedKeyword(keyword);
+        final boolean hasPreferredContext = rowList.stream()
+                .flatMap(tr -> nonFractionList(tr).stream())
+                .anyMatch(fact -> isTargetContext(fact.attr(CONTEXT_REF), preferConsolidated));
+        final boolean consolidated = hasPreferredContext == preferConsolidated;
+
+        final List<FinancialFactResultBean> resultList = new ArrayList<>();
+        for (final Element tr : rowList) {
+            final List<Element> factList = nonFractionList(tr).stream()
+                    .filter(fact -> isTargetContext(fact.attr(CONTEXT_REF), consolidated))
+                    .toList();
+            if (factList.isEmpty()) {
+                continue;
+            }
+
+            final Optional<String> subject = subject(tr);
+            if (subject.isEmpty()) {
+                continue;
+            }
+
+            final Optional<Element> current = factList.stream().filter(fact -> fact.attr(CONTEXT_REF).startsWith(CURRENT)).findFirst();
+            final Optional<Element> prior = factList.stream().filter(fact -> fact.attr(CONTEXT_REF).startsWith(PRIOR)).findFirst();
+            if (current.isEmpty() && prior.isEmpty()) {
+                continue;
+            }
+
+            resultList.add(FinancialFactResultBean.of(
+                    subject.get(),
+                    prior.map(XbrlFactExtractor::value).orElse(null),
+                    current.map(XbrlFactExtractor::value).orElse(null)
+            ));
+        }
+        return resultList;
+    }
+
+    /**
+     * タグ付けされた数値を円単位の値にする
+     *
+     * @param fact ix:nonFraction
+     * @return 値（値が存在しないときはnull）
+     */
+    static Long value(final Element fact) {
+        if ("true".equalsIgnoreCase(fact.attr(NIL))) {
+            return null;
+        }
+
+        final String text = fact.text();
+        final boolean commaDecimal = fact.attr(FORMAT).toLowerCase(Locale.ROOT).contains("numcommadecimal");
+        final StringBuilder digits = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            } else if (c >= '０' && c <= '９') {
+                digits.append((char) (c - '０' + '0'));
+            } else if (c == (commaDecimal ? ',' : '.')) {
+                digits.append('.');
+            }
+        }
+
+        if (digits.length() == 0 || digits.toString().equals(".")) {
+            // "－"などで表示されるゼロ（ixt:fixed-zero）
+            return 0L;
+        }
+
+        final BigDecimal value = new BigDecimal(digits.toString())
+                .movePointRight(scale(fact))
+                .setScale(0, RoundingMode.HALF_UP);
+        return "-".equals(fact.attr(SIGN).trim()) ? value.negate().longValue() : value.longValue();
+    }
+
+    private static int scale(final Element fact) {
+        try {
+            return fact.attr(SCALE).isBlank() ? 0 : Integer.parseInt(fact.attr(SCALE).trim());
+        } catch (final NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static List<Element> nonFractionList(final Element tr) {
+        final Elements elements = tr.getAllElements();
+        final List<Element> factList = new ArrayList<>();
+        for (final Element element : elements) {
+            if (NON_FRACTION.equals(element.normalName())) {
+                factList.add(element);
+            }
+        }
+        return factList;
+    }
+
+    // 行の先頭にあるタグ付けされた数値を含まない項目を科目とする
+    private static Optional<String> subject(final Element tr) {
+        for (final Element td : tr.select(Tag.TD.getName())) {
+            final String text = td.text();
+            if (text.isBlank() || "円".equals(text)) {
+                continue;
+            }
+            return nonFractionList(td).isEmpty() ? Optional.of(text) : Optional.empty();
+        }
+        return Optional.empty();
+    }
+
+    static boolean isConsolidatedKeyword(final String keyword) {
+        return keyword.contains("Consolidated") && !keyword.contains("NonConsolidated");
+    }
+
+    // "CurrentYearInstant_NonConsolidatedMember"のように期間の後ろにメンバーが続く
+    private static boolean isTargetContext(final String contextRef, final boolean consolidated) {
+        final int index = contextRef.indexOf('_');
+        final String member = index < 0 ? "" : contextRef.substring(index + 1);
+        return consolidated ? member.isEmpty() : NON_CONSOLIDATED_MEMBER.equals(member);
+    }
+}
@@ -0,0 +1,38 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.jsoup;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * フォルダ配下のファイルをキーワードごとに索引したもの
+ * <ul>
+ *    <li>各ファイルを一度だけ走査し、キーワードを含むファイルを記録する<li/>
+ *    <li>貸借対照表・損益計算書・株式総数のキーワードをまとめて索引できる<li/>
+ * </>
+ */
+public class XbrlFileIndex {
+
+    private final File directory;
+
+    private final Map<String, List<File>> filesByKeyword;
+
+    XbrlFileIndex(final File directory, final Map<String, List<File>> filesByKeyword) {
+        this.directory = directory;
+        this.filesByKeyword = filesByKeyword;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * キーワードを含むファイルを取得する
+     *
+     * @param keyword キーワード
+     * @return キーワードを含むファイルのリスト
+     */
+    public List<File> findFiles(final String keyword) {
+        return filesByKeyword.getOrDefault(keyword, List.of());
+    }
+}
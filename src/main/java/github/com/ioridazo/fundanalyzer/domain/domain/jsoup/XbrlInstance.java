@@ -0,0 +1,88 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.jsoup;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * XBRLインスタンス（.xbrl）の数値を要素名とコンテキストごとに保持したもの
+ * <ul>
+ *    <li>ファイルを一度だけ読み込み、以降の参照はマップ参照で行う<li/>
+ *    <li>値は円単位（インスタンスに記載されたまま）とする<li/>
+ * </>
+ */
+public class XbrlInstance {
+
+    // 当期のコンテキスト（四半期は累計期間を優先する）
+    private static final List<String> CURRENT_CONTEXT_LIST = List.of(
+            "CurrentYearInstant",
+            "CurrentQuarterInstant",
+            "InterimInstant",
+            "CurrentYearDuration",
+            "CurrentYTDDuration",
+            "InterimDuration"
+    );
+    private static final String NON_CONSOLIDATED_MEMBER = "_NonConsolidatedMember";
+    // 値1つあたりのマップのエントリ・コンテキスト名・数値の見積もりバイト数
+    private static final long VALUE_BYTES = 160;
+
+    private final File file;
+
+    private final Map<String, Map<String, Long>> valueByElementAndContext;
+
+    private final long estimatedBytes;
+
+    XbrlInstance(final File file, final Map<String, Map<String, Long>> valueByElementAndContext) {
+        this.file = file;
+        this.valueByElementAndContext = valueByElementAndContext;
+        this.estimatedBytes = valueByElementAndContext.values().stream().mapToLong(Map::size).sum() * VALUE_BYTES;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * 保持に必要なメモリ量の見積もりを取得する
+     *
+     * @return バイト数
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * 要素名とコンテキストに合致する値を取得する
+     *
+     * @param elementName 要素名（例: jppfs_cor:CurrentAssets）
+     * @param contextRef  コンテキスト
+     * @return 値
+     */
+    public Optional<Long> findValue(final String elementName, final String contextRef) {
+        return Optional.ofNullable(valueByElementAndContext.getOrDefault(elementName, Map.of()).get(contextRef));
+    }
+
+    /**
+     * 要素名に合致する当期の値を取得する
+     * <ul>
+     *    <li>要素名のリストは先頭から順に探す<li/>
+     *    <li>連結のときはメンバーのないコンテキスト、個別のときは"NonConsolidatedMember"のコンテキストを対象とする<li/>
+     * </>
+     *
+     * @param elementNameList 要素名リスト
+     * @param consolidated    連結か否か
+     * @return 値
+     */
+    public Optional<Long> findCurrentValue(final List<String> elementNameList, final boolean consolidated) {
+        for (final String elementName : elementNameList) {
+            for (final String context : CURRENT_CONTEXT_LIST) {
+                final Optional<Long> value = findValue(elementName, consolidated ? context : context + NON_CONSOLIDATED_MEMBER);
+                if (value.isPresent()) {
+                    return value;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,83 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.jsoup;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * XBRLインスタンス（.xbrl）をストリーミングで一度だけ読み込み、数値を要素名とコンテキストごとに保持する
+ * <ul>
+ *    <li>"unitRef"属性を持つ数値の要素のみを対象とする<li/>
+ *    <li>"xsi:nil"の要素や数値として解釈できない要素は読み飛ばす<li/>
+ * </>
+ */
+class XbrlInstanceReader {
+
+    private static final String CONTEXT_REF = "contextRef";
+    private static final String UNIT_REF = "unitRef";
+    private static final String NIL = "nil";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    /**
+     * XBRLインスタンスを読み込む
+     *
+     * @param file        対象ファイル
+     * @param inputStream 対象ファイルのストリーム
+     * @return XBRLインスタンス
+     * @throws IOException        ファイルの読み込みに失敗したとき
+     * @throws XMLStreamException XMLとして解析できなかったとき
+     */
+    XbrlInstance read(final File file, final InputStream inputStream) throws IOException, XMLStreamException {
+        final Map<String, Map<String, Long>> valueByElementAndContext = new HashMap<>();
+
+        try (InputStream bufferedInputStream = new BufferedInputStream(inputStream)) {
+            final XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(bufferedInputStream);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                        continue;
+                    }
+
+                    final String contextRef = reader.getAttributeValue(null, CONTEXT_REF);
+                    if (contextRef == null || reader.getAttributeValue(null, UNIT_REF) == null
+                        || "true".equals(reader.getAttributeValue(null, NIL))) {
+                        continue;
+                    }
+
+                    // 非名前空間モードのため、要素名は接頭辞付き（jppfs_cor:CurrentAssetsなど）になる
+                    final String elementName = reader.getLocalName();
+                    final String text = reader.getElementText().trim();
+                    try {
+                        valueByElementAndContext
+                                .computeIfAbsent(elementName, key -> new HashMap<>())
+                                .put(contextRef, new BigDecimal(text).longValue());
+                    } catch (final NumberFormatException ignored) {
+                        // 数値として解釈できない要素は対象外とする
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+
+        return new XbrlInstance(file, Map.copyOf(valueByElementAndContext));
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
@@ -0,0 +1,210 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.jsoup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ファイルのバイト列に含まれるキーワードを一度の走査で検出する
+ * <ul>
+ *    <li>すべてのキーワードをUTF-8のバイト列にしたAho-Corasick法のオートマトンで検出する<li/>
+ *    <li>"name"属性と同じく、前後の空白とASCII文字の大文字小文字を区別しない<li/>
+ *    <li>ASCII以外の文字を含むキーワードはバイト列で照合できないため、常に含まれるものとして扱う<li/>
+ * </>
+ */
+class XbrlKeywordMatcher {
+
+    private static final int ROOT = 0;
+
+    private final List<String> keywordList;
+
+    // キーワードに現れるバイトを詰めた文字種（0はそれ以外のバイト）
+    private final int[] byteClass = new int[256];
+
+    private final int classCount;
+
+    // 状態×文字種の遷移先（失敗遷移を畳み込んだ決定性オートマトン）
+    private final int[] transition;
+
+    // 状態に到達したときに検出されるキーワードの番号
+    private final int[][] output;
+
+    // バイト列で照合できないキーワード
+    private final Set<String> unmatchableSet;
+
+    private XbrlKeywordMatcher(final Collection<String> keywords) {
+        final List<String> matchableList = new ArrayList<>();
+        final Set<String> unmatchable = new HashSet<>();
+        keywords.stream().distinct().forEach(keyword -> {
+            final String normalized = XbrlDocument.normalize(keyword);
+            if (normalized.isEmpty() || !StandardCharsets.US_ASCII.newEncoder().canEncode(normalized)) {
+                unmatchable.add(keyword);
+            } else {
+                matchableList.add(keyword);
+            }
+        });
+        this.keywordList = List.copyOf(matchableList);
+        this.unmatchableSet = Set.copyOf(unmatchable);
+
+        final List<byte[]> patternList = keywordList.stream()
+                .map(keyword -> XbrlDocument.normalize(keyword).getBytes(StandardCharsets.US_ASCII))
+                .toList();
+
+        int classes = 1;
+        for (final byte[] pattern : patternList) {
+            for (final byte b : pattern) {
+                if (byteClass[b & 0xFF] == 0) {
+                    byteClass[b & 0xFF] = classes++;
+                }
+            }
+        }
+        // 大文字は小文字と同じ文字種にする
+        for (int c = 'A'; c <= 'Z'; c++) {
+            byteClass[c] = byteClass[Character.toLowerCase(c)];
+        }
+        this.classCount = classes;
+
+        // トライ木を構築する
+        final List<int[]> trie = new ArrayList<>();
+        final List<List<Integer>> outputList = new ArrayList<>();
+        trie.add(newNode());
+        outputList.add(new ArrayList<>());
+        for (int i = 0; i < patternList.size(); i++) {
+            int state = ROOT;
+            for (final byte b : patternList.get(i)) {
+                final int c = byteClass[b & 0xFF];
+                if (trie.get(state)[c] < 0) {
+                    trie.get(state)[c] = trie.size();
+                    trie.add(newNode());
+                    outputList.add(new ArrayList<>());
+                }
+                state = trie.get(state)[c];
+            }
+            outputList.get(state).add(i);
+        }
+
+        // 幅優先で失敗遷移を求め、遷移表に畳み込む
+        final int[] failure = new int[trie.size()];
+        final int[] table = new int[trie.size() * classCount];
+        final Deque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < classCount; c++) {
+            final int next = trie.get(ROOT)[c];
+            if (next < 0) {
+                table[c] = ROOT;
+            } else {
+                table[c] = next;
+                failure[next] = ROOT;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            outputList.get(state).addAll(outputList.get(failure[state]));
+            for (int c = 0; c < classCount; c++) {
+                final int next = trie.get(state)[c];
+                if (next < 0) {
+                    table[state * classCount + c] = table[failure[state] * classCount + c];
+                } else {
+                    table[state * classCount + c] = next;
+                    failure[next] = table[failure[state] * classCount + c];
+                    queue.add(next);
+                }
+            }
+        }
+        this.transition = table;
+        this.output = outputList.stream()
+                .map(list -> list.stream().mapToInt(Integer::intValue).distinct().toArray())
+                .toArray(int[][]::new);
+    }
+
+    /**
+     * キーワードからオートマトンを生成する
+     *
+     * @param keywords キーワード
+     * @return オートマトン
+     */
+    static XbrlKeywordMatcher of(final Collection<String> keywords) {
+        return new XbrlKeywordMatcher(keywords);
+    }
+
+    /**
+     * 走査を開始する
+     *
+     * @return 走査の状態
+     */
+    Scan scan() {
+        return new Scan();
+    }
+
+    private int[] newNode() {
+        final int[] node = new int[classCount];
+        Arrays.fill(node, -1);
+        return node;
+    }
+
+    /**
+     * 1ファイル分の走査の状態
+     * <ul>
+     *    <li>バイト列を分割して渡しても、続けて走査したときと同じ結果になる<li/>
+     * </>
+     */
+    class Scan {
+
+        private int state = ROOT;
+
+        private final boolean[] found = new boolean[keywordList.size()];
+
+        private int foundCount = 0;
+
+        /**
+         * バイト列を走査する
+         *
+         * @param buffer バイト列
+         */
+        void accept(final ByteBuffer buffer) {
+            int current = state;
+            while (buffer.hasRemaining() && !isCompleted()) {
+                current = transition[current * classCount + byteClass[buffer.get() & 0xFF]];
+                for (final int i : output[current]) {
+                    if (!found[i]) {
+                        found[i] = true;
+                        foundCount++;
+                    }
+                }
+            }
+            state = current;
+        }
+
+        /**
+         * すべてのキーワードを検出したか
+         *
+         * @return boolean
+         */
+        boolean isCompleted() {
+            return foundCount == found.length;
+        }
+
+        /**
+         * 検出したキーワードを取得する
+         *
+         * @return キーワード
+         */
+        Set<String> keywords() {
+            final Set<String> keywordSet = new LinkedHashSet<>(unmatchableSet);
+            for (int i = 0; i < found.length; i++) {
+                if (found[i]) {
+                    keywordSet.add(keywordList.get(i));
+                }
+            }
+            return keywordSet;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.jsoup;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 同時に解析する文書モデルのメモリ量を制限する
+ * <ul>
+ *    <li>ファイルサイズから文書モデルのメモリ量を見積もり、合計が上限を超えないように解析の開始を待たせる<li/>
+ *    <li>上限は最大ヒープサイズに対する割合で決め、上限を超える書類は単独で解析する<li/>
+ *    <li>解析中・待機中の見積もりメモリ量をメトリクスとして公開する<li/>
+ * </>
+ */
+@Component
+public class XbrlMemoryGovernor {
+
+    private static final String METRIC_NAME = "fundanalyzer.scraping.memory";
+
+    private static final Permit NO_PERMIT = new Permit(null, 0);
+
+    private final boolean enabled;
+
+    private final long domFactor;
+
+    // 上限（KB）
+    private final int budgetKilobytes;
+
+    // 公平性を保ち、サイズの大きい書類が待ち続けないようにする
+    private final Semaphore semaphore;
+
+    private final AtomicLong admittedBytes = new AtomicLong();
+
+    private final AtomicLong waitingBytes = new AtomicLong();
+
+    public XbrlMemoryGovernor(
+            @Value("${app.config.scraping.memory-governor.enabled:false}") final boolean enabled,
+            @Value("${app.config.scraping.memory-governor.heap-ratio:0.5}") final double heapRatio,
+            @Value("${app.config.scraping.memory-governor.dom-factor:10}") final long domFactor,
+            final MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.domFactor = domFactor;
+        this.budgetKilobytes = (int) Math.min(Integer.MAX_VALUE, Math.max(1, (long) (Runtime.getRuntime().maxMemory() * heapRatio) / 1024));
+        this.semaphore = new Semaphore(budgetKilobytes, true);
+
+        Gauge.builder(METRIC_NAME + ".admitted", admittedBytes, AtomicLong::get)
+                .description("解析中の文書モデルの見積もりメモリ量")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".waiting", waitingBytes, AtomicLong::get)
+                .description("解析の開始を待機している文書モデルの見積もりメモリ量")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".budget", this, governor -> governor.budgetKilobytes * 1024.0)
+                .description("同時に解析する文書モデルの見積もりメモリ量の上限")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 解析を開始できるまで待機する
+     * <ul>
+     *    <li>無効なときはファイルサイズを取得せずにすぐに開始する<li/>
+     * </>
+     *
+     * @param fileBytes 解析するファイルの合計サイズ
+     * @return 解析の終了時に解放する許可
+     */
+    public Permit acquire(final LongSupplier fileBytes) {
+        if (!enabled) {
+            return NO_PERMIT;
+        }
+
+        final int kilobytes = weigh(fileBytes.getAsLong());
+        final long bytes = kilobytes * 1024L;
+        waitingBytes.addAndGet(bytes);
+        try {
+            semaphore.acquireUninterruptibly(kilobytes);
+        } finally {
+            waitingBytes.addAndGet(-bytes);
+        }
+        admittedBytes.addAndGet(bytes);
+        return new Permit(this, kilobytes);
+    }
+
+    /**
+     * ファイルサイズから文書モデルのメモリ量（KB）を見積もる
+     *
+     * @param fileBytes ファイルの合計サイズ
+     * @return 見積もりメモリ量（KB）
+     */
+    int weigh(final long fileBytes) {
+        final double kilobytes = (double) (Math.max(0, fileBytes) / 1024) * domFactor;
+        return (int) Math.max(1, Math.min(budgetKilobytes, kilobytes));
+    }
+
+    long admittedBytes() {
+        return admittedBytes.get();
+    }
+
+    long waitingBytes() {
+        return waitingBytes.get();
+    }
+
+    private void release(final int kilobytes) {
+        admittedBytes.addAndGet(-kilobytes * 1024L);
+        semaphore.release(kilobytes);
+    }
+
+    /**
+     * 解析の許可
+     */
+    public static class Permit implements AutoCloseable {
+
+        private final XbrlMemoryGovernor governor;
+
+        private final int kilobytes;
+
+        private boolean released = false;
+
+        private Permit(final XbrlMemoryGovernor governor, final int kilobytes) {
+            this.governor = governor;
+            this.kilobytes = kilobytes;
+        }
+
+        @Override
+        public void close() {
+            if (governor != null && !released) {
+                released = true;
+                governor.release(kilobytes);
+            }
+        }
+    }
+}
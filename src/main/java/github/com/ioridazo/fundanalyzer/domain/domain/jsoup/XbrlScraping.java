@@ -1,26 +1,41 @@
 package github.com.ioridazo.fundanalyzer.domain.domain.jsoup;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import github.com.ioridazo.fundanalyzer.client.log.Category;
 import github.com.ioridazo.fundanalyzer.client.log.FundanalyzerLogClient;
 import github.com.ioridazo.fundanalyzer.client.log.Process;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.ScrapingKeywordEntity;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.FinancialFactResultBean;
 import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.FinancialTableResultBean;
 import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.Unit;
 import github.com.ioridazo.fundanalyzer.domain.value.Document;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerFileException;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerScrapingException;
-import lombok.Value;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
+import javax.xml.stream.XMLStreamException;
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
@@ -34,6 +49,42 @@ public class XbrlScraping {
 
     private static final String TOTAL = "計";
 
+    private static final String COST_OF_SALES_KEYWORD = "jpcrp_cor:DetailedScheduleOfCostOfSalesTextBlock";
+
+    private static final String INSTANCE_EXTENSION = ".xbrl";
+
+    // 解析済みファイルの保持上限（文書モデルの見積もりメモリ量のKB）
+    private static final long MAX_PARSED_KILOBYTES = 256 * 1024;
+
+    final XbrlArchiveResolver xbrlArchiveResolver = new XbrlArchiveResolver();
+
+    // 同一書類の貸借対照表・損益計算書・株式総数のスクレイピングで解析結果を共有する
+    private final Cache<File, XbrlDocument> parsedDocumentCache = Caffeine.newBuilder()
+            .maximumWeight(MAX_PARSED_KILOBYTES)
+            .weigher((File file, XbrlDocument document) -> kilobytes(document.getEstimatedBytes()))
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    private final XbrlStreamReader xbrlStreamReader = new XbrlStreamReader();
+
+    private final XbrlFactExtractor xbrlFactExtractor = new XbrlFactExtractor();
+
+    // 同一書類の貸借対照表・損益計算書でXBRLインスタンスを共有する
+    private final Cache<File, XbrlInstance> instanceCache = Caffeine.newBuilder()
+            .maximumWeight(MAX_PARSED_KILOBYTES)
+            .weigher((File file, XbrlInstance instance) -> kilobytes(instance.getEstimatedBytes()))
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    private final XbrlInstanceReader xbrlInstanceReader = new XbrlInstanceReader();
+
+    @Value("${app.config.scraping.streaming.enabled:false}")
+    boolean streamingEnabled;
+    @Value("${app.config.scraping.streaming.threshold:5MB}")
+    DataSize streamingThreshold;
+    @Value("${app.config.scraping.prefilter.enabled:false}")
+    boolean prefilterEnabled;
+
     /**
      * 対象のフォルダ配下にあるファイルからキーワードに合致するものを返却する
      *
@@ -44,13 +95,121 @@ public class XbrlScraping {
      */
     public Optional<File> findFile(
             final File filePath, final ScrapingKeywordEntity scrapingKeywordEntity, final Document document) {
+        return findFile(indexFiles(filePath, List.of(scrapingKeywordEntity.getKeyword())), scrapingKeywordEntity, document);
+    }
+
+    /**
+     * 対象のフォルダ配下にあるファイルをキーワードごとに索引する
+     * <ul>
+     *    <li>"honbun"ファイルをそれぞれ一度だけ解析し、すべてのキーワードの有無を記録する<li/>
+     *    <li>プレフィルタが有効なときは、バイト列にいずれかのキーワードを含むファイルのみを解析する<li/>
+     * </>
+     *
+     * @param filePath    フォルダパス
+     * @param keywordList キーワードリスト
+     * @return キーワードごとのファイルの索引
+     */
+    public XbrlFileIndex indexFiles(final File filePath, final Collection<String> keywordList) {
+        final Map<String, List<File>> filesByKeyword = new HashMap<>();
+        final List<String> distinctKeywordList = keywordList.stream().distinct().toList();
+        final XbrlKeywordMatcher matcher = prefilterEnabled ? XbrlKeywordMatcher.of(distinctKeywordList) : null;
+        int skipped = 0;
+
         // 対象のディレクトリから"honbun"ファイルを取得
-        final var filePathList = findFilesByTitleKeywordContaining("honbun", filePath).stream()
-                .filter(File::isFile)
+        final List<File> fileList = findFilesByTitleKeywordContaining("honbun", filePath).stream()
+                .filter(file -> !file.isDirectory())
+                .map(file -> new File(filePath, file.getName()))
+                .toList();
+        for (final File file : fileList) {
+            final Collection<String> candidateList = matcher == null
+                    ? distinctKeywordList : findKeywords(file, matcher, distinctKeywordList);
+            if (candidateList.isEmpty()) {
+                // いずれのキーワードも含まないファイルは解析しない
+                skipped++;
+                continue;
+            }
+
+            final XbrlDocument xbrlDocument = parse(file, keywordList);
+            // キーワードが存在するものを記録する
+            candidateList.stream()
+                    .filter(xbrlDocument::hasText)
+                    .forEach(keyword -> filesByKeyword.computeIfAbsent(keyword, k -> new ArrayList<>()).add(file));
+        }
+
+        if (matcher != null) {
+            log.debug(FundanalyzerLogClient.toInteractorLogObject(
+                    MessageFormat.format(
+                            "キーワードを含まないファイルの解析を省略しました。\t対象フォルダパス:\"{0}\"\t対象ファイル数:{1}\t省略したファイル数:{2}",
+                            filePath.getPath(),
+                            fileList.size(),
+                            skipped
+                    ),
+                    Category.SCRAPING,
+                    Process.SCRAPING
+            ));
+        }
+
+        return new XbrlFileIndex(filePath, filesByKeyword);
+    }
+
+    /**
+     * ファイルのバイト列に含まれるキーワードを取得する
+     * <ul>
+     *    <li>ファイルを読み込めなかったときは、解析時にエラーとするためすべてのキーワードを返却する<li/>
+     * </>
+     *
+     * @param file        対象ファイル
+     * @param matcher     キーワードのオートマトン
+     * @param keywordList キーワードリスト
+     * @return ファイルに含まれる可能性のあるキーワード
+     */
+    private Collection<String> findKeywords(
+            final File file, final XbrlKeywordMatcher matcher, final List<String> keywordList) {
+        final XbrlKeywordMatcher.Scan scan = matcher.scan();
+        try {
+            xbrlArchiveResolver.read(file, buffer -> {
+                scan.accept(buffer);
+                return !scan.isCompleted();
+            });
+            return scan.keywords();
+        } catch (final IOException e) {
+            return keywordList;
+        }
+    }
+
+    /**
+     * 対象のフォルダ配下にあるファイル名の接頭辞に合致する"honbun"ファイルから、キーワードに合致するものを返却する
+     * <ul>
+     *    <li>前回と同じ構成の書類であれば、フォルダ配下のすべてのファイルを解析せずに対象ファイルを取得できる<li/>
+     *    <li>キーワードに合致するファイルが一つに定まらないときは空を返却する<li/>
+     * </>
+     *
+     * @param filePath   フォルダパス
+     * @param filePrefix ファイル名の接頭辞
+     * @param keyword    キーワード
+     * @return キーワードに合致するファイル
+     */
+    public Optional<File> findFile(final File filePath, final String filePrefix, final String keyword) {
+        final List<File> fileList = findFilesByTitleKeywordContaining("honbun", filePath).stream()
+                .filter(file -> !file.isDirectory())
+                .filter(file -> file.getName().startsWith(filePrefix + "_honbun"))
                 .map(file -> new File(filePath, file.getName()))
-                // キーワードが存在するものを見つける
-                .filter(filePathName -> elementsByKeyMatch(filePathName, KeyMatch.of("name", scrapingKeywordEntity.getKeyword())).hasText())
+                .filter(file -> parse(file, List.of(keyword)).hasText(keyword))
                 .toList();
+        return fileList.size() == 1 ? Optional.of(fileList.get(0)) : Optional.empty();
+    }
+
+    /**
+     * 索引からキーワードに合致するファイルを返却する
+     *
+     * @param fileIndex             キーワードごとのファイルの索引
+     * @param scrapingKeywordEntity キーワード
+     * @param document              ドキュメント
+     * @return キーワードに合致するファイル
+     */
+    public Optional<File> findFile(
+            final XbrlFileIndex fileIndex, final ScrapingKeywordEntity scrapingKeywordEntity, final Document document) {
+        final List<File> filePathList = fileIndex.findFiles(scrapingKeywordEntity.getKeyword());
 
         if (filePathList.size() == 1) {
             // ファイルが一つ見つかったとき
@@ -103,19 +262,20 @@ public class XbrlScraping {
      * @return スクレイピングした結果のリスト
      */
     public List<FinancialTableResultBean> scrapeFinancialStatement(final File targetFile, final String keyWord) {
-        final var unit = unit(targetFile, keyWord);
+        final XbrlDocument document = parse(targetFile, List.of(keyWord, COST_OF_SALES_KEYWORD));
+        final var unit = unit(document, keyWord);
 
         // "売上原価明細書"を除外する
-        final List<List<String>> ignoreList = getScrapingList(targetFile, "jpcrp_cor:DetailedScheduleOfCostOfSalesTextBlock").stream()
+        final List<List<String>> ignoreList = getScrapingList(document, COST_OF_SALES_KEYWORD).stream()
                 // 年度項目は除外リストから除外
                 .filter(list -> !(list.stream().anyMatch(s -> s.contains("前")) && list.stream().anyMatch(s -> s.contains("当"))))
                 .filter(list -> list.stream().noneMatch(s -> s.contains("単位")))
                 .toList();
 
         final List<List<String>> scrapingList = ignoreList.isEmpty() ?
-                getScrapingList(targetFile, keyWord)
+                getScrapingList(document, keyWord)
                 :
-                getScrapingList(targetFile, keyWord).stream()
+                getScrapingList(document, keyWord).stream()
                         .filter(sl -> ignoreList.stream().noneMatch(sl::equals))
                         .toList();
 
@@ -141,8 +301,149 @@ public class XbrlScraping {
         }
     }
 
-    private List<List<String>> getScrapingList(final File targetFile, final String keyWord) {
-        return elementsByKeyMatch(targetFile, KeyMatch.of("name", keyWord))
+    /**
+     * ファイルからキーワードに合致する財務諸表のタグ付けされた数値（ix:nonFraction）を取得する
+     * <ul>
+     *    <li>当期・前期は"contextRef"属性から判定するため、テーブルの列順を推定しない<li/>
+     *    <li>値は"scale"属性と"sign"属性を適用した円単位の数値とする<li/>
+     * </>
+     *
+     * @param targetFile 対象ファイル
+     * @param keyWord    キーワード
+     * @return 科目とその値のリスト（タグ付けされた数値が存在しないときは空）
+     */
+    public List<FinancialFactResultBean> scrapeFinancialFacts(final File targetFile, final String keyWord) {
+        return xbrlFactExtractor.extract(
+                parse(targetFile, List.of(keyWord, COST_OF_SALES_KEYWORD)), keyWord, COST_OF_SALES_KEYWORD);
+    }
+
+    /**
+     * フォルダ配下のXBRLインスタンス（.xbrl）を読み込む
+     * <ul>
+     *    <li>インスタンスが1つだけ存在するときに読み込む<li/>
+     *    <li>読み込みに失敗したときは空を返却し、HTMLのスクレイピングに委ねる<li/>
+     * </>
+     *
+     * @param directory フォルダパス
+     * @return XBRLインスタンス
+     */
+    public Optional<XbrlInstance> readInstance(final File directory) {
+        final List<File> instanceFileList = findFilesByTitleKeywordContaining(INSTANCE_EXTENSION, directory).stream()
+                .filter(file -> file.getName().endsWith(INSTANCE_EXTENSION))
+                .toList();
+        if (instanceFileList.size() != 1) {
+            return Optional.empty();
+        }
+
+        final File instanceFile = instanceFileList.get(0);
+        return Optional.ofNullable(instanceCache.get(instanceFile.getAbsoluteFile(), key -> loadInstance(instanceFile)));
+    }
+
+    /**
+     * 書類のフォルダに対するスクレイピングを開始する
+     *
+     * @param directory 書類のフォルダ
+     * @return スクレイピングの期間（閉じると終了する）
+     */
+    public Session openSession(final File directory) {
+        return new Session(directory, null);
+    }
+
+    /**
+     * 解凍先のフォルダにZIPファイルを対応付け、解凍せずにZIPファイルからスクレイピングを開始する
+     * <ul>
+     *    <li>ZIPファイルはスクレイピングの期間中に一度だけ開き、期間の終了時に閉じる<li/>
+     * </>
+     *
+     * @param directory 解凍先のフォルダ
+     * @param archive   ZIPファイル
+     * @return スクレイピングの期間（閉じると終了する）
+     */
+    public Session openSession(final File directory, final File archive) {
+        try {
+            return new Session(directory, xbrlArchiveResolver.register(directory, archive));
+        } catch (final IOException e) {
+            throw new FundanalyzerFileException("ファイルの認識に失敗しました。スタックトレースから詳細を確認してください。", e);
+        }
+    }
+
+    /**
+     * 対象のフォルダ配下にあるファイルの解析結果を保持しないようにする
+     * <ul>
+     *    <li>書類のスクレイピングが終わったときに、メモリの見積もりの許可を解放する前に呼び出す<li/>
+     * </>
+     *
+     * @param filePath フォルダパス
+     */
+    public void evict(final File filePath) {
+        final Path directory = filePath.getAbsoluteFile().toPath();
+        parsedDocumentCache.asMap().keySet().removeIf(file -> file.toPath().startsWith(directory));
+        instanceCache.asMap().keySet().removeIf(file -> file.toPath().startsWith(directory));
+    }
+
+    /**
+     * ファイルの内容からハッシュ値（SHA-256）を算出する
+     * <ul>
+     *    <li>ファイルを解析せずに読み込むのみで、内容が変わっていないかの確認に使用する<li/>
+     * </>
+     *
+     * @param file 対象ファイル
+     * @return ハッシュ値（読み込めなかったときは空）
+     */
+    public Optional<String> hash(final File file) {
+        try (InputStream inputStream = xbrlArchiveResolver.open(file)) {
+            final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, read);
+            }
+            return Optional.of(HexFormat.of().formatHex(messageDigest.digest()));
+        } catch (final IOException | NoSuchAlgorithmException e) {
+            log.debug(FundanalyzerLogClient.toInteractorLogObject(
+                    MessageFormat.format(
+                            "ファイルのハッシュ値を算出できませんでした。\t対象ファイルパス:\"{0}\"",
+                            file.getPath()
+                    ),
+                    Category.SCRAPING,
+                    Process.SCRAPING
+            ), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 対象のフォルダ配下にある"honbun"ファイルの合計サイズを取得する
+     * <ul>
+     *    <li>ファイルを解析せずにサイズのみを取得し、解析に必要なメモリの見積もりに使用する<li/>
+     * </>
+     *
+     * @param filePath フォルダパス
+     * @return バイト数（取得できないときは0）
+     */
+    public long sizeOfFiles(final File filePath) {
+        try {
+            return findFilesByTitleKeywordContaining("honbun", filePath).stream()
+                    .filter(file -> !file.isDirectory())
+                    .mapToLong(file -> xbrlArchiveResolver.length(new File(filePath, file.getName())))
+                    .sum();
+        } catch (final FundanalyzerFileException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 財務諸表のキーワードが連結財務諸表のものかを判定する
+     *
+     * @param keyWord キーワード
+     * @return boolean
+     */
+    public boolean isConsolidated(final String keyWord) {
+        return XbrlFactExtractor.isConsolidatedKeyword(keyWord);
+    }
+
+    private List<List<String>> getScrapingList(final XbrlDocument document, final String keyWord) {
+        return document.elementsByName(keyWord)
                 .select(Tag.TABLE.getName())
                 .select(Tag.TR.getName()).stream()
                 // tdの要素をリストにする
@@ -164,17 +465,19 @@ public class XbrlScraping {
      * @return 単位（金額）
      */
     Unit unit(final File file, final String keyWord) {
-        if (elementsByKeyMatch(file, KeyMatch.of("name", keyWord))
+        return unit(parse(file, List.of(keyWord)), keyWord);
+    }
+
+    private Unit unit(final XbrlDocument document, final String keyWord) {
+        final List<String> tableTextList = document.elementsByName(keyWord)
                 .select(Tag.TABLE.getName())
                 .stream()
                 .map(Element::text)
-                .anyMatch(text -> Unit.THOUSANDS_OF_YEN.getName().stream().anyMatch(text::contains))) {
+                .toList();
+
+        if (tableTextList.stream().anyMatch(text -> Unit.THOUSANDS_OF_YEN.getName().stream().anyMatch(text::contains))) {
             return Unit.THOUSANDS_OF_YEN;
-        } else if (elementsByKeyMatch(file, KeyMatch.of("name", keyWord))
-                .select(Tag.TABLE.getName())
-                .stream()
-                .map(Element::text)
-                .anyMatch(text -> Unit.MILLIONS_OF_YEN.getName().stream().anyMatch(text::contains))) {
+        } else if (tableTextList.stream().anyMatch(text -> Unit.MILLIONS_OF_YEN.getName().stream().anyMatch(text::contains))) {
             return Unit.MILLIONS_OF_YEN;
         } else {
             throw new FundanalyzerScrapingException("財務諸表の金額単位を識別できませんでした。");
@@ -326,7 +629,7 @@ public class XbrlScraping {
      * @return 株式総数
      */
     public String scrapeNumberOfShares(final File file, final String keyWord) {
-        final var scrapingList = elementsByKeyMatch(file, KeyMatch.of("name", keyWord))
+        final var scrapingList = parse(file, List.of(keyWord)).elementsByName(keyWord)
                 .select(Tag.TABLE.getName())
                 .select(Tag.TR.getName()).stream()
                 // tdの要素をリストにする
@@ -394,10 +697,64 @@ public class XbrlScraping {
                 ;
     }
 
-    Elements elementsByKeyMatch(final File file, final KeyMatch keyMatch) {
+    /**
+     * ファイルを解析して文書モデルを取得する
+     * <ul>
+     *    <li>解析済みのときは保持している文書モデルを返却する<li/>
+     *    <li>未解析のときはファイルを解析して保持する<li/>
+     * </>
+     *
+     * @param file 対象ファイル
+     * @return 文書モデル
+     */
+    XbrlDocument parse(final File file) {
+        return parsedDocumentCache.get(file.getAbsoluteFile(), key -> load(file));
+    }
+
+    /**
+     * キーワードを指定してファイルを解析し、文書モデルを取得する
+     * <ul>
+     *    <li>ストリーミングが有効で閾値以上のファイルのときは、キーワードに合致するエレメント配下のみを読み込む<li/>
+     *    <li>それ以外のときはファイル全体を解析する<li/>
+     * </>
+     *
+     * @param file        対象ファイル
+     * @param keywordList キーワードリスト
+     * @return 文書モデル
+     */
+    XbrlDocument parse(final File file, final Collection<String> keywordList) {
+        if (!isStreamingTarget(file)) {
+            return parse(file);
+        }
+
         try {
-            return Jsoup.parse(file, "UTF-8")
-                    .getElementsByAttributeValue(keyMatch.getKey(), keyMatch.getMatch());
+            try (InputStream inputStream = xbrlArchiveResolver.open(file)) {
+                return xbrlStreamReader.read(file, inputStream, keywordList);
+            }
+        } catch (final XMLStreamException e) {
+            log.warn(FundanalyzerLogClient.toInteractorLogObject(
+                    MessageFormat.format(
+                            "ストリーミングによる読み込みに失敗したため、ファイル全体を解析します。\t対象ファイルパス:\"{0}\"",
+                            file.getPath()
+                    ),
+                    Category.SCRAPING,
+                    Process.SCRAPING
+            ), e);
+            return parse(file);
+        } catch (final IOException e) {
+            throw new FundanalyzerFileException("ファイルの認識に失敗しました。スタックトレースから詳細を確認してください。", e);
+        }
+    }
+
+    private boolean isStreamingTarget(final File file) {
+        return streamingEnabled && streamingThreshold != null && xbrlArchiveResolver.length(file) >= streamingThreshold.toBytes();
+    }
+
+    XbrlDocument load(final File file) {
+        try {
+            try (InputStream inputStream = xbrlArchiveResolver.open(file)) {
+                return XbrlDocument.of(file, Jsoup.parse(inputStream, "UTF-8", file.getAbsolutePath()));
+            }
         } catch (IOException e) {
             log.warn(FundanalyzerLogClient.toInteractorLogObject(
                     MessageFormat.format(
@@ -411,6 +768,29 @@ public class XbrlScraping {
         }
     }
 
+    // 保持する文書モデルの重み（KB）にする
+    private static int kilobytes(final long bytes) {
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, bytes / 1024));
+    }
+
+    XbrlInstance loadInstance(final File file) {
+        try {
+            try (InputStream inputStream = xbrlArchiveResolver.open(file)) {
+                return xbrlInstanceReader.read(file, inputStream);
+            }
+        } catch (final IOException | XMLStreamException e) {
+            log.warn(FundanalyzerLogClient.toInteractorLogObject(
+                    MessageFormat.format(
+                            "XBRLインスタンスの読み取りに失敗したため、HTMLからスクレイピングします。\t対象ファイルパス:\"{0}\"",
+                            file.getPath()
+                    ),
+                    Category.SCRAPING,
+                    Process.SCRAPING
+            ), e);
+            return null;
+        }
+    }
+
     /**
      * 対象のフォルダからキーワードを含むファイルを見つける
      *
@@ -418,19 +798,51 @@ public class XbrlScraping {
      * @param targetFile 対象のフォルダ
      * @return キーワードを含むファイルのリスト
      */
-    @SuppressWarnings("SameParameterValue")
     private List<File> findFilesByTitleKeywordContaining(final String keyword, final File targetFile) {
-        final var targetFileList = List.of(Objects.requireNonNullElse(targetFile.listFiles(), File.listRoots()));
+        final List<File> targetFileList;
+        try {
+            targetFileList = xbrlArchiveResolver.listFiles(targetFile);
+        } catch (final IOException e) {
+            throw new FundanalyzerFileException("ファイルの認識に失敗しました。スタックトレースから詳細を確認してください。", e);
+        }
 
         return targetFileList.stream()
                 .filter(file -> file.getName().contains(keyword))
                 .toList();
     }
 
-    @SuppressWarnings("RedundantModifiersValueLombok")
-    @Value(staticConstructor = "of")
-    static class KeyMatch {
-        private final String key;
-        private final String match;
+    /**
+     * 書類のフォルダに対するスクレイピングの期間
+     */
+    public static class Session implements AutoCloseable {
+
+        private final File directory;
+
+        private final Closeable archive;
+
+        private Session(final File directory, final Closeable archive) {
+            this.directory = directory;
+            this.archive = archive;
+        }
+
+        @Override
+        public void close() {
+            if (Objects.isNull(archive)) {
+                return;
+            }
+
+            try {
+                archive.close();
+            } catch (final IOException e) {
+                log.warn(FundanalyzerLogClient.toInteractorLogObject(
+                        MessageFormat.format(
+                                "ZIPファイルを閉じることができませんでした。\t対象フォルダパス:\"{0}\"",
+                                directory.getPath()
+                        ),
+                        Category.SCRAPING,
+                        Process.SCRAPING
+                ), e);
+            }
+        }
     }
 }
@@ -0,0 +1,138 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.jsoup;
+
+import org.jsoup.Jsoup;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ファイルをストリーミングで読み込み、キーワードに合致するエレメント配下のみを文書モデルにする
+ * <ul>
+ *    <li>ファイル全体のDOMを生成しないため、大容量のファイルでもヒープの使用量を抑えられる<li/>
+ *    <li>"name"属性がキーワードに合致するエレメント配下のみをバッファし、Jsoupで解析する<li/>
+ * </>
+ */
+class XbrlStreamReader {
+
+    private static final String NAME = "name";
+
+    // 終了タグを持たないHTMLの要素
+    private static final Set<String> VOID_ELEMENTS = Set.of(
+            "area", "base", "br", "col", "embed", "hr", "img", "input", "link", "meta", "param", "source", "track", "wbr"
+    );
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    /**
+     * ファイルからキーワードに合致するエレメント配下のみを読み込む
+     *
+     * @param file        対象ファイル
+     * @param inputStream 対象ファイルのストリーム
+     * @param keywordList キーワードリスト
+     * @return 文書モデル
+     * @throws IOException        ファイルの読み込みに失敗したとき
+     * @throws XMLStreamException XHTMLとして解析できなかったとき
+     */
+    XbrlDocument read(
+            final File file,
+            final InputStream inputStream,
+            final Collection<String> keywordList) throws IOException, XMLStreamException {
+        final Set<String> targetNameSet = keywordList.stream()
+                .map(XbrlDocument::normalize)
+                .collect(Collectors.toSet());
+        final StringBuilder fragment = new StringBuilder();
+
+        try (InputStream bufferedInputStream = new BufferedInputStream(inputStream)) {
+            final XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(bufferedInputStream);
+            try {
+                // キーワードに合致するエレメントからの深さ（0のときはバッファしない）
+                int depth = 0;
+                while (reader.hasNext()) {
+                    switch (reader.next()) {
+                        case XMLStreamConstants.START_ELEMENT -> {
+                            if (depth > 0) {
+                                depth++;
+                            } else if (isTarget(reader, targetNameSet)) {
+                                depth = 1;
+                            }
+                            if (depth > 0) {
+                                appendStartElement(reader, fragment);
+                            }
+                        }
+                        case XMLStreamConstants.END_ELEMENT -> {
+                            if (depth > 0) {
+                                if (!VOID_ELEMENTS.contains(reader.getLocalName())) {
+                                    fragment.append("</").append(reader.getLocalName()).append('>');
+                                }
+                                depth--;
+                            }
+                        }
+                        case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                            if (depth > 0) {
+                                appendEscaped(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength(), fragment);
+                            }
+                        }
+                        default -> {
+                            // コメントや処理命令は読み飛ばす
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+
+        return XbrlDocument.of(file, Jsoup.parse(fragment.toString()));
+    }
+
+    private static boolean isTarget(final XMLStreamReader reader, final Set<String> targetNameSet) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (NAME.equals(reader.getAttributeLocalName(i))) {
+                return targetNameSet.contains(XbrlDocument.normalize(reader.getAttributeValue(i)));
+            }
+        }
+        return false;
+    }
+
+    private static void appendStartElement(final XMLStreamReader reader, final StringBuilder fragment) {
+        fragment.append('<').append(reader.getLocalName());
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            final String value = reader.getAttributeValue(i);
+            fragment.append(' ').append(reader.getAttributeLocalName(i)).append("=\"");
+            appendEscaped(value.toCharArray(), 0, value.length(), fragment);
+            fragment.append('"');
+        }
+        fragment.append(VOID_ELEMENTS.contains(reader.getLocalName()) ? "/>" : ">");
+    }
+
+    private static void appendEscaped(final char[] text, final int start, final int length, final StringBuilder fragment) {
+        for (int i = start; i < start + length; i++) {
+            switch (text[i]) {
+                case '&' -> fragment.append("&amp;");
+                case '<' -> fragment.append("&lt;");
+                case '>' -> fragment.append("&gt;");
+                case '"' -> fragment.append("&quot;");
+                default -> fragment.append(text[i]);
+            }
+        }
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        // 接頭辞付きの名前（ix:nonNumericなど）をそのまま扱う
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+}
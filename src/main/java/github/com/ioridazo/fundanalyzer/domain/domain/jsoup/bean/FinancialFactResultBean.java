@@ -0,0 +1,24 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean;
+
+import lombok.Value;
+
+import java.util.Optional;
+
+@SuppressWarnings("RedundantModifiersValueLombok")
+@Value(staticConstructor = "of")
+public class FinancialFactResultBean {
+
+    private final String subject;
+
+    private final Long previousValue;
+
+    private final Long currentValue;
+
+    public Optional<Long> getPreviousValue() {
+        return Optional.ofNullable(previousValue);
+    }
+
+    public Optional<Long> getCurrentValue() {
+        return Optional.ofNullable(currentValue);
+    }
+}
@@ -0,0 +1,143 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean;
+
+import lombok.Value;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 1つの財務諸表から取得したスクレイピング結果
+ * <ul>
+ *    <li>タグ付けされた数値・テーブル・株式総数のいずれかを保持する<li/>
+ *    <li>永続化のために可変長のバイナリ形式に変換できる<li/>
+ * </>
+ */
+@SuppressWarnings("RedundantModifiersValueLombok")
+@Value(staticConstructor = "of")
+public class ScrapingResultBean {
+
+    // バイナリ形式を変更したときは上げる
+    private static final int FORMAT_VERSION = 1;
+
+    private final List<FinancialFactResultBean> factList;
+
+    private final List<FinancialTableResultBean> tableList;
+
+    private final String numberOfShares;
+
+    public static ScrapingResultBean ofFact(final List<FinancialFactResultBean> factList) {
+        return ScrapingResultBean.of(List.copyOf(factList), List.of(), null);
+    }
+
+    public static ScrapingResultBean ofTable(final List<FinancialTableResultBean> tableList) {
+        return ScrapingResultBean.of(List.of(), List.copyOf(tableList), null);
+    }
+
+    public static ScrapingResultBean ofNumberOfShares(final String numberOfShares) {
+        return ScrapingResultBean.of(List.of(), List.of(), numberOfShares);
+    }
+
+    public Optional<String> getNumberOfShares() {
+        return Optional.ofNullable(numberOfShares);
+    }
+
+    /**
+     * バイナリ形式に変換する
+     *
+     * @return バイト配列
+     */
+    public byte[] toBytes() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+
+            out.writeInt(factList.size());
+            for (final FinancialFactResultBean fact : factList) {
+                writeString(out, fact.getSubject());
+                writeLong(out, fact.getPreviousValue().orElse(null));
+                writeLong(out, fact.getCurrentValue().orElse(null));
+            }
+
+            out.writeInt(tableList.size());
+            for (final FinancialTableResultBean table : tableList) {
+                writeString(out, table.getSubject().orElse(null));
+                writeString(out, table.getPreviousValue().orElse(null));
+                writeString(out, table.getCurrentValue());
+                out.writeByte(table.getUnit() == null ? -1 : table.getUnit().ordinal());
+            }
+
+            writeString(out, numberOfShares);
+        } catch (final IOException e) {
+            // メモリ上への書き込みのため発生しない
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * バイナリ形式から復元する
+     *
+     * @param bytes バイト配列
+     * @return スクレイピング結果
+     * @throws IOException バイナリ形式として解釈できなかったとき
+     */
+    public static ScrapingResultBean fromBytes(final byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            final int version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("サポートしていない形式です。\tversion:" + version);
+            }
+
+            final int factSize = in.readInt();
+            final List<FinancialFactResultBean> factList = new ArrayList<>(Math.min(factSize, 1024));
+            for (int i = 0; i < factSize; i++) {
+                factList.add(FinancialFactResultBean.of(readString(in), readLong(in), readLong(in)));
+            }
+
+            final int tableSize = in.readInt();
+            final List<FinancialTableResultBean> tableList = new ArrayList<>(Math.min(tableSize, 1024));
+            for (int i = 0; i < tableSize; i++) {
+                final String subject = readString(in);
+                final String previousValue = readString(in);
+                final String currentValue = readString(in);
+                final int unit = in.readByte();
+                if (unit >= Unit.values().length) {
+                    throw new IOException("単位を解釈できませんでした。\tunit:" + unit);
+                }
+                tableList.add(FinancialTableResultBean.of(
+                        subject, previousValue, currentValue, unit < 0 ? null : Unit.values()[unit]));
+            }
+
+            return ScrapingResultBean.of(List.copyOf(factList), List.copyOf(tableList), readString(in));
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static void writeLong(final DataOutputStream out, final Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static Long readLong(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+}
@@ -5,6 +5,7 @@ import github.com.ioridazo.fundanalyzer.client.log.FundanalyzerLogClient;
 import github.com.ioridazo.fundanalyzer.client.log.Process;
 import github.com.ioridazo.fundanalyzer.domain.domain.dao.transaction.AnalysisResultDao;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.AnalysisResultEntity;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentTypeCode;
 import github.com.ioridazo.fundanalyzer.domain.value.AnalysisResult;
 import github.com.ioridazo.fundanalyzer.domain.value.Company;
 import github.com.ioridazo.fundanalyzer.domain.value.Document;
@@ -27,6 +28,11 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class AnalysisResultSpecification {
@@ -34,6 +40,8 @@ public class AnalysisResultSpecification {
     private static final Logger log = LogManager.getLogger(AnalysisResultSpecification.class);
     private static final int SECOND_DECIMAL_PLACE = 2;
     private static final int THIRD_DECIMAL_PLACE = 3;
+    private static final List<String> DERIVATION_SOURCE_TYPE_CODES =
+            List.of(DocumentTypeCode.DTC_120.toValue(), DocumentTypeCode.DTC_130.toValue());
 
     private final AnalysisResultDao analysisResultDao;
     private final CompanySpecification companySpecification;
@@ -143,12 +151,14 @@ public class AnalysisResultSpecification {
     /**
      * 指定年数平均の企業価値を取得する
      *
-     * @param company 企業情報
-     * @param year    指定年数
+     * @param company     企業情報
+     * @param year        指定年数
+     * @param derivedList 前期の値から導出した企業価値リスト
      * @return 平均の企業価値
      */
-    public Optional<BigDecimal> yearAverageCorporateValue(final Company company, final Integer year) {
-        final List<AnalysisResultEntity> targetList = analysisTargetList(company.code(), targetTypeCodes);
+    public Optional<BigDecimal> yearAverageCorporateValue(
+            final Company company, final Integer year, final List<AnalysisResultEntity> derivedList) {
+        final List<AnalysisResultEntity> targetList = analysisTargetList(company.code(), targetTypeCodes, derivedList);
         if (targetList.isEmpty() || targetList.size() < year) {
             return Optional.empty();
         } else {
@@ -170,11 +180,13 @@ public class AnalysisResultSpecification {
     /**
      * 全年平均の企業価値を取得する
      *
-     * @param company 企業情報
+     * @param company     企業情報
+     * @param derivedList 前期の値から導出した企業価値リスト
      * @return 平均の企業価値
      */
-    public Optional<BigDecimal> allYearAverageCorporateValue(final Company company) {
-        final List<AnalysisResultEntity> targetList = analysisTargetList(company.code(), targetTypeCodes);
+    public Optional<BigDecimal> allYearAverageCorporateValue(
+            final Company company, final List<AnalysisResultEntity> derivedList) {
+        final List<AnalysisResultEntity> targetList = analysisTargetList(company.code(), targetTypeCodes, derivedList);
         if (targetList.isEmpty()) {
             return Optional.empty();
         } else {
@@ -192,10 +204,12 @@ public class AnalysisResultSpecification {
      *
      * @param company               企業情報
      * @param averageCorporateValue 平均の企業価値
+     * @param derivedList           前期の値から導出した企業価値リスト
      * @return 標準偏差
      */
-    public Optional<BigDecimal> standardDeviation(final Company company, final BigDecimal averageCorporateValue) {
-        final List<AnalysisResultEntity> targetList = analysisTargetList(company.code(), targetTypeCodes);
+    public Optional<BigDecimal> standardDeviation(
+            final Company company, final BigDecimal averageCorporateValue, final List<AnalysisResultEntity> derivedList) {
+        final List<AnalysisResultEntity> targetList = analysisTargetList(company.code(), targetTypeCodes, derivedList);
         if (Objects.isNull(averageCorporateValue) || targetList.isEmpty()) {
             return Optional.empty();
         } else {
@@ -231,11 +245,56 @@ public class AnalysisResultSpecification {
     /**
      * 分析年数を取得する
      *
-     * @param company 企業情報
+     * @param company     企業情報
+     * @param derivedList 前期の値から導出した企業価値リスト
      * @return 分析年数
      */
-    public BigDecimal countYear(final Company company) {
-        return BigDecimal.valueOf(analysisTargetList(company.code(), targetTypeCodes).size());
+    public BigDecimal countYear(final Company company, final List<AnalysisResultEntity> derivedList) {
+        return BigDecimal.valueOf(analysisTargetList(company.code(), targetTypeCodes, derivedList).size());
+    }
+
+    /**
+     * 前期の値を導出する元となる企業価値リストを取得する
+     * <ul>
+     *    <li>前期の値は有価証券報告書のときのみ導出するため、有価証券報告書の企業価値に限る<li/>
+     * </>
+     *
+     * @param company 企業情報
+     * @return 企業価値リスト
+     */
+    public List<AnalysisResultEntity> findDerivationSourceList(final Company company) {
+        return analysisTargetList(company.code(), targetTypeCodes).stream()
+                .filter(entity -> DERIVATION_SOURCE_TYPE_CODES.contains(entity.getDocumentTypeCode()))
+                .toList();
+    }
+
+    /**
+     * 前期の値から算出した企業価値を、書類の1年前の期間の企業価値として生成する
+     * <ul>
+     *    <li>平均の算出にのみ使用し、データベースには登録しない<li/>
+     * </>
+     *
+     * @param company        企業情報
+     * @param document       導出元のドキュメント
+     * @param analysisResult 前期の値から算出した分析結果
+     * @return 1年前の期間の企業価値
+     */
+    public AnalysisResultEntity derive(final Company company, final Document document, final AnalysisResult analysisResult) {
+        return AnalysisResultEntity.of(
+                company.code(),
+                document.getDocumentPeriod().map(period -> period.minusYears(1))
+                        .orElseThrow(() -> new FundanalyzerNotExistException("documentPeriod")),
+                analysisResult.getCorporateValue(),
+                analysisResult.getBps().orElse(null),
+                analysisResult.getEps().orElse(null),
+                analysisResult.getRoe().orElse(null),
+                analysisResult.getRoa().orElse(null),
+                document.getDocumentTypeCode(),
+                document.getQuarterType(),
+                document.getSubmitDate(),
+                document.getDocumentId(),
+                nowLocalDateTime()
+        );
     }
 
     /**
@@ -298,4 +357,38 @@ public class AnalysisResultSpecification {
                 .map(Optional::get)
                 .toList();
     }
+
+    /**
+     * 前期の値から導出した企業価値を含めて、分析処理対象となる企業価値リストを取得する
+     * <ul>
+     *    <li>書類から取得した企業価値がある期間は、導出した企業価値を使用しない<li/>
+     *    <li>導出した企業価値が同じ期間に複数あるときは、提出日の新しいものを使用する<li/>
+     * </>
+     *
+     * @param companyCode      企業コード
+     * @param documentTypeCode 書類種別コード
+     * @param derivedList      前期の値から導出した企業価値リスト
+     * @return 企業価値リスト
+     */
+    List<AnalysisResultEntity> analysisTargetList(
+            final String companyCode, final List<String> documentTypeCode, final List<AnalysisResultEntity> derivedList) {
+        final List<AnalysisResultEntity> analysisTargetList = analysisTargetList(companyCode, documentTypeCode);
+        if (derivedList.isEmpty()) {
+            return analysisTargetList;
+        }
+
+        final Set<LocalDate> filedPeriodSet = analysisTargetList.stream()
+                .map(AnalysisResultEntity::getDocumentPeriod)
+                .collect(Collectors.toSet());
+        return Stream.concat(
+                analysisTargetList.stream(),
+                derivedList.stream()
+                        .filter(e -> !filedPeriodSet.contains(e.getDocumentPeriod()))
+                        .collect(Collectors.toMap(
+                                AnalysisResultEntity::getDocumentPeriod,
+                                Function.identity(),
+                                BinaryOperator.maxBy(Comparator.comparing(AnalysisResultEntity::getSubmitDate))))
+                        .values().stream()
+        ).toList();
+    }
 }
@@ -0,0 +1,110 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.specification;
+
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.CompanyEntity;
+import github.com.ioridazo.fundanalyzer.domain.value.Company;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 企業情報の索引
+ * <ul>
+ *    <li>データベースから一度だけ読み込み、EDINETコード・証券コード・銘柄名ごとに索引する<li/>
+ *    <li>生成後は変更しないため、参照時にデータベースへ問い合わせず、ロックも取得しない<li/>
+ *    <li>証券コードのない仮登録の企業はEDINETコードの存在確認にのみ使用する<li/>
+ * </>
+ */
+final class CompanyIndex {
+
+    private final Map<String, CompanyEntity> entityByEdinetCode;
+
+    private final Map<String, Company> byEdinetCode;
+
+    private final Map<String, Company> byCode;
+
+    private final Map<String, Company> byName;
+
+    private CompanyIndex(final List<CompanyEntity> entityList, final Function<Integer, String> industryName) {
+        this.entityByEdinetCode = Collections.unmodifiableMap(entityList.stream()
+                .collect(Collectors.toMap(CompanyEntity::getEdinetCode, Function.identity(), (first, second) -> first, LinkedHashMap::new)));
+
+        final List<Company> companyList = this.entityByEdinetCode.values().stream()
+                .filter(entity -> entity.getCode().isPresent())
+                .map(entity -> Company.of(entity, industryName.apply(entity.getIndustryId())))
+                .toList();
+
+        // 同じキーが複数あるときは先に登録された企業を使用する
+        this.byEdinetCode = Collections.unmodifiableMap(companyList.stream()
+                .collect(Collectors.toMap(Company::edinetCode, Function.identity(), (first, second) -> first, LinkedHashMap::new)));
+        this.byCode = Map.copyOf(companyList.stream()
+                .collect(Collectors.toMap(Company::code, Function.identity(), (first, second) -> first)));
+        this.byName = Map.copyOf(companyList.stream()
+                .filter(company -> Objects.nonNull(company.companyName()))
+                .collect(Collectors.toMap(company -> normalize(company.companyName()), Function.identity(), (first, second) -> first)));
+    }
+
+    /**
+     * 企業情報リストから索引を生成する
+     *
+     * @param entityList   企業情報リスト
+     * @param industryName 業種IDから業種名への変換
+     * @return 企業情報の索引
+     */
+    static CompanyIndex of(final List<CompanyEntity> entityList, final Function<Integer, String> industryName) {
+        return new CompanyIndex(entityList, industryName);
+    }
+
+    /**
+     * 銘柄名を比較できるように正規化する
+     * <ul>
+     *    <li>全角・半角を統一し、空白を除いて小文字にする<li/>
+     * </>
+     *
+     * @param name 銘柄名
+     * @return 正規化した銘柄名
+     */
+    static String normalize(final String name) {
+        return Normalizer.normalize(name, Normalizer.Form.NFKC)
+                .replaceAll("\\s", "")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    boolean contains(final String edinetCode) {
+        return entityByEdinetCode.containsKey(edinetCode);
+    }
+
+    Optional<Company> findByEdinetCode(final String edinetCode) {
+        return Optional.ofNullable(byEdinetCode.get(edinetCode));
+    }
+
+    Optional<Company> findByCode(final String code) {
+        return Optional.ofNullable(byCode.get(code));
+    }
+
+    Optional<Company> findByName(final String name) {
+        return Optional.ofNullable(name).map(CompanyIndex::normalize).map(byName::get);
+    }
+
+    /**
+     * @return 証券コードのある企業情報リスト（登録順）
+     */
+    Collection<Company> companies() {
+        return byEdinetCode.values();
+    }
+
+    /**
+     * @return 索引に含まれるすべての企業情報
+     */
+    Map<String, CompanyEntity> entities() {
+        return entityByEdinetCode;
+    }
+}
@@ -7,40 +7,80 @@ import github.com.ioridazo.fundanalyzer.client.log.FundanalyzerLogClient;
 import github.com.ioridazo.fundanalyzer.client.log.Process;
 import github.com.ioridazo.fundanalyzer.domain.domain.dao.master.CompanyDao;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.CompanyEntity;
+import github.com.ioridazo.fundanalyzer.domain.util.ParallelExecution;
 import github.com.ioridazo.fundanalyzer.domain.value.Company;
+import github.com.ioridazo.fundanalyzer.domain.value.CompanyIndexConsistency;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import java.text.MessageFormat;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * 企業情報
+ * <ul>
+ *    <li>企業情報の参照はデータベースから一度だけ読み込んだ索引から取得する<li/>
+ *    <li>企業情報を登録・更新したときは {@link #reload()} で索引を読み込み直す<li/>
+ * </>
+ */
 @Component
 public class CompanySpecification {
 
-    private static final String CACHE_KEY_ALL_TARGET_COMPANIES = "allTargetCompanies";
-
     private static final Logger log = LogManager.getLogger(CompanySpecification.class);
 
     private final CompanyDao companyDao;
     private final IndustrySpecification industrySpecification;
+    private final Executor companyExecutor;
+
+    private volatile CompanyIndex index;
 
     public CompanySpecification(
             final CompanyDao companyDao,
-            final IndustrySpecification industrySpecification) {
+            final IndustrySpecification industrySpecification,
+            @Qualifier("companyExecutor") final Executor companyExecutor) {
         this.companyDao = companyDao;
         this.industrySpecification = industrySpecification;
+        this.companyExecutor = companyExecutor;
     }
 
     LocalDateTime nowLocalDateTime() {
         return LocalDateTime.now();
     }
 
+    /**
+     * 企業情報の索引をデータベースから読み込み直す
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        index = CompanyIndex.of(companyDao.selectAll(), industrySpecification::convertFromIdToName);
+    }
+
+    private CompanyIndex index() {
+        final CompanyIndex current = index;
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+        synchronized (this) {
+            if (Objects.isNull(index)) {
+                reload();
+            }
+            return index;
+        }
+    }
+
     /**
      * 企業情報を取得する
      *
@@ -48,9 +88,7 @@ public class CompanySpecification {
      * @return 企業情報
      */
     public Optional<Company> findCompanyByEdinetCode(final String edinetCode) {
-        return companyDao.selectByEdinetCode(edinetCode)
-                .filter(entity -> entity.getCode().isPresent())
-                .map(entity -> Company.of(entity, industrySpecification.convertFromIdToName(entity.getIndustryId())));
+        return index().findByEdinetCode(edinetCode);
     }
 
     /**
@@ -60,8 +98,20 @@ public class CompanySpecification {
      * @return 企業情報
      */
     public Optional<Company> findCompanyByCode(final String code) {
-        return companyDao.selectByCode(code)
-                .map(entity -> Company.of(entity, industrySpecification.convertFromIdToName(entity.getIndustryId())));
+        return index().findByCode(code);
+    }
+
+    /**
+     * 企業情報を取得する
+     * <ul>
+     *    <li>全角・半角と空白の違いを無視して銘柄名を比較する<li/>
+     * </>
+     *
+     * @param companyName 銘柄名
+     * @return 企業情報
+     */
+    public Optional<Company> findCompanyByName(final String companyName) {
+        return index().findByName(companyName);
     }
 
     /**
@@ -82,9 +132,8 @@ public class CompanySpecification {
      * @return 企業情報リスト
      */
     public List<Company> findCompanyByIndustry(final Integer industryId) {
-        return companyDao.selectByIndustryId(industryId).stream()
-                .filter(entity -> entity.getCode().isPresent())
-                .map(entity -> Company.of(entity, industrySpecification.convertFromIdToName(entity.getIndustryId())))
+        return index().companies().stream()
+                .filter(company -> Objects.equals(industryId, company.industryId()))
                 .filter(Company::lived)
                 .toList();
     }
@@ -95,34 +144,45 @@ public class CompanySpecification {
      * @return 企業情報リスト
      */
     public List<Company> findFavoriteCompanies() {
-        return companyDao.selectByFavorite().stream()
-                .filter(entity -> entity.getCode().isPresent())
-                .map(entity -> Company.of(entity, industrySpecification.convertFromIdToName(entity.getIndustryId())))
+        return index().companies().stream()
+                .filter(Company::favorite)
                 .toList();
     }
 
     /**
      * 企業情報を登録する
+     * <ul>
+     *    <li>索引に存在しないEDINETコードのみ仮情報を登録する<li/>
+     *    <li>索引は登録後に1回だけ読み込み直す<li/>
+     * </>
      *
-     * @param results EDINETレスポンス
+     * @param resultsList EDINETレスポンス
      */
-    public void insertIfNotExist(final Results results) {
-        results.getEdinetCode().ifPresent(edinetCode -> {
-            if (companyDao.selectByEdinetCode(edinetCode).isEmpty()) {
-                companyDao.insert(CompanyEntity.ofSqlForeignKey(edinetCode, results.getFilerName(), nowLocalDateTime()));
-
-                log.info(FundanalyzerLogClient.toSpecificationLogObject(
-                        MessageFormat.format(
-                                "企業情報が登録されていないため、仮情報を登録します。\tEDINETコード:{0}\t企業名:{1}",
-                                edinetCode,
-                                results.getFilerName()
-                        ),
-                        edinetCode,
-                        Category.DOCUMENT,
-                        Process.EDINET
-                ));
-            }
+    public void insertIfNotExist(final List<Results> resultsList) {
+        final CompanyIndex current = index();
+        final Map<String, Results> notExistMap = resultsList.stream()
+                .filter(results -> results.getEdinetCode().filter(edinetCode -> !current.contains(edinetCode)).isPresent())
+                .collect(Collectors.toMap(results -> results.getEdinetCode().orElseThrow(), Function.identity(), (first, second) -> first, LinkedHashMap::new));
+
+        if (notExistMap.isEmpty()) {
+            return;
+        }
+
+        notExistMap.forEach((edinetCode, results) -> {
+            companyDao.insert(CompanyEntity.ofSqlForeignKey(edinetCode, results.getFilerName(), nowLocalDateTime()));
+
+            log.info(FundanalyzerLogClient.toSpecificationLogObject(
+                    MessageFormat.format(
+                            "企業情報が登録されていないため、仮情報を登録します。\tEDINETコード:{0}\t企業名:{1}",
+                            edinetCode,
+                            results.getFilerName()
+                    ),
+                    edinetCode,
+                    Category.DOCUMENT,
+                    Process.EDINET
+            ));
         });
+        reload();
     }
 
     /**
@@ -131,7 +191,7 @@ public class CompanySpecification {
      * @param resultBeanList CSVリスト
      */
     public void upsert(final List<EdinetCsvResultBean> resultBeanList) {
-        resultBeanList.parallelStream().forEach(resultBean -> {
+        ParallelExecution.forEach(resultBeanList, resultBean -> {
                     if (isPresent(resultBean.getEdinetCode())) {
                         companyDao.update(CompanyEntity.ofUpdate(
                                 industrySpecification.convertFromNameToId(resultBean.getIndustry()),
@@ -145,8 +205,10 @@ public class CompanySpecification {
                                 nowLocalDateTime()
                         ));
                     }
-                }
+                },
+                companyExecutor
         );
+        reload();
     }
 
     /**
@@ -157,6 +219,7 @@ public class CompanySpecification {
      */
     public boolean updateFavorite(final Company company) {
         companyDao.update(CompanyEntity.ofUpdateFavorite(company, nowLocalDateTime()));
+        reload();
         return !company.favorite();
     }
 
@@ -167,26 +230,16 @@ public class CompanySpecification {
      */
     public void updateRemoved(final Company company) {
         companyDao.update(CompanyEntity.ofUpdateRemoved(company, nowLocalDateTime()));
+        reload();
     }
 
     /**
      * 処理対象となる企業情報リストを取得する
-     * <ul>
-     *    <li>キャッシュがあるときはキャッシュから取得する<li/>
-     *    <li>キャッシュがないときはデータベースから取得する<li/>
-     * </>
      *
      * @return 企業情報リスト
      */
-    @Cacheable(CACHE_KEY_ALL_TARGET_COMPANIES)
     public List<Company> inquiryAllTargetCompanies() {
-        return findAllTargetCompanies();
-    }
-
-    @CachePut(CACHE_KEY_ALL_TARGET_COMPANIES)
-    public List<Company> findAllTargetCompanies() {
-        return companyDao.selectByCodeIsNotNull().stream()
-                .map(entity -> Company.of(entity, industrySpecification.convertFromIdToName(entity.getIndustryId())))
+        return index().companies().stream()
                 .filter(Company::lived)
                 .filter(company -> industrySpecification.isTarget(company.industryId()))
                 .toList();
@@ -199,6 +252,30 @@ public class CompanySpecification {
      * @return boolean
      */
     private boolean isPresent(final String edinetCode) {
-        return companyDao.selectByEdinetCode(edinetCode).isPresent();
+        return index().contains(edinetCode);
+    }
+
+    /**
+     * 企業情報の索引がデータベースと一致しているか確認する
+     *
+     * @return 確認結果
+     */
+    public CompanyIndexConsistency checkConsistency() {
+        final Map<String, CompanyEntity> indexed = index().entities();
+        final Map<String, CompanyEntity> stored = companyDao.selectAll().stream()
+                .collect(Collectors.toMap(CompanyEntity::getEdinetCode, Function.identity(), (first, second) -> first));
+
+        return CompanyIndexConsistency.of(
+                indexed.size(),
+                stored.size(),
+                stored.keySet().stream().filter(edinetCode -> !indexed.containsKey(edinetCode)).sorted().toList(),
+                stored.entrySet().stream()
+                        .filter(entry -> indexed.containsKey(entry.getKey()))
+                        .filter(entry -> !Objects.equals(entry.getValue(), indexed.get(entry.getKey())))
+                        .map(Map.Entry::getKey)
+                        .sorted()
+                        .toList(),
+                indexed.keySet().stream().filter(edinetCode -> !stored.containsKey(edinetCode)).sorted().toList()
+        );
     }
 }
@@ -12,6 +12,7 @@ import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.Financi
 import github.com.ioridazo.fundanalyzer.domain.value.Company;
 import github.com.ioridazo.fundanalyzer.domain.value.Document;
 import github.com.ioridazo.fundanalyzer.domain.value.EdinetDocument;
+import github.com.ioridazo.fundanalyzer.domain.value.ScrapingResult;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerNotExistException;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerRuntimeException;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerSqlForeignKeyException;
@@ -35,15 +36,22 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Component
 public class DocumentSpecification {
 
     private static final String CACHE_KEY_TARGET_DOCUMENTS = "targetDocuments";
+    private static final int DOCUMENT_ID_CHUNK_SIZE = 1000;
 
     private static final Logger log = LogManager.getLogger(DocumentSpecification.class);
 
@@ -243,18 +251,51 @@ public class DocumentSpecification {
 
     /**
      * ドキュメント情報を登録する
+     * <ul>
+     *    <li>登録済の書類IDを{@value #DOCUMENT_ID_CHUNK_SIZE}件ごとに1回の問い合わせで取得し、未登録の書類を判定する<li/>
+     *    <li>未登録の書類は1回のバッチで登録する<li/>
+     *    <li>制約違反のときは1件ずつ登録し直し、書類ごとに制約違反を処理する<li/>
+     * </>
      *
      * @param submitDate     提出日
      * @param edinetResponse EDINETレスポンス
      */
     public void insert(final LocalDate submitDate, final EdinetResponse edinetResponse) {
-        final List<DocumentEntity> insertedList = documentDao.selectBySubmitDate(submitDate);
-        edinetResponse.getResults().stream()
-                .filter(results -> insertedList.stream()
-                        .map(DocumentEntity::getDocumentId)
-                        .noneMatch(inserted -> results.getDocId().equals(inserted)))
-                .filter(results -> documentDao.selectByDocumentId(results.getDocId()).isEmpty())
-                .forEach(results -> insert(submitDate, results));
+        final LocalDateTime createdAt = nowLocalDateTime();
+        final Map<String, Results> resultsByDocId = edinetResponse.getResults().stream()
+                .collect(Collectors.toMap(Results::getDocId, Function.identity(), (first, second) -> first, LinkedHashMap::new));
+        findInsertedDocumentIdSet(List.copyOf(resultsByDocId.keySet())).forEach(resultsByDocId::remove);
+
+        if (resultsByDocId.isEmpty()) {
+            return;
+        }
+
+        try {
+            documentDao.batchInsert(resultsByDocId.values().stream()
+                    .map(results -> DocumentEntity.of(submitDate, parseDocumentPeriod(results).orElse(null), results, createdAt))
+                    .toList());
+        } catch (NestedRuntimeException e) {
+            if (e.contains(UniqueConstraintException.class) || e.contains(SQLIntegrityConstraintViolationException.class)) {
+                resultsByDocId.values().forEach(results -> insert(submitDate, results));
+            } else {
+                throw new FundanalyzerRuntimeException("想定外のエラーが発生しました。", e);
+            }
+        }
+    }
+
+    /**
+     * 登録済の書類IDを取得する
+     *
+     * @param documentIdList 書類IDリスト
+     * @return 登録済の書類ID
+     */
+    private Set<String> findInsertedDocumentIdSet(final List<String> documentIdList) {
+        final Set<String> insertedSet = new HashSet<>();
+        for (int i = 0; i < documentIdList.size(); i += DOCUMENT_ID_CHUNK_SIZE) {
+            insertedSet.addAll(documentDao.selectDocumentIdByDocumentIdList(
+                    documentIdList.subList(i, Math.min(i + DOCUMENT_ID_CHUNK_SIZE, documentIdList.size()))));
+        }
+        return insertedSet;
     }
 
     /**
@@ -385,6 +426,27 @@ public class DocumentSpecification {
         ));
     }
 
+    /**
+     * 財務諸表毎の処理結果をまとめて更新する
+     * <ul>
+     *    <li>複数の財務諸表の処理ステータスを1回の更新で反映する<li/>
+     * </>
+     *
+     * @param document   ドキュメント情報
+     * @param resultList 財務諸表毎の処理結果
+     */
+    public void updateFsStatus(final Document document, final List<ScrapingResult> resultList) {
+        if (resultList.isEmpty()) {
+            return;
+        }
+
+        documentDao.update(DocumentEntity.ofUpdateFsList(
+                document.getDocumentId(),
+                resultList,
+                nowLocalDateTime()
+        ));
+    }
+
     /**
      * 財務諸表毎に処理を処理途中に更新する
      *
@@ -22,14 +22,21 @@ import org.springframework.stereotype.Component;
 import java.text.MessageFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 public class EdinetDocumentSpecification {
 
     private static final String CACHE_KEY_LIMITED_EDINET_DOCUMENT = "limitedEdinetDocument";
     private static final String MESSAGE_EDINET_DOCUMENT = "EDINETに提出された書類";
+    private static final int DOC_ID_CHUNK_SIZE = 1000;
 
     private static final Logger log = LogManager.getLogger(EdinetDocumentSpecification.class);
 
@@ -139,18 +146,51 @@ public class EdinetDocumentSpecification {
 
     /**
      * EDINETドキュメントを登録する
+     * <ul>
+     *    <li>登録済の書類IDを{@value #DOC_ID_CHUNK_SIZE}件ごとに1回の問い合わせで取得し、未登録の書類を判定する<li/>
+     *    <li>未登録の書類は1回のバッチで登録する<li/>
+     *    <li>一意制約違反のときは1件ずつ登録し直し、登録済の書類をスキップする<li/>
+     * </>
      *
      * @param submitDate     提出日
      * @param edinetResponse EDINETレスポンス
      */
     public void insert(final LocalDate submitDate, final EdinetResponse edinetResponse) {
-        final List<EdinetDocumentEntity> insertedList = edinetDocumentDao.selectBySubmitDate(submitDate.toString());
-        edinetResponse.getResults().stream()
-                .filter(results -> insertedList.stream()
-                        .map(EdinetDocumentEntity::getDocId)
-                        .noneMatch(inserted -> results.getDocId().equals(inserted)))
-                .filter(results -> edinetDocumentDao.selectByDocId(results.getDocId()).isEmpty())
-                .forEach(this::insert);
+        final LocalDateTime createdAt = nowLocalDateTime();
+        final Map<String, Results> resultsByDocId = edinetResponse.getResults().stream()
+                .collect(Collectors.toMap(Results::getDocId, Function.identity(), (first, second) -> first, LinkedHashMap::new));
+        findInsertedDocIdSet(List.copyOf(resultsByDocId.keySet())).forEach(resultsByDocId::remove);
+
+        if (resultsByDocId.isEmpty()) {
+            return;
+        }
+
+        try {
+            edinetDocumentDao.batchInsert(resultsByDocId.values().stream()
+                    .map(results -> EdinetDocumentEntity.of(results, createdAt))
+                    .toList());
+        } catch (NestedRuntimeException e) {
+            if (e.contains(UniqueConstraintException.class)) {
+                resultsByDocId.values().forEach(this::insert);
+            } else {
+                throw new FundanalyzerRuntimeException("想定外のエラーが発生しました。", e);
+            }
+        }
+    }
+
+    /**
+     * 登録済の書類IDを取得する
+     *
+     * @param docIdList 書類IDリスト
+     * @return 登録済の書類ID
+     */
+    private Set<String> findInsertedDocIdSet(final List<String> docIdList) {
+        final Set<String> insertedSet = new HashSet<>();
+        for (int i = 0; i < docIdList.size(); i += DOC_ID_CHUNK_SIZE) {
+            insertedSet.addAll(edinetDocumentDao.selectDocIdByDocIdList(
+                    docIdList.subList(i, Math.min(i + DOC_ID_CHUNK_SIZE, docIdList.size()))));
+        }
+        return insertedSet;
     }
 
     /**
@@ -6,12 +6,15 @@ import github.com.ioridazo.fundanalyzer.client.log.Process;
 import github.com.ioridazo.fundanalyzer.domain.domain.dao.transaction.FinancialStatementDao;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.Subject;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.CreatedType;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentTypeCode;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEntity;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEnum;
 import github.com.ioridazo.fundanalyzer.domain.value.BsSubject;
 import github.com.ioridazo.fundanalyzer.domain.value.Company;
 import github.com.ioridazo.fundanalyzer.domain.value.Document;
 import github.com.ioridazo.fundanalyzer.domain.value.FinanceValue;
+import github.com.ioridazo.fundanalyzer.domain.value.FinancialStatementValue;
+import github.com.ioridazo.fundanalyzer.domain.value.FinancialStatementValueMap;
 import github.com.ioridazo.fundanalyzer.domain.value.PlSubject;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerBadDataException;
 import github.com.ioridazo.fundanalyzer.web.view.model.corporate.detail.FinancialStatementKeyViewModel;
@@ -26,14 +29,24 @@ import org.springframework.stereotype.Component;
 import java.text.MessageFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 public class FinancialStatementSpecification {
 
     private static final Logger log = LogManager.getLogger(FinancialStatementSpecification.class);
 
+    // IN句に指定する書類IDの上限
+    private static final int DOCUMENT_ID_CHUNK_SIZE = 1000;
+
     private final FinancialStatementDao financialStatementDao;
     private final SubjectSpecification subjectSpecification;
 
@@ -98,20 +111,6 @@ public class FinancialStatementSpecification {
         return Optional.empty();
     }
 
-    /**
-     * 株式総数を取得する
-     *
-     * @param document ドキュメント
-     * @return 値
-     */
-    public Optional<Long> findNsValue(final Document document) {
-        return financialStatementDao.selectByUniqueKey(
-                document.getDocumentId(),
-                FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES.getId(),
-                "0"
-        ).flatMap(FinancialStatementEntity::getValue);
-    }
-
     /**
      * 企業における財務諸表の値リストを取得する
      *
@@ -153,22 +152,180 @@ public class FinancialStatementSpecification {
             final Document document,
             final Long value,
             final CreatedType createdType) {
+        toEntity(company, fs, document, FinancialStatementValue.of(dId, value, createdType), nowLocalDateTime())
+                .ifPresent(entity -> insert(company, fs, dId, document, entity));
+    }
+
+    /**
+     * 書類に記載された前期の値を前期の財務諸表の値として登録する
+     * <ul>
+     *    <li>有価証券報告書の前期の列から、1年前の期間の値を導出して登録する<li/>
+     *    <li>導出した値は前期の書類から取得した値と区別し、導出元の書類IDで登録する<li/>
+     *    <li>前期の書類から取得した値が存在するときは、そちらを優先して参照する<li/>
+     * </>
+     *
+     * @param company  企業情報
+     * @param fs       財務諸表種別
+     * @param dId      科目ID
+     * @param document 導出元のドキュメント
+     * @param value    前期の値
+     */
+    public void insertPreviousPeriod(
+            final Company company,
+            final FinancialStatementEnum fs,
+            final String dId,
+            final Document document,
+            final Long value) {
+        toEntity(company, fs, document, FinancialStatementValue.ofPreviousPeriod(dId, value), nowLocalDateTime())
+                .ifPresent(entity -> insert(company, fs, dId, document, entity));
+    }
+
+    /**
+     * 1つの書類の財務諸表の値をまとめて登録する
+     * <ul>
+     *    <li>同じ科目・期間の値が複数あるときは先の値を登録する<li/>
+     *    <li>登録済の値を除き、残りを1回のバッチ・1つのトランザクションで登録する<li/>
+     *    <li>並行して登録されて一意制約違反となったときは、1件ずつ登録して違反した値のみスキップする<li/>
+     * </>
+     *
+     * @param company   企業情報
+     * @param fs        財務諸表種別
+     * @param document  ドキュメント
+     * @param valueList 値リスト
+     */
+    public void insert(
+            final Company company,
+            final FinancialStatementEnum fs,
+            final Document document,
+            final List<FinancialStatementValue> valueList) {
+        final LocalDateTime createdAt = nowLocalDateTime();
+        final Map<String, FinancialStatementEntity> entityMap = new LinkedHashMap<>();
+        valueList.forEach(value -> toEntity(company, fs, document, value, createdAt)
+                .ifPresent(entity -> entityMap.putIfAbsent(uniqueKey(entity), entity)));
+        if (entityMap.isEmpty()) {
+            return;
+        }
+
+        final Set<String> presentKeySet = financialStatementDao.selectBySubmission(
+                        company.edinetCode(), fs.getId(), document.getDocumentTypeCode().toValue(), document.getSubmitDate())
+                .stream()
+                .map(this::uniqueKey)
+                .collect(Collectors.toSet());
+        final List<FinancialStatementEntity> entityList = entityMap.entrySet().stream()
+                .filter(entry -> !presentKeySet.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+
+        if (entityList.size() < entityMap.size()) {
+            log.debug(FundanalyzerLogClient.toSpecificationLogObject(
+                    MessageFormat.format(
+                            "登録済のため、データベースへの登録をスキップします。" +
+                            "	テーブル名:{0}	企業コード:{1}	財務諸表名:{2}	件数:{3}",
+                            "financial_statement",
+                            company.code(),
+                            fs.getName(),
+                            entityMap.size() - entityList.size()
+                    ),
+                    document,
+                    Category.SCRAPING,
+                    Process.of(fs)
+            ));
+        }
+        if (entityList.isEmpty()) {
+            return;
+        }
+
         try {
-            financialStatementDao.insert(FinancialStatementEntity.of(
+            financialStatementDao.batchInsert(entityList);
+        } catch (NestedRuntimeException e) {
+            if (e.contains(UniqueConstraintException.class)) {
+                entityList.forEach(entity -> insert(company, fs, entity.getSubjectId(), document, entity));
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 登録する財務諸表の値を生成する
+     * <ul>
+     *    <li>前期の値は有価証券報告書のときのみ、1年前の期間の値として導出する<li/>
+     *    <li>導出した値は前期の書類から取得した値と区別し、導出元の書類IDで登録する<li/>
+     * </>
+     *
+     * @param company   企業情報
+     * @param fs        財務諸表種別
+     * @param document  ドキュメント
+     * @param value     値
+     * @param createdAt 登録日時
+     * @return 財務諸表の値
+     */
+    private Optional<FinancialStatementEntity> toEntity(
+            final Company company,
+            final FinancialStatementEnum fs,
+            final Document document,
+            final FinancialStatementValue value,
+            final LocalDateTime createdAt) {
+        if (!value.previousPeriod()) {
+            return Optional.of(FinancialStatementEntity.of(
                     company.code(),
                     company.edinetCode(),
                     fs.getId(),
-                    dId,
+                    value.subjectId(),
                     document.getPeriodStart(),
                     document.getPeriodEnd(),
-                    value,
+                    value.value(),
                     document.getDocumentTypeCode(),
                     document.getQuarterType(),
                     document.getSubmitDate(),
                     document.getDocumentId(),
-                    createdType.toValue(),
-                    nowLocalDateTime()
+                    value.createdType().toValue(),
+                    createdAt
             ));
+        }
+
+        if (Objects.isNull(value.value())
+            || Objects.isNull(document.getPeriodStart())
+            || Objects.isNull(document.getPeriodEnd())
+            || !List.of(DocumentTypeCode.DTC_120, DocumentTypeCode.DTC_130).contains(document.getDocumentTypeCode())) {
+            return Optional.empty();
+        }
+
+        return Optional.of(FinancialStatementEntity.ofDerived(
+                company.code(),
+                company.edinetCode(),
+                fs.getId(),
+                value.subjectId(),
+                document.getPeriodStart().minusYears(1),
+                document.getPeriodEnd().minusYears(1),
+                value.value(),
+                document.getDocumentTypeCode(),
+                document.getQuarterType(),
+                document.getSubmitDate(),
+                document.getDocumentId(),
+                value.createdType().toValue(),
+                createdAt
+        ));
+    }
+
+    /**
+     * 書類の中で財務諸表の値を一意に特定するキー
+     *
+     * @param entity 財務諸表の値
+     * @return 科目IDと終了日
+     */
+    private String uniqueKey(final FinancialStatementEntity entity) {
+        return entity.getSubjectId() + "/" + entity.getPeriodEnd();
+    }
+
+    private void insert(
+            final Company company,
+            final FinancialStatementEnum fs,
+            final String dId,
+            final Document document,
+            final FinancialStatementEntity entity) {
+        try {
+            financialStatementDao.insert(entity);
         } catch (NestedRuntimeException e) {
             if (e.contains(UniqueConstraintException.class)) {
                 log.debug(FundanalyzerLogClient.toSpecificationLogObject(
@@ -198,66 +355,180 @@ public class FinancialStatementSpecification {
      * @return 特定の財務諸表の値
      */
     public FinanceValue getFinanceValue(final Document document) {
+        return getFinanceValue(document, findValueMap(List.of(document)));
+    }
+
+    /**
+     * 読み込み済の値から特定の財務諸表の値を取得する
+     *
+     * @param document ドキュメント
+     * @param valueMap {@link #findValueMap(List)} で読み込んだ値
+     * @return 特定の財務諸表の値
+     */
+    public FinanceValue getFinanceValue(final Document document, final FinancialStatementValueMap valueMap) {
+        return getFinanceValue(document, valueMap, valueMap);
+    }
+
+    /**
+     * 前期の値から導出した値から、書類の1年前の期間の財務諸表の値を取得する
+     * <ul>
+     *    <li>貸借対照表・損益計算書の値は、{@link #findDerivedValueMap(List)} で読み込んだ値から取得する<li/>
+     *    <li>株式総数は前期の値を登録しないため、書類に記載された当期の値を使用する<li/>
+     * </>
+     *
+     * @param document        導出元のドキュメント
+     * @param valueMap        {@link #findValueMap(List)} で読み込んだ値
+     * @param derivedValueMap {@link #findDerivedValueMap(List)} で読み込んだ値
+     * @return 1年前の期間の財務諸表の値
+     */
+    public FinanceValue getDerivedFinanceValue(
+            final Document document,
+            final FinancialStatementValueMap valueMap,
+            final FinancialStatementValueMap derivedValueMap) {
+        return getFinanceValue(document, derivedValueMap, valueMap);
+    }
+
+    private FinanceValue getFinanceValue(
+            final Document document,
+            final FinancialStatementValueMap valueMap,
+            final FinancialStatementValueMap numberOfSharesValueMap) {
         return FinanceValue.of(
                 // 流動資産合計
                 findValue(
+                        valueMap,
                         FinancialStatementEnum.BALANCE_SHEET,
                         document,
                         subjectSpecification.findBsSubjectList(BsSubject.BsEnum.TOTAL_CURRENT_ASSETS)
                 ).orElse(null),
                 // 投資その他の資産合計
                 findValue(
+                        valueMap,
                         FinancialStatementEnum.BALANCE_SHEET,
                         document,
                         subjectSpecification.findBsSubjectList(BsSubject.BsEnum.TOTAL_INVESTMENTS_AND_OTHER_ASSETS)
                 ).orElse(null),
                 // 総資産
                 findValue(
+                        valueMap,
                         FinancialStatementEnum.BALANCE_SHEET,
                         document,
                         subjectSpecification.findBsSubjectList(BsSubject.BsEnum.TOTAL_ASSETS)
                 ).orElse(null),
                 // 流動負債合計
                 findValue(
+                        valueMap,
                         FinancialStatementEnum.BALANCE_SHEET,
                         document,
                         subjectSpecification.findBsSubjectList(BsSubject.BsEnum.TOTAL_CURRENT_LIABILITIES)
                 ).orElse(null),
                 // 固定負債合計
                 findValue(
+                        valueMap,
                         FinancialStatementEnum.BALANCE_SHEET,
                         document,
                         subjectSpecification.findBsSubjectList(BsSubject.BsEnum.TOTAL_FIXED_LIABILITIES)
                 ).orElse(null),
                 // 新株予約権
                 findValue(
+                        valueMap,
                         FinancialStatementEnum.BALANCE_SHEET,
                         document,
                         subjectSpecification.findBsSubjectList(BsSubject.BsEnum.SUBSCRIPTION_WARRANT)
                 ).orElse(null),
                 // 純資産
                 findValue(
+                        valueMap,
                         FinancialStatementEnum.BALANCE_SHEET,
                         document,
                         subjectSpecification.findBsSubjectList(BsSubject.BsEnum.TOTAL_NET_ASSETS)
                 ).orElse(null),
                 // 営業利益
                 findValue(
+                        valueMap,
                         FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT,
                         document,
                         subjectSpecification.findPlSubjectList(PlSubject.PlEnum.OPERATING_PROFIT)
                 ).orElse(null),
                 // 当期純利益
                 findValue(
+                        valueMap,
                         FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT,
                         document,
                         subjectSpecification.findPlSubjectList(PlSubject.PlEnum.NET_INCOME)
                 ).orElse(null),
                 // 株式総数
-                findNsValue(document).orElse(null)
+                numberOfSharesValueMap.findValue(document.getDocumentId(), FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES, "0").orElse(null)
         );
     }
 
+    /**
+     * 複数の書類の財務諸表の値をまとめて取得する
+     * <ul>
+     *    <li>書類数によらず、{@value #DOCUMENT_ID_CHUNK_SIZE}件ごとに1回の問い合わせで取得する<li/>
+     *    <li>前期の値から導出した値は含めない<li/>
+     * </>
+     *
+     * @param documentList ドキュメントリスト
+     * @return 書類ごとの財務諸表の値
+     * @throws FundanalyzerBadDataException データ取得に失敗したとき
+     */
+    public FinancialStatementValueMap findValueMap(final List<Document> documentList) throws FundanalyzerBadDataException {
+        return findValueMap(documentList, financialStatementDao::selectByDocumentIdList);
+    }
+
+    /**
+     * 複数の書類の前期の値から導出した値をまとめて取得する
+     * <ul>
+     *    <li>導出した値は導出元の書類IDで登録しているため、導出元の書類ごとに保持する<li/>
+     * </>
+     *
+     * @param documentList 導出元のドキュメントリスト
+     * @return 導出元の書類ごとの前期の財務諸表の値
+     * @throws FundanalyzerBadDataException データ取得に失敗したとき
+     */
+    public FinancialStatementValueMap findDerivedValueMap(final List<Document> documentList) throws FundanalyzerBadDataException {
+        return findValueMap(documentList, financialStatementDao::selectDerivedByDocumentIdList);
+    }
+
+    private FinancialStatementValueMap findValueMap(
+            final List<Document> documentList,
+            final Function<List<String>, List<FinancialStatementEntity>> selector) throws FundanalyzerBadDataException {
+        final List<String> documentIdList = documentList.stream().map(Document::getDocumentId).distinct().toList();
+        final List<FinancialStatementEntity> entityList = new ArrayList<>();
+        try {
+            for (int i = 0; i < documentIdList.size(); i += DOCUMENT_ID_CHUNK_SIZE) {
+                entityList.addAll(selector.apply(
+                        documentIdList.subList(i, Math.min(i + DOCUMENT_ID_CHUNK_SIZE, documentIdList.size()))));
+            }
+        } catch (final NestedRuntimeException e) {
+            throw new FundanalyzerBadDataException(MessageFormat.format(
+                    "財務諸表の値を正常に取得できませんでした。詳細を確認してください。	書類数:{0}",
+                    documentIdList.size()
+            ), e);
+        }
+        return FinancialStatementValueMap.of(entityList);
+    }
+
+    /**
+     * 読み込み済の値から値を取得する
+     *
+     * @param valueMap    読み込み済の値
+     * @param fs          財務諸表種別
+     * @param document    ドキュメント
+     * @param subjectList 科目リスト
+     * @return 値
+     */
+    private Optional<Long> findValue(
+            final FinancialStatementValueMap valueMap,
+            final FinancialStatementEnum fs,
+            final Document document,
+            final List<Subject> subjectList) {
+        return subjectList.stream()
+                .map(subject -> valueMap.findValue(document.getDocumentId(), fs, subject.getId()))
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
     /**
      * 投資その他の資産合計が存在するを確認する
      *
@@ -5,8 +5,6 @@ import github.com.ioridazo.fundanalyzer.domain.domain.dao.master.IndustryDao;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.IndustryEntity;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerRuntimeException;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -16,10 +14,10 @@ import java.util.Objects;
 @Component
 public class IndustrySpecification {
 
-    private static final String CACHE_KEY_INDUSTRY_LIST = "industryList";
-
     private final IndustryDao industryDao;
 
+    private volatile List<IndustryEntity> industryList;
+
     @Value("${app.config.scraping.no-industry}")
     List<String> noTargetList;
 
@@ -35,20 +33,21 @@ public class IndustrySpecification {
     /**
      * 業種情報を取得する
      * <ul>
-     *    <li>キャッシュがあるときはキャッシュから取得する<li/>
-     *    <li>キャッシュがないときはデータベースから取得する<li/>
+     *    <li>読み込み済のときはメモリから取得する<li/>
+     *    <li>読み込んでいないときはデータベースから取得する<li/>
      * </>
      *
      * @return 業種情報
      */
-    @Cacheable(CACHE_KEY_INDUSTRY_LIST)
     public List<IndustryEntity> inquiryIndustryList() {
-        return findIndustryList();
+        final List<IndustryEntity> current = industryList;
+        return Objects.nonNull(current) ? current : findIndustryList();
     }
 
-    @CachePut(CACHE_KEY_INDUSTRY_LIST)
     public List<IndustryEntity> findIndustryList() {
-        return industryDao.selectAll();
+        final List<IndustryEntity> list = List.copyOf(industryDao.selectAll());
+        industryList = list;
+        return list;
     }
 
     /**
@@ -85,11 +84,16 @@ public class IndustrySpecification {
      * @param resultBeanList CSVリスト
      */
     public void insert(final List<EdinetCsvResultBean> resultBeanList) {
-        resultBeanList.stream()
+        final List<String> newIndustryList = resultBeanList.stream()
                 .map(EdinetCsvResultBean::getIndustry)
                 .distinct()
                 .filter(this::isEmpty)
-                .forEach(industryName -> industryDao.insert(IndustryEntity.of(industryName, nowLocalDateTime())));
+                .toList();
+
+        if (!newIndustryList.isEmpty()) {
+            newIndustryList.forEach(industryName -> industryDao.insert(IndustryEntity.of(industryName, nowLocalDateTime())));
+            findIndustryList();
+        }
     }
 
     /**
@@ -0,0 +1,177 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.specification;
+
+import github.com.ioridazo.fundanalyzer.client.log.Category;
+import github.com.ioridazo.fundanalyzer.client.log.FundanalyzerLogClient;
+import github.com.ioridazo.fundanalyzer.client.log.Process;
+import github.com.ioridazo.fundanalyzer.domain.domain.dao.transaction.ScrapingHintDao;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEnum;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.ScrapingHintEntity;
+import github.com.ioridazo.fundanalyzer.domain.value.Document;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.seasar.doma.jdbc.UniqueConstraintException;
+import org.springframework.core.NestedRuntimeException;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.text.MessageFormat;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 企業・書類種別・財務諸表ごとに前回のスクレイピングで使用したキーワードとファイル名の接頭辞
+ * <ul>
+ *    <li>同じ企業は毎期ほぼ同じ構成で提出するため、前回と同じファイル・キーワードから試行する<li/>
+ *    <li>有価証券報告書と四半期報告書ではファイル構成が異なるため、書類種別ごとに記録する<li/>
+ *    <li>ヒントを使用できた割合をメトリクスとして公開する<li/>
+ * </>
+ */
+@Component
+public class ScrapingHintSpecification {
+
+    private static final Logger log = LogManager.getLogger(ScrapingHintSpecification.class);
+
+    private static final String HONBUN = "_honbun";
+
+    private static final String METRIC_NAME = "fundanalyzer.scraping.hint";
+
+    private final ScrapingHintDao scrapingHintDao;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    public ScrapingHintSpecification(final ScrapingHintDao scrapingHintDao, final MeterRegistry meterRegistry) {
+        this.scrapingHintDao = scrapingHintDao;
+        this.hitCounter = Counter.builder(METRIC_NAME)
+                .description("前回のキーワードとファイルで対象ファイルを取得できた回数")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME)
+                .description("前回のキーワードとファイルで対象ファイルを取得できなかった回数")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".ratio", this, ScrapingHintSpecification::hitRatio)
+                .description("前回のキーワードとファイルで対象ファイルを取得できた割合")
+                .register(meterRegistry);
+    }
+
+    LocalDateTime nowLocalDateTime() {
+        return LocalDateTime.now();
+    }
+
+    /**
+     * ヒントを取得する
+     * <ul>
+     *    <li>書類種別が不明なドキュメントのヒントは取得しない<li/>
+     * </>
+     *
+     * @param document ドキュメント
+     * @param fs       財務諸表種別
+     * @return ヒント
+     */
+    public Optional<ScrapingHintEntity> findHint(final Document document, final FinancialStatementEnum fs) {
+        if (Objects.isNull(document.getDocumentTypeCode())) {
+            return Optional.empty();
+        }
+        return scrapingHintDao.selectByEdinetCodeAndDocumentTypeCodeAndFinancialStatementId(
+                document.getEdinetCode(), document.getDocumentTypeCode().toValue(), fs.getId());
+    }
+
+    /**
+     * ヒントを使用できたかを記録する
+     *
+     * @param hit 使用できたとき true
+     */
+    public void recordResult(final boolean hit) {
+        if (hit) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+        }
+    }
+
+    /**
+     * ヒントを登録・更新する
+     * <ul>
+     *    <li>前回と同じキーワード・ファイル名の接頭辞のときは更新しない<li/>
+     *    <li>書類種別が不明なドキュメントのヒントは登録しない<li/>
+     * </>
+     *
+     * @param document   ドキュメント
+     * @param fs         財務諸表種別
+     * @param targetFile 対象ファイル
+     * @param keyword    キーワード
+     */
+    public void upsert(
+            final Document document,
+            final FinancialStatementEnum fs,
+            final File targetFile,
+            final String keyword) {
+        final Optional<String> filePrefix = filePrefix(targetFile);
+        if (filePrefix.isEmpty() || Objects.isNull(document.getDocumentTypeCode())) {
+            return;
+        }
+
+        final Optional<ScrapingHintEntity> hint = findHint(document, fs);
+        if (hint.isPresent()
+            && hint.get().getKeyword().equals(keyword)
+            && hint.get().getFilePrefix().equals(filePrefix.get())) {
+            return;
+        }
+
+        final ScrapingHintEntity entity = ScrapingHintEntity.of(
+                document.getEdinetCode(),
+                document.getDocumentTypeCode().toValue(),
+                fs,
+                keyword,
+                filePrefix.get(),
+                nowLocalDateTime()
+        );
+        if (hint.isPresent()) {
+            scrapingHintDao.update(entity);
+        } else {
+            try {
+                scrapingHintDao.insert(entity);
+            } catch (final NestedRuntimeException e) {
+                if (e.contains(UniqueConstraintException.class)) {
+                    log.debug(FundanalyzerLogClient.toSpecificationLogObject(
+                            MessageFormat.format(
+                                    "一意制約違反のため、データベースへの登録をスキップします。" +
+                                    "\tテーブル名:{0}\tEDINETコード:{1}\t書類種別コード:{2}\t財務諸表名:{3}",
+                                    "scraping_hint",
+                                    document.getEdinetCode(),
+                                    document.getDocumentTypeCode().toValue(),
+                                    fs.getName()
+                            ),
+                            document,
+                            Category.SCRAPING,
+                            Process.of(fs)
+                    ));
+                } else {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * "honbun"ファイルのファイル名から接頭辞を取得する
+     *
+     * @param file "honbun"ファイル
+     * @return ファイル名の接頭辞（例: 0105010）
+     */
+    public static Optional<String> filePrefix(final File file) {
+        final int index = file.getName().indexOf(HONBUN);
+        return index > 0 ? Optional.of(file.getName().substring(0, index)) : Optional.empty();
+    }
+
+    private double hitRatio() {
+        final double total = hitCounter.count() + missCounter.count();
+        return total == 0 ? 0 : hitCounter.count() / total;
+    }
+}
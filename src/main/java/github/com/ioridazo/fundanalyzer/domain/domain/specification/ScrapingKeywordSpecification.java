@@ -0,0 +1,159 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.specification;
+
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.ScrapingKeywordEntity;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.XbrlScraping;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentTypeCode;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEnum;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.QuarterType;
+import github.com.ioridazo.fundanalyzer.domain.value.Document;
+import github.com.ioridazo.fundanalyzer.domain.value.ScrapingKeywordStatistic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * スクレイピングキーワードの合致実績
+ * <ul>
+ *    <li>財務諸表種別・書類種別・四半期種別ごとに、どのキーワードでファイルが見つかったかを記録する<li/>
+ *    <li>設定された優先度の順に試行し、優先度が同じキーワードの間では合致した回数の多いものから試行する<li/>
+ *    <li>合致実績による入れ替えは連結・個別が同じキーワードの間に限り、連結・個別のキーワードが試行される位置は変えない<li/>
+ * </>
+ */
+@Component
+public class ScrapingKeywordSpecification {
+
+    private static final int DEFAULT_PRIORITY = 99;
+
+    private final Map<Group, Statistics> statisticsByGroup = new ConcurrentHashMap<>();
+
+    private final XbrlScraping xbrlScraping;
+
+    @Value("${app.config.scraping.keyword-statistics.enabled:false}")
+    boolean keywordStatisticsEnabled;
+
+    public ScrapingKeywordSpecification(final XbrlScraping xbrlScraping) {
+        this.xbrlScraping = xbrlScraping;
+    }
+
+    /**
+     * スクレイピングするためのキーワードを並び替える
+     * <ul>
+     *    <li>初期データのように優先度が設定されていないキーワードは、連結・個別で優先度が同じになる<li/>
+     *    <li>個別のキーワードの合致実績が多くても、連結のキーワードより先に試行しないようにする<li/>
+     * </>
+     *
+     * @param fs       財務諸表種別
+     * @param document ドキュメント
+     * @param list     スクレイピングキーワードリスト
+     * @return スクレイピングキーワードリスト
+     */
+    public List<ScrapingKeywordEntity> sortedScrapingKeywordList(
+            final FinancialStatementEnum fs, final Document document, final List<ScrapingKeywordEntity> list) {
+        final Comparator<ScrapingKeywordEntity> priority = Comparator.comparing(e -> e.getPriority().orElse(DEFAULT_PRIORITY));
+        final Statistics statistics = keywordStatisticsEnabled ? statisticsByGroup.get(Group.of(fs, document)) : null;
+        if (Objects.isNull(statistics)) {
+            return list.stream().sorted(priority).toList();
+        }
+
+        final Comparator<ScrapingKeywordEntity> hitCount = priority.thenComparing(
+                Comparator.comparingLong((ScrapingKeywordEntity e) -> statistics.hitCount(e.getKeyword())).reversed());
+        final List<ScrapingKeywordEntity> sortedList = list.stream().sorted(priority).toList();
+        // 連結・個別ごとに並び替え、優先度の順に並べたときの連結・個別の位置に戻す
+        final Map<Boolean, Deque<ScrapingKeywordEntity>> sortedByConsolidated = sortedList.stream()
+                .collect(Collectors.partitioningBy(
+                        e -> xbrlScraping.isConsolidated(e.getKeyword()),
+                        Collectors.collectingAndThen(
+                                Collectors.toList(),
+                                l -> new ArrayDeque<>(l.stream().sorted(hitCount).toList()))
+                ));
+        return sortedList.stream()
+                .map(e -> sortedByConsolidated.get(xbrlScraping.isConsolidated(e.getKeyword())).poll())
+                .toList();
+    }
+
+    /**
+     * キーワードに合致したファイルが見つかったことを記録する
+     *
+     * @param fs       財務諸表種別
+     * @param document ドキュメント
+     * @param keyword  キーワード
+     */
+    public void recordHit(final FinancialStatementEnum fs, final Document document, final String keyword) {
+        if (keywordStatisticsEnabled) {
+            final Statistics statistics = statisticsByGroup.computeIfAbsent(Group.of(fs, document), group -> new Statistics());
+            statistics.attemptCount.increment();
+            statistics.hitCountByKeyword.computeIfAbsent(keyword, k -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * いずれのキーワードにも合致するファイルが見つからなかったことを記録する
+     *
+     * @param fs       財務諸表種別
+     * @param document ドキュメント
+     */
+    public void recordMiss(final FinancialStatementEnum fs, final Document document) {
+        if (keywordStatisticsEnabled) {
+            statisticsByGroup.computeIfAbsent(Group.of(fs, document), group -> new Statistics()).attemptCount.increment();
+        }
+    }
+
+    /**
+     * キーワードごとの合致実績を取得する
+     *
+     * @return 合致実績のリスト
+     */
+    public List<ScrapingKeywordStatistic> findStatistics() {
+        return statisticsByGroup.entrySet().stream()
+                .flatMap(entry -> {
+                    final long attemptCount = entry.getValue().attemptCount.sum();
+                    return entry.getValue().hitCountByKeyword.entrySet().stream()
+                            .map(hit -> new ScrapingKeywordStatistic(
+                                    entry.getKey().fs().getName(),
+                                    Objects.isNull(entry.getKey().documentTypeCode()) ? null : entry.getKey().documentTypeCode().toValue(),
+                                    entry.getKey().quarterType().toValue(),
+                                    hit.getKey(),
+                                    hit.getValue().sum(),
+                                    attemptCount,
+                                    attemptCount == 0 ? 0 : (double) hit.getValue().sum() / attemptCount
+                            ));
+                })
+                .sorted(Comparator.comparing(ScrapingKeywordStatistic::financialStatement)
+                        .thenComparing(ScrapingKeywordStatistic::documentTypeCode, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(ScrapingKeywordStatistic::quarterType, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(Comparator.comparingLong(ScrapingKeywordStatistic::hitCount).reversed()))
+                .toList();
+    }
+
+    private record Group(FinancialStatementEnum fs, DocumentTypeCode documentTypeCode, QuarterType quarterType) {
+
+        static Group of(final FinancialStatementEnum fs, final Document document) {
+            return new Group(
+                    fs,
+                    document.getDocumentTypeCode(),
+                    Objects.requireNonNullElse(document.getQuarterType(), QuarterType.QT_OTHER)
+            );
+        }
+    }
+
+    private static class Statistics {
+
+        private final LongAdder attemptCount = new LongAdder();
+
+        private final Map<String, LongAdder> hitCountByKeyword = new ConcurrentHashMap<>();
+
+        long hitCount(final String keyword) {
+            final LongAdder hitCount = hitCountByKeyword.get(keyword);
+            return hitCount == null ? 0 : hitCount.sum();
+        }
+    }
+}
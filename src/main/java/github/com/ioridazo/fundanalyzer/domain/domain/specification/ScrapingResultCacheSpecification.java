@@ -0,0 +1,177 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.specification;
+
+import github.com.ioridazo.fundanalyzer.client.log.Category;
+import github.com.ioridazo.fundanalyzer.client.log.FundanalyzerLogClient;
+import github.com.ioridazo.fundanalyzer.client.log.Process;
+import github.com.ioridazo.fundanalyzer.domain.domain.dao.transaction.ScrapingResultCacheDao;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.ScrapingKeywordEntity;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEnum;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.ScrapingResultCacheEntity;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.ScrapingResultBean;
+import github.com.ioridazo.fundanalyzer.domain.value.Document;
+import github.com.ioridazo.fundanalyzer.domain.value.ScrapingResultCache;
+import github.com.ioridazo.fundanalyzer.exception.FundanalyzerRuntimeException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.seasar.doma.jdbc.UniqueConstraintException;
+import org.springframework.core.NestedRuntimeException;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.MessageFormat;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class ScrapingResultCacheSpecification {
+
+    private static final Logger log = LogManager.getLogger(ScrapingResultCacheSpecification.class);
+
+    private final ScrapingResultCacheDao scrapingResultCacheDao;
+
+    public ScrapingResultCacheSpecification(final ScrapingResultCacheDao scrapingResultCacheDao) {
+        this.scrapingResultCacheDao = scrapingResultCacheDao;
+    }
+
+    LocalDateTime nowLocalDateTime() {
+        return LocalDateTime.now();
+    }
+
+    /**
+     * 財務諸表種別ごとのスクレイピングキーワードのバージョンを算出する
+     * <ul>
+     *    <li>財務諸表種別のキーワードが追加・変更・削除されるとバージョンが変わり、それまでのスクレイピング結果は無効になる<li/>
+     *    <li>ほかの財務諸表種別のキーワードの変更では、スクレイピング結果は無効にならない<li/>
+     * </>
+     *
+     * @param fs                  財務諸表種別
+     * @param scrapingKeywordList スクレイピングキーワードリスト
+     * @return バージョン
+     */
+    public String keywordVersion(final FinancialStatementEnum fs, final List<ScrapingKeywordEntity> scrapingKeywordList) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            scrapingKeywordList.stream()
+                    .filter(entity -> fs.getId().equals(entity.getFinancialStatementId()))
+                    .sorted(Comparator.comparing(ScrapingKeywordEntity::getKeyword))
+                    .map(entity -> String.join("\t",
+                            String.valueOf(entity.getId()),
+                            entity.getFinancialStatementId(),
+                            entity.getKeyword(),
+                            entity.getPriority().map(String::valueOf).orElse("")
+                    ) + "\n")
+                    .forEach(line -> messageDigest.update(line.getBytes(StandardCharsets.UTF_8)));
+            return HexFormat.of().formatHex(messageDigest.digest());
+        } catch (final NoSuchAlgorithmException e) {
+            throw new FundanalyzerRuntimeException("ハッシュ値を算出できませんでした。", e);
+        }
+    }
+
+    /**
+     * スクレイピング結果を取得する
+     *
+     * @param document       ドキュメント
+     * @param fs             財務諸表種別
+     * @param extractionMode 財務諸表の取得方法
+     * @param keywordVersion スクレイピングキーワードのバージョン
+     * @return スクレイピング結果（取得方法かキーワードのバージョンが異なるときは空）
+     */
+    public Optional<ScrapingResultCache> findCache(
+            final Document document,
+            final FinancialStatementEnum fs,
+            final String extractionMode,
+            final String keywordVersion) {
+        return scrapingResultCacheDao.selectByDocumentIdAndFinancialStatementId(document.getDocumentId(), fs.getId())
+                .filter(entity -> Objects.equals(extractionMode, entity.getExtractionMode()))
+                .filter(entity -> Objects.equals(keywordVersion, entity.getKeywordVersion()))
+                .flatMap(entity -> {
+                    try {
+                        return Optional.of(new ScrapingResultCache(
+                                new File(entity.getFilePath()),
+                                entity.getKeyword(),
+                                entity.getFileHash(),
+                                ScrapingResultBean.fromBytes(entity.getResult())
+                        ));
+                    } catch (final IOException e) {
+                        log.warn(FundanalyzerLogClient.toSpecificationLogObject(
+                                MessageFormat.format(
+                                        "スクレイピング結果を復元できなかったため、スクレイピングし直します。\t書類ID:{0}\t財務諸表名:{1}",
+                                        document.getDocumentId(),
+                                        fs.getName()
+                                ),
+                                document,
+                                Category.SCRAPING,
+                                Process.of(fs)
+                        ), e);
+                        return Optional.empty();
+                    }
+                });
+    }
+
+    /**
+     * スクレイピング結果を登録・更新する
+     *
+     * @param document       ドキュメント
+     * @param fs             財務諸表種別
+     * @param targetFile     対象ファイル
+     * @param keyword        キーワード
+     * @param fileHash       ファイルのハッシュ値
+     * @param extractionMode 財務諸表の取得方法
+     * @param keywordVersion スクレイピングキーワードのバージョン
+     * @param result         スクレイピング結果
+     */
+    public void upsert(
+            final Document document,
+            final FinancialStatementEnum fs,
+            final File targetFile,
+            final String keyword,
+            final String fileHash,
+            final String extractionMode,
+            final String keywordVersion,
+            final ScrapingResultBean result) {
+        final ScrapingResultCacheEntity entity = ScrapingResultCacheEntity.of(
+                document.getDocumentId(),
+                fs,
+                keyword,
+                targetFile.getPath(),
+                fileHash,
+                extractionMode,
+                keywordVersion,
+                result.toBytes(),
+                nowLocalDateTime()
+        );
+
+        if (scrapingResultCacheDao.selectByDocumentIdAndFinancialStatementId(document.getDocumentId(), fs.getId()).isPresent()) {
+            scrapingResultCacheDao.update(entity);
+        } else {
+            try {
+                scrapingResultCacheDao.insert(entity);
+            } catch (final NestedRuntimeException e) {
+                if (e.contains(UniqueConstraintException.class)) {
+                    log.debug(FundanalyzerLogClient.toSpecificationLogObject(
+                            MessageFormat.format(
+                                    "一意制約違反のため、データベースへの登録をスキップします。" +
+                                    "\tテーブル名:{0}\t書類ID:{1}\t財務諸表名:{2}",
+                                    "scraping_result_cache",
+                                    document.getDocumentId(),
+                                    fs.getName()
+                            ),
+                            document,
+                            Category.SCRAPING,
+                            Process.of(fs)
+                    ));
+                } else {
+                    throw e;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.specification;
+
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.BsSubjectEntity;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.PlSubjectEntity;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.Subject;
+import github.com.ioridazo.fundanalyzer.domain.value.BsSubject;
+import github.com.ioridazo.fundanalyzer.domain.value.PlSubject;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 貸借対照表・損益計算書の科目の辞書
+ * <ul>
+ *    <li>データベースから一度だけ読み込み、科目ID・科目名・大科目IDごとに索引する<li/>
+ *    <li>生成後は変更しないため、参照時にデータベースへ問い合わせず、ロックも取得しない<li/>
+ * </>
+ */
+final class SubjectDictionary {
+
+    private static final Comparator<Subject> DETAIL_ORDER =
+            Comparator.comparing(Subject::getDetailSubjectId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final List<BsSubjectEntity> bsSubjectEntityList;
+
+    private final List<PlSubjectEntity> plSubjectEntityList;
+
+    private final Index bsIndex;
+
+    private final Index plIndex;
+
+    private SubjectDictionary(
+            final List<BsSubjectEntity> bsSubjectEntityList, final List<PlSubjectEntity> plSubjectEntityList) {
+        this.bsSubjectEntityList = List.copyOf(bsSubjectEntityList);
+        this.plSubjectEntityList = List.copyOf(plSubjectEntityList);
+        this.bsIndex = Index.of(this.bsSubjectEntityList.stream().<Subject>map(BsSubject::of).toList());
+        this.plIndex = Index.of(this.plSubjectEntityList.stream().<Subject>map(PlSubject::of).toList());
+    }
+
+    /**
+     * 科目リストから辞書を生成する
+     *
+     * @param bsSubjectEntityList 貸借対照表の科目リスト
+     * @param plSubjectEntityList 損益計算書の科目リスト
+     * @return 科目の辞書
+     */
+    static SubjectDictionary of(
+            final List<BsSubjectEntity> bsSubjectEntityList, final List<PlSubjectEntity> plSubjectEntityList) {
+        return new SubjectDictionary(bsSubjectEntityList, plSubjectEntityList);
+    }
+
+    List<BsSubjectEntity> bsSubjectEntityList() {
+        return bsSubjectEntityList;
+    }
+
+    List<PlSubjectEntity> plSubjectEntityList() {
+        return plSubjectEntityList;
+    }
+
+    Optional<BsSubject> findBsSubjectByName(final String name) {
+        return Optional.ofNullable((BsSubject) bsIndex.byName().get(name));
+    }
+
+    Optional<PlSubject> findPlSubjectByName(final String name) {
+        return Optional.ofNullable((PlSubject) plIndex.byName().get(name));
+    }
+
+    Optional<Subject> findBsSubjectById(final String id) {
+        return Optional.ofNullable(bsIndex.byId().get(id));
+    }
+
+    Optional<Subject> findPlSubjectById(final String id) {
+        return Optional.ofNullable(plIndex.byId().get(id));
+    }
+
+    /**
+     * 大科目IDに該当する貸借対照表の科目リストを取得する
+     *
+     * @param outlineSubjectId 大科目ID
+     * @param sorted           小科目IDの順にするとき true（false のときは登録順）
+     * @return 科目リスト
+     */
+    List<Subject> findBsSubjectList(final String outlineSubjectId, final boolean sorted) {
+        return (sorted ? bsIndex.byOutlineSorted() : bsIndex.byOutline()).getOrDefault(outlineSubjectId, List.of());
+    }
+
+    /**
+     * 大科目IDに該当する損益計算書の科目リストを取得する
+     *
+     * @param outlineSubjectId 大科目ID
+     * @return 小科目IDの順の科目リスト
+     */
+    List<Subject> findPlSubjectList(final String outlineSubjectId) {
+        return plIndex.byOutlineSorted().getOrDefault(outlineSubjectId, List.of());
+    }
+
+    private record Index(
+            Map<String, Subject> byId,
+            Map<String, Subject> byName,
+            Map<String, List<Subject>> byOutline,
+            Map<String, List<Subject>> byOutlineSorted) {
+
+        static Index of(final List<Subject> subjectList) {
+            // 同じ科目名が複数あるときは先に登録された科目を使用する
+            final Map<String, Subject> byId = subjectList.stream()
+                    .filter(subject -> subject.getId() != null)
+                    .collect(Collectors.toMap(Subject::getId, Function.identity(), (first, second) -> first, LinkedHashMap::new));
+            final Map<String, Subject> byName = subjectList.stream()
+                    .filter(subject -> subject.getName() != null)
+                    .collect(Collectors.toMap(Subject::getName, Function.identity(), (first, second) -> first, LinkedHashMap::new));
+            final Map<String, List<Subject>> byOutline = subjectList.stream()
+                    .filter(subject -> subject.getOutlineSubjectId() != null)
+                    .collect(Collectors.groupingBy(Subject::getOutlineSubjectId, LinkedHashMap::new, Collectors.toUnmodifiableList()));
+            final Map<String, List<Subject>> byOutlineSorted = byOutline.entrySet().stream()
+                    .collect(Collectors.toMap(
+                            Map.Entry::getKey,
+                            entry -> entry.getValue().stream().sorted(DETAIL_ORDER).toList()
+                    ));
+            return new Index(
+                    Collections.unmodifiableMap(byId),
+                    Collections.unmodifiableMap(byName),
+                    Collections.unmodifiableMap(byOutline),
+                    Map.copyOf(byOutlineSorted)
+            );
+        }
+    }
+}
@@ -9,32 +9,58 @@ import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.Financi
 import github.com.ioridazo.fundanalyzer.domain.value.BsSubject;
 import github.com.ioridazo.fundanalyzer.domain.value.PlSubject;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerRuntimeException;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
-@SuppressWarnings("SpringCacheableMethodCallsInspection")
+/**
+ * 貸借対照表・損益計算書の科目
+ * <ul>
+ *    <li>科目はアプリケーションの起動時に辞書として読み込み、参照時はデータベースに問い合わせない<li/>
+ *    <li>科目を変更したときは POST /actuator/subject で辞書を読み込み直す<li/>
+ * </>
+ */
 @Component
 public class SubjectSpecification {
 
-    private static final String CACHE_KEY_BS_SUBJECT_LIST = "bsSubjectList";
-    private static final String CACHE_KEY_PL_SUBJECT_LIST = "plSubjectList";
-
-
     private final BsSubjectDao bsSubjectDao;
     private final PlSubjectDao plSubjectDao;
 
+    private volatile SubjectDictionary dictionary;
+
     public SubjectSpecification(final BsSubjectDao bsSubjectDao, final PlSubjectDao plSubjectDao) {
         this.bsSubjectDao = bsSubjectDao;
         this.plSubjectDao = plSubjectDao;
     }
 
+    /**
+     * 科目の辞書をデータベースから読み込み直す
+     * <ul>
+     *    <li>読み込みが完了するまでは読み込み前の辞書を参照する<li/>
+     * </>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        dictionary = SubjectDictionary.of(bsSubjectDao.selectAll(), plSubjectDao.selectAll());
+    }
+
+    private SubjectDictionary dictionary() {
+        final SubjectDictionary current = dictionary;
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+        synchronized (this) {
+            if (Objects.isNull(dictionary)) {
+                reload();
+            }
+            return dictionary;
+        }
+    }
+
     /**
      * 貸借対照表の科目を取得する
      *
@@ -42,10 +68,7 @@ public class SubjectSpecification {
      * @return 貸借対照表の科目
      */
     public Optional<BsSubject> findBsSubject(final String subjectName) {
-        return inquiryBsSubjectList().stream()
-                .map(BsSubject::of)
-                .filter(bsSubject -> subjectName.equals(bsSubject.getName()))
-                .findAny();
+        return dictionary().findBsSubjectByName(subjectName);
     }
 
     /**
@@ -55,10 +78,7 @@ public class SubjectSpecification {
      * @return 貸借対照表の科目情報
      */
     public List<Subject> findBsSubject(final BsSubject.BsEnum bsEnum) {
-        final List<Subject> subjectList = inquiryBsSubjectList().stream()
-                .filter(bsSubject -> Objects.equals(bsEnum.getOutlineSubjectId(), bsSubject.getOutlineSubjectId()))
-                .map(BsSubject::of)
-                .collect(Collectors.toList());
+        final List<Subject> subjectList = dictionary().findBsSubjectList(bsEnum.getOutlineSubjectId(), false);
 
         if (subjectList.isEmpty()) {
             throw new FundanalyzerRuntimeException("貸借対照表の科目が存在しません");
@@ -74,10 +94,7 @@ public class SubjectSpecification {
      * @return 損益計算書の科目
      */
     public Optional<PlSubject> findPlSubject(final String subjectName) {
-        return inquiryPlSubjectList().stream()
-                .map(PlSubject::of)
-                .filter(plSubject -> subjectName.equals(plSubject.getName()))
-                .findAny();
+        return dictionary().findPlSubjectByName(subjectName);
     }
 
     /**
@@ -89,15 +106,9 @@ public class SubjectSpecification {
      */
     public Subject findSubject(final FinancialStatementEnum fs, final String subjectId) {
         return switch (fs) {
-            case BALANCE_SHEET -> inquiryBsSubjectList().stream()
-                    .filter(bsSubject -> Objects.equals(subjectId, bsSubject.getId()))
-                    .map(BsSubject::of)
-                    .findFirst()
+            case BALANCE_SHEET -> dictionary().findBsSubjectById(subjectId)
                     .orElseThrow(() -> new FundanalyzerRuntimeException("貸借対照表の科目が存在しません"));
-            case PROFIT_AND_LESS_STATEMENT -> inquiryPlSubjectList().stream()
-                    .filter(plSubject -> Objects.equals(subjectId, plSubject.id()))
-                    .map(PlSubject::of)
-                    .findFirst()
+            case PROFIT_AND_LESS_STATEMENT -> dictionary().findPlSubjectById(subjectId)
                     .orElseThrow(() -> new FundanalyzerRuntimeException("損益計算書の科目が存在しません"));
             default -> throw new FundanalyzerRuntimeException("存在しない財務諸表");
         };
@@ -110,11 +121,7 @@ public class SubjectSpecification {
      * @return 貸借対照表の科目情報リスト
      */
     public List<Subject> findBsSubjectList(final BsSubject.BsEnum bsEnum) {
-        return inquiryBsSubjectList().stream()
-                .filter(bsSubject -> Objects.equals(bsEnum.getOutlineSubjectId(), bsSubject.getOutlineSubjectId()))
-                .map(BsSubject::of)
-                .sorted(Comparator.comparing(BsSubject::getDetailSubjectId))
-                .collect(Collectors.toList());
+        return dictionary().findBsSubjectList(bsEnum.getOutlineSubjectId(), true);
     }
 
     /**
@@ -124,48 +131,24 @@ public class SubjectSpecification {
      * @return 損益計算書の科目情報リスト
      */
     public List<Subject> findPlSubjectList(final PlSubject.PlEnum plEnum) {
-        return inquiryPlSubjectList().stream()
-                .filter(plSubject -> Objects.equals(plEnum.getOutlineSubjectId(), plSubject.outlineSubjectId()))
-                .map(PlSubject::of)
-                .sorted(Comparator.comparing(PlSubject::getDetailSubjectId))
-                .collect(Collectors.toList());
+        return dictionary().findPlSubjectList(plEnum.getOutlineSubjectId());
     }
 
     /**
      * 貸借対照表の科目情報を取得する
-     * <ul>
-     *    <li>キャッシュがあるときはキャッシュから取得する<li/>
-     *    <li>キャッシュがないときはデータベースから取得する<li/>
-     * </>
      *
      * @return 貸借対照表の科目情報
      */
-    @Cacheable(CACHE_KEY_BS_SUBJECT_LIST)
     public List<BsSubjectEntity> inquiryBsSubjectList() {
-        return findBsSubjectList();
-    }
-
-    @CachePut(CACHE_KEY_BS_SUBJECT_LIST)
-    public List<BsSubjectEntity> findBsSubjectList() {
-        return bsSubjectDao.selectAll();
+        return dictionary().bsSubjectEntityList();
     }
 
     /**
      * 損益計算書の科目情報を取得する
-     * <ul>
-     *    <li>キャッシュがあるときはキャッシュから取得する<li/>
-     *    <li>キャッシュがないときはデータベースから取得する<li/>
-     * </>
      *
      * @return 損益計算書の科目情報
      */
-    @Cacheable(CACHE_KEY_PL_SUBJECT_LIST)
     public List<PlSubjectEntity> inquiryPlSubjectList() {
-        return findPlSubjectList();
-    }
-
-    @CachePut(CACHE_KEY_PL_SUBJECT_LIST)
-    public List<PlSubjectEntity> findPlSubjectList() {
-        return plSubjectDao.selectAll();
+        return dictionary().plSubjectEntityList();
     }
 }
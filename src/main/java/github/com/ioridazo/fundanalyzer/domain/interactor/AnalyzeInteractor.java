@@ -13,13 +13,16 @@ import github.com.ioridazo.fundanalyzer.domain.domain.specification.FinancialSta
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.InvestmentIndicatorSpecification;
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.StockSpecification;
 import github.com.ioridazo.fundanalyzer.domain.usecase.AnalyzeUseCase;
+import github.com.ioridazo.fundanalyzer.domain.util.ParallelExecution;
 import github.com.ioridazo.fundanalyzer.domain.value.AnalysisResult;
 import github.com.ioridazo.fundanalyzer.domain.value.AverageInfo;
 import github.com.ioridazo.fundanalyzer.domain.value.Company;
 import github.com.ioridazo.fundanalyzer.domain.value.CorporateValue;
 import github.com.ioridazo.fundanalyzer.domain.value.Document;
 import github.com.ioridazo.fundanalyzer.domain.value.FinanceValue;
+import github.com.ioridazo.fundanalyzer.domain.value.FinancialStatementValueMap;
 import github.com.ioridazo.fundanalyzer.domain.value.IndicatorValue;
+import github.com.ioridazo.fundanalyzer.exception.FundanalyzerBadDataException;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerNotExistException;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerRuntimeException;
 import github.com.ioridazo.fundanalyzer.web.model.CodeInputData;
@@ -27,6 +30,7 @@ import github.com.ioridazo.fundanalyzer.web.model.DateInputData;
 import github.com.ioridazo.fundanalyzer.web.model.IdInputData;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -38,6 +42,8 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 @Component
 public class AnalyzeInteractor implements AnalyzeUseCase {
@@ -50,9 +56,12 @@ public class AnalyzeInteractor implements AnalyzeUseCase {
     private final AnalysisResultSpecification analysisResultSpecification;
     private final StockSpecification stockSpecification;
     private final InvestmentIndicatorSpecification investmentIndicatorSpecification;
+    private final Executor analyzeExecutor;
 
     @Value("${app.config.view.document-type-code}")
     List<String> targetTypeCodes;
+    @Value("${app.config.scraping.previous-period.enabled:false}")
+    boolean previousPeriodEnabled;
 
     public AnalyzeInteractor(
             final CompanySpecification companySpecification,
@@ -60,13 +69,15 @@ public class AnalyzeInteractor implements AnalyzeUseCase {
             final FinancialStatementSpecification financialStatementSpecification,
             final AnalysisResultSpecification analysisResultSpecification,
             final StockSpecification stockSpecification,
-            final InvestmentIndicatorSpecification investmentIndicatorSpecification) {
+            final InvestmentIndicatorSpecification investmentIndicatorSpecification,
+            @Qualifier("analyzeExecutor") final Executor analyzeExecutor) {
         this.companySpecification = companySpecification;
         this.documentSpecification = documentSpecification;
         this.financialStatementSpecification = financialStatementSpecification;
         this.analysisResultSpecification = analysisResultSpecification;
         this.stockSpecification = stockSpecification;
         this.investmentIndicatorSpecification = investmentIndicatorSpecification;
+        this.analyzeExecutor = analyzeExecutor;
     }
 
     /**
@@ -112,10 +123,11 @@ public class AnalyzeInteractor implements AnalyzeUseCase {
                         System.currentTimeMillis() - startTime
                 ));
             } else {
+                final Consumer<Document> analysis = analysis(targetList, inputData.getDate());
                 if (targetList.size() > 10) {
-                    targetList.parallelStream().forEach(this::analyze);
+                    ParallelExecution.forEach(targetList, analysis, analyzeExecutor);
                 } else {
-                    targetList.forEach(this::analyze);
+                    targetList.forEach(analysis);
                 }
 
                 log.info(FundanalyzerLogClient.toInteractorLogObject(
@@ -140,14 +152,53 @@ public class AnalyzeInteractor implements AnalyzeUseCase {
         }
     }
 
+    /**
+     * 提出日の書類ごとに企業価値を算出する処理を生成する
+     * <ul>
+     *    <li>対象書類の財務諸表の値をまとめて読み込み、書類ごとに問い合わせない<li/>
+     *    <li>まとめて読み込めなかったときは、書類ごとに読み込んで算出する<li/>
+     * </>
+     *
+     * @param targetList 対象書類リスト
+     * @param submitDate 提出日
+     * @return 書類ごとに企業価値を算出する処理
+     */
+    private Consumer<Document> analysis(final List<Document> targetList, final LocalDate submitDate) {
+        try {
+            final FinancialStatementValueMap valueMap = financialStatementSpecification.findValueMap(targetList);
+            return document -> analyze(document, valueMap);
+        } catch (final FundanalyzerBadDataException e) {
+            log.warn(FundanalyzerLogClient.toInteractorLogObject(
+                    MessageFormat.format(
+                            "財務諸表の値をまとめて取得できなかったため、書類ごとに取得して分析します。\t対象提出日:{0}\t書類数:{1}",
+                            submitDate,
+                            targetList.size()
+                    ),
+                    Category.ANALYSIS,
+                    Process.ANALYSIS
+            ), e);
+            return this::analyze;
+        }
+    }
+
     /**
      * 企業価値を算出する
      *
      * @param document ドキュメント
      */
     void analyze(final Document document) {
+        analyze(document, financialStatementSpecification.findValueMap(List.of(document)));
+    }
+
+    /**
+     * 読み込み済の財務諸表の値から企業価値を算出する
+     *
+     * @param document ドキュメント
+     * @param valueMap 読み込み済の財務諸表の値
+     */
+    void analyze(final Document document, final FinancialStatementValueMap valueMap) {
         try {
-            final FinanceValue financeValue = financialStatementSpecification.getFinanceValue(document);
+            final FinanceValue financeValue = financialStatementSpecification.getFinanceValue(document, valueMap);
             final AnalysisResult analysisResult = new AnalysisResult(financeValue, document);
 
             analysisResultSpecification.insert(document, analysisResult);
@@ -185,6 +236,9 @@ public class AnalyzeInteractor implements AnalyzeUseCase {
 
     /**
      * 企業価値情報を取得する
+     * <ul>
+     *    <li>平均企業価値などは、書類から取得した企業価値がない期間を前期の値から導出した企業価値で補う<li/>
+     * </>
      *
      * @param company 企業情報
      * @return 企業価値
@@ -203,6 +257,9 @@ public class AnalyzeInteractor implements AnalyzeUseCase {
             corporateValue.setLatestCorporateValue(latestCorporateValue.get());
         }
 
+        // 前期の値から導出した企業価値
+        final List<AnalysisResultEntity> derivedList = findDerivedAnalysisResultList(company);
+
         // 平均企業価値
         final List<AverageInfo> averageInfoList = new ArrayList<>();
         List.of(
@@ -218,15 +275,15 @@ public class AnalyzeInteractor implements AnalyzeUseCase {
                     .flatMap(y -> {
                         // 平均企業価値
                         if (AverageInfo.Year.ALL.equals(year)) {
-                            return analysisResultSpecification.allYearAverageCorporateValue(company);
+                            return analysisResultSpecification.allYearAverageCorporateValue(company, derivedList);
                         } else {
-                            return analysisResultSpecification.yearAverageCorporateValue(company, AverageInfo.parseYear(y));
+                            return analysisResultSpecification.yearAverageCorporateValue(company, AverageInfo.parseYear(y), derivedList);
                         }
                     }).ifPresent(ave -> {
                         averageInfo.setAverageCorporateValue(ave);
 
                         // 標準偏差
-                        final Optional<BigDecimal> sd = analysisResultSpecification.standardDeviation(company, ave);
+                        final Optional<BigDecimal> sd = analysisResultSpecification.standardDeviation(company, ave, derivedList);
                         if (sd.isPresent()) {
                             averageInfo.setStandardDeviation(sd.get());
 
@@ -242,12 +299,65 @@ public class AnalyzeInteractor implements AnalyzeUseCase {
         corporateValue.setAverageInfoList(averageInfoList);
 
         // 対象年カウント
-        final BigDecimal countYear = analysisResultSpecification.countYear(company);
+        final BigDecimal countYear = analysisResultSpecification.countYear(company, derivedList);
         corporateValue.setCountYear(countYear);
 
         return corporateValue;
     }
 
+    /**
+     * 前期の値から導出した企業価値を取得する
+     * <ul>
+     *    <li>有価証券報告書ごとに、登録した前期の値から1年前の期間の企業価値を算出する<li/>
+     *    <li>前期の値が揃っていない書類からは導出しない<li/>
+     * </>
+     *
+     * @param company 企業情報
+     * @return 前期の値から導出した企業価値リスト
+     */
+    List<AnalysisResultEntity> findDerivedAnalysisResultList(final Company company) {
+        if (!previousPeriodEnabled) {
+            return List.of();
+        }
+
+        final List<Document> sourceList = analysisResultSpecification.findDerivationSourceList(company).stream()
+                .map(AnalysisResultEntity::getDocumentId)
+                .map(documentSpecification::findDocument)
+                .toList();
+        if (sourceList.isEmpty()) {
+            return List.of();
+        }
+
+        final FinancialStatementValueMap valueMap;
+        final FinancialStatementValueMap derivedValueMap;
+        try {
+            valueMap = financialStatementSpecification.findValueMap(sourceList);
+            derivedValueMap = financialStatementSpecification.findDerivedValueMap(sourceList);
+        } catch (final FundanalyzerBadDataException e) {
+            log.warn(FundanalyzerLogClient.toInteractorLogObject(
+                    MessageFormat.format(
+                            "前期の財務諸表の値を取得できなかったため、書類から取得した企業価値のみで算出します。\t会社コード:{0}",
+                            company.code()
+                    ),
+                    Category.ANALYSIS,
+                    Process.ANALYSIS
+            ), e);
+            return List.of();
+        }
+
+        final List<AnalysisResultEntity> derivedList = new ArrayList<>();
+        for (final Document document : sourceList) {
+            try {
+                final FinanceValue financeValue =
+                        financialStatementSpecification.getDerivedFinanceValue(document, valueMap, derivedValueMap);
+                derivedList.add(analysisResultSpecification.derive(company, document, new AnalysisResult(financeValue, document)));
+            } catch (final FundanalyzerNotExistException ignored) {
+                // 前期の値が揃っていない書類は使用しない
+            }
+        }
+        return derivedList;
+    }
+
     /**
      * 投資指標を算出する
      *
@@ -12,6 +12,7 @@ import github.com.ioridazo.fundanalyzer.domain.domain.specification.CompanySpeci
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.IndustrySpecification;
 import github.com.ioridazo.fundanalyzer.domain.usecase.CompanyUseCase;
 import github.com.ioridazo.fundanalyzer.domain.value.Company;
+import github.com.ioridazo.fundanalyzer.domain.value.CompanyIndexConsistency;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerFileException;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerNotExistException;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerRestClientException;
@@ -208,6 +209,50 @@ public class CompanyInteractor implements CompanyUseCase {
         }
     }
 
+    /**
+     * 企業情報の索引がデータベースと一致しているか確認する
+     *
+     * @return 確認結果
+     */
+    @Override
+    public CompanyIndexConsistency checkIndexConsistency() {
+        final long startTime = System.currentTimeMillis();
+        final CompanyIndexConsistency consistency = companySpecification.checkConsistency();
+        if (!consistency.consistent()) {
+            log.warn(FundanalyzerLogClient.toInteractorLogObject(
+                    MessageFormat.format(
+                            "企業情報の索引がデータベースと一致していません。	未登録:{0}	不一致:{1}	削除済:{2}",
+                            consistency.missing().size(),
+                            consistency.stale().size(),
+                            consistency.orphaned().size()
+                    ),
+                    Category.COMPANY,
+                    Process.UPDATE,
+                    System.currentTimeMillis() - startTime
+            ));
+        }
+        return consistency;
+    }
+
+    /**
+     * 企業情報の索引を読み込み直す
+     *
+     * @return 確認結果
+     */
+    @Override
+    public CompanyIndexConsistency reloadIndex() {
+        final long startTime = System.currentTimeMillis();
+        companySpecification.reload();
+
+        log.info(FundanalyzerLogClient.toInteractorLogObject(
+                "企業情報の索引を読み込み直しました。",
+                Category.COMPANY,
+                Process.UPDATE,
+                System.currentTimeMillis() - startTime
+        ));
+        return checkIndexConsistency();
+    }
+
     /**
      * ファイルパスを生成する
      *
@@ -17,6 +17,8 @@ import github.com.ioridazo.fundanalyzer.domain.domain.specification.EdinetDocume
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.FinancialStatementSpecification;
 import github.com.ioridazo.fundanalyzer.domain.usecase.DocumentUseCase;
 import github.com.ioridazo.fundanalyzer.domain.usecase.ScrapingUseCase;
+import github.com.ioridazo.fundanalyzer.domain.util.ParallelExecution;
+import github.com.ioridazo.fundanalyzer.domain.util.StagedPipeline;
 import github.com.ioridazo.fundanalyzer.domain.value.Document;
 import github.com.ioridazo.fundanalyzer.domain.value.Result;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerNotExistException;
@@ -25,13 +27,18 @@ import github.com.ioridazo.fundanalyzer.web.model.DateInputData;
 import github.com.ioridazo.fundanalyzer.web.model.FinancialStatementInputData;
 import github.com.ioridazo.fundanalyzer.web.model.IdInputData;
 import org.apache.logging.log4j.LogManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.text.MessageFormat;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Stream;
 
 @Component
@@ -46,6 +53,8 @@ public class DocumentInteractor implements DocumentUseCase {
     private final FinancialStatementSpecification financialStatementSpecification;
     private final FileOperator fileOperator;
     private final EdinetClient edinetClient;
+    private final Executor documentExecutor;
+    private final StagedPipeline<Document> documentPipeline;
 
     @Value("${app.config.scraping.document-type-code}")
     List<String> targetTypeCodes;
@@ -55,6 +64,8 @@ public class DocumentInteractor implements DocumentUseCase {
     List<String> removeTypeCodes;
     @Value("${app.config.remove-document.company}")
     List<String> removeEdinetCodes;
+    @Value("${app.config.scraping.pipeline.enabled:false}")
+    boolean pipelineEnabled;
 
     public DocumentInteractor(
             final ScrapingUseCase scraping,
@@ -63,7 +74,12 @@ public class DocumentInteractor implements DocumentUseCase {
             final EdinetDocumentSpecification edinetDocumentSpecification,
             final FinancialStatementSpecification financialStatementSpecification,
             final FileOperator fileOperator,
-            final EdinetClient edinetClient) {
+            final EdinetClient edinetClient,
+            @Qualifier("documentExecutor") final Executor documentExecutor,
+            @Qualifier("documentDownloadExecutor") final ThreadPoolExecutor documentDownloadExecutor,
+            @Qualifier("documentScrapeExecutor") final ThreadPoolExecutor documentScrapeExecutor,
+            @Qualifier("documentFinishExecutor") final ThreadPoolExecutor documentFinishExecutor,
+            final MeterRegistry meterRegistry) {
         this.companySpecification = companySpecification;
         this.edinetDocumentSpecification = edinetDocumentSpecification;
         this.financialStatementSpecification = financialStatementSpecification;
@@ -71,6 +87,16 @@ public class DocumentInteractor implements DocumentUseCase {
         this.scraping = scraping;
         this.documentSpecification = documentSpecification;
         this.edinetClient = edinetClient;
+        this.documentExecutor = documentExecutor;
+        this.documentPipeline = new StagedPipeline<>(
+                "document",
+                List.of(
+                        new StagedPipeline.Stage<>("download", documentDownloadExecutor, this::download),
+                        new StagedPipeline.Stage<>("scrape", documentScrapeExecutor, this::scrapeFinancialStatement),
+                        new StagedPipeline.Stage<>("finish", documentFinishExecutor, this::removeIfAllError)
+                ),
+                meterRegistry
+        );
     }
 
     /**
@@ -101,11 +127,7 @@ public class DocumentInteractor implements DocumentUseCase {
                         System.currentTimeMillis() - startTime
                 ));
             } else {
-                if (documentList.size() > 10) {
-                    documentList.parallelStream().forEach(this::scrape);
-                } else {
-                    documentList.forEach(this::scrape);
-                }
+                scrape(documentList);
 
                 log.info(FundanalyzerLogClient.toInteractorLogObject(
                         MessageFormat.format(
@@ -140,9 +162,9 @@ public class DocumentInteractor implements DocumentUseCase {
         final long startTime = System.currentTimeMillis();
 
         try {
-            // EDINETに提出書類の問い合わせ
-            final int count = Integer.parseInt(edinetClient.list(new ListRequestParameter(inputData.getDate(), ListType.DEFAULT))
-                    .getMetadata().getResultset().getCount());
+            // EDINETに提出書類の問い合わせ（件数の比較にも書類リストの件数を使用する）
+            final EdinetResponse edinetResponse = edinetClient.list(new ListRequestParameter(inputData.getDate(), ListType.GET_LIST));
+            final int count = Integer.parseInt(edinetResponse.getMetadata().getResultset().getCount());
 
             if (0 == count) {
                 log.info(FundanalyzerLogClient.toInteractorLogObject(
@@ -166,14 +188,12 @@ public class DocumentInteractor implements DocumentUseCase {
                             System.currentTimeMillis() - startTime
                     ));
                 } else {
-                    // 書類が0件ではないときは書類リストを取得してデータベースに登録する
-                    final EdinetResponse edinetResponse = edinetClient.list(new ListRequestParameter(inputData.getDate(), ListType.GET_LIST));
-
+                    // 書類が0件ではないときは未登録の書類をデータベースに登録する
                     // edinet document
                     edinetDocumentSpecification.insert(inputData.getDate(), edinetResponse);
 
                     // company
-                    edinetResponse.getResults().forEach(companySpecification::insertIfNotExist);
+                    companySpecification.insertIfNotExist(edinetResponse.getResults());
 
                     // document
                     documentSpecification.insert(inputData.getDate(), edinetResponse);
@@ -223,11 +243,7 @@ public class DocumentInteractor implements DocumentUseCase {
                         System.currentTimeMillis() - startTime
                 ));
             } else {
-                if (targetList.size() > 10) {
-                    targetList.parallelStream().forEach(this::scrape);
-                } else {
-                    targetList.forEach(this::scrape);
-                }
+                scrape(targetList);
 
                 log.info(FundanalyzerLogClient.toInteractorLogObject(
                         MessageFormat.format(
@@ -490,12 +506,50 @@ public class DocumentInteractor implements DocumentUseCase {
                 });
     }
 
+    /**
+     * 複数のドキュメントをスクレイピングする
+     * <ul>
+     *    <li>パイプラインが有効なときは、取得・スクレイピング・ステータス確認を段階ごとのスレッドプールで実行する<li/>
+     *    <li>パイプラインでは、エラーとなったドキュメントのみ以降の段階を中断して、ほかのドキュメントの処理は継続する<li/>
+     * </>
+     *
+     * @param documentList ドキュメントリスト
+     */
+    void scrape(final List<Document> documentList) {
+        if (pipelineEnabled) {
+            documentPipeline.process(documentList, (document, e) -> log.error(FundanalyzerLogClient.toInteractorLogObject(
+                    MessageFormat.format(
+                            "ドキュメントの処理中に想定外のエラーが発生しました。\t書類ID:{0}",
+                            document.getDocumentId()
+                    ),
+                    document,
+                    Category.DOCUMENT,
+                    Process.SCRAPING
+            ), e));
+        } else if (documentList.size() > 10) {
+            ParallelExecution.forEach(documentList, this::scrape, documentExecutor);
+        } else {
+            documentList.forEach(this::scrape);
+        }
+    }
+
     /**
      * ドキュメントをスクレイピングする
      *
      * @param document ドキュメント
      */
     void scrape(final Document document) {
+        download(document);
+        scrapeFinancialStatement(document);
+        removeIfAllError(document);
+    }
+
+    /**
+     * ドキュメントを取得する
+     *
+     * @param document ドキュメント
+     */
+    void download(final Document document) {
         // 書類取得
         if (Stream.of(
                 DocumentStatus.NOT_YET,
@@ -521,24 +575,42 @@ public class DocumentInteractor implements DocumentUseCase {
                     Process.DOWNLOAD
             ));
         }
+    }
 
+    /**
+     * 取得したドキュメントから財務諸表をスクレイピングする
+     *
+     * @param document ドキュメント
+     */
+    void scrapeFinancialStatement(final Document document) {
         final Document decodedDocument = documentSpecification.findDocument(document.getDocumentId());
         if (DocumentStatus.DONE == decodedDocument.getDecoded()) {
             // スクレイピング
+            final List<FinancialStatementEnum> fsList = new ArrayList<>();
             // 貸借対照表
             if (DocumentStatus.DONE != decodedDocument.getScrapedBs()) {
-                scraping.bs(document);
+                fsList.add(FinancialStatementEnum.BALANCE_SHEET);
             }
             // 損益計算書
             if (DocumentStatus.DONE != decodedDocument.getScrapedPl()) {
-                scraping.pl(document);
+                fsList.add(FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT);
             }
             // 株式総数
             if (DocumentStatus.DONE != decodedDocument.getScrapedNumberOfShares()) {
-                scraping.ns(document);
+                fsList.add(FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES);
+            }
+            if (!fsList.isEmpty()) {
+                scraping.scrape(document, fsList);
             }
         }
+    }
 
+    /**
+     * スクレイピングがすべてエラーのドキュメントを処理対象外に更新する
+     *
+     * @param document ドキュメント
+     */
+    void removeIfAllError(final Document document) {
         final Document processedDocument = documentSpecification.findDocument(document.getDocumentId());
         // 除外フラグON
         if (Stream.of(
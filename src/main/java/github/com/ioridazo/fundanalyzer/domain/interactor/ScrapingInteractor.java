@@ -4,25 +4,40 @@ import github.com.ioridazo.fundanalyzer.client.edinet.EdinetClient;
 import github.com.ioridazo.fundanalyzer.client.edinet.entity.request.AcquisitionRequestParameter;
 import github.com.ioridazo.fundanalyzer.client.edinet.entity.request.AcquisitionType;
 import github.com.ioridazo.fundanalyzer.client.file.FileOperator;
+import github.com.ioridazo.fundanalyzer.client.file.ZipEntryFilter;
 import github.com.ioridazo.fundanalyzer.client.log.Category;
 import github.com.ioridazo.fundanalyzer.client.log.FundanalyzerLogClient;
 import github.com.ioridazo.fundanalyzer.client.log.Process;
 import github.com.ioridazo.fundanalyzer.domain.domain.dao.master.ScrapingKeywordDao;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.ScrapingKeywordEntity;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.Subject;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.CreatedType;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentStatus;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentTypeCode;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEnum;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.ScrapingHintEntity;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.XbrlFileIndex;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.XbrlMemoryGovernor;
 import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.XbrlScraping;
-import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.FinancialTableResultBean;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.FinancialFactResultBean;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.ScrapingResultBean;
 import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.Unit;
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.CompanySpecification;
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.DocumentSpecification;
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.FinancialStatementSpecification;
+import github.com.ioridazo.fundanalyzer.domain.domain.specification.ScrapingHintSpecification;
+import github.com.ioridazo.fundanalyzer.domain.domain.specification.ScrapingKeywordSpecification;
+import github.com.ioridazo.fundanalyzer.domain.domain.specification.ScrapingResultCacheSpecification;
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.SubjectSpecification;
 import github.com.ioridazo.fundanalyzer.domain.usecase.ScrapingUseCase;
+import github.com.ioridazo.fundanalyzer.domain.util.NumberNormalizer;
 import github.com.ioridazo.fundanalyzer.domain.value.BsSubject;
 import github.com.ioridazo.fundanalyzer.domain.value.Company;
 import github.com.ioridazo.fundanalyzer.domain.value.Document;
+import github.com.ioridazo.fundanalyzer.domain.value.FinancialStatementValue;
+import github.com.ioridazo.fundanalyzer.domain.value.PlSubject;
+import github.com.ioridazo.fundanalyzer.domain.value.ScrapingKeywordStatistic;
+import github.com.ioridazo.fundanalyzer.domain.value.ScrapingResult;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerBadDataException;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerFileException;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerNotExistException;
@@ -31,37 +46,73 @@ import github.com.ioridazo.fundanalyzer.exception.FundanalyzerRuntimeException;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerScrapingException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
 
 import java.io.File;
 import java.io.IOException;
 import java.text.MessageFormat;
 import java.time.LocalDate;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.function.BiConsumer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 @Component
 public class ScrapingInteractor implements ScrapingUseCase {
 
     private static final Logger log = LogManager.getLogger(ScrapingInteractor.class);
 
+    private static final String NO_BREAK_SPACE = "\u00A0";
+
     private final ScrapingKeywordDao scrapingKeywordDao;
     private final CompanySpecification companySpecification;
     private final SubjectSpecification subjectSpecification;
     private final DocumentSpecification documentSpecification;
     private final FinancialStatementSpecification financialStatementSpecification;
+    private final ScrapingResultCacheSpecification scrapingResultCacheSpecification;
+    private final ScrapingKeywordSpecification scrapingKeywordSpecification;
+    private final ScrapingHintSpecification scrapingHintSpecification;
     private final XbrlScraping xbrlScraping;
+    private final XbrlMemoryGovernor xbrlMemoryGovernor;
     private final FileOperator fileOperator;
     private final EdinetClient edinetClient;
+    private final Executor scrapingExecutor;
 
     @Value("${app.settings.file.path.edinet}")
     String pathEdinet;
     @Value("${app.settings.file.path.decode}")
     String pathDecode;
+    @Value("${app.config.scraping.inline-xbrl.enabled:false}")
+    boolean inlineXbrlEnabled;
+    @Value("${app.config.scraping.xbrl-instance.enabled:false}")
+    boolean xbrlInstanceEnabled;
+    @Value("${app.config.scraping.archive.enabled:false}")
+    boolean archiveEnabled;
+    @Value("${app.config.scraping.archive.extract:false}")
+    boolean archiveExtract;
+    @Value("${app.config.scraping.stream-decode.enabled:false}")
+    boolean streamDecodeEnabled;
+    @Value("${app.config.scraping.extract.include:}")
+    List<String> extractInclude;
+    @Value("${app.config.scraping.result-cache.enabled:false}")
+    boolean resultCacheEnabled;
+    @Value("${app.config.scraping.hint.enabled:false}")
+    boolean scrapingHintEnabled;
+    @Value("${app.config.scraping.previous-period.enabled:false}")
+    boolean previousPeriodEnabled;
+    @Value("${app.config.scraping.batch-insert.enabled:false}")
+    boolean batchInsertEnabled;
 
     public ScrapingInteractor(
             final ScrapingKeywordDao scrapingKeywordDao,
@@ -69,17 +120,27 @@ public class ScrapingInteractor implements ScrapingUseCase {
             final SubjectSpecification subjectSpecification,
             final DocumentSpecification documentSpecification,
             final FinancialStatementSpecification financialStatementSpecification,
+            final ScrapingResultCacheSpecification scrapingResultCacheSpecification,
+            final ScrapingKeywordSpecification scrapingKeywordSpecification,
+            final ScrapingHintSpecification scrapingHintSpecification,
             final XbrlScraping xbrlScraping,
+            final XbrlMemoryGovernor xbrlMemoryGovernor,
             final FileOperator fileOperator,
-            final EdinetClient edinetClient) {
+            final EdinetClient edinetClient,
+            @Qualifier("scrapingExecutor") final Executor scrapingExecutor) {
         this.scrapingKeywordDao = scrapingKeywordDao;
         this.companySpecification = companySpecification;
         this.subjectSpecification = subjectSpecification;
         this.documentSpecification = documentSpecification;
         this.financialStatementSpecification = financialStatementSpecification;
+        this.scrapingResultCacheSpecification = scrapingResultCacheSpecification;
+        this.scrapingKeywordSpecification = scrapingKeywordSpecification;
+        this.scrapingHintSpecification = scrapingHintSpecification;
         this.xbrlScraping = xbrlScraping;
+        this.xbrlMemoryGovernor = xbrlMemoryGovernor;
         this.fileOperator = fileOperator;
         this.edinetClient = edinetClient;
+        this.scrapingExecutor = scrapingExecutor;
     }
 
     /**
@@ -92,6 +153,24 @@ public class ScrapingInteractor implements ScrapingUseCase {
         final long startTime = System.currentTimeMillis();
 
         try {
+            final File archive = new File(
+                    makeTargetPath(pathEdinet, document.getSubmitDate(), document.getDocumentId()).getPath() + ".zip");
+            if (streamDecodeEnabled && !archive.exists()) {
+                // ファイル取得と解凍を受信しながら同時に実行する
+                edinetClient.acquisition(
+                        new AcquisitionRequestParameter(document.getDocumentId(), AcquisitionType.DEFAULT),
+                        body -> fileOperator.decodeZipStream(
+                                body,
+                                archive,
+                                makeTargetPath(pathDecode, document.getSubmitDate(), document.getDocumentId()),
+                                entryFilter()
+                        )
+                );
+                documentSpecification.updateDownloadToDone(document);
+                documentSpecification.updateDecodeToDone(document);
+                return;
+            }
+
             // ファイル取得
             edinetClient.acquisition(
                     makeTargetPath(pathEdinet, document.getSubmitDate()),
@@ -99,11 +178,14 @@ public class ScrapingInteractor implements ScrapingUseCase {
             );
             documentSpecification.updateDownloadToDone(document);
 
-            // ファイル解凍
-            fileOperator.decodeZipFile(
-                    makeTargetPath(pathEdinet, document.getSubmitDate(), document.getDocumentId()),
-                    makeTargetPath(pathDecode, document.getSubmitDate(), document.getDocumentId())
-            );
+            // ファイル解凍（ZIPファイルから直接スクレイピングするときは、調査用に指定されたときのみ解凍する）
+            if (!archiveEnabled || archiveExtract) {
+                fileOperator.decodeZipFile(
+                        makeTargetPath(pathEdinet, document.getSubmitDate(), document.getDocumentId()),
+                        makeTargetPath(pathDecode, document.getSubmitDate(), document.getDocumentId()),
+                        entryFilter()
+                );
+            }
             documentSpecification.updateDecodeToDone(document);
 
         } catch (FundanalyzerRestClientException e) {
@@ -125,7 +207,8 @@ public class ScrapingInteractor implements ScrapingUseCase {
             } else {
                 documentSpecification.updateDownloadToError(document);
             }
-        } catch (IOException e) {
+        } catch (IOException | FundanalyzerFileException e) {
+            // ダウンロードしながらの解凍に失敗したときは、受信し直さずに解凍の失敗として記録する
             log.error(FundanalyzerLogClient.toInteractorLogObject(
                     MessageFormat.format(
                             "zipファイルの解凍処理に失敗しました。スタックトレースから原因を確認してください。" +
@@ -143,6 +226,22 @@ public class ScrapingInteractor implements ScrapingUseCase {
         }
     }
 
+    /**
+     * 解凍するエントリの条件
+     * <ul>
+     *    <li>スクレイピングで参照するファイルとして指定されたパターンに合致するエントリのみ解凍する<li/>
+     *    <li>ダウンロードしながら解凍するときに、ZIPファイルから直接スクレイピングするときは、調査用に指定されたときのみ解凍する<li/>
+     * </>
+     *
+     * @return エントリ名の条件
+     */
+    private Predicate<String> entryFilter() {
+        if (archiveEnabled && !archiveExtract) {
+            return entryName -> false;
+        }
+        return ZipEntryFilter.of(Objects.requireNonNullElse(extractInclude, List.of()));
+    }
+
     /**
      * 貸借対照表をスクレイピングする
      *
@@ -150,29 +249,7 @@ public class ScrapingInteractor implements ScrapingUseCase {
      */
     @Override
     public void bs(final Document document) {
-        executeScraping(
-                FinancialStatementEnum.BALANCE_SHEET,
-                document,
-                (company, targetFile) -> {
-                    final List<FinancialTableResultBean> resultBeanList =
-                            xbrlScraping.scrapeFinancialStatement(targetFile.getFirst(), targetFile.getSecond().getKeyword());
-
-                    resultBeanList.forEach(resultBean -> resultBean.getSubject()
-                            .flatMap(subjectSpecification::findBsSubject)
-                            .ifPresent(subject -> financialStatementSpecification.insert(
-                                    company,
-                                    FinancialStatementEnum.BALANCE_SHEET,
-                                    subject.getId(),
-                                    document,
-                                    parseValue(resultBean.getCurrentValue(), resultBean.getUnit(), document).orElse(null),
-                                    CreatedType.AUTO
-                            ))
-                    );
-
-                    doBsOptionOfTotalFixedLiabilitiesIfTarget(company, document);
-                    doBsOptionOfTotalInvestmentsAndOtherAssetsIfTarget(company, document);
-                }
-        );
+        executeScraping(FinancialStatementEnum.BALANCE_SHEET, document);
     }
 
     /**
@@ -182,26 +259,7 @@ public class ScrapingInteractor implements ScrapingUseCase {
      */
     @Override
     public void pl(final Document document) {
-        executeScraping(
-                FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT,
-                document,
-                (company, targetFile) -> {
-                    final List<FinancialTableResultBean> resultBeanList =
-                            xbrlScraping.scrapeFinancialStatement(targetFile.getFirst(), targetFile.getSecond().getKeyword());
-
-                    resultBeanList.forEach(resultBean -> resultBean.getSubject()
-                            .flatMap(subjectSpecification::findPlSubject)
-                            .ifPresent(subject -> financialStatementSpecification.insert(
-                                    company,
-                                    FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT,
-                                    subject.getId(),
-                                    document,
-                                    parseValue(resultBean.getCurrentValue(), resultBean.getUnit(), document).orElse(null),
-                                    CreatedType.AUTO
-                            ))
-                    );
-                }
-        );
+        executeScraping(FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT, document);
     }
 
     /**
@@ -211,27 +269,409 @@ public class ScrapingInteractor implements ScrapingUseCase {
      */
     @Override
     public void ns(final Document document) {
-        executeScraping(
-                FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES,
-                document,
-                (company, targetFile) -> {
-                    final String value = xbrlScraping.scrapeNumberOfShares(targetFile.getFirst(), targetFile.getSecond().getKeyword());
-
-                    financialStatementSpecification.insert(
-                            company,
-                            FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES,
-                            "0",
-                            document,
-                            parseValue(value, document).orElse(null),
-                            CreatedType.AUTO
-                    );
+        executeScraping(FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES, document);
+    }
+
+    /**
+     * ドキュメントの財務諸表をまとめてスクレイピングする
+     * <ul>
+     *    <li>企業情報とファイルの索引はドキュメントごとに1回だけ取得する<li/>
+     *    <li>財務諸表ごとの処理は並行して実行し、解析済みの文書モデルを共有する<li/>
+     *    <li>処理ステータスはすべての財務諸表の処理が終わった後にまとめて更新する<li/>
+     *    <li>同時に解析する文書モデルのメモリ量が上限を超えるときは、解析の開始を待機する<li/>
+     *    <li>解析済みの文書モデルは、メモリ量の許可を解放する前に破棄する<li/>
+     * </>
+     *
+     * @param document ドキュメント
+     * @param fsList   財務諸表種別リスト
+     */
+    @Override
+    public void scrape(final Document document, final List<FinancialStatementEnum> fsList) {
+        if (fsList.isEmpty()) {
+            return;
+        }
+
+        final Company company = companySpecification.findCompanyByEdinetCode(document.getEdinetCode())
+                .orElseThrow(FundanalyzerRuntimeException::new);
+        final File targetDirectory = makeDocumentPath(pathDecode, document.getSubmitDate(), document.getDocumentId());
+        final List<ScrapingKeywordEntity> scrapingKeywordList = scrapingKeywordDao.selectAll();
+        final Function<FinancialStatementEnum, Pair<File, ScrapingKeywordEntity>> targetFileFinder =
+                targetFileFinder(targetDirectory, document, scrapingKeywordList);
 
+        final List<ScrapingResult> resultList = new ArrayList<>();
+        RuntimeException exception = null;
+        try (XbrlScraping.Session ignoredSession = openSession(document);
+             XbrlMemoryGovernor.Permit ignored = xbrlMemoryGovernor.acquire(() -> xbrlScraping.sizeOfFiles(targetDirectory))) {
+            try {
+                final List<CompletableFuture<ScrapingResult>> futureList = fsList.stream()
+                        .map(fs -> CompletableFuture.supplyAsync(
+                                () -> doScraping(fs, document, company, targetDirectory, scrapingKeywordList,
+                                        () -> targetFileFinder.apply(fs)),
+                                scrapingExecutor
+                        ))
+                        .toList();
+
+                for (final CompletableFuture<ScrapingResult> future : futureList) {
+                    try {
+                        resultList.add(future.join());
+                    } catch (final CompletionException e) {
+                        if (Objects.isNull(exception)) {
+                            exception = e.getCause() instanceof RuntimeException cause ? cause : e;
+                        }
+                    }
                 }
+            } finally {
+                // 解析済みの文書モデルを保持したまま許可を解放すると、見積もりより多くのメモリを使用するため
+                xbrlScraping.evict(targetDirectory);
+            }
+        }
+
+        // 完了した財務諸表の処理ステータスを1回で更新する
+        documentSpecification.updateFsStatus(document, resultList);
+
+        if (Objects.nonNull(exception)) {
+            throw exception;
+        }
+    }
+
+    /**
+     * スクレイピングキーワードの合致実績を取得する
+     *
+     * @return 合致実績のリスト
+     */
+    @Override
+    public List<ScrapingKeywordStatistic> findKeywordStatistics() {
+        return scrapingKeywordSpecification.findStatistics();
+    }
+
+    /**
+     * 科目の辞書を読み込み直す
+     */
+    @Override
+    public void reloadSubject() {
+        final long startTime = System.currentTimeMillis();
+        subjectSpecification.reload();
+
+        log.info(FundanalyzerLogClient.toInteractorLogObject(
+                "科目の辞書を読み込み直しました。",
+                Category.SCRAPING,
+                Process.UPDATE,
+                System.currentTimeMillis() - startTime
+        ));
+    }
+
+    /**
+     * 貸借対照表を登録する
+     *
+     * @param company    企業情報
+     * @param document   ドキュメント
+     * @param targetFile 対象ファイルとキーワード
+     */
+    private void scrapeBs(
+            final Company company,
+            final Document document,
+            final Pair<File, ScrapingKeywordEntity> targetFile,
+            final ScrapingResultBean result) {
+        final FinancialStatementWriter writer = new FinancialStatementWriter(company, FinancialStatementEnum.BALANCE_SHEET, document);
+
+        // XBRLインスタンスに存在する科目を先に登録する（以降の同一科目の登録はスキップされる）
+        insertInstanceFacts(writer, targetFile);
+
+        if (!result.getFactList().isEmpty()) {
+            // タグ付けされた数値から登録する
+            result.getFactList().forEach(factBean -> subjectSpecification.findBsSubject(factBean.getSubject())
+                    .ifPresent(subject -> writer.insert(subject.getId(), factBean.getCurrentValue().orElse(null)))
+            );
+        } else {
+            // タグ付けされた数値がない場合はテーブルから登録する
+            result.getTableList().forEach(resultBean -> resultBean.getSubject()
+                    .flatMap(subjectSpecification::findBsSubject)
+                    .ifPresent(subject -> writer.insert(
+                            subject.getId(),
+                            parseValue(resultBean.getCurrentValue(), resultBean.getUnit(), document).orElse(null)
+                    ))
+            );
+        }
+
+        insertPreviousPeriodIfTarget(writer, result, subjectSpecification::findBsSubject);
+        writer.flush();
+
+        doBsOptionOfTotalFixedLiabilitiesIfTarget(company, document);
+        doBsOptionOfTotalInvestmentsAndOtherAssetsIfTarget(company, document);
+    }
+
+    /**
+     * 損益計算書を登録する
+     *
+     * @param company    企業情報
+     * @param document   ドキュメント
+     * @param targetFile 対象ファイルとキーワード
+     */
+    private void scrapePl(
+            final Company company,
+            final Document document,
+            final Pair<File, ScrapingKeywordEntity> targetFile,
+            final ScrapingResultBean result) {
+        final FinancialStatementWriter writer = new FinancialStatementWriter(company, FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT, document);
+
+        // XBRLインスタンスに存在する科目を先に登録する（以降の同一科目の登録はスキップされる）
+        insertInstanceFacts(writer, targetFile);
+
+        if (!result.getFactList().isEmpty()) {
+            // タグ付けされた数値から登録する
+            result.getFactList().forEach(factBean -> subjectSpecification.findPlSubject(factBean.getSubject())
+                    .ifPresent(subject -> writer.insert(subject.getId(), factBean.getCurrentValue().orElse(null)))
+            );
+        } else {
+            // タグ付けされた数値がない場合はテーブルから登録する
+            result.getTableList().forEach(resultBean -> resultBean.getSubject()
+                    .flatMap(subjectSpecification::findPlSubject)
+                    .ifPresent(subject -> writer.insert(
+                            subject.getId(),
+                            parseValue(resultBean.getCurrentValue(), resultBean.getUnit(), document).orElse(null)
+                    ))
+            );
+        }
+
+        insertPreviousPeriodIfTarget(writer, result, subjectSpecification::findPlSubject);
+        writer.flush();
+    }
+
+    /**
+     * 書類に記載された前期の値を前期の財務諸表として登録する
+     * <ul>
+     *    <li>当期の値と同じく、タグ付けされた数値を優先し、存在しない場合はテーブルから登録する<li/>
+     *    <li>1つの書類から2期分の値を取得できるため、初めて対象とする企業の取得書類数を減らせる<li/>
+     * </>
+     *
+     * @param writer      財務諸表の値の登録
+     * @param result      スクレイピング結果
+     * @param findSubject 科目名から科目を取得する関数
+     */
+    private void insertPreviousPeriodIfTarget(
+            final FinancialStatementWriter writer,
+            final ScrapingResultBean result,
+            final Function<String, Optional<? extends Subject>> findSubject) {
+        if (!previousPeriodEnabled) {
+            return;
+        }
+
+        if (!result.getFactList().isEmpty()) {
+            result.getFactList().forEach(factBean -> findSubject.apply(factBean.getSubject())
+                    .ifPresent(subject -> writer.insertPreviousPeriod(
+                            subject.getId(),
+                            factBean.getPreviousValue().orElse(null)
+                    ))
+            );
+        } else {
+            result.getTableList().forEach(resultBean -> resultBean.getSubject()
+                    .flatMap(findSubject)
+                    .ifPresent(subject -> writer.insertPreviousPeriod(
+                            subject.getId(),
+                            resultBean.getPreviousValue()
+                                    .flatMap(value -> parseValue(value, resultBean.getUnit(), writer.document))
+                                    .orElse(null)
+                    ))
+            );
+        }
+    }
+
+    /**
+     * 株式総数を登録する
+     *
+     * @param company  企業情報
+     * @param document ドキュメント
+     * @param result   スクレイピング結果
+     */
+    private void scrapeNs(final Company company, final Document document, final ScrapingResultBean result) {
+        financialStatementSpecification.insert(
+                company,
+                FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES,
+                "0",
+                document,
+                result.getNumberOfShares().flatMap(value -> parseValue(value, document)).orElse(null),
+                CreatedType.AUTO
         );
     }
 
+    /**
+     * 対象ファイルから財務諸表を取得する
+     * <ul>
+     *    <li>貸借対照表・損益計算書はタグ付けされた数値を優先し、存在しない場合はテーブルから取得する<li/>
+     * </>
+     *
+     * @param fs         財務諸表種別
+     * @param targetFile 対象ファイルとキーワード
+     * @return スクレイピング結果
+     */
+    private ScrapingResultBean extract(final FinancialStatementEnum fs, final Pair<File, ScrapingKeywordEntity> targetFile) {
+        return switch (fs) {
+            case BALANCE_SHEET, PROFIT_AND_LESS_STATEMENT -> {
+                final List<FinancialFactResultBean> factBeanList = scrapeFinancialFacts(targetFile);
+                yield factBeanList.isEmpty()
+                        ? ScrapingResultBean.ofTable(xbrlScraping.scrapeFinancialStatement(targetFile.getFirst(), targetFile.getSecond().getKeyword()))
+                        : ScrapingResultBean.ofFact(factBeanList);
+            }
+            case TOTAL_NUMBER_OF_SHARES -> ScrapingResultBean.ofNumberOfShares(
+                    xbrlScraping.scrapeNumberOfShares(targetFile.getFirst(), targetFile.getSecond().getKeyword()));
+            default -> throw new FundanalyzerRuntimeException();
+        };
+    }
+
+    /**
+     * 内容が変わっていないファイルのスクレイピング結果を取得する
+     * <ul>
+     *    <li>財務諸表の取得方法・スクレイピングキーワードのバージョン・ファイルのハッシュ値が一致するときのみ採用する<li/>
+     *    <li>採用するときはファイルの索引も解析も行わない<li/>
+     * </>
+     *
+     * @param document            ドキュメント
+     * @param fs                  財務諸表種別
+     * @param scrapingKeywordList スクレイピングキーワードリスト
+     * @param keywordVersion      スクレイピングキーワードのバージョン
+     * @return 対象ファイルとそのスクレイピング結果
+     */
+    private Optional<CachedScrapingResult> findResultCache(
+            final Document document,
+            final FinancialStatementEnum fs,
+            final List<ScrapingKeywordEntity> scrapingKeywordList,
+            final String keywordVersion) {
+        if (!resultCacheEnabled) {
+            return Optional.empty();
+        }
+
+        return scrapingResultCacheSpecification
+                .findCache(document, fs, extractionMode(), keywordVersion)
+                .filter(cache -> xbrlScraping.hash(cache.file()).filter(cache.fileHash()::equals).isPresent())
+                .flatMap(cache -> scrapingKeywordList.stream()
+                        .filter(entity -> entity.getKeyword().equals(cache.keyword()))
+                        .findFirst()
+                        .map(entity -> new CachedScrapingResult(Pair.of(cache.file(), entity), cache.result())));
+    }
+
+    /**
+     * スクレイピング結果をファイルのハッシュ値とともに保存する
+     *
+     * @param document       ドキュメント
+     * @param fs             財務諸表種別
+     * @param targetFile     対象ファイルとキーワード
+     * @param keywordVersion スクレイピングキーワードのバージョン
+     * @param result         スクレイピング結果
+     */
+    private void saveResultCache(
+            final Document document,
+            final FinancialStatementEnum fs,
+            final Pair<File, ScrapingKeywordEntity> targetFile,
+            final String keywordVersion,
+            final ScrapingResultBean result) {
+        if (!resultCacheEnabled) {
+            return;
+        }
+
+        xbrlScraping.hash(targetFile.getFirst()).ifPresent(fileHash -> scrapingResultCacheSpecification.upsert(
+                document,
+                fs,
+                targetFile.getFirst(),
+                targetFile.getSecond().getKeyword(),
+                fileHash,
+                extractionMode(),
+                keywordVersion,
+                result
+        ));
+    }
+
+    /**
+     * 財務諸表の取得方法を設定から取得する
+     * <ul>
+     *    <li>有効な取得方法を優先順に並べたもので、変わるとそれまでのスクレイピング結果は無効になる<li/>
+     * </>
+     *
+     * @return 財務諸表の取得方法（例: "xbrl-instance,inline-xbrl,html"）
+     */
+    String extractionMode() {
+        final List<String> modeList = new ArrayList<>();
+        if (xbrlInstanceEnabled) {
+            modeList.add("xbrl-instance");
+        }
+        if (inlineXbrlEnabled) {
+            modeList.add("inline-xbrl");
+        }
+        modeList.add("html");
+        return String.join(",", modeList);
+    }
+
+    /**
+     * XBRLインスタンスの数値から分析に使用する科目を登録する
+     * <ul>
+     *    <li>XBRLの要素名を貸借対照表・損益計算書の科目に対応付けて登録する<li/>
+     *    <li>XBRLインスタンスに存在しない科目はHTMLのスクレイピングで登録する<li/>
+     * </>
+     *
+     * @param writer     財務諸表の値の登録
+     * @param targetFile 対象ファイルとキーワード
+     */
+    private void insertInstanceFacts(
+            final FinancialStatementWriter writer,
+            final Pair<File, ScrapingKeywordEntity> targetFile) {
+        if (!xbrlInstanceEnabled || Objects.isNull(targetFile.getFirst().getParentFile())) {
+            return;
+        }
+
+        final boolean consolidated = xbrlScraping.isConsolidated(targetFile.getSecond().getKeyword());
+        xbrlScraping.readInstance(targetFile.getFirst().getParentFile()).ifPresent(instance -> {
+            if (FinancialStatementEnum.BALANCE_SHEET == writer.fs) {
+                Arrays.stream(BsSubject.BsEnum.values()).forEach(bsEnum -> instance
+                        .findCurrentValue(bsEnum.getElementNameList(), consolidated)
+                        .ifPresent(value -> subjectSpecification.findBsSubjectList(bsEnum).stream().findFirst()
+                                .ifPresent(subject -> writer.insert(subject.getId(), value))));
+            } else if (FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT == writer.fs) {
+                Arrays.stream(PlSubject.PlEnum.values()).forEach(plEnum -> instance
+                        .findCurrentValue(plEnum.getElementNameList(), consolidated)
+                        .ifPresent(value -> subjectSpecification.findPlSubjectList(plEnum).stream().findFirst()
+                                .ifPresent(subject -> writer.insert(subject.getId(), value))));
+            }
+        });
+    }
+
+    /**
+     * ドキュメントのスクレイピングを開始する
+     * <ul>
+     *    <li>ZIPファイルから直接スクレイピングするときは、解凍先のフォルダにZIPファイルを対応付ける<li/>
+     *    <li>解凍済みのフォルダが存在するときは解凍済みのファイルを優先する<li/>
+     * </>
+     *
+     * @param document ドキュメント
+     * @return スクレイピングの期間
+     */
+    private XbrlScraping.Session openSession(final Document document) {
+        final File decodeDirectory = makeTargetPath(pathDecode, document.getSubmitDate(), document.getDocumentId());
+        final File archive = new File(
+                makeTargetPath(pathEdinet, document.getSubmitDate(), document.getDocumentId()).getPath() + ".zip");
+        if (archiveEnabled && !decodeDirectory.exists() && archive.exists()) {
+            return xbrlScraping.openSession(decodeDirectory, archive);
+        }
+        return xbrlScraping.openSession(decodeDirectory);
+    }
+
+    /**
+     * 財務諸表のタグ付けされた数値を取得する
+     *
+     * @param targetFile 対象ファイルとキーワード
+     * @return 科目とその値のリスト（無効のときは空）
+     */
+    private List<FinancialFactResultBean> scrapeFinancialFacts(final Pair<File, ScrapingKeywordEntity> targetFile) {
+        if (!inlineXbrlEnabled) {
+            return List.of();
+        }
+        return xbrlScraping.scrapeFinancialFacts(targetFile.getFirst(), targetFile.getSecond().getKeyword());
+    }
+
     /**
      * フォルダから処理対象のファイルを取得する
+     * <ul>
+     *    <li>フォルダ配下のファイルをすべてのキーワードでまとめて索引する<li/>
+     *    <li>財務諸表種別のキーワードを優先順に索引から探す<li/>
+     * </>
      *
      * @param targetFile 対象フォルダ
      * @param fs         財務諸表種別
@@ -240,26 +680,149 @@ public class ScrapingInteractor implements ScrapingUseCase {
      */
     Pair<File, ScrapingKeywordEntity> findTargetFile(
             final File targetFile, final FinancialStatementEnum fs, final Document document) {
-        for (final ScrapingKeywordEntity scrapingKeyword : sortedScrapingKeywordList(scrapingKeywordDao.selectByFinancialStatementId(fs.getId()))) {
-            final Optional<File> findFile = xbrlScraping.findFile(targetFile, scrapingKeyword, document);
+        final List<ScrapingKeywordEntity> scrapingKeywordList = scrapingKeywordDao.selectAll();
+        final SingletonSupplier<XbrlFileIndex> fileIndex = SingletonSupplier.of(() -> indexFiles(targetFile, scrapingKeywordList));
+        return findTargetFile(targetFile, fileIndex::obtain, scrapingKeywordList, fs, document);
+    }
 
-            if (findFile.isPresent()) {
-                return Pair.of(findFile.get(), scrapingKeyword);
+    /**
+     * 財務諸表種別ごとに処理対象のファイルを取得する処理を生成する
+     * <ul>
+     *    <li>フォルダ配下のファイルの索引は最初に必要になったときに1回だけ作成し、財務諸表種別の間で共有する<li/>
+     *    <li>索引を作成できなかったときは、取得時に例外をスローする<li/>
+     * </>
+     *
+     * @param targetFile          対象フォルダ
+     * @param document            ドキュメント
+     * @param scrapingKeywordList スクレイピングキーワードリスト
+     * @return 財務諸表種別から対象ファイルとそのキーワードを取得する処理
+     */
+    Function<FinancialStatementEnum, Pair<File, ScrapingKeywordEntity>> targetFileFinder(
+            final File targetFile, final Document document, final List<ScrapingKeywordEntity> scrapingKeywordList) {
+        final SingletonSupplier<XbrlFileIndex> fileIndex = SingletonSupplier.of(() -> indexFiles(targetFile, scrapingKeywordList));
+        return fs -> findTargetFile(targetFile, fileIndex::obtain, scrapingKeywordList, fs, document);
+    }
+
+    /**
+     * 処理対象のファイルを取得する
+     * <ul>
+     *    <li>前回のスクレイピングと同じファイル名の接頭辞・キーワードから試行する<li/>
+     *    <li>取得できなかったときは索引から探し、次回のためにファイル名の接頭辞とキーワードを記録する<li/>
+     * </>
+     *
+     * @param targetFile          対象フォルダ
+     * @param fileIndex           キーワードごとのファイルの索引
+     * @param scrapingKeywordList スクレイピングキーワードリスト
+     * @param fs                  財務諸表種別
+     * @param document            ドキュメント
+     * @return 対象ファイルとそのキーワード
+     */
+    private Pair<File, ScrapingKeywordEntity> findTargetFile(
+            final File targetFile,
+            final Supplier<XbrlFileIndex> fileIndex,
+            final List<ScrapingKeywordEntity> scrapingKeywordList,
+            final FinancialStatementEnum fs,
+            final Document document) {
+        final Optional<Pair<File, ScrapingKeywordEntity>> hintedFile =
+                findHintedFile(targetFile, fileIndex, scrapingKeywordList, fs, document);
+        if (hintedFile.isPresent()) {
+            return hintedFile.get();
+        }
+
+        final Pair<File, ScrapingKeywordEntity> foundFile = findTargetFile(fileIndex.get(), scrapingKeywordList, fs, document);
+        if (scrapingHintEnabled) {
+            scrapingHintSpecification.upsert(document, fs, foundFile.getFirst(), foundFile.getSecond().getKeyword());
+        }
+        return foundFile;
+    }
+
+    /**
+     * 前回のスクレイピングと同じファイル名の接頭辞・キーワードで処理対象のファイルを取得する
+     * <ul>
+     *    <li>前回のキーワードより先に試行するキーワードが索引に存在するときは、索引から探したときと結果が変わるためヒントを使用しない<li/>
+     *    <li>ヒントで取得できたときは、キーワードの合致実績として記録しない<li/>
+     * </>
+     *
+     * @param targetFile          対象フォルダ
+     * @param fileIndex           キーワードごとのファイルの索引
+     * @param scrapingKeywordList スクレイピングキーワードリスト
+     * @param fs                  財務諸表種別
+     * @param document            ドキュメント
+     * @return 対象ファイルとそのキーワード
+     */
+    private Optional<Pair<File, ScrapingKeywordEntity>> findHintedFile(
+            final File targetFile,
+            final Supplier<XbrlFileIndex> fileIndex,
+            final List<ScrapingKeywordEntity> scrapingKeywordList,
+            final FinancialStatementEnum fs,
+            final Document document) {
+        if (!scrapingHintEnabled) {
+            return Optional.empty();
+        }
+
+        final Optional<ScrapingHintEntity> hint = scrapingHintSpecification.findHint(document, fs);
+        if (hint.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final List<ScrapingKeywordEntity> sortedScrapingKeywordList = scrapingKeywordSpecification.sortedScrapingKeywordList(
+                fs,
+                document,
+                scrapingKeywordList.stream().filter(entity -> fs.getId().equals(entity.getFinancialStatementId())).toList());
+        Optional<Pair<File, ScrapingKeywordEntity>> hintedFile = Optional.empty();
+        for (final ScrapingKeywordEntity scrapingKeyword : sortedScrapingKeywordList) {
+            if (scrapingKeyword.getKeyword().equals(hint.get().getKeyword())) {
+                hintedFile = xbrlScraping
+                        .findFile(targetFile, hint.get().getFilePrefix(), scrapingKeyword.getKeyword())
+                        .map(file -> Pair.of(file, scrapingKeyword));
+                break;
+            }
+            if (!fileIndex.get().findFiles(scrapingKeyword.getKeyword()).isEmpty()) {
+                // 先に試行するキーワードに合致するファイルが存在する
+                break;
             }
         }
-        throw new FundanalyzerFileException("キーワードに合致するファイルが存在しませんでした。");
+        scrapingHintSpecification.recordResult(hintedFile.isPresent());
+        return hintedFile;
     }
 
     /**
-     * スクレイピングするためのキーワードを並び替える
+     * 索引から処理対象のファイルを取得する
+     * <ul>
+     *    <li>優先度の順に試行し、優先度が同じときはこれまでに合致した回数の多いキーワードから試行する<li/>
+     * </>
      *
-     * @param list スクレイピングキーワードリスト
-     * @return スクレイピングキーワードリスト
+     * @param fileIndex           キーワードごとのファイルの索引
+     * @param scrapingKeywordList スクレイピングキーワードリスト
+     * @param fs                  財務諸表種別
+     * @param document            ドキュメント
+     * @return 対象ファイルとそのキーワード
      */
-    List<ScrapingKeywordEntity> sortedScrapingKeywordList(final List<ScrapingKeywordEntity> list) {
-        return list.stream()
-                .sorted(Comparator.comparing(e -> e.getPriority().orElse(99)))
-                .toList();
+    Pair<File, ScrapingKeywordEntity> findTargetFile(
+            final XbrlFileIndex fileIndex,
+            final List<ScrapingKeywordEntity> scrapingKeywordList,
+            final FinancialStatementEnum fs,
+            final Document document) {
+        for (final ScrapingKeywordEntity scrapingKeyword : scrapingKeywordSpecification.sortedScrapingKeywordList(
+                fs,
+                document,
+                scrapingKeywordList.stream().filter(entity -> fs.getId().equals(entity.getFinancialStatementId())).toList())) {
+            final Optional<File> findFile = xbrlScraping.findFile(fileIndex, scrapingKeyword, document);
+
+            if (findFile.isPresent()) {
+                scrapingKeywordSpecification.recordHit(fs, document, scrapingKeyword.getKeyword());
+                return Pair.of(findFile.get(), scrapingKeyword);
+            }
+        }
+        scrapingKeywordSpecification.recordMiss(fs, document);
+        throw new FundanalyzerFileException("キーワードに合致するファイルが存在しませんでした。");
+    }
+
+    private XbrlFileIndex indexFiles(final File targetFile, final List<ScrapingKeywordEntity> scrapingKeywordList) {
+        return xbrlScraping.indexFiles(
+                targetFile,
+                scrapingKeywordList.stream().map(ScrapingKeywordEntity::getKeyword).toList()
+        );
     }
 
     /**
@@ -340,21 +903,52 @@ public class ScrapingInteractor implements ScrapingUseCase {
         }
     }
 
+    /**
+     * スクレイピングを実行して処理ステータスを更新する
+     *
+     * @param fs       財務諸表種別
+     * @param document ドキュメント
+     */
+    private void executeScraping(final FinancialStatementEnum fs, final Document document) {
+        final Company company = companySpecification.findCompanyByEdinetCode(document.getEdinetCode())
+                .orElseThrow(FundanalyzerRuntimeException::new);
+        final File targetDirectory = makeDocumentPath(pathDecode, document.getSubmitDate(), document.getDocumentId());
+
+        final ScrapingResult result;
+        try (XbrlScraping.Session ignored = openSession(document)) {
+            result = doScraping(fs, document, company, targetDirectory, scrapingKeywordDao.selectAll(),
+                    () -> findTargetFile(targetDirectory, fs, document));
+        }
+
+        if (DocumentStatus.DONE == result.status()) {
+            documentSpecification.updateFsToDone(document, fs, result.path());
+        } else {
+            documentSpecification.updateFsToError(document, fs);
+        }
+    }
+
     /**
      * スクレイピングを実行する
+     * <ul>
+     *    <li>スクレイピング結果の保存に使用するキーワードのバージョンは、取得と保存で1回だけ算出する<li/>
+     * </>
      *
-     * @param fs         財務諸表種別
-     * @param document   ドキュメント
-     * @param doScraping 財務諸表別処理実行
+     * @param fs                  財務諸表種別
+     * @param document            ドキュメント
+     * @param company             企業情報
+     * @param targetDirectory     対象フォルダ
+     * @param scrapingKeywordList スクレイピングキーワードリスト
+     * @param targetFileSupplier  対象ファイルとキーワードの取得処理
+     * @return 処理結果
      */
-    private void executeScraping(
+    private ScrapingResult doScraping(
             final FinancialStatementEnum fs,
             final Document document,
-            final BiConsumer<Company, Pair<File, ScrapingKeywordEntity>> doScraping) {
+            final Company company,
+            final File targetDirectory,
+            final List<ScrapingKeywordEntity> scrapingKeywordList,
+            final Supplier<Pair<File, ScrapingKeywordEntity>> targetFileSupplier) {
         final long startTime = System.currentTimeMillis();
-        final Company company = companySpecification.findCompanyByEdinetCode(document.getEdinetCode())
-                .orElseThrow(FundanalyzerRuntimeException::new);
-        final File targetDirectory = makeDocumentPath(pathDecode, document.getSubmitDate(), document.getDocumentId());
 
         log.info(FundanalyzerLogClient.toInteractorLogObject(
                 MessageFormat.format("[{0}] のスクレイピング処理を開始します。\tパス:{1}",
@@ -367,9 +961,36 @@ public class ScrapingInteractor implements ScrapingUseCase {
         ));
 
         try {
-            final Pair<File, ScrapingKeywordEntity> targetFile = findTargetFile(targetDirectory, fs, document);
+            final Pair<File, ScrapingKeywordEntity> targetFile;
+            final ScrapingResultBean result;
+            final String keywordVersion = resultCacheEnabled
+                    ? scrapingResultCacheSpecification.keywordVersion(fs, scrapingKeywordList) : null;
+            final Optional<CachedScrapingResult> cache = findResultCache(document, fs, scrapingKeywordList, keywordVersion);
+            if (cache.isPresent()) {
+                targetFile = cache.get().targetFile();
+                result = cache.get().result();
+                log.info(FundanalyzerLogClient.toInteractorLogObject(
+                        MessageFormat.format(
+                                "ファイルの内容が変わっていないため、保存済みのスクレイピング結果を使用します。\t財務諸表名:{0}\tファイル名:{1}",
+                                fs.getName(),
+                                targetFile.getFirst().getPath()
+                        ),
+                        document,
+                        Category.SCRAPING,
+                        Process.of(fs)
+                ));
+            } else {
+                targetFile = targetFileSupplier.get();
+                result = extract(fs, targetFile);
+                saveResultCache(document, fs, targetFile, keywordVersion, result);
+            }
 
-            doScraping.accept(company, targetFile);
+            switch (fs) {
+                case BALANCE_SHEET -> scrapeBs(company, document, targetFile, result);
+                case PROFIT_AND_LESS_STATEMENT -> scrapePl(company, document, targetFile, result);
+                case TOTAL_NUMBER_OF_SHARES -> scrapeNs(company, document, result);
+                default -> throw new FundanalyzerRuntimeException();
+            }
 
             log.info(FundanalyzerLogClient.toInteractorLogObject(
                     MessageFormat.format(
@@ -386,9 +1007,8 @@ public class ScrapingInteractor implements ScrapingUseCase {
                     System.currentTimeMillis() - startTime
             ));
 
-            documentSpecification.updateFsToDone(document, fs, targetFile.getFirst().getPath());
+            return ScrapingResult.ofDone(fs, targetFile.getFirst().getPath());
         } catch (final FundanalyzerFileException e) {
-            documentSpecification.updateFsToError(document, fs);
             log.info(FundanalyzerLogClient.toInteractorLogObject(
                     MessageFormat.format(
                             "スクレイピング処理の過程でエラー発生しました。キーワードに合致するファイルが存在しませんでした。" +
@@ -402,8 +1022,8 @@ public class ScrapingInteractor implements ScrapingUseCase {
                     Process.of(fs),
                     System.currentTimeMillis() - startTime
             ), e);
+            return ScrapingResult.ofError(fs);
         } catch (final FundanalyzerScrapingException | FundanalyzerBadDataException | FundanalyzerNotExistException e) {
-            documentSpecification.updateFsToError(document, fs);
             log.warn(FundanalyzerLogClient.toInteractorLogObject(
                     MessageFormat.format(
                             "スクレイピング処理の過程でエラー発生しました。スタックトレースを参考に原因を確認してください。" +
@@ -417,6 +1037,7 @@ public class ScrapingInteractor implements ScrapingUseCase {
                     Process.of(fs),
                     System.currentTimeMillis() - startTime
             ), e);
+            return ScrapingResult.ofError(fs);
         }
     }
 
@@ -427,8 +1048,8 @@ public class ScrapingInteractor implements ScrapingUseCase {
      * @param unit  単位
      * @return 値
      */
-    private Optional<Long> parseValue(final String value, final Unit unit, final Document document) {
-        return parseValue(value, document).map(l -> l * unit.getValue());
+    Optional<Long> parseValue(final String value, final Unit unit, final Document document) {
+        return parseValue(value, unit.getValue(), document);
     }
 
     /**
@@ -437,40 +1058,24 @@ public class ScrapingInteractor implements ScrapingUseCase {
      * @param value 数値
      * @return 値
      */
-    private Optional<Long> parseValue(final String value, final Document document) {
+    Optional<Long> parseValue(final String value, final Document document) {
+        return parseValue(value, 1L, document);
+    }
+
+    /**
+     * 数値を解析して単位を乗じる
+     *
+     * @param value      数値
+     * @param multiplier 単位
+     * @return 値
+     */
+    private Optional<Long> parseValue(final String value, final long multiplier, final Document document) {
+        if (value.isBlank() || NO_BREAK_SPACE.equals(value)) {
+            return Optional.empty();
+        }
+
         try {
-            return Optional.of(value)
-                    .filter(v -> !v.isBlank())
-                    .filter(v -> !" ".equals(v))
-                    .map(s -> Long.parseLong(s
-                            .replace("※ ", "")
-                            .replace("※1", "").replace("※１", "")
-                            .replace("※2", "").replace("※２", "")
-                            .replace("※3", "").replace("※３", "")
-                            .replace("※4", "").replace("※４", "")
-                            .replace("※5", "").replace("※５", "")
-                            .replace("※6", "").replace("※６", "")
-                            .replace("※7", "").replace("※７", "")
-                            .replace("※8", "").replace("※８", "")
-                            .replace("※9", "").replace("※９", "")
-                            .replace("※10", "").replace("※11", "")
-                            .replace("※12", "").replace("※13", "")
-                            .replace("※14", "").replace("※15", "")
-                            .replace("※16", "").replace("※17", "")
-                            .replace("注1", "").replace("注１", "")
-                            .replace("注2", "").replace("注２", "")
-                            .replace("注3", "").replace("注３", "")
-                            .replace("注4", "").replace("注４", "")
-                            .replace("注5", "").replace("注５", "")
-                            .replace("*1", "").replace("*2", "")
-                            .replace("株", "")
-                            .replace("－", "0").replace("―", "0")
-                            .replace("-", "0")
-                            .replace(" ", "").replace(" ", "")
-                            .replace(",", "")
-                            .replace("　", "")
-                            .replace("△", "-")
-                    ));
+            return Optional.of(NumberNormalizer.parseLong(value, multiplier));
         } catch (NumberFormatException e) {
             log.warn(FundanalyzerLogClient.toInteractorLogObject(
                     MessageFormat.format(
@@ -519,4 +1124,51 @@ public class ScrapingInteractor implements ScrapingUseCase {
     private File makeDocumentPath(final String prePath, final LocalDate targetDate, final String docId) {
         return new File(String.format("%s/%d/%s/%s/%s/XBRL/PublicDoc", prePath, targetDate.getYear(), targetDate.getMonth(), targetDate, docId));
     }
+
+    /**
+     * 1つの書類の財務諸表の値の登録
+     * <ul>
+     *    <li>まとめて登録するときは値を溜めておき、{@link #flush()} で1回のバッチで登録する<li/>
+     *    <li>まとめて登録しないときは値ごとに登録する<li/>
+     * </>
+     */
+    private final class FinancialStatementWriter {
+
+        private final Company company;
+        private final FinancialStatementEnum fs;
+        private final Document document;
+        private final List<FinancialStatementValue> valueList = new ArrayList<>();
+
+        private FinancialStatementWriter(final Company company, final FinancialStatementEnum fs, final Document document) {
+            this.company = company;
+            this.fs = fs;
+            this.document = document;
+        }
+
+        void insert(final String subjectId, final Long value) {
+            if (batchInsertEnabled) {
+                valueList.add(FinancialStatementValue.of(subjectId, value, CreatedType.AUTO));
+            } else {
+                financialStatementSpecification.insert(company, fs, subjectId, document, value, CreatedType.AUTO);
+            }
+        }
+
+        void insertPreviousPeriod(final String subjectId, final Long value) {
+            if (batchInsertEnabled) {
+                valueList.add(FinancialStatementValue.ofPreviousPeriod(subjectId, value));
+            } else {
+                financialStatementSpecification.insertPreviousPeriod(company, fs, subjectId, document, value);
+            }
+        }
+
+        void flush() {
+            if (!valueList.isEmpty()) {
+                financialStatementSpecification.insert(company, fs, document, List.copyOf(valueList));
+                valueList.clear();
+            }
+        }
+    }
+
+    private record CachedScrapingResult(Pair<File, ScrapingKeywordEntity> targetFile, ScrapingResultBean result) {
+    }
 }
@@ -9,6 +9,7 @@ import github.com.ioridazo.fundanalyzer.domain.domain.specification.CompanySpeci
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.DocumentSpecification;
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.StockSpecification;
 import github.com.ioridazo.fundanalyzer.domain.usecase.StockUseCase;
+import github.com.ioridazo.fundanalyzer.domain.util.ParallelExecution;
 import github.com.ioridazo.fundanalyzer.domain.value.Company;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerCircuitBreakerRecordException;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerRateLimiterException;
@@ -19,6 +20,7 @@ import github.com.ioridazo.fundanalyzer.web.model.CodeInputData;
 import github.com.ioridazo.fundanalyzer.web.model.DateInputData;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -28,6 +30,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 @Component
 public class StockInteractor implements StockUseCase {
@@ -38,6 +41,7 @@ public class StockInteractor implements StockUseCase {
     private final DocumentSpecification documentSpecification;
     private final StockSpecification stockSpecification;
     private final JsoupClient jsoupClient;
+    private final Executor stockExecutor;
 
     @Value("${app.config.stock.nikkei.enabled}")
     boolean isNikkei;
@@ -54,11 +58,13 @@ public class StockInteractor implements StockUseCase {
             final CompanySpecification companySpecification,
             final DocumentSpecification documentSpecification,
             final StockSpecification stockSpecification,
-            final JsoupClient jsoupClient) {
+            final JsoupClient jsoupClient,
+            @Qualifier("stockExecutor") final Executor stockExecutor) {
         this.companySpecification = companySpecification;
         this.documentSpecification = documentSpecification;
         this.stockSpecification = stockSpecification;
         this.jsoupClient = jsoupClient;
+        this.stockExecutor = stockExecutor;
     }
 
     LocalDate nowLocalDate() {
@@ -84,7 +90,7 @@ public class StockInteractor implements StockUseCase {
 
         try {
             if (inputDataList.size() > 10) {
-                inputDataList.parallelStream().forEach(code -> importStockPrice(code, place));
+                ParallelExecution.forEach(inputDataList, code -> importStockPrice(code, place), stockExecutor);
             } else {
                 inputDataList.forEach(code -> importStockPrice(code, place));
             }
@@ -14,6 +14,7 @@ import github.com.ioridazo.fundanalyzer.domain.domain.specification.InvestmentIn
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.StockSpecification;
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.ViewSpecification;
 import github.com.ioridazo.fundanalyzer.domain.usecase.ViewCorporateUseCase;
+import github.com.ioridazo.fundanalyzer.domain.util.ParallelExecution;
 import github.com.ioridazo.fundanalyzer.domain.value.AnalysisResult;
 import github.com.ioridazo.fundanalyzer.domain.value.Company;
 import github.com.ioridazo.fundanalyzer.domain.value.Document;
@@ -34,6 +35,7 @@ import github.com.ioridazo.fundanalyzer.web.view.model.corporate.detail.MinkabuV
 import github.com.ioridazo.fundanalyzer.web.view.model.corporate.detail.StockPriceViewModel;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -46,6 +48,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 @Component
@@ -62,6 +65,7 @@ public class ViewCorporateInteractor implements ViewCorporateUseCase {
     private final InvestmentIndicatorSpecification investmentIndicatorSpecification;
     private final ViewSpecification viewSpecification;
     private final SlackClient slackClient;
+    private final Executor viewExecutor;
 
     @Value("${app.config.view.discount-rate}")
     BigDecimal configDiscountRate;
@@ -87,7 +91,8 @@ public class ViewCorporateInteractor implements ViewCorporateUseCase {
             final StockSpecification stockSpecification,
             final InvestmentIndicatorSpecification investmentIndicatorSpecification,
             final ViewSpecification viewSpecification,
-            final SlackClient slackClient) {
+            final SlackClient slackClient,
+            @Qualifier("viewExecutor") final Executor viewExecutor) {
         this.analyzeInteractor = analyzeInteractor;
         this.companySpecification = companySpecification;
         this.documentSpecification = documentSpecification;
@@ -97,6 +102,7 @@ public class ViewCorporateInteractor implements ViewCorporateUseCase {
         this.investmentIndicatorSpecification = investmentIndicatorSpecification;
         this.viewSpecification = viewSpecification;
         this.slackClient = slackClient;
+        this.viewExecutor = viewExecutor;
     }
 
     LocalDate nowLocalDate() {
@@ -391,7 +397,7 @@ public class ViewCorporateInteractor implements ViewCorporateUseCase {
         });
 
         if (viewList.size() > 10) {
-            viewList.parallelStream().forEach(viewSpecification::upsert);
+            ParallelExecution.forEach(viewList, viewSpecification::upsert, viewExecutor);
         } else {
             viewList.forEach(viewSpecification::upsert);
         }
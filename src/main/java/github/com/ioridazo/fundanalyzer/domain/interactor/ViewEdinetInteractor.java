@@ -9,6 +9,7 @@ import github.com.ioridazo.fundanalyzer.domain.domain.specification.DocumentSpec
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.FinancialStatementSpecification;
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.ViewSpecification;
 import github.com.ioridazo.fundanalyzer.domain.usecase.ViewEdinetUseCase;
+import github.com.ioridazo.fundanalyzer.domain.util.ParallelExecution;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerRuntimeException;
 import github.com.ioridazo.fundanalyzer.web.model.DateInputData;
 import github.com.ioridazo.fundanalyzer.web.view.model.edinet.EdinetListViewModel;
@@ -16,6 +17,7 @@ import github.com.ioridazo.fundanalyzer.web.view.model.edinet.detail.DocumentVie
 import github.com.ioridazo.fundanalyzer.web.view.model.edinet.detail.EdinetDetailViewModel;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -23,6 +25,7 @@ import java.text.MessageFormat;
 import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 @Component
 public class ViewEdinetInteractor implements ViewEdinetUseCase {
@@ -34,6 +37,7 @@ public class ViewEdinetInteractor implements ViewEdinetUseCase {
     private final FinancialStatementSpecification financialStatementSpecification;
     private final ViewSpecification viewSpecification;
     private final SlackClient slackClient;
+    private final Executor viewExecutor;
 
     @Value("${app.config.view.edinet-list.size}")
     int edinetListSize;
@@ -45,12 +49,14 @@ public class ViewEdinetInteractor implements ViewEdinetUseCase {
             final DocumentSpecification documentSpecification,
             final FinancialStatementSpecification financialStatementSpecification,
             final ViewSpecification viewSpecification,
-            final SlackClient slackClient) {
+            final SlackClient slackClient,
+            @Qualifier("viewExecutor") final Executor viewExecutor) {
         this.companySpecification = companySpecification;
         this.documentSpecification = documentSpecification;
         this.financialStatementSpecification = financialStatementSpecification;
         this.viewSpecification = viewSpecification;
         this.slackClient = slackClient;
+        this.viewExecutor = viewExecutor;
     }
 
     LocalDate nowLocalDate() {
@@ -117,7 +123,7 @@ public class ViewEdinetInteractor implements ViewEdinetUseCase {
                 .map(viewSpecification::generateEdinetListView)
                 .toList();
 
-        viewModelList.parallelStream().forEach(viewSpecification::upsert);
+        ParallelExecution.forEach(viewModelList, viewSpecification::upsert, viewExecutor);
 
         if (updateViewEnabled) {
             slackClient.sendMessage("g.c.i.f.domain.service.ViewService.display.update.complete.edinet.list");
@@ -1,5 +1,6 @@
 package github.com.ioridazo.fundanalyzer.domain.usecase;
 
+import github.com.ioridazo.fundanalyzer.domain.value.CompanyIndexConsistency;
 import github.com.ioridazo.fundanalyzer.web.model.CodeInputData;
 import io.micrometer.observation.annotation.Observed;
 
@@ -57,4 +58,22 @@ public interface CompanyUseCase {
      */
     @Observed
     void updateRemovedCompany(CodeInputData inputData);
+
+    /**
+     * 企業情報の索引とデータベースの一致確認
+     *
+     * @return 確認結果
+     */
+    @Observed
+    CompanyIndexConsistency checkIndexConsistency();
+
+    /**
+     * 企業情報の索引の再読み込み
+     * ↓
+     * 企業情報の索引とデータベースの一致確認
+     *
+     * @return 確認結果
+     */
+    @Observed
+    CompanyIndexConsistency reloadIndex();
 }
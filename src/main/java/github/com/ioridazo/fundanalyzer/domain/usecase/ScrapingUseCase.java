@@ -1,8 +1,12 @@
 package github.com.ioridazo.fundanalyzer.domain.usecase;
 
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEnum;
 import github.com.ioridazo.fundanalyzer.domain.value.Document;
+import github.com.ioridazo.fundanalyzer.domain.value.ScrapingKeywordStatistic;
 import io.micrometer.observation.annotation.Observed;
 
+import java.util.List;
+
 public interface ScrapingUseCase {
 
     /**
@@ -38,4 +42,28 @@ public interface ScrapingUseCase {
      */
     @Observed
     void ns(Document document);
+
+    /**
+     * 財務諸表スクレイピング
+     * ↓
+     * 処理ステータス一括更新
+     *
+     * @param document ドキュメント
+     * @param fsList   財務諸表種別リスト
+     */
+    @Observed
+    void scrape(Document document, List<FinancialStatementEnum> fsList);
+
+    /**
+     * スクレイピングキーワードの合致実績取得
+     *
+     * @return 合致実績のリスト
+     */
+    List<ScrapingKeywordStatistic> findKeywordStatistics();
+
+    /**
+     * 科目の辞書の再読み込み
+     */
+    @Observed
+    void reloadSubject();
 }
@@ -0,0 +1,129 @@
+package github.com.ioridazo.fundanalyzer.domain.util;
+
+/**
+ * 財務諸表に記載された数値の文字列を1回の走査で数値にする
+ * <ul>
+ *    <li>文字列を置換して生成し直さずに、1文字ずつ読み進めながら値を組み立てる<li/>
+ *    <li>注記記号（※1、注1、*1など）・"株"・カンマ・空白は読み飛ばし、"－"は0、"△"は負号として扱う<li/>
+ * </>
+ */
+public final class NumberNormalizer {
+
+    private static final char NOTE = '※';
+    private static final char ANNOTATION = '注';
+    private static final char ASTERISK = '*';
+    private static final char SHARE = '株';
+    private static final char TRIANGLE = '△';
+    private static final char PLUS = '+';
+    private static final char NO_BREAK_SPACE = '\u00A0';
+    private static final char IDEOGRAPHIC_SPACE = '\u3000';
+
+    private NumberNormalizer() {
+    }
+
+    /**
+     * 数値の文字列を解析し、単位を乗じた値にする
+     *
+     * @param value      数値の文字列
+     * @param multiplier 単位
+     * @return 値
+     * @throws NumberFormatException 数値として認識できなかったとき
+     */
+    public static long parseLong(final CharSequence value, final long multiplier) {
+        try {
+            return Math.multiplyExact(parseLong(value), multiplier);
+        } catch (final ArithmeticException e) {
+            throw new NumberFormatException("value is out of range: " + value);
+        }
+    }
+
+    /**
+     * 数値の文字列を解析する
+     *
+     * @param value 数値の文字列
+     * @return 値
+     * @throws NumberFormatException 数値として認識できなかったとき
+     */
+    public static long parseLong(final CharSequence value) {
+        final int length = value.length();
+        // Long#parseLong と同じく負の値で積み上げてオーバーフローを判定する
+        long result = 0;
+        boolean negative = false;
+        boolean signed = false;
+        int digits = 0;
+        long limit = -Long.MAX_VALUE;
+
+        int i = 0;
+        while (i < length) {
+            final char c = value.charAt(i);
+            final char next = i + 1 < length ? value.charAt(i + 1) : 0;
+
+            switch (c) {
+                case NOTE -> {
+                    if (next == ' ' || isDigitBetween(next, 1, 9)) {
+                        i += 2;
+                        continue;
+                    }
+                    throw numberFormatException(value);
+                }
+                case ANNOTATION -> {
+                    if (isDigitBetween(next, 1, 5)) {
+                        i += 2;
+                        continue;
+                    }
+                    throw numberFormatException(value);
+                }
+                case ASTERISK -> {
+                    if (next == '1' || next == '2') {
+                        i += 2;
+                        continue;
+                    }
+                    throw numberFormatException(value);
+                }
+                case SHARE, ' ', NO_BREAK_SPACE, ',', IDEOGRAPHIC_SPACE -> {
+                    i++;
+                    continue;
+                }
+                case TRIANGLE, PLUS -> {
+                    // 符号は先頭のみ許容する
+                    if (signed || digits > 0) {
+                        throw numberFormatException(value);
+                    }
+                    signed = true;
+                    negative = c == TRIANGLE;
+                    limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+                    i++;
+                    continue;
+                }
+                default -> {
+                    // "－"などは0として扱う
+                }
+            }
+
+            final int digit = c == '－' || c == '―' || c == '-' ? 0 : Character.digit(c, 10);
+            if (digit < 0 || result < limit / 10) {
+                throw numberFormatException(value);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw numberFormatException(value);
+            }
+            result -= digit;
+            digits++;
+            i++;
+        }
+
+        if (digits == 0) {
+            throw numberFormatException(value);
+        }
+        return negative ? result : -result;
+    }
+
+    private static boolean isDigitBetween(final char c, final int from, final int to) {
+        return (c >= '0' + from && c <= '0' + to) || (c >= '０' + from && c <= '０' + to);
+    }
+
+    private static NumberFormatException numberFormatException(final CharSequence value) {
+        return new NumberFormatException("For input string: \"" + value + "\"");
+    }
+}
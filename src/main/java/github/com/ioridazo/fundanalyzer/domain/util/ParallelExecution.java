@@ -0,0 +1,89 @@
+package github.com.ioridazo.fundanalyzer.domain.util;
+
+import github.com.ioridazo.fundanalyzer.exception.FundanalyzerShortCircuitException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 指定したスレッドプールで要素ごとの処理を並行して実行する
+ * <ul>
+ *    <li>共通のForkJoinPoolを使用せず、処理ごとに用意したスレッドプールで実行する<li/>
+ *    <li>すべての要素の処理が終わるまで待機し、例外が発生したときは最初の例外をそのまま送出する<li/>
+ *    <li>{@link FundanalyzerShortCircuitException} が発生したときは、残りの要素を処理せずにすぐに送出する<li/>
+ * </>
+ */
+public final class ParallelExecution {
+
+    private ParallelExecution() {
+    }
+
+    /**
+     * すべての要素を並行して処理する
+     * <ul>
+     *    <li>サーキットブレーカーがオープンしたときは、以降の要素の投入をやめ、開始前の処理を取り消す<li/>
+     * </>
+     *
+     * @param elements 要素
+     * @param action   要素ごとの処理
+     * @param executor 処理を実行するスレッドプール
+     * @param <T>      要素の型
+     */
+    public static <T> void forEach(final Collection<T> elements, final Consumer<? super T> action, final Executor executor) {
+        final AtomicReference<FundanalyzerShortCircuitException> shortCircuit = new AtomicReference<>();
+        final CompletableFuture<Void> stopped = new CompletableFuture<>();
+
+        final List<CompletableFuture<Void>> futureList = new ArrayList<>();
+        for (final T element : elements) {
+            if (stopped.isDone()) {
+                break;
+            }
+            futureList.add(CompletableFuture.runAsync(() -> {
+                if (stopped.isDone()) {
+                    // 開始前に取り消された処理
+                    return;
+                }
+                try {
+                    action.accept(element);
+                } catch (final FundanalyzerShortCircuitException e) {
+                    shortCircuit.compareAndSet(null, e);
+                    stopped.complete(null);
+                    throw e;
+                }
+            }, executor));
+        }
+
+        try {
+            CompletableFuture.anyOf(stopped, CompletableFuture.allOf(futureList.toArray(CompletableFuture[]::new))).join();
+        } catch (final CompletionException ignored) {
+            // 要素ごとの例外は以下で確認する
+        }
+
+        if (stopped.isDone()) {
+            futureList.forEach(future -> future.cancel(false));
+            throw shortCircuit.get();
+        }
+
+        RuntimeException exception = null;
+        for (final CompletableFuture<Void> future : futureList) {
+            try {
+                future.join();
+            } catch (final CompletionException e) {
+                if (Objects.isNull(exception)) {
+                    exception = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+
+        if (Objects.nonNull(exception)) {
+            throw exception;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package github.com.ioridazo.fundanalyzer.domain.util;
+
+import github.com.ioridazo.fundanalyzer.exception.FundanalyzerRuntimeException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 段階ごとにスレッドプールを分けて要素を処理するパイプライン
+ * <ul>
+ *    <li>各要素を段階の順に処理し、段階ごとに別のスレッドプールで実行する<li/>
+ *    <li>段階ごとに受け付ける件数をキューの容量までに制限し、後段が埋まっているときは前段のスレッドを待たせる<li/>
+ *    <li>受け付けた件数が処理を終えるまでキューの容量を超えないため、スレッドプールに拒否されることはない<li/>
+ *    <li>ある段階で例外が発生した要素は後段に進めず、ほかの要素の処理は継続する<li/>
+ *    <li>段階ごとのキューの待ち件数と処理時間をメトリクスとして公開する<li/>
+ * </>
+ *
+ * @param <T> 要素の型
+ */
+public class StagedPipeline<T> {
+
+    private static final String METRIC_NAME = "fundanalyzer.pipeline";
+
+    private final List<Runner> runnerList;
+
+    public StagedPipeline(final String name, final List<Stage<T>> stageList, final MeterRegistry meterRegistry) {
+        final List<Runner> list = new ArrayList<>();
+        for (final Stage<T> stage : stageList) {
+            final int capacity = stage.executor().getQueue().remainingCapacity();
+            if (capacity < 1) {
+                throw new FundanalyzerRuntimeException(MessageFormat.format(
+                        "キューの容量がないスレッドプールはパイプラインの段階に使用できません。\t段階:{0}", stage.name()));
+            }
+            Gauge.builder(METRIC_NAME + ".queue", stage.executor(), executor -> executor.getQueue().size())
+                    .description("段階ごとのキューで待機している件数")
+                    .tags("pipeline", name, "stage", stage.name())
+                    .register(meterRegistry);
+            list.add(new Runner(
+                    stage,
+                    new Semaphore(capacity),
+                    Timer.builder(METRIC_NAME + ".service")
+                            .description("段階ごとの処理時間")
+                            .tags("pipeline", name, "stage", stage.name())
+                            .register(meterRegistry)
+            ));
+        }
+        this.runnerList = List.copyOf(list);
+    }
+
+    /**
+     * すべての要素を処理する
+     * <ul>
+     *    <li>すべての要素が最後の段階を終えるか、例外によって中断されるまで待機する<li/>
+     * </>
+     *
+     * @param elements     要素
+     * @param errorHandler 例外が発生したときの処理（要素と例外）
+     */
+    public void process(final Collection<T> elements, final BiConsumer<T, RuntimeException> errorHandler) {
+        if (elements.isEmpty()) {
+            return;
+        }
+
+        final Job job = new Job(new CountDownLatch(elements.size()), errorHandler);
+        elements.forEach(element -> submit(0, element, job));
+
+        try {
+            job.latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FundanalyzerRuntimeException("パイプラインの処理の完了を待機中に割り込みが発生しました。", e);
+        }
+    }
+
+    /**
+     * 要素を段階に投入する
+     * <ul>
+     *    <li>段階の受け付ける件数に空きがないときは、空くまで呼び出し元のスレッドを待たせる<li/>
+     *    <li>受け付けた枠は段階の処理が終わるまで保持し、処理の終了時に解放する<li/>
+     *    <li>スレッドプールに拒否されたときは、その要素の例外として扱う<li/>
+     * </>
+     *
+     * @param index   段階
+     * @param element 要素
+     * @param job     処理
+     */
+    private void submit(final int index, final T element, final Job job) {
+        final Runner runner = runnerList.get(index);
+        final ThreadPoolExecutor executor = runner.stage.executor();
+        runner.permits.acquireUninterruptibly();
+        try {
+            executor.execute(() -> {
+                try {
+                    run(index, element, job);
+                } finally {
+                    runner.permits.release();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            runner.permits.release();
+            job.fail(element, e);
+        }
+    }
+
+    /**
+     * 段階の処理を実行して、後段に投入する
+     * <ul>
+     *    <li>後段に投入できるまでこの段階の枠を解放しないため、後段の詰まりが前段に伝わる<li/>
+     *    <li>この段階の枠は {@link #submit(int, Object, Job)} で投入したタスクの終了時に解放する<li/>
+     * </>
+     *
+     * @param index   段階
+     * @param element 要素
+     * @param job     処理
+     */
+    private void run(final int index, final T element, final Job job) {
+        final Runner runner = runnerList.get(index);
+        try {
+            runner.serviceTimer.record(() -> runner.stage.action().accept(element));
+        } catch (final RuntimeException e) {
+            job.fail(element, e);
+            return;
+        } catch (final Error e) {
+            job.abandon();
+            throw e;
+        }
+
+        if (index + 1 < runnerList.size()) {
+            submit(index + 1, element, job);
+        } else {
+            job.complete();
+        }
+    }
+
+    /**
+     * パイプラインの段階
+     *
+     * @param name     段階の名前
+     * @param executor 段階を実行するスレッドプール
+     * @param action   段階の処理
+     * @param <T>      要素の型
+     */
+    public record Stage<T>(String name, ThreadPoolExecutor executor, Consumer<T> action) {
+    }
+
+    private final class Runner {
+
+        private final Stage<T> stage;
+
+        private final Semaphore permits;
+
+        private final Timer serviceTimer;
+
+        private Runner(final Stage<T> stage, final Semaphore permits, final Timer serviceTimer) {
+            this.stage = stage;
+            this.permits = permits;
+            this.serviceTimer = serviceTimer;
+        }
+    }
+
+    private final class Job {
+
+        private final CountDownLatch latch;
+
+        private final BiConsumer<T, RuntimeException> errorHandler;
+
+        Job(final CountDownLatch latch, final BiConsumer<T, RuntimeException> errorHandler) {
+            this.latch = latch;
+            this.errorHandler = errorHandler;
+        }
+
+        void complete() {
+            latch.countDown();
+        }
+
+        // 想定外のエラーのときは、待機し続けないように完了として扱う
+        void abandon() {
+            latch.countDown();
+        }
+
+        void fail(final T element, final RuntimeException e) {
+            try {
+                errorHandler.accept(element, e);
+            } finally {
+                latch.countDown();
+            }
+        }
+    }
+}
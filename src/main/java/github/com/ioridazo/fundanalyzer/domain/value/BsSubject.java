@@ -5,6 +5,7 @@ import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.Subject;
 import lombok.AllArgsConstructor;
 
 import java.util.Arrays;
+import java.util.List;
 
 @AllArgsConstructor
 public class BsSubject extends Subject {
@@ -54,7 +55,7 @@ public class BsSubject extends Subject {
 //    ("前払費用"),
 //    ("その他"),
 //    ("貸倒引当金"),
-        TOTAL_CURRENT_ASSETS("1", "流動資産合計"),
+        TOTAL_CURRENT_ASSETS("1", "流動資産合計", "jppfs_cor:CurrentAssets"),
         //    BUILDINGS("建物"),
 //    ("減価償却累計額"),
 //    ("建物（純額）"),
@@ -98,11 +99,11 @@ public class BsSubject extends Subject {
 //    ("敷金及び保証金"),
 //    ("信託差入敷金及び保証金"),
 //    ("長期前払費用"),
-        TOTAL_INVESTMENTS_AND_OTHER_ASSETS("4", "投資その他の資産合計"),
+        TOTAL_INVESTMENTS_AND_OTHER_ASSETS("4", "投資その他の資産合計", "jppfs_cor:InvestmentsAndOtherAssets"),
         //    ("固定資産合計"),
 //    ("投資法人債発行費"),
 //    ("繰延資産合計"),
-        TOTAL_ASSETS("7", "資産合計"),
+        TOTAL_ASSETS("7", "資産合計", "jppfs_cor:Assets"),
         //    ("営業未払金"),
 //    ("短期借入金"),
 //    ("1年内返済予定の長期借入金"),
@@ -113,30 +114,33 @@ public class BsSubject extends Subject {
 //    ("未払消費税等"),
 //    ("前受金"),
 //    ("その他"),
-        TOTAL_CURRENT_LIABILITIES("8", "流動負債合計"),
+        TOTAL_CURRENT_LIABILITIES("8", "流動負債合計", "jppfs_cor:CurrentLiabilities"),
         //    ("投資法人債"),
 //    ("長期借入金"),
 //    ("預り敷金及び保証金"),
 //    ("資産除去債務"),
-        TOTAL_FIXED_LIABILITIES("9", "固定負債合計"),
-        TOTAL_LIABILITIES("10", "負債合計"),
+        TOTAL_FIXED_LIABILITIES("9", "固定負債合計", "jppfs_cor:NoncurrentLiabilities"),
+        TOTAL_LIABILITIES("10", "負債合計", "jppfs_cor:Liabilities"),
         //    ("出資総額"),
 //    ("圧縮積立金"),
 //    ("任意積立金合計"),
 //    ("当期未処分利益又は当期未処理損失（△）"),
 //    ("剰余金合計"),
 //    ("投資主資本合計"),
-        SUBSCRIPTION_WARRANT("16", "新株予約権"),
-        TOTAL_NET_ASSETS("14", "純資産合計"),
+        SUBSCRIPTION_WARRANT("16", "新株予約権", "jppfs_cor:SubscriptionRightsToShares"),
+        TOTAL_NET_ASSETS("14", "純資産合計", "jppfs_cor:NetAssets"),
 //    ("負債純資産合計"),
         ;
 
         private final String outlineSubjectId;
         private final String subject;
+        // XBRLの要素名（優先順）
+        private final List<String> elementNameList;
 
-        BsEnum(final String outlineSubjectId, final String subject) {
+        BsEnum(final String outlineSubjectId, final String subject, final String... elementNames) {
             this.outlineSubjectId = outlineSubjectId;
             this.subject = subject;
+            this.elementNameList = List.of(elementNames);
         }
 
         public static BsEnum fromValue(final String subject) {
@@ -153,5 +157,9 @@ public class BsSubject extends Subject {
         public String getSubject() {
             return this.subject;
         }
+
+        public List<String> getElementNameList() {
+            return this.elementNameList;
+        }
     }
 }
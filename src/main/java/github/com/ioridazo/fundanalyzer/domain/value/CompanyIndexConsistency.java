@@ -0,0 +1,43 @@
+package github.com.ioridazo.fundanalyzer.domain.value;
+
+import java.util.List;
+
+/**
+ * @param indexedCount  索引に含まれる企業数
+ * @param databaseCount データベースに登録されている企業数
+ * @param missing       データベースにあって索引にない企業のEDINETコード
+ * @param stale         索引とデータベースで内容が異なる企業のEDINETコード
+ * @param orphaned      索引にあってデータベースにない企業のEDINETコード
+ * @param consistent    索引とデータベースが一致しているか
+ */
+public record CompanyIndexConsistency(
+
+        int indexedCount,
+
+        int databaseCount,
+
+        List<String> missing,
+
+        List<String> stale,
+
+        List<String> orphaned,
+
+        boolean consistent
+) {
+
+    public static CompanyIndexConsistency of(
+            final int indexedCount,
+            final int databaseCount,
+            final List<String> missing,
+            final List<String> stale,
+            final List<String> orphaned) {
+        return new CompanyIndexConsistency(
+                indexedCount,
+                databaseCount,
+                missing,
+                stale,
+                orphaned,
+                missing.isEmpty() && stale.isEmpty() && orphaned.isEmpty()
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package github.com.ioridazo.fundanalyzer.domain.value;
+
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.CreatedType;
+
+/**
+ * @param subjectId      科目ID
+ * @param value          値
+ * @param createdType    登録方法
+ * @param previousPeriod 書類に記載された前期の値であるか
+ */
+public record FinancialStatementValue(
+
+        String subjectId,
+
+        Long value,
+
+        CreatedType createdType,
+
+        boolean previousPeriod
+) {
+
+    public static FinancialStatementValue of(final String subjectId, final Long value, final CreatedType createdType) {
+        return new FinancialStatementValue(subjectId, value, createdType, false);
+    }
+
+    public static FinancialStatementValue ofPreviousPeriod(final String subjectId, final Long value) {
+        return new FinancialStatementValue(subjectId, value, CreatedType.AUTO, true);
+    }
+}
@@ -0,0 +1,55 @@
+package github.com.ioridazo.fundanalyzer.domain.value;
+
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEntity;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEnum;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 書類ごとの財務諸表の値
+ * <ul>
+ *    <li>複数の書類の値をまとめて読み込み、書類ID・財務諸表ID・科目IDごとに保持する<li/>
+ *    <li>生成後は変更しないため、複数のスレッドから参照できる<li/>
+ * </>
+ */
+public final class FinancialStatementValueMap {
+
+    private final Map<Key, FinancialStatementEntity> entityMap;
+
+    private FinancialStatementValueMap(final Map<Key, FinancialStatementEntity> entityMap) {
+        this.entityMap = entityMap;
+    }
+
+    public static FinancialStatementValueMap of(final List<FinancialStatementEntity> entityList) {
+        return new FinancialStatementValueMap(Map.copyOf(entityList.stream()
+                .collect(Collectors.toMap(Key::of, Function.identity(), (first, second) -> first))));
+    }
+
+    /**
+     * 値を取得する
+     *
+     * @param documentId 書類ID
+     * @param fs         財務諸表種別
+     * @param subjectId  科目ID
+     * @return 値
+     */
+    public Optional<Long> findValue(final String documentId, final FinancialStatementEnum fs, final String subjectId) {
+        return Optional.ofNullable(entityMap.get(new Key(documentId, fs.getId(), subjectId)))
+                .flatMap(FinancialStatementEntity::getValue);
+    }
+
+    public int size() {
+        return entityMap.size();
+    }
+
+    private record Key(String documentId, String financialStatementId, String subjectId) {
+
+        static Key of(final FinancialStatementEntity entity) {
+            return new Key(entity.getDocumentId(), entity.getFinancialStatementId(), entity.getSubjectId());
+        }
+    }
+}
@@ -5,6 +5,7 @@ import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.Subject;
 import lombok.AllArgsConstructor;
 
 import java.util.Arrays;
+import java.util.List;
 
 @AllArgsConstructor
 public class PlSubject extends Subject {
@@ -58,7 +59,7 @@ public class PlSubject extends Subject {
 //    ("会計監査人報酬"),
 //    ("その他営業費用"),
 //    ("営業費用合計"),
-        OPERATING_PROFIT("3", "営業利益"),
+        OPERATING_PROFIT("3", "営業利益", "jppfs_cor:OperatingIncome"),
         //    ("受取利息"),
 //    ("未払分配金戻入"),
 //    ("還付加算金"),
@@ -76,17 +77,22 @@ public class PlSubject extends Subject {
 //    ("税引前当期純利益"),
 //    ("法人税、住民税及び事業税"),
 //    ("法人税等合計"),
-        NET_INCOME("11", "当期純利益"),
+        // 非支配株主に帰属する利益を含まない親会社株主に帰属する当期純利益を優先する
+        NET_INCOME("11", "当期純利益",
+                "jppfs_cor:ProfitLossAttributableToOwnersOfParent", "jppfs_cor:ProfitLoss", "jppfs_cor:NetIncome"),
 //    ("前期繰越利益"),
 //    ("当期未処分利益又は当期未処理損失（△）"),
         ;
 
         private final String outlineSubjectId;
         private final String subject;
+        // XBRLの要素名（優先順）
+        private final List<String> elementNameList;
 
-        PlEnum(final String outlineSubjectId, final String subject) {
+        PlEnum(final String outlineSubjectId, final String subject, final String... elementNames) {
             this.outlineSubjectId = outlineSubjectId;
             this.subject = subject;
+            this.elementNameList = List.of(elementNames);
         }
 
         public static PlEnum fromValue(final String subject) {
@@ -103,5 +109,9 @@ public class PlSubject extends Subject {
         public String getSubject() {
             return this.subject;
         }
+
+        public List<String> getElementNameList() {
+            return this.elementNameList;
+        }
     }
 }
@@ -0,0 +1,28 @@
+package github.com.ioridazo.fundanalyzer.domain.value;
+
+/**
+ * @param financialStatement 財務諸表名
+ * @param documentTypeCode   書類種別コード
+ * @param quarterType        四半期種別
+ * @param keyword            キーワード
+ * @param hitCount           キーワードに合致したファイルが見つかった回数
+ * @param attemptCount       財務諸表種別・書類種別・四半期種別ごとの対象ファイルの取得回数
+ * @param hitRate            合致率
+ */
+public record ScrapingKeywordStatistic(
+
+        String financialStatement,
+
+        String documentTypeCode,
+
+        String quarterType,
+
+        String keyword,
+
+        long hitCount,
+
+        long attemptCount,
+
+        double hitRate
+) {
+}
@@ -0,0 +1,27 @@
+package github.com.ioridazo.fundanalyzer.domain.value;
+
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentStatus;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEnum;
+
+/**
+ * @param fs     財務諸表種別
+ * @param status 処理ステータス
+ * @param path   ドキュメントパス（エラーのときはnull）
+ */
+public record ScrapingResult(
+
+        FinancialStatementEnum fs,
+
+        DocumentStatus status,
+
+        String path
+) {
+
+    public static ScrapingResult ofDone(final FinancialStatementEnum fs, final String path) {
+        return new ScrapingResult(fs, DocumentStatus.DONE, path);
+    }
+
+    public static ScrapingResult ofError(final FinancialStatementEnum fs) {
+        return new ScrapingResult(fs, DocumentStatus.ERROR, null);
+    }
+}
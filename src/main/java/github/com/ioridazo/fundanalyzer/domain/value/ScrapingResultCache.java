@@ -0,0 +1,23 @@
+package github.com.ioridazo.fundanalyzer.domain.value;
+
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.ScrapingResultBean;
+
+import java.io.File;
+
+/**
+ * @param file     対象ファイル
+ * @param keyword  キーワード
+ * @param fileHash ファイルのハッシュ値
+ * @param result   スクレイピング結果
+ */
+public record ScrapingResultCache(
+
+        File file,
+
+        String keyword,
+
+        String fileHash,
+
+        ScrapingResultBean result
+) {
+}
@@ -0,0 +1,36 @@
+package github.com.ioridazo.fundanalyzer.web.endpoint;
+
+import github.com.ioridazo.fundanalyzer.domain.usecase.CompanyUseCase;
+import github.com.ioridazo.fundanalyzer.domain.value.CompanyIndexConsistency;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 企業情報の索引とデータベースの一致確認結果を返却する
+ * <ul>
+ *    <li>GET /actuator/companyindex で一致確認する<li/>
+ *    <li>POST /actuator/companyindex で索引を読み込み直してから一致確認する<li/>
+ * </>
+ */
+@Component
+@Endpoint(id = "companyindex")
+public class CompanyIndexEndpoint {
+
+    private final CompanyUseCase companyUseCase;
+
+    public CompanyIndexEndpoint(final CompanyUseCase companyUseCase) {
+        this.companyUseCase = companyUseCase;
+    }
+
+    @ReadOperation
+    public CompanyIndexConsistency consistency() {
+        return companyUseCase.checkIndexConsistency();
+    }
+
+    @WriteOperation
+    public CompanyIndexConsistency reload() {
+        return companyUseCase.reloadIndex();
+    }
+}
@@ -0,0 +1,31 @@
+package github.com.ioridazo.fundanalyzer.web.endpoint;
+
+import github.com.ioridazo.fundanalyzer.domain.usecase.ScrapingUseCase;
+import github.com.ioridazo.fundanalyzer.domain.value.ScrapingKeywordStatistic;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * スクレイピングキーワードの合致実績を返却する
+ * <ul>
+ *    <li>/actuator/scrapingkeyword<li/>
+ * </>
+ */
+@Component
+@Endpoint(id = "scrapingkeyword")
+public class ScrapingKeywordEndpoint {
+
+    private final ScrapingUseCase scrapingUseCase;
+
+    public ScrapingKeywordEndpoint(final ScrapingUseCase scrapingUseCase) {
+        this.scrapingUseCase = scrapingUseCase;
+    }
+
+    @ReadOperation
+    public List<ScrapingKeywordStatistic> statistics() {
+        return scrapingUseCase.findKeywordStatistics();
+    }
+}
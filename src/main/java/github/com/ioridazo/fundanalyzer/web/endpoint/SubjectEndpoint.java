@@ -0,0 +1,28 @@
+package github.com.ioridazo.fundanalyzer.web.endpoint;
+
+import github.com.ioridazo.fundanalyzer.domain.usecase.ScrapingUseCase;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 貸借対照表・損益計算書の科目の辞書を読み込み直す
+ * <ul>
+ *    <li>POST /actuator/subject で科目を変更したあとに読み込み直す<li/>
+ * </>
+ */
+@Component
+@Endpoint(id = "subject")
+public class SubjectEndpoint {
+
+    private final ScrapingUseCase scrapingUseCase;
+
+    public SubjectEndpoint(final ScrapingUseCase scrapingUseCase) {
+        this.scrapingUseCase = scrapingUseCase;
+    }
+
+    @WriteOperation
+    public void reload() {
+        scrapingUseCase.reloadSubject();
+    }
+}
@@ -0,0 +1,3 @@
+select document_id
+from document
+where document_id in /* documentIdList */('S1000000', 'S1000001')
@@ -0,0 +1,3 @@
+select doc_id
+from edinet_document
+where doc_id in /* docIdList */('S1000000', 'S1000001')
@@ -1,3 +1,11 @@
 select *
-from financial_statement
-where edinet_code = /* edinetCode */'E00000'
+from financial_statement fs
+where fs.edinet_code = /* edinetCode */'E00000'
+  and (fs.derived = '0'
+    or not exists(select 1
+                  from financial_statement filed
+                  where filed.edinet_code = fs.edinet_code
+                    and filed.financial_statement_id = fs.financial_statement_id
+                    and filed.subject_id = fs.subject_id
+                    and filed.period_end = fs.period_end
+                    and filed.derived = '0'))
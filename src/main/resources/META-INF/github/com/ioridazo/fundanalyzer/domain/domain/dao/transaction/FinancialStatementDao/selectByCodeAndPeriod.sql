@@ -1,6 +1,14 @@
 select *
-from financial_statement
-where edinet_code = /* edinetCode */'E00000'
-  and period_end = /* periodEnd */'2020-12-31'
-  and document_type_code = /* documentTypeCode */'120'
-  and submit_date = /* submitDate */'2021-05-05'
+from financial_statement fs
+where fs.edinet_code = /* edinetCode */'E00000'
+  and fs.period_end = /* periodEnd */'2020-12-31'
+  and fs.document_type_code = /* documentTypeCode */'120'
+  and fs.submit_date = /* submitDate */'2021-05-05'
+  and (fs.derived = '0'
+    or not exists(select 1
+                  from financial_statement filed
+                  where filed.edinet_code = fs.edinet_code
+                    and filed.financial_statement_id = fs.financial_statement_id
+                    and filed.subject_id = fs.subject_id
+                    and filed.period_end = fs.period_end
+                    and filed.derived = '0'))
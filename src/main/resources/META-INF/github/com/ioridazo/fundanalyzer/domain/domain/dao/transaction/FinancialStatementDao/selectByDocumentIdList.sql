@@ -0,0 +1,4 @@
+select *
+from financial_statement
+where document_id in /* documentIdList */('S100XXX', 'S100YYY')
+  and derived = '0'
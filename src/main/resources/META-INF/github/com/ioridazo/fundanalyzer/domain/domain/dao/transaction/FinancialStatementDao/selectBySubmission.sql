@@ -0,0 +1,6 @@
+select *
+from financial_statement
+where edinet_code = /* edinetCode */'E00000'
+  and financial_statement_id = /* financialStatementId */'1'
+  and document_type_code = /* documentTypeCode */'120'
+  and submit_date = /* submitDate */'2021-05-12'
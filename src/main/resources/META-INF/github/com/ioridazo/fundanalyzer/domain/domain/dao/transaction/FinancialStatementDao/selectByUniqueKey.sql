@@ -3,3 +3,4 @@ from financial_statement
 where document_id = /* documentId */'S100XXX'
   and financial_statement_id = /* financialStatementId */'1'
   and subject_id = /* subjectId */'10'
+  and derived = '0'
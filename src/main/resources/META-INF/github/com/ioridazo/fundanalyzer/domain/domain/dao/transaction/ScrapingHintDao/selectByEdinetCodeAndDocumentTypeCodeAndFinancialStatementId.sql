@@ -0,0 +1,5 @@
+select *
+from scraping_hint
+where edinet_code = /* edinetCode */'E00000'
+  and document_type_code = /* documentTypeCode */'120'
+  and financial_statement_id = /* financialStatementId */'1'
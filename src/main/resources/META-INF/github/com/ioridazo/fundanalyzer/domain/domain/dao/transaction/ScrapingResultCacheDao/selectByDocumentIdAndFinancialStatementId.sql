@@ -0,0 +1,4 @@
+select *
+from scraping_result_cache
+where document_id = /* documentId */'S100XXXX'
+  and financial_statement_id = /* financialStatementId */'1'
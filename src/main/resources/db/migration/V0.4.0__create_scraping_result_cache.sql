@@ -0,0 +1,16 @@
+-- @formatter:off
+CREATE TABLE IF NOT EXISTS `scraping_result_cache`
+(
+    `document_id`            CHAR(8)      NOT NULL COMMENT '書類ID',
+    `financial_statement_id` VARCHAR(10)  NOT NULL COMMENT '財務諸表ID',
+    `keyword`                VARCHAR(256) NOT NULL COMMENT 'キーワード',
+    `file_path`              VARCHAR(512) NOT NULL COMMENT 'ファイルパス',
+    `file_hash`              CHAR(64)     NOT NULL COMMENT 'ファイルのハッシュ値',
+    `keyword_version`        CHAR(64)     NOT NULL COMMENT 'キーワードのバージョン',
+    `result`                 MEDIUMBLOB   NOT NULL COMMENT 'スクレイピング結果',
+    `created_at`             DATETIME     NOT NULL DEFAULT CURRENT_TIME() COMMENT '登録日',
+    `updated_at`             DATETIME     NOT NULL DEFAULT CURRENT_TIME() COMMENT '更新日',
+    PRIMARY KEY (`document_id`, `financial_statement_id`),
+    CONSTRAINT `fk_src_document_id` FOREIGN KEY (`document_id`) REFERENCES `document` (`document_id`)
+);
+-- @formatter:on
@@ -0,0 +1,13 @@
+-- @formatter:off
+CREATE TABLE IF NOT EXISTS `scraping_hint`
+(
+    `edinet_code`            CHAR(6)      NOT NULL COMMENT 'EDINETコード',
+    `financial_statement_id` VARCHAR(10)  NOT NULL COMMENT '財務諸表ID',
+    `keyword`                VARCHAR(256) NOT NULL COMMENT 'キーワード',
+    `file_prefix`            VARCHAR(64)  NOT NULL COMMENT 'ファイル名の接頭辞',
+    `created_at`             DATETIME     NOT NULL DEFAULT CURRENT_TIME() COMMENT '登録日',
+    `updated_at`             DATETIME     NOT NULL DEFAULT CURRENT_TIME() COMMENT '更新日',
+    PRIMARY KEY (`edinet_code`, `financial_statement_id`),
+    CONSTRAINT `fk_sh_edinet_code` FOREIGN KEY (`edinet_code`) REFERENCES `company` (`edinet_code`)
+);
+-- @formatter:on
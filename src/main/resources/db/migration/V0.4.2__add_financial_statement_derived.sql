@@ -0,0 +1 @@
+ALTER TABLE IF EXISTS `financial_statement` ADD COLUMN `derived` CHAR (1) NOT NULL DEFAULT '0' COMMENT '前期値フラグ' CHECK (`derived` IN ('0', '1')) AFTER `created_type`;
@@ -0,0 +1 @@
+ALTER TABLE IF EXISTS `scraping_result_cache` ADD COLUMN `extraction_mode` VARCHAR (64) NOT NULL DEFAULT '' COMMENT '取得方法' AFTER `file_hash`;
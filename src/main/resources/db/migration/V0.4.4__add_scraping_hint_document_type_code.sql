@@ -0,0 +1,4 @@
+DELETE FROM `scraping_hint`;
+ALTER TABLE IF EXISTS `scraping_hint` ADD COLUMN `document_type_code` CHAR (3) NOT NULL COMMENT '書類種別コード' AFTER `edinet_code`;
+ALTER TABLE IF EXISTS `scraping_hint` DROP PRIMARY KEY;
+ALTER TABLE IF EXISTS `scraping_hint` ADD PRIMARY KEY (`edinet_code`, `document_type_code`, `financial_statement_id`);
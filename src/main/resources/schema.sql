@@ -151,6 +151,7 @@ CREATE TABLE IF NOT EXISTS `financial_statement`
     `submit_date`            DATE            NOT NULL COMMENT '提出日',
     `document_id`            CHAR(8)         NOT NULL COMMENT '書類ID',
     `created_type`           CHAR(1)         NOT NULL COMMENT '登録方法' CHECK (`created_type` IN ('0', '1')),
+    `derived`                CHAR(1)         NOT NULL DEFAULT '0' COMMENT '前期値フラグ' CHECK (`derived` IN ('0', '1')),
     `created_at`             DATETIME        NOT NULL DEFAULT CURRENT_TIME() COMMENT '登録日',
     PRIMARY KEY (`id`),
     UNIQUE KEY `uk_fs` (`edinet_code`, `financial_statement_id`, `subject_id`, `period_end`, `document_type_code`,
@@ -362,3 +363,36 @@ CREATE TABLE IF NOT EXISTS `valuation_view`
     `updated_at`                  DATETIME     NOT NULL DEFAULT CURRENT_TIME() COMMENT '更新日',
     PRIMARY KEY (`code`)
 );
+
+-- Table structure for table `scraping_result_cache`(スクレイピング結果キャッシュ)
+-- DROP TABLE IF EXISTS `scraping_result_cache`;
+CREATE TABLE IF NOT EXISTS `scraping_result_cache`
+(
+    `document_id`            CHAR(8)      NOT NULL COMMENT '書類ID',
+    `financial_statement_id` VARCHAR(10)  NOT NULL COMMENT '財務諸表ID',
+    `keyword`                VARCHAR(256) NOT NULL COMMENT 'キーワード',
+    `file_path`              VARCHAR(512) NOT NULL COMMENT 'ファイルパス',
+    `file_hash`              CHAR(64)     NOT NULL COMMENT 'ファイルのハッシュ値',
+    `extraction_mode`        VARCHAR(64)  NOT NULL DEFAULT '' COMMENT '取得方法',
+    `keyword_version`        CHAR(64)     NOT NULL COMMENT 'キーワードのバージョン',
+    `result`                 MEDIUMBLOB   NOT NULL COMMENT 'スクレイピング結果',
+    `created_at`             DATETIME     NOT NULL DEFAULT CURRENT_TIME() COMMENT '登録日',
+    `updated_at`             DATETIME     NOT NULL DEFAULT CURRENT_TIME() COMMENT '更新日',
+    PRIMARY KEY (`document_id`, `financial_statement_id`),
+    CONSTRAINT `fk_src_document_id` FOREIGN KEY (`document_id`) REFERENCES `document` (`document_id`)
+);
+
+-- Table structure for table `scraping_hint`(スクレイピングヒント)
+-- DROP TABLE IF EXISTS `scraping_hint`;
+CREATE TABLE IF NOT EXISTS `scraping_hint`
+(
+    `edinet_code`            CHAR(6)      NOT NULL COMMENT 'EDINETコード',
+    `document_type_code`     CHAR(3)      NOT NULL COMMENT '書類種別コード',
+    `financial_statement_id` VARCHAR(10)  NOT NULL COMMENT '財務諸表ID',
+    `keyword`                VARCHAR(256) NOT NULL COMMENT 'キーワード',
+    `file_prefix`            VARCHAR(64)  NOT NULL COMMENT 'ファイル名の接頭辞',
+    `created_at`             DATETIME     NOT NULL DEFAULT CURRENT_TIME() COMMENT '登録日',
+    `updated_at`             DATETIME     NOT NULL DEFAULT CURRENT_TIME() COMMENT '更新日',
+    PRIMARY KEY (`edinet_code`, `document_type_code`, `financial_statement_id`),
+    CONSTRAINT `fk_sh_edinet_code` FOREIGN KEY (`edinet_code`) REFERENCES `company` (`edinet_code`)
+);
@@ -6,6 +6,7 @@ import github.com.ioridazo.fundanalyzer.client.edinet.entity.request.ListRequest
 import github.com.ioridazo.fundanalyzer.client.edinet.entity.request.ListType;
 import github.com.ioridazo.fundanalyzer.config.AppConfig;
 import github.com.ioridazo.fundanalyzer.config.RestClientProperties;
+import github.com.ioridazo.fundanalyzer.exception.FundanalyzerFileException;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerRestClientException;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
@@ -272,6 +273,34 @@ class EdinetClientTest {
             System.out.println(actual.getMessage());
         }
 
+        @DisplayName("acquisition : 受信しながらの処理に失敗したときは、リトライせずにそのままスローする")
+        @Test
+        void acquisition_bodyHandler_FundanalyzerFileException() {
+            var parameter = new AcquisitionRequestParameter("docId", AcquisitionType.DEFAULT);
+
+            server.enqueue(new MockResponse().setResponseCode(200));
+            server.enqueue(new MockResponse().setResponseCode(200));
+
+            assertThrows(FundanalyzerFileException.class, () -> client.acquisition(parameter, body -> {
+                throw new FundanalyzerFileException("decode");
+            }));
+            assertEquals(1, server.getRequestCount());
+        }
+
+        @DisplayName("acquisition : 受信しながらの処理で受信に失敗したときはリトライする")
+        @Test
+        void acquisition_bodyHandler_IOException() {
+            var parameter = new AcquisitionRequestParameter("docId", AcquisitionType.DEFAULT);
+
+            server.enqueue(new MockResponse().setResponseCode(200));
+            server.enqueue(new MockResponse().setResponseCode(200));
+
+            assertThrows(FundanalyzerRestClientException.class, () -> client.acquisition(parameter, body -> {
+                throw new IOException("receive");
+            }));
+            assertEquals(2, server.getRequestCount());
+        }
+
         @Nested
         class circuitBreaker {
 
@@ -541,6 +570,34 @@ class EdinetClientTest {
             System.out.println(actual.getMessage());
         }
 
+        @DisplayName("acquisition : 受信しながらの処理に失敗したときは、リトライせずにそのままスローする")
+        @Test
+        void acquisition_bodyHandler_FundanalyzerFileException() {
+            var parameter = new AcquisitionRequestParameter("docId", AcquisitionType.DEFAULT);
+
+            server.enqueue(new MockResponse().setResponseCode(200));
+            server.enqueue(new MockResponse().setResponseCode(200));
+
+            assertThrows(FundanalyzerFileException.class, () -> client.acquisition(parameter, body -> {
+                throw new FundanalyzerFileException("decode");
+            }));
+            assertEquals(1, server.getRequestCount());
+        }
+
+        @DisplayName("acquisition : 受信しながらの処理で受信に失敗したときはリトライする")
+        @Test
+        void acquisition_bodyHandler_IOException() {
+            var parameter = new AcquisitionRequestParameter("docId", AcquisitionType.DEFAULT);
+
+            server.enqueue(new MockResponse().setResponseCode(200));
+            server.enqueue(new MockResponse().setResponseCode(200));
+
+            assertThrows(FundanalyzerRestClientException.class, () -> client.acquisition(parameter, body -> {
+                throw new IOException("receive");
+            }));
+            assertEquals(2, server.getRequestCount());
+        }
+
         @Nested
         class circuitBreaker {
 
@@ -0,0 +1,228 @@
+package github.com.ioridazo.fundanalyzer.client.file;
+
+import github.com.ioridazo.fundanalyzer.exception.FundanalyzerFileException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileOperatorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private FileOperator fileOperator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        fileOperator = new FileOperator(meterRegistry);
+    }
+
+    @Nested
+    class decodeZipFile {
+
+        @TempDir
+        Path tempDir;
+
+        @DisplayName("decodeZipFile : 条件に合致するエントリのみ解凍し、対象外のエントリを記録する")
+        @Test
+        void filter() throws Exception {
+            var input = tempDir.resolve("S100TEST");
+            Files.write(Path.of(input + ".zip"), zip("XBRL/PublicDoc/0101010_honbun.htm", "XBRL/AuditDoc/audit.htm"));
+            var output = tempDir.resolve("decode/S100TEST").toFile();
+
+            fileOperator.decodeZipFile(input.toFile(), output, name -> name.startsWith("XBRL/PublicDoc/"));
+
+            assertAll(
+                    () -> assertTrue(new File(output, "XBRL/PublicDoc/0101010_honbun.htm").exists()),
+                    () -> assertFalse(new File(output, "XBRL/AuditDoc").exists()),
+                    () -> assertEquals(1, meterRegistry.get("fundanalyzer.edinet.archive.skipped.files").counter().count()),
+                    () -> assertEquals(content("XBRL/AuditDoc/audit.htm").length,
+                            meterRegistry.get("fundanalyzer.edinet.archive.skipped.bytes").counter().count())
+            );
+        }
+
+        @DisplayName("decodeZipFile : 対象外のエントリが破損しているときもエラーとする")
+        @Test
+        void corrupted() throws Exception {
+            var input = tempDir.resolve("S100TEST");
+            var zip = zip("XBRL/PublicDoc/0101010_honbun.htm", "XBRL/AuditDoc/audit.htm");
+            // 最後のエントリの圧縮データを壊す
+            var corrupted = Arrays.copyOf(zip, zip.length);
+            var offset = indexOf(corrupted, "XBRL/AuditDoc/audit.htm".getBytes(StandardCharsets.US_ASCII)) + "XBRL/AuditDoc/audit.htm".length();
+            for (int i = offset; i < offset + 8; i++) {
+                corrupted[i] = (byte) ~corrupted[i];
+            }
+            Files.write(Path.of(input + ".zip"), corrupted);
+            var output = tempDir.resolve("decode/S100TEST").toFile();
+
+            assertThrows(IOException.class,
+                    () -> fileOperator.decodeZipFile(input.toFile(), output, name -> name.startsWith("XBRL/PublicDoc/")));
+        }
+    }
+
+    @Nested
+    class decodeZipStream {
+
+        @TempDir
+        Path tempDir;
+
+        File archive;
+
+        File decodeDirectory;
+
+        @BeforeEach
+        void setUp() {
+            archive = tempDir.resolve("edinet/S100TEST.zip").toFile();
+            decodeDirectory = tempDir.resolve("decode/S100TEST").toFile();
+        }
+
+        @DisplayName("decodeZipStream : 受信しながら対象のエントリのみ解凍し、ZIPファイルを保存する")
+        @Test
+        void extract() throws Exception {
+            var zip = zip("XBRL/PublicDoc/0101010_honbun.htm", "XBRL/AuditDoc/audit.htm");
+
+            var actual = fileOperator.decodeZipStream(
+                    new ByteArrayInputStream(zip), archive, decodeDirectory, name -> name.startsWith("XBRL/PublicDoc/"));
+
+            assertAll(
+                    () -> assertTrue(new File(decodeDirectory, "XBRL/PublicDoc/0101010_honbun.htm").exists()),
+                    () -> assertFalse(new File(decodeDirectory, "XBRL/AuditDoc").exists()),
+                    () -> assertArrayEquals(zip, Files.readAllBytes(archive.toPath())),
+                    () -> assertFalse(new File(archive.getPath() + ".part").exists()),
+                    () -> assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(zip)), actual.checksum()),
+                    () -> assertEquals(zip.length, actual.archiveBytes()),
+                    () -> assertEquals(1, actual.extractedFiles()),
+                    () -> assertEquals(content("XBRL/PublicDoc/0101010_honbun.htm").length, actual.extractedBytes()),
+                    () -> assertEquals(zip.length, meterRegistry.get("fundanalyzer.edinet.archive.stream.bytes")
+                            .tag("stage", "download").summary().totalAmount()),
+                    () -> assertEquals(1, meterRegistry.get("fundanalyzer.edinet.archive.stream")
+                            .tag("stage", "decode").timer().count()),
+                    () -> assertEquals(1, meterRegistry.get("fundanalyzer.edinet.archive.skipped.files").counter().count())
+            );
+        }
+
+        @DisplayName("decodeZipStream : 対象のエントリがないときは出力先のフォルダを作成しない")
+        @Test
+        void no_entry() throws Exception {
+            var zip = zip("XBRL/PublicDoc/0101010_honbun.htm");
+
+            var actual = fileOperator.decodeZipStream(new ByteArrayInputStream(zip), archive, decodeDirectory, name -> false);
+
+            assertAll(
+                    () -> assertFalse(decodeDirectory.exists()),
+                    () -> assertTrue(archive.exists()),
+                    () -> assertEquals(0, actual.extractedFiles())
+            );
+        }
+
+        @DisplayName("decodeZipStream : ZIPファイルが既に存在するときは受信しない")
+        @Test
+        void already_exists() throws IOException {
+            Files.createDirectories(archive.toPath().getParent());
+            Files.write(archive.toPath(), new byte[]{1});
+            var body = new ByteArrayInputStream(zip("XBRL/PublicDoc/0101010_honbun.htm"));
+
+            assertThrows(FileAlreadyExistsException.class,
+                    () -> fileOperator.decodeZipStream(body, archive, decodeDirectory, name -> true));
+            assertEquals(1, Files.size(archive.toPath()));
+        }
+
+        @DisplayName("decodeZipStream : 受信に失敗したときはZIPファイルを残さずに受信の失敗としてスローする")
+        @Test
+        void receive_failed() throws IOException {
+            var zip = zip("XBRL/PublicDoc/0101010_honbun.htm");
+            var body = new SequenceInputStream(
+                    new ByteArrayInputStream(Arrays.copyOf(zip, zip.length / 2)),
+                    new InputStream() {
+                        @Override
+                        public int read() throws IOException {
+                            throw new IOException("connection reset");
+                        }
+                    });
+
+            var actual = assertThrows(IOException.class,
+                    () -> fileOperator.decodeZipStream(body, archive, decodeDirectory, name -> true));
+            assertAll(
+                    () -> assertEquals("connection reset", actual.getMessage()),
+                    () -> assertFalse(archive.exists()),
+                    () -> assertFalse(new File(archive.getPath() + ".part").exists())
+            );
+        }
+
+        @DisplayName("decodeZipStream : 解凍に失敗したときはZIPファイルを残さずに解凍の失敗としてスローする")
+        @Test
+        void truncated() throws IOException {
+            var zip = zip("XBRL/PublicDoc/0101010_honbun.htm");
+            var body = new ByteArrayInputStream(Arrays.copyOf(zip, zip.length / 2));
+
+            assertThrows(FundanalyzerFileException.class,
+                    () -> fileOperator.decodeZipStream(body, archive, decodeDirectory, name -> true));
+            assertAll(
+                    () -> assertFalse(archive.exists()),
+                    () -> assertFalse(new File(archive.getPath() + ".part").exists())
+            );
+        }
+
+        @DisplayName("decodeZipStream : 出力先の外に解凍するエントリは解凍しない")
+        @Test
+        void zip_slip() throws IOException {
+            var body = new ByteArrayInputStream(zip("../outside.htm"));
+
+            assertThrows(FundanalyzerFileException.class,
+                    () -> fileOperator.decodeZipStream(body, archive, decodeDirectory, name -> true));
+            assertFalse(tempDir.resolve("decode/outside.htm").toFile().exists());
+        }
+    }
+
+    private static byte[] zip(final String... names) throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var zos = new ZipOutputStream(out, Charset.forName("MS932"))) {
+            for (String name : names) {
+                zos.putNextEntry(new ZipEntry(name));
+                zos.write(content(name));
+                zos.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static int indexOf(final byte[] array, final byte[] target) {
+        for (int i = 0; i <= array.length - target.length; i++) {
+            if (Arrays.equals(array, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] content(final String name) {
+        return ("<html><body>" + name + "</body></html>").repeat(100).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,38 @@
+package github.com.ioridazo.fundanalyzer.client.file;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ZipEntryFilterTest {
+
+    private final List<String> patternList = List.of("XBRL/PublicDoc/*honbun*.htm", " XBRL/PublicDoc/*.xbrl ");
+
+    @DisplayName("of : いずれかのパターンに合致するエントリを解凍する")
+    @ParameterizedTest
+    @CsvSource({
+            "XBRL/PublicDoc/0101010_honbun_jpcrp030000-asr-001_E00000-000_2022-03-31_01_2022-06-24_ixbrl.htm, true",
+            "XBRL/PublicDoc/jpcrp030000-asr-001_E00000-000_2022-03-31_01_2022-06-24.xbrl, true",
+            "XBRL/PublicDoc/jpcrp030000-asr-001_E00000-000_2022-03-31_01_2022-06-24.xsd, false",
+            "XBRL/PublicDoc/0000000_header_jpcrp030000-asr-001_E00000-000_2022-03-31_01_2022-06-24_ixbrl.htm, false",
+            "XBRL/PublicDoc/images/honbun.htm, false",
+            "XBRL/AuditDoc/jpaud-aar-cn-001_E00000-000_2022-03-31_01_2022-06-24_honbun.htm, false",
+            "XBRL/manifest_PublicDoc.xml, false",
+    })
+    void match(final String entryName, final boolean expected) {
+        assertEquals(expected, ZipEntryFilter.of(patternList).test(entryName));
+    }
+
+    @DisplayName("of : パターンが未指定のときはすべてのエントリを解凍する")
+    @Test
+    void empty() {
+        assertTrue(ZipEntryFilter.of(Arrays.asList("", null)).test("XBRL/AuditDoc/audit.htm"));
+    }
+}
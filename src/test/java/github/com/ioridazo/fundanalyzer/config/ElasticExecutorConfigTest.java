@@ -0,0 +1,90 @@
+package github.com.ioridazo.fundanalyzer.config;
+
+import github.com.ioridazo.fundanalyzer.domain.util.ParallelExecution;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(10)
+class ElasticExecutorConfigTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ElasticExecutorConfig config;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        config = new ElasticExecutorConfig();
+    }
+
+    @Nested
+    class elasticExecutor {
+
+        @DisplayName("elasticExecutor : タスクごとのスレッドで実行し、同時実行数を上限までに抑える")
+        @Test
+        void concurrency_limit() {
+            var executor = config.elasticExecutor("stock", 3, meterRegistry);
+            var running = new AtomicInteger();
+            var maxRunning = new AtomicInteger();
+            Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+            ParallelExecution.forEach(IntStream.range(0, 12).boxed().toList(), i -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                threadNames.add(Thread.currentThread().getName());
+                sleep();
+                running.decrementAndGet();
+            }, executor);
+            awaitIdle("stock");
+
+            assertAll(
+                    () -> assertTrue(maxRunning.get() <= 3, "maxRunning: " + maxRunning.get()),
+                    () -> assertTrue(threadNames.stream().allMatch(name -> name.startsWith("stock-")), threadNames::toString),
+                    () -> assertEquals(0, meterRegistry.get("fundanalyzer.executor.elastic.active")
+                            .tag("name", "stock").gauge().value())
+            );
+        }
+
+        @DisplayName("elasticExecutor : メトリクスを記録する実行環境として登録する")
+        @Test
+        void metrics() {
+            var executor = config.stockExecutor(2, meterRegistry);
+
+            ParallelExecution.forEach(IntStream.range(0, 4).boxed().toList(), i -> {
+            }, executor);
+            awaitIdle("stock");
+
+            assertEquals(4, meterRegistry.get("executor.execution").tag("name", "stock").timer().count());
+        }
+    }
+
+    // 処理の完了後に実行中のタスク数と実行時間が記録されるため、記録を待つ
+    private void awaitIdle(final String name) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("fundanalyzer.executor.elastic.active").tag("name", name).gauge().value() > 0
+               && System.nanoTime() < deadline) {
+            sleep();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(20);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
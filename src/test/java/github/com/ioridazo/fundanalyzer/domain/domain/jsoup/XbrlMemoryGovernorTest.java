@@ -0,0 +1,105 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.jsoup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class XbrlMemoryGovernorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private XbrlMemoryGovernor xbrlMemoryGovernor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        xbrlMemoryGovernor = new XbrlMemoryGovernor(true, 0.5, 10, meterRegistry);
+    }
+
+    @Nested
+    class weigh {
+
+        @DisplayName("weigh : ファイルサイズに倍率をかけて見積もる")
+        @Test
+        void factor() {
+            assertEquals(10 * 1024, xbrlMemoryGovernor.weigh(1024 * 1024));
+        }
+
+        @DisplayName("weigh : 上限を超えるときは上限で見積もり、単独で解析できるようにする")
+        @Test
+        void budget() {
+            var budget = (long) meterRegistry.get("fundanalyzer.scraping.memory.budget").gauge().value() / 1024;
+
+            assertAll(
+                    () -> assertEquals(budget, xbrlMemoryGovernor.weigh(Long.MAX_VALUE)),
+                    () -> assertEquals(1, xbrlMemoryGovernor.weigh(0))
+            );
+        }
+    }
+
+    @Nested
+    class acquire {
+
+        @DisplayName("acquire : 解析中のメモリ量を公開し、終了後に解放する")
+        @Test
+        void admitted() {
+            try (XbrlMemoryGovernor.Permit ignored = xbrlMemoryGovernor.acquire(() -> 1024 * 1024)) {
+                assertEquals(10 * 1024 * 1024, meterRegistry.get("fundanalyzer.scraping.memory.admitted").gauge().value());
+            }
+
+            assertEquals(0, meterRegistry.get("fundanalyzer.scraping.memory.admitted").gauge().value());
+        }
+
+        @DisplayName("acquire : 上限に達しているときは解放されるまで待機する")
+        @Test
+        void waiting() throws Exception {
+            final XbrlMemoryGovernor.Permit permit = xbrlMemoryGovernor.acquire(() -> Long.MAX_VALUE);
+            final CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+                try (XbrlMemoryGovernor.Permit ignored = xbrlMemoryGovernor.acquire(() -> 1024)) {
+                    assertTrue(xbrlMemoryGovernor.admittedBytes() > 0);
+                }
+            });
+
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (xbrlMemoryGovernor.waitingBytes() == 0 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            assertAll(
+                    () -> assertEquals(10 * 1024, meterRegistry.get("fundanalyzer.scraping.memory.waiting").gauge().value()),
+                    () -> assertFalse(future.isDone())
+            );
+
+            permit.close();
+            assertDoesNotThrow(() -> future.get(5, TimeUnit.SECONDS));
+            assertAll(
+                    () -> assertEquals(0, xbrlMemoryGovernor.waitingBytes()),
+                    () -> assertEquals(0, xbrlMemoryGovernor.admittedBytes())
+            );
+        }
+
+        @DisplayName("acquire : 無効なときはファイルサイズを取得せずに開始する")
+        @Test
+        void disabled() {
+            var disabled = new XbrlMemoryGovernor(false, 0.5, 10, new SimpleMeterRegistry());
+
+            assertDoesNotThrow(() -> {
+                try (XbrlMemoryGovernor.Permit ignored = disabled.acquire(() -> {
+                    throw new AssertionError();
+                })) {
+                    assertEquals(0, disabled.admittedBytes());
+                }
+            });
+        }
+    }
+}
@@ -1,22 +1,48 @@
 package github.com.ioridazo.fundanalyzer.domain.domain.jsoup;
 
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.ScrapingKeywordEntity;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.FinancialFactResultBean;
 import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.Unit;
 import github.com.ioridazo.fundanalyzer.domain.value.Document;
+import github.com.ioridazo.fundanalyzer.domain.value.PlSubject;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerFileException;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerScrapingException;
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
+import org.springframework.util.unit.DataSize;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class XbrlScrapingTest {
 
@@ -86,6 +112,165 @@ class XbrlScrapingTest {
 
             assertThrows(FundanalyzerFileException.class, () -> xbrlScraping.findFile(filePath, scrapingKeyword, document));
         }
+
+        @DisplayName("findFile : ファイル名の接頭辞が一致するファイルからキーワードに合致するものを返却する")
+        @Test
+        void findFile_prefix() {
+            var filePath = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/find-file/ok/EXAMPLE/XBRL/PublicDoc");
+
+            var expected = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/find-file/ok/EXAMPLE/XBRL/PublicDoc/000000_honbun.htm");
+
+            assertAll(
+                    () -> assertEquals(Optional.of(expected), xbrlScraping.findFile(filePath, "000000", "jpcrp_cor:BalanceSheetTextBlock")),
+                    () -> assertEquals(Optional.empty(), xbrlScraping.findFile(filePath, "000001", "jpcrp_cor:BalanceSheetTextBlock")),
+                    () -> assertEquals(Optional.empty(), xbrlScraping.findFile(filePath, "000002", "jpcrp_cor:BalanceSheetTextBlock"))
+            );
+        }
+
+        @DisplayName("sizeOfFiles : 対象のフォルダ配下にある\"honbun\"ファイルの合計サイズを返却する")
+        @Test
+        void sizeOfFiles() {
+            var filePath = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/find-file/ok/EXAMPLE/XBRL/PublicDoc");
+
+            assertAll(
+                    () -> assertEquals(
+                            new File(filePath, "000000_honbun.htm").length() + new File(filePath, "000001_honbun.htm").length(),
+                            xbrlScraping.sizeOfFiles(filePath)),
+                    () -> assertEquals(0, xbrlScraping.sizeOfFiles(new File(filePath, "notExist")))
+            );
+        }
+    }
+
+    @Nested
+    class indexFiles {
+
+        @DisplayName("indexFiles : 対象のフォルダ配下にあるファイルをキーワードごとに索引する")
+        @Test
+        void indexFiles_ok() {
+            var filePath = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/find-file/ok/EXAMPLE/XBRL/PublicDoc");
+
+            var actual = xbrlScraping.indexFiles(filePath, List.of("jpcrp_cor:BalanceSheetTextBlock", "jpcrp_cor:StatementOfIncomeTextBlock"));
+
+            assertAll(
+                    () -> assertEquals(
+                            List.of(new File(filePath, "000000_honbun.htm")),
+                            actual.findFiles("jpcrp_cor:BalanceSheetTextBlock")
+                    ),
+                    () -> assertEquals(List.of(), actual.findFiles("jpcrp_cor:StatementOfIncomeTextBlock"))
+            );
+            // ファイルごとに一度だけ解析する
+            verify(xbrlScraping, times(2)).load(any());
+        }
+
+        @DisplayName("parse : フォルダ配下の解析結果を破棄すると、次は改めて解析する")
+        @Test
+        void evict() {
+            var file = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/scrape-financial-statement/jsoup_main.html");
+            var other = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/find-file/ok/EXAMPLE/XBRL/PublicDoc");
+
+            xbrlScraping.parse(file);
+            xbrlScraping.evict(other);
+            xbrlScraping.parse(file);
+            xbrlScraping.evict(file.getParentFile());
+            xbrlScraping.parse(file);
+
+            verify(xbrlScraping, times(2)).load(file);
+        }
+
+        @DisplayName("indexFiles : キーワードに合致するファイルが複数存在するときは索引から取得するときにエラー発生させる")
+        @Test
+        void indexFiles_FundanalyzerFileException() {
+            var scrapingKeyword = new ScrapingKeywordEntity(
+                    null,
+                    "1",
+                    "jpcrp_cor:BalanceSheetTextBlock",
+                    null,
+                    "貸借対照表",
+                    null
+            );
+            var filePath = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/find-file/fundanalyzer_file_exception/EXAMPLE/XBRL/PublicDoc");
+
+            var fileIndex = xbrlScraping.indexFiles(filePath, List.of("jpcrp_cor:BalanceSheetTextBlock"));
+
+            assertEquals(2, fileIndex.findFiles("jpcrp_cor:BalanceSheetTextBlock").size());
+            assertThrows(FundanalyzerFileException.class, () -> xbrlScraping.findFile(fileIndex, scrapingKeyword, defaultDocument()));
+        }
+
+        @DisplayName("indexFiles : キーワードを含まないファイルは解析せずに索引する")
+        @Test
+        void indexFiles_prefilter() {
+            var filePath = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/find-file/ok/EXAMPLE/XBRL/PublicDoc");
+            xbrlScraping.prefilterEnabled = true;
+
+            var actual = xbrlScraping.indexFiles(filePath, List.of("jpcrp_cor:BalanceSheetTextBlock", "jpcrp_cor:StatementOfIncomeTextBlock"));
+
+            assertAll(
+                    () -> assertEquals(
+                            List.of(new File(filePath, "000000_honbun.htm")),
+                            actual.findFiles("jpcrp_cor:BalanceSheetTextBlock")
+                    ),
+                    () -> assertEquals(List.of(), actual.findFiles("jpcrp_cor:StatementOfIncomeTextBlock"))
+            );
+            // キーワードを含むファイルのみ解析する
+            verify(xbrlScraping, times(1)).load(new File(filePath, "000000_honbun.htm"));
+            verify(xbrlScraping, times(0)).load(new File(filePath, "000001_honbun.htm"));
+        }
+
+        @DisplayName("indexFiles : 読み込みのバッファをまたぐキーワードも検出し、読み込み後のファイルを上書きできる")
+        @Test
+        void indexFiles_prefilter_large_file(@TempDir final Path tempDir) throws IOException {
+            var keyword = "jpcrp_cor:BalanceSheetTextBlock";
+            var file = tempDir.resolve("000000_honbun.htm");
+            Files.writeString(file, "<html><body>" + " ".repeat(64 * 1024 - 20)
+                                    + "<div name=\"" + keyword + "\">貸借対照表</div></body></html>");
+            xbrlScraping.prefilterEnabled = true;
+
+            var actual = xbrlScraping.indexFiles(tempDir.toFile(), List.of(keyword));
+
+            assertEquals(List.of(file.toFile()), actual.findFiles(keyword));
+            assertDoesNotThrow(() -> Files.writeString(file, "overwritten"));
+        }
+    }
+
+    @Nested
+    class keywordMatcher {
+
+        @DisplayName("keywordMatcher : バイト列に含まれるキーワードを検出する")
+        @Test
+        void match() {
+            var matcher = XbrlKeywordMatcher.of(List.of("he", "she", "his", "hers", "jpcrp_cor:BalanceSheetTextBlock"));
+            var scan = matcher.scan();
+
+            scan.accept(ByteBuffer.wrap("<p name=\"USHERS\"/>".getBytes(StandardCharsets.UTF_8)));
+
+            assertEquals(Set.of("he", "she", "hers"), scan.keywords());
+            assertFalse(scan.isCompleted());
+        }
+
+        @DisplayName("keywordMatcher : 分割して渡したバイト列をまたぐキーワードを検出する")
+        @Test
+        void match_across_buffers() {
+            var matcher = XbrlKeywordMatcher.of(List.of("jpcrp_cor:BalanceSheetTextBlock"));
+            var bytes = "<ix:nonNumeric name=\"JPCRP_COR:BalanceSheetTextBlock\">".getBytes(StandardCharsets.UTF_8);
+            var scan = matcher.scan();
+
+            scan.accept(ByteBuffer.wrap(bytes, 0, 30));
+            scan.accept(ByteBuffer.wrap(bytes, 30, bytes.length - 30));
+
+            assertEquals(Set.of("jpcrp_cor:BalanceSheetTextBlock"), scan.keywords());
+            assertTrue(scan.isCompleted());
+        }
+
+        @DisplayName("keywordMatcher : バイト列で照合できないキーワードは常に含まれるものとする")
+        @Test
+        void match_non_ascii() {
+            var matcher = XbrlKeywordMatcher.of(List.of("貸借対照表", "jpcrp_cor:BalanceSheetTextBlock"));
+            var scan = matcher.scan();
+
+            scan.accept(ByteBuffer.wrap("<p>損益計算書</p>".getBytes(StandardCharsets.UTF_8)));
+
+            assertEquals(Set.of("貸借対照表"), scan.keywords());
+        }
     }
 
     @Nested
@@ -649,6 +834,400 @@ class XbrlScrapingTest {
         }
     }
 
+    @Nested
+    class scrapeFinancialFacts {
+
+        @DisplayName("scrapeFinancialFacts : contextRefから当期と前期の値を取得する")
+        @Test
+        void scrapeFinancialFacts_ok() {
+            var file = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/scrape-financial-statement/jsoup_main.html");
+
+            var actual = xbrlScraping.scrapeFinancialFacts(file, "jpcrp_cor:BalanceSheetTextBlock");
+
+            assertAll("FinancialFactResultBean",
+                    () -> assertEquals(83, actual.size()),
+                    () -> assertEquals(FinancialFactResultBean.of("現金及び預金", 116109000L, 476095000L), actual.get(0)),
+                    () -> assertEquals(FinancialFactResultBean.of("貸倒引当金", -584000L, -363000L), actual.get(8))
+            );
+        }
+
+        @DisplayName("scrapeFinancialFacts : 四半期の連結財務諸表ではセグメントのコンテキストを除外する")
+        @Test
+        void scrapeFinancialFacts_quarterly() {
+            var file = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/scrape-financial-statement/jsoup_dtc140_2.html");
+
+            var actual = xbrlScraping.scrapeFinancialFacts(file, "jpcrp_cor:QuarterlyConsolidatedBalanceSheetTextBlock");
+
+            assertAll("FinancialFactResultBean",
+                    () -> assertEquals(62, actual.size()),
+                    () -> assertEquals(Optional.of(7575986000L), actual.get(0).getPreviousValue()),
+                    () -> assertEquals(Optional.of(8051246000L), actual.get(0).getCurrentValue()),
+                    () -> assertEquals(Optional.of(-10700000L), actual.get(7).getCurrentValue())
+            );
+        }
+
+        @DisplayName("scrapeFinancialFacts : 当期のみの値が存在するときは前期をnullにする")
+        @Test
+        void scrapeFinancialFacts_current_only() {
+            var file = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/scrape-financial-statement/jsoup_main.html");
+
+            var actual = xbrlScraping.scrapeFinancialFacts(file, "jpcrp_cor:BalanceSheetTextBlock");
+
+            assertAll("FinancialFactResultBean",
+                    () -> assertEquals(Optional.empty(), actual.get(19).getPreviousValue()),
+                    () -> assertEquals(Optional.of(1111000L), actual.get(19).getCurrentValue())
+            );
+        }
+
+        @DisplayName("scrapeFinancialFacts : タグ付けされた数値が存在しないときは空を返却する")
+        @Test
+        void scrapeFinancialFacts_empty() {
+            var file = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/scrape-financial-statement/jsoup_main.html");
+
+            assertTrue(xbrlScraping.scrapeFinancialFacts(file, "jpcrp_cor:StatementOfIncomeTextBlock").isEmpty());
+        }
+
+        @DisplayName("value : scaleとsignを適用した値を取得する")
+        @ParameterizedTest
+        @CsvSource({
+                "'<ix:nonFraction scale=\"3\" format=\"ixt:numdotdecimal\">116,109</ix:nonFraction>', 116109000",
+                "'<ix:nonFraction scale=\"6\" sign=\"-\" format=\"ixt:numdotdecimal\">1,234</ix:nonFraction>', -1234000000",
+                "'<ix:nonFraction scale=\"0\" format=\"ixt:numcommadecimal\">1.234,5</ix:nonFraction>', 1235",
+                "'<ix:nonFraction scale=\"3\" format=\"ixt:fixed-zero\">－</ix:nonFraction>', 0",
+                "'<ix:nonFraction format=\"ixt:numdotdecimal\">１，０００</ix:nonFraction>', 1000",
+        })
+        void value_ok(final String html, final long expected) {
+            var fact = Jsoup.parse(html).getElementsByTag("ix:nonFraction").first();
+
+            assertEquals(expected, XbrlFactExtractor.value(fact));
+        }
+
+        @DisplayName("value : xsi:nilのときはnullを返却する")
+        @Test
+        void value_nil() {
+            var fact = Jsoup.parse("<ix:nonFraction scale=\"3\" xsi:nil=\"true\"></ix:nonFraction>").getElementsByTag("ix:nonFraction").first();
+
+            assertNull(XbrlFactExtractor.value(fact));
+        }
+    }
+
+    @Nested
+    class readInstance {
+
+        @DisplayName("readInstance : XBRLインスタンスから当期の値を取得する")
+        @Test
+        void readInstance_ok() {
+            var directory = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/read-instance/ok");
+
+            var actual = xbrlScraping.readInstance(directory).orElseThrow();
+
+            assertAll("XbrlInstance",
+                    () -> assertEquals(Optional.of(1000000L), actual.findCurrentValue(List.of("jppfs_cor:CurrentAssets"), true)),
+                    () -> assertEquals(Optional.of(800000L), actual.findCurrentValue(List.of("jppfs_cor:CurrentAssets"), false)),
+                    () -> assertEquals(Optional.of(900000L), actual.findValue("jppfs_cor:CurrentAssets", "Prior1YearInstant")),
+                    () -> assertEquals(Optional.of(-50000L), actual.findCurrentValue(List.of("jppfs_cor:NetAssets"), true)),
+                    () -> assertEquals(Optional.empty(), actual.findCurrentValue(List.of("jppfs_cor:SubscriptionRightsToShares"), true)),
+                    () -> assertEquals(Optional.of(120000L), actual.findCurrentValue(PlSubject.PlEnum.NET_INCOME.getElementNameList(), false)),
+                    () -> assertEquals(Optional.of(100000L), actual.findCurrentValue(PlSubject.PlEnum.NET_INCOME.getElementNameList(), true)),
+                    () -> assertEquals(Optional.of(3000000L), actual.findCurrentValue(List.of("jppfs_cor:OperatingIncome"), true)),
+                    () -> assertEquals(Optional.empty(), actual.findValue("jpcrp_cor:CompanyNameCoverPage", "FilingDateInstant"))
+            );
+        }
+
+        @DisplayName("readInstance : XBRLインスタンスは一度だけ読み込む")
+        @Test
+        void readInstance_once() {
+            var directory = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/read-instance/ok");
+
+            xbrlScraping.readInstance(directory);
+            xbrlScraping.readInstance(directory);
+
+            verify(xbrlScraping, times(1)).loadInstance(any());
+        }
+
+        @DisplayName("readInstance : XBRLインスタンスが存在しないときは空を返却する")
+        @Test
+        void readInstance_none() {
+            var directory = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/scrape-financial-statement");
+
+            assertTrue(xbrlScraping.readInstance(directory).isEmpty());
+        }
+
+        @DisplayName("readInstance : XBRLインスタンスを読み込めないときは空を返却する")
+        @Test
+        void readInstance_broken() {
+            var directory = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/read-instance/broken");
+
+            assertTrue(xbrlScraping.readInstance(directory).isEmpty());
+        }
+    }
+
+    @Nested
+    class archive {
+
+        @TempDir
+        Path tempDir;
+
+        File decodeDirectory;
+
+        File publicDoc;
+
+        XbrlScraping.Session session;
+
+        @BeforeEach
+        void setUp() throws IOException {
+            var archive = tempDir.resolve("S100TEST.zip");
+            try (var zos = new ZipOutputStream(Files.newOutputStream(archive), Charset.forName("MS932"))) {
+                putEntry(zos, "XBRL/PublicDoc/0101010_honbun_jpcrp030000-asr-001.htm",
+                        "src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/scrape-financial-statement/jsoup_main.html");
+                putEntry(zos, "XBRL/PublicDoc/jpcrp030000-asr-001.xbrl",
+                        "src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/read-instance/ok/jpcrp030000-asr-001_E00000-000_2022-03-31_01_2022-06-30.xbrl");
+                putEntry(zos, "XBRL/AuditDoc/0101010_honbun_jpaud-aar-cn-001.htm",
+                        "src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/scrape-financial-statement/jsoup_main.html");
+            }
+
+            decodeDirectory = tempDir.resolve("decode/S100TEST").toFile();
+            publicDoc = new File(decodeDirectory, "XBRL/PublicDoc");
+            session = xbrlScraping.openSession(decodeDirectory, archive.toFile());
+        }
+
+        @AfterEach
+        void tearDown() {
+            session.close();
+        }
+
+        @DisplayName("archive : 解凍せずにZIPファイル内のファイルを索引する")
+        @Test
+        void indexFiles_archive() {
+            var actual = xbrlScraping.indexFiles(publicDoc, List.of("jpcrp_cor:BalanceSheetTextBlock"));
+
+            assertEquals(
+                    List.of(new File(publicDoc, "0101010_honbun_jpcrp030000-asr-001.htm")),
+                    actual.findFiles("jpcrp_cor:BalanceSheetTextBlock")
+            );
+            assertFalse(decodeDirectory.exists());
+        }
+
+        @DisplayName("archive : ZIPファイル内のファイルもキーワードを含まないものは解析しない")
+        @Test
+        void indexFiles_archive_prefilter() {
+            xbrlScraping.prefilterEnabled = true;
+
+            var actual = xbrlScraping.indexFiles(publicDoc, List.of("jpcrp_cor:StatementOfIncomeTextBlock_NotExist"));
+
+            assertEquals(List.of(), actual.findFiles("jpcrp_cor:StatementOfIncomeTextBlock_NotExist"));
+            verify(xbrlScraping, times(0)).load(any());
+        }
+
+        @DisplayName("archive : 解凍したときと同じ結果をスクレイピングする")
+        @ParameterizedTest
+        @ValueSource(booleans = {true, false})
+        void scrapeFinancialStatement_same_as_decoded(final boolean streaming) {
+            var decoded = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/scrape-financial-statement/jsoup_main.html");
+            var keyword = "jpcrp_cor:BalanceSheetTextBlock";
+            xbrlScraping.streamingEnabled = streaming;
+            xbrlScraping.streamingThreshold = DataSize.ofBytes(0);
+
+            var actual = xbrlScraping.scrapeFinancialStatement(new File(publicDoc, "0101010_honbun_jpcrp030000-asr-001.htm"), keyword);
+
+            assertEquals(xbrlScraping.scrapeFinancialStatement(decoded, keyword), actual);
+        }
+
+        @DisplayName("archive : ZIPファイル内のXBRLインスタンスを読み込む")
+        @Test
+        void readInstance_archive() {
+            var actual = xbrlScraping.readInstance(publicDoc).orElseThrow();
+
+            assertEquals(Optional.of(1000000L), actual.findCurrentValue(List.of("jppfs_cor:CurrentAssets"), true));
+        }
+
+        @DisplayName("archive : 解凍したときと同じハッシュ値を算出する")
+        @Test
+        void hash_same_as_decoded() {
+            var decoded = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/scrape-financial-statement/jsoup_main.html");
+
+            var actual = xbrlScraping.hash(new File(publicDoc, "0101010_honbun_jpcrp030000-asr-001.htm"));
+
+            assertAll(
+                    () -> assertTrue(actual.isPresent()),
+                    () -> assertEquals(xbrlScraping.hash(decoded), actual),
+                    () -> assertEquals(Optional.empty(), xbrlScraping.hash(new File(publicDoc, "not_exist_honbun.htm")))
+            );
+        }
+
+        @DisplayName("archive : スクレイピングの期間が終了したときにZIPファイルとそのストリームを閉じる")
+        @Test
+        void session_close() throws IOException {
+            var file = new File(publicDoc, "0101010_honbun_jpcrp030000-asr-001.htm");
+            var other = xbrlScraping.openSession(decodeDirectory, tempDir.resolve("S100TEST.zip").toFile());
+
+            try (var inputStream = xbrlScraping.xbrlArchiveResolver.open(file)) {
+                other.close();
+                assertTrue(inputStream.read() >= 0, "ほかの期間が終了しても共有しているZIPファイルは閉じない");
+
+                session.close();
+                assertThrows(IOException.class, inputStream::read);
+            }
+            assertEquals(List.of(), xbrlScraping.indexFiles(publicDoc, List.of("jpcrp_cor:BalanceSheetTextBlock"))
+                    .findFiles("jpcrp_cor:BalanceSheetTextBlock"));
+        }
+
+        @DisplayName("archive : ZIPファイルに存在しないファイルはエラーにする")
+        @Test
+        void load_not_exist() {
+            var file = new File(publicDoc, "not_exist_honbun.htm");
+
+            assertThrows(FundanalyzerFileException.class, () -> xbrlScraping.parse(file));
+        }
+
+        private void putEntry(final ZipOutputStream zos, final String name, final String source) throws IOException {
+            zos.putNextEntry(new ZipEntry(name));
+            Files.copy(Path.of(source), zos);
+            zos.closeEntry();
+        }
+    }
+
+    @Nested
+    class parse {
+
+        @DisplayName("parse : 同じファイルに対するスクレイピングでは一度だけ解析する")
+        @Test
+        void parse_once_per_file() {
+            var file = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/scrape-financial-statement/jsoup_main.html");
+            var keyword = "jpcrp_cor:BalanceSheetTextBlock";
+
+            xbrlScraping.scrapeFinancialStatement(file, keyword);
+            xbrlScraping.unit(file, keyword);
+            xbrlScraping.scrapeFinancialStatement(file, keyword);
+
+            verify(xbrlScraping, times(1)).load(file);
+        }
+
+        @DisplayName("parse : ファイル検索で解析した結果をスクレイピングで再利用する")
+        @Test
+        void parse_shared_with_findFile() {
+            var scrapingKeyword = new ScrapingKeywordEntity(
+                    null,
+                    "1",
+                    "jpcrp_cor:BalanceSheetTextBlock",
+                    null,
+                    "貸借対照表",
+                    null
+            );
+            var filePath = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/find-file/ok/EXAMPLE/XBRL/PublicDoc");
+
+            var targetFile = xbrlScraping.findFile(filePath, scrapingKeyword, defaultDocument()).orElseThrow();
+            xbrlScraping.findFile(filePath, scrapingKeyword, defaultDocument());
+            xbrlScraping.parse(targetFile);
+
+            verify(xbrlScraping, times(2)).load(any());
+        }
+
+        @DisplayName("parse : キーワードの前後の空白と大文字小文字を区別せずにエレメントを取得する")
+        @Test
+        void elementsByName_ignore_case() {
+            var file = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/scrape-financial-statement/jsoup_main.html");
+
+            var actual = xbrlScraping.parse(file);
+
+            assertAll(
+                    () -> assertTrue(actual.hasText("jpcrp_cor:BalanceSheetTextBlock")),
+                    () -> assertTrue(actual.hasText(" JPCRP_COR:BalanceSheetTextBlock ")),
+                    () -> assertFalse(actual.hasText("jpcrp_cor:NoSuchTextBlock")),
+                    () -> assertTrue(actual.elementsByName("jpcrp_cor:NoSuchTextBlock").isEmpty())
+            );
+        }
+
+        @DisplayName("parse : 文書モデルのメモリ量をノード数とテキストの文字数から見積もる")
+        @Test
+        void estimatedBytes() {
+            var small = XbrlDocument.of(new File("small.htm"), Jsoup.parse("<p>売上高</p>"));
+            var large = XbrlDocument.of(new File("large.htm"), Jsoup.parse("<p>売上高</p><p>売上原価</p><p>売上総利益</p>"));
+            var file = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/scrape-financial-statement/jsoup_main.html");
+
+            assertAll(
+                    () -> assertTrue(small.getEstimatedBytes() > 0),
+                    () -> assertTrue(large.getEstimatedBytes() > small.getEstimatedBytes()),
+                    () -> assertTrue(xbrlScraping.parse(file).getEstimatedBytes() > file.length())
+            );
+        }
+    }
+
+    @Nested
+    class streaming {
+
+        @BeforeEach
+        void setUp() {
+            xbrlScraping.streamingEnabled = true;
+            xbrlScraping.streamingThreshold = DataSize.ofBytes(0);
+        }
+
+        @DisplayName("streaming : ストリーミングで読み込んだときもファイル全体を解析したときと同じ結果をスクレイピングする")
+        @ParameterizedTest
+        @CsvSource({
+                "jsoup_main.html, jpcrp_cor:BalanceSheetTextBlock",
+                "jsoup_main2.html, jpcrp_cor:StatementOfIncomeTextBlock",
+                "jsoup_main3.html, jpcrp_cor:StatementOfIncomeTextBlock",
+                "jsoup_dtc140_2.html, jpcrp_cor:QuarterlyConsolidatedBalanceSheetTextBlock",
+                "jsoup_year.html, jpcrp_cor:BalanceSheetTextBlock",
+                "jsoup_year2.html, jpcrp_cor:BalanceSheetTextBlock",
+        })
+        void scrapeFinancialStatement_same_as_dom(final String fileName, final String keyword) {
+            var file = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/scrape-financial-statement/" + fileName);
+
+            var actual = xbrlScraping.scrapeFinancialStatement(file, keyword);
+            xbrlScraping.streamingEnabled = false;
+            var expected = xbrlScraping.scrapeFinancialStatement(file, keyword);
+
+            assertEquals(expected, actual);
+        }
+
+        @DisplayName("streaming : ストリーミングで読み込んだときもファイル全体を解析したときと同じ株式総数をスクレイピングする")
+        @ParameterizedTest
+        @ValueSource(strings = {"jsoup_ok.htm", "jsoup_ok_2.html", "jsoup_ok_3.html", "jsoup_ok_4.html"})
+        void scrapeNumberOfShares_same_as_dom(final String fileName) {
+            var file = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/scrape-number-of-shares/" + fileName);
+            var keyword = "jpcrp_cor:IssuedSharesTotalNumberOfSharesEtcTextBlock";
+
+            var actual = xbrlScraping.scrapeNumberOfShares(file, keyword);
+            xbrlScraping.streamingEnabled = false;
+            var expected = xbrlScraping.scrapeNumberOfShares(file, keyword);
+
+            assertEquals(expected, actual);
+        }
+
+        @DisplayName("streaming : ストリーミングで読み込んだときはファイル全体を解析しない")
+        @Test
+        void streaming_no_dom() {
+            var file = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/scrape-financial-statement/jsoup_main.html");
+
+            xbrlScraping.scrapeFinancialStatement(file, "jpcrp_cor:BalanceSheetTextBlock");
+
+            verify(xbrlScraping, times(0)).load(any());
+        }
+
+        @DisplayName("streaming : XHTMLとして読み込めないときはファイル全体を解析する")
+        @Test
+        void streaming_fallback() {
+            var scrapingKeyword = new ScrapingKeywordEntity(
+                    null,
+                    "1",
+                    "jpcrp_cor:BalanceSheetTextBlock",
+                    null,
+                    "貸借対照表",
+                    null
+            );
+            var filePath = new File("src/test/resources/github/com/ioridazo/fundanalyzer/domain/logic/scraping/jsoup/find-file/ok/EXAMPLE/XBRL/PublicDoc");
+
+            var actual = xbrlScraping.findFile(filePath, scrapingKeyword, defaultDocument());
+
+            assertEquals(new File(filePath, "000000_honbun.htm"), actual.orElseThrow());
+            // 空のファイルのみファイル全体を解析する
+            verify(xbrlScraping, times(1)).load(any());
+            verify(xbrlScraping, times(1)).load(new File(filePath, "000001_honbun.htm"));
+        }
+    }
+
     private Document defaultDocument() {
         return new Document(
                 "documentId",
@@ -61,7 +61,7 @@ class AnalysisResultSpecificationTest {
             doReturn(List.of(analysisResult1, analysisResult2, analysisResult3, analysisResult4))
                     .when(analysisResultSpecification).analysisTargetList("code", targetTypeCodes);
 
-            var actual = analysisResultSpecification.yearAverageCorporateValue(company, THREE);
+            var actual = analysisResultSpecification.yearAverageCorporateValue(company, THREE, List.of());
             assertEquals(BigDecimal.valueOf(100000, 2), actual.orElseThrow());
         }
 
@@ -70,7 +70,7 @@ class AnalysisResultSpecificationTest {
         void empty() {
             doReturn(List.of()).when(analysisResultSpecification).analysisTargetList("code", targetTypeCodes);
 
-            var actual = analysisResultSpecification.yearAverageCorporateValue(company, THREE);
+            var actual = analysisResultSpecification.yearAverageCorporateValue(company, THREE, List.of());
             assertNull(actual.orElse(null));
         }
 
@@ -82,7 +82,7 @@ class AnalysisResultSpecificationTest {
             doReturn(List.of(analysisResult1, analysisResult2))
                     .when(analysisResultSpecification).analysisTargetList("code", targetTypeCodes);
 
-            var actual = analysisResultSpecification.yearAverageCorporateValue(company, THREE);
+            var actual = analysisResultSpecification.yearAverageCorporateValue(company, THREE, List.of());
             assertNull(actual.orElse(null));
         }
 
@@ -106,7 +106,7 @@ class AnalysisResultSpecificationTest {
             );
             doReturn(List.of(analysisResult1)).when(analysisResultSpecification).analysisTargetList("code", targetTypeCodes);
 
-            var actual = analysisResultSpecification.yearAverageCorporateValue(company, 1);
+            var actual = analysisResultSpecification.yearAverageCorporateValue(company, 1, List.of());
             assertEquals(BigDecimal.valueOf(500.25), actual.orElseThrow());
         }
     }
@@ -121,7 +121,7 @@ class AnalysisResultSpecificationTest {
             var analysisResult2 = new AnalysisResultEntity(2, "code", LocalDate.parse("2019-06-30"), BigDecimal.valueOf(1100), null, null, null, null, "120", "4", null, null, null);
             doReturn(List.of(analysisResult1, analysisResult2)).when(analysisResultSpecification).analysisTargetList("code", targetTypeCodes);
 
-            var actual = analysisResultSpecification.allYearAverageCorporateValue(company);
+            var actual = analysisResultSpecification.allYearAverageCorporateValue(company, List.of());
             assertEquals(BigDecimal.valueOf(100000, 2), actual.orElseThrow());
         }
 
@@ -130,7 +130,7 @@ class AnalysisResultSpecificationTest {
         void empty() {
             doReturn(List.of()).when(analysisResultSpecification).analysisTargetList("code", targetTypeCodes);
 
-            var actual = analysisResultSpecification.allYearAverageCorporateValue(company);
+            var actual = analysisResultSpecification.allYearAverageCorporateValue(company, List.of());
             assertNull(actual.orElse(null));
         }
 
@@ -154,7 +154,7 @@ class AnalysisResultSpecificationTest {
             );
             doReturn(List.of(analysisResult1)).when(analysisResultSpecification).analysisTargetList("code", targetTypeCodes);
 
-            var actual = analysisResultSpecification.allYearAverageCorporateValue(company);
+            var actual = analysisResultSpecification.allYearAverageCorporateValue(company, List.of());
             assertEquals(BigDecimal.valueOf(500.25), actual.orElseThrow());
         }
     }
@@ -169,7 +169,7 @@ class AnalysisResultSpecificationTest {
             var analysisResult2 = new AnalysisResultEntity(2, "code", LocalDate.parse("2019-06-30"), BigDecimal.valueOf(900), null, null, null, null, "120", "4", null, null, null);
             doReturn(List.of(analysisResult1, analysisResult2)).when(analysisResultSpecification).analysisTargetList("code", targetTypeCodes);
 
-            var actual = analysisResultSpecification.standardDeviation(company, BigDecimal.valueOf(100000, 2));
+            var actual = analysisResultSpecification.standardDeviation(company, BigDecimal.valueOf(100000, 2), List.of());
             assertEquals(BigDecimal.valueOf(100.0), actual.orElseThrow());
         }
 
@@ -178,7 +178,7 @@ class AnalysisResultSpecificationTest {
         void empty() {
             doReturn(List.of()).when(analysisResultSpecification).analysisTargetList("code", targetTypeCodes);
 
-            var actual = analysisResultSpecification.standardDeviation(company, BigDecimal.valueOf(100000, 2));
+            var actual = analysisResultSpecification.standardDeviation(company, BigDecimal.valueOf(100000, 2), List.of());
             assertNull(actual.orElse(null));
         }
 
@@ -187,7 +187,7 @@ class AnalysisResultSpecificationTest {
         void averageCorporateValue_isNull() {
             doReturn(List.of()).when(analysisResultSpecification).analysisTargetList("code", targetTypeCodes);
 
-            var actual = analysisResultSpecification.standardDeviation(company, null);
+            var actual = analysisResultSpecification.standardDeviation(company, null, List.of());
             assertNull(actual.orElse(null));
         }
 
@@ -211,7 +211,7 @@ class AnalysisResultSpecificationTest {
             );
             doReturn(List.of(analysisResult1)).when(analysisResultSpecification).analysisTargetList("code", targetTypeCodes);
 
-            var actual = analysisResultSpecification.standardDeviation(company, BigDecimal.valueOf(500.25));
+            var actual = analysisResultSpecification.standardDeviation(company, BigDecimal.valueOf(500.25), List.of());
             assertEquals(BigDecimal.valueOf(0, 1), actual.orElseThrow());
         }
     }
@@ -262,7 +262,7 @@ class AnalysisResultSpecificationTest {
             var analysisResult2 = new AnalysisResultEntity(2, "code", LocalDate.parse("2019-06-30"), BigDecimal.valueOf(900), null, null, null, null, "120", "4", null, null, null);
             doReturn(List.of(analysisResult1, analysisResult2)).when(analysisResultSpecification).analysisTargetList("code", targetTypeCodes);
 
-            var actual = analysisResultSpecification.countYear(company);
+            var actual = analysisResultSpecification.countYear(company, List.of());
             assertEquals(BigDecimal.valueOf(2), actual);
         }
 
@@ -271,11 +271,57 @@ class AnalysisResultSpecificationTest {
         void empty() {
             doReturn(List.of()).when(analysisResultSpecification).analysisTargetList("code", targetTypeCodes);
 
-            var actual = analysisResultSpecification.countYear(company);
+            var actual = analysisResultSpecification.countYear(company, List.of());
             assertEquals(BigDecimal.valueOf(0), actual);
         }
     }
 
+    @Nested
+    class analysisTargetList {
+
+        @DisplayName("analysisTargetList : 書類から取得した企業価値がない期間を導出した企業価値で補う")
+        @Test
+        void derived() {
+            var filed2020 = new AnalysisResultEntity(1, "code", LocalDate.parse("2020-06-30"), BigDecimal.valueOf(1100), null, null, null, null, "120", "4", LocalDate.parse("2020-09-30"), "filed2020", null);
+            var filed2019 = new AnalysisResultEntity(2, "code", LocalDate.parse("2019-06-30"), BigDecimal.valueOf(900), null, null, null, null, "120", "4", LocalDate.parse("2019-09-30"), "filed2019", null);
+            var derived2019 = new AnalysisResultEntity(null, "code", LocalDate.parse("2019-06-30"), BigDecimal.valueOf(950), null, null, null, null, "120", "4", LocalDate.parse("2020-09-30"), "filed2020", null);
+            var derived2018 = new AnalysisResultEntity(null, "code", LocalDate.parse("2018-06-30"), BigDecimal.valueOf(800), null, null, null, null, "120", "4", LocalDate.parse("2019-09-30"), "filed2019", null);
+            doReturn(List.of(filed2020, filed2019)).when(analysisResultSpecification).analysisTargetList("code", targetTypeCodes);
+
+            var actual = analysisResultSpecification.analysisTargetList("code", targetTypeCodes, List.of(derived2019, derived2018));
+
+            // 書類から取得した企業価値がある期間は、導出した企業価値より優先する
+            assertEquals(List.of(filed2020, filed2019, derived2018), actual);
+        }
+
+        @DisplayName("analysisTargetList : 導出した企業価値が同じ期間に複数あるときは提出日の新しいものを使用する")
+        @Test
+        void derived_latest() {
+            var derivedOld = new AnalysisResultEntity(null, "code", LocalDate.parse("2018-06-30"), BigDecimal.valueOf(800), null, null, null, null, "120", "4", LocalDate.parse("2019-09-30"), "old", null);
+            var derivedNew = new AnalysisResultEntity(null, "code", LocalDate.parse("2018-06-30"), BigDecimal.valueOf(850), null, null, null, null, "130", "4", LocalDate.parse("2019-12-31"), "new", null);
+            doReturn(List.of()).when(analysisResultSpecification).analysisTargetList("code", targetTypeCodes);
+
+            var actual = analysisResultSpecification.analysisTargetList("code", targetTypeCodes, List.of(derivedOld, derivedNew));
+
+            assertEquals(List.of(derivedNew), actual);
+        }
+    }
+
+    @Nested
+    class findDerivationSourceList {
+
+        @DisplayName("findDerivationSourceList : 有価証券報告書の企業価値のみを取得する")
+        @Test
+        void annual() {
+            analysisResultSpecification.targetTypeCodes = List.of("120", "130", "140");
+            var annual = new AnalysisResultEntity(1, "code", LocalDate.parse("2020-06-30"), BigDecimal.valueOf(1100), null, null, null, null, "120", "4", LocalDate.parse("2020-09-30"), "annual", null);
+            var quarterly = new AnalysisResultEntity(2, "code", LocalDate.parse("2020-09-30"), BigDecimal.valueOf(900), null, null, null, null, "140", "1", LocalDate.parse("2020-11-30"), "quarterly", null);
+            doReturn(List.of(annual, quarterly)).when(analysisResultSpecification).analysisTargetList("code", List.of("120", "130", "140"));
+
+            assertEquals(List.of(annual), analysisResultSpecification.findDerivationSourceList(company));
+        }
+    }
+
     @Nested
     class isAnalyzed {
 
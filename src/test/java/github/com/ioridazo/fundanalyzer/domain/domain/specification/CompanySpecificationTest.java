@@ -4,6 +4,8 @@ import github.com.ioridazo.fundanalyzer.client.csv.bean.EdinetCsvResultBean;
 import github.com.ioridazo.fundanalyzer.client.edinet.entity.response.Results;
 import github.com.ioridazo.fundanalyzer.domain.domain.dao.master.CompanyDao;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.CompanyEntity;
+import github.com.ioridazo.fundanalyzer.domain.value.Company;
+import github.com.ioridazo.fundanalyzer.domain.value.CompanyIndexConsistency;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,8 +16,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -24,16 +29,19 @@ import static org.mockito.Mockito.when;
 class CompanySpecificationTest {
 
     private CompanyDao companyDao;
+    private IndustrySpecification industrySpecification;
 
     private CompanySpecification companySpecification;
 
     @BeforeEach
     void setUp() {
         companyDao = Mockito.mock(CompanyDao.class);
+        industrySpecification = Mockito.mock(IndustrySpecification.class);
 
         companySpecification = Mockito.spy(new CompanySpecification(
                 companyDao,
-                Mockito.mock(IndustrySpecification.class)
+                industrySpecification,
+                Runnable::run
         ));
     }
 
@@ -53,10 +61,11 @@ class CompanySpecificationTest {
             var results = new Results();
             results.setEdinetCode("edinetCode");
 
-            when(companyDao.selectByEdinetCode("edinetCode")).thenReturn(Optional.of(defaultCompanyEntity()));
+            when(companyDao.selectAll()).thenReturn(List.of(defaultCompanyEntity()));
 
-            assertDoesNotThrow(() -> companySpecification.insertIfNotExist(results));
+            assertDoesNotThrow(() -> companySpecification.insertIfNotExist(List.of(results)));
             verify(companyDao, times(0)).insert(any());
+            verify(companyDao, times(1)).selectAll();
         }
 
         @DisplayName("insertIfNotExist : データベースに存在しなかったらinsertする")
@@ -64,11 +73,16 @@ class CompanySpecificationTest {
         void not_exist() {
             var results = new Results();
             results.setEdinetCode("edinetCode");
+            var other = new Results();
+            other.setEdinetCode("other");
+            var noCode = new Results();
 
-            when(companyDao.selectByEdinetCode("edinetCode")).thenReturn(Optional.empty());
+            when(companyDao.selectAll()).thenReturn(List.of());
 
-            assertDoesNotThrow(() -> companySpecification.insertIfNotExist(results));
-            verify(companyDao, times(1)).insert(any());
+            assertDoesNotThrow(() -> companySpecification.insertIfNotExist(List.of(results, other, results, noCode)));
+            verify(companyDao, times(2)).insert(any());
+            // 登録後に索引を1回だけ読み込み直す
+            verify(companyDao, times(2)).selectAll();
         }
     }
 
@@ -84,8 +98,7 @@ class CompanySpecificationTest {
             resultBean.setSettlementDate("");
             var resultBeanList = List.of(resultBean);
 
-            when(companyDao.selectByCodeIsNotNull()).thenReturn(List.of(defaultCompanyEntity()));
-            when(companyDao.selectByEdinetCode("edinetCode")).thenReturn(Optional.of(defaultCompanyEntity()));
+            when(companyDao.selectAll()).thenReturn(List.of(defaultCompanyEntity()));
 
             assertDoesNotThrow(() -> companySpecification.upsert(resultBeanList));
             verify(companyDao, times(1)).update(any());
@@ -101,13 +114,127 @@ class CompanySpecificationTest {
             resultBean.setSettlementDate("");
             var resultBeanList = List.of(resultBean);
 
-            when(companyDao.selectByCodeIsNotNull()).thenReturn(List.of(defaultCompanyEntity()));
-            when(companyDao.selectByEdinetCode("edinetCode")).thenReturn(Optional.empty());
+            when(companyDao.selectAll()).thenReturn(List.of(defaultCompanyEntity()));
 
             assertDoesNotThrow(() -> companySpecification.upsert(resultBeanList));
             verify(companyDao, times(0)).update(any());
             verify(companyDao, times(1)).insert(any());
         }
+
+        @DisplayName("upsert : 登録後に索引を読み込み直す")
+        @Test
+        void reload() {
+            var resultBean = new EdinetCsvResultBean();
+            resultBean.setEdinetCode("E00001");
+            resultBean.setSecuritiesCode("10000");
+            resultBean.setSubmitterName("テスト株式会社");
+            resultBean.setSettlementDate("");
+
+            when(companyDao.selectAll()).thenReturn(List.of()).thenReturn(List.of(companyEntity("10000", "テスト株式会社", "E00001")));
+
+            assertTrue(companySpecification.findCompanyByEdinetCode("E00001").isEmpty());
+            companySpecification.upsert(List.of(resultBean));
+            assertTrue(companySpecification.findCompanyByEdinetCode("E00001").isPresent());
+        }
+    }
+
+    @Nested
+    class index {
+
+        @BeforeEach
+        void setUp() {
+            when(companyDao.selectAll()).thenReturn(List.of(
+                    companyEntity("10000", "テスト株式会社", "E00001"),
+                    companyEntity(null, "仮登録の企業", "E00002")
+            ));
+            when(industrySpecification.convertFromIdToName(1)).thenReturn("水産・農林業");
+        }
+
+        @DisplayName("findCompany : 企業情報を一度だけ読み込み、参照ごとにデータベースへ問い合わせない")
+        @Test
+        void no_sql_per_lookup() {
+            for (int i = 0; i < 3; i++) {
+                assertAll(
+                        () -> assertEquals("E00001", companySpecification.findCompanyByCode("10000").map(Company::edinetCode).orElseThrow()),
+                        () -> assertEquals("10000", companySpecification.findCompanyByEdinetCode("E00001").map(Company::code).orElseThrow()),
+                        () -> assertEquals("水産・農林業", companySpecification.findCompanyByEdinetCode("E00001").map(Company::industryName).orElseThrow())
+                );
+            }
+
+            verify(companyDao, times(1)).selectAll();
+            verify(companyDao, times(0)).selectByEdinetCode(any());
+            verify(companyDao, times(0)).selectByCode(any());
+        }
+
+        @DisplayName("findCompanyByName : 全角・半角と空白の違いを無視して銘柄名で取得する")
+        @Test
+        void findCompanyByName() {
+            assertAll(
+                    () -> assertEquals("E00001", companySpecification.findCompanyByName("テスト株式会社").map(Company::edinetCode).orElseThrow()),
+                    () -> assertEquals("E00001", companySpecification.findCompanyByName(" ﾃｽﾄ 株式会社 ").map(Company::edinetCode).orElseThrow()),
+                    () -> assertTrue(companySpecification.findCompanyByName("存在しない企業").isEmpty()),
+                    () -> assertTrue(companySpecification.findCompanyByName(null).isEmpty())
+            );
+        }
+
+        @DisplayName("findCompanyByEdinetCode : 証券コードのない仮登録の企業は取得しない")
+        @Test
+        void sql_foreign_key() {
+            assertTrue(companySpecification.findCompanyByEdinetCode("E00002").isEmpty());
+        }
+
+        @DisplayName("checkConsistency : 索引とデータベースが一致している")
+        @Test
+        void consistent() {
+            var actual = companySpecification.checkConsistency();
+
+            assertAll(
+                    () -> assertTrue(actual.consistent()),
+                    () -> assertEquals(2, actual.indexedCount()),
+                    () -> assertEquals(2, actual.databaseCount())
+            );
+        }
+
+        @DisplayName("checkConsistency : 索引とデータベースの差分を返却する")
+        @Test
+        void inconsistent() {
+            companySpecification.reload();
+            when(companyDao.selectAll()).thenReturn(List.of(
+                    companyEntity("10000", "名称変更後の企業", "E00001"),
+                    companyEntity("20000", "新しい企業", "E00003")
+            ));
+
+            assertEquals(
+                    new CompanyIndexConsistency(2, 2, List.of("E00003"), List.of("E00001"), List.of("E00002"), false),
+                    companySpecification.checkConsistency()
+            );
+        }
+    }
+
+    @Nested
+    class update {
+
+        @DisplayName("updateFavorite : 更新後に索引を読み込み直す")
+        @Test
+        void updateFavorite() {
+            when(companyDao.selectAll()).thenReturn(List.of(companyEntity("10000", "テスト株式会社", "E00001")));
+            var company = companySpecification.findCompanyByCode("10000").orElseThrow();
+
+            assertTrue(companySpecification.updateFavorite(company));
+            verify(companyDao, times(2)).selectAll();
+        }
+
+        @DisplayName("updateRemoved : 更新後に索引を読み込み直す")
+        @Test
+        void updateRemoved() {
+            when(companyDao.selectAll())
+                    .thenReturn(List.of(companyEntity("10000", "テスト株式会社", "E00001")))
+                    .thenReturn(List.of());
+            var company = companySpecification.findCompanyByCode("10000").orElseThrow();
+
+            companySpecification.updateRemoved(company);
+            assertFalse(companySpecification.findCompanyByCode("10000").isPresent());
+        }
     }
 
 
@@ -127,4 +254,21 @@ class CompanySpecificationTest {
                 LocalDateTime.of(2021, 5, 8, 23, 37)
         );
     }
+
+    private CompanyEntity companyEntity(final String code, final String companyName, final String edinetCode) {
+        return new CompanyEntity(
+                code,
+                companyName,
+                1,
+                edinetCode,
+                null,
+                null,
+                null,
+                null,
+                "0",
+                "0",
+                null,
+                LocalDateTime.of(2021, 5, 8, 23, 37)
+        );
+    }
 }
\ No newline at end of file
@@ -5,17 +5,22 @@ import github.com.ioridazo.fundanalyzer.client.edinet.entity.response.Results;
 import github.com.ioridazo.fundanalyzer.domain.domain.dao.transaction.DocumentDao;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentEntity;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentStatus;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEnum;
 import github.com.ioridazo.fundanalyzer.domain.value.Company;
 import github.com.ioridazo.fundanalyzer.domain.value.Document;
 import github.com.ioridazo.fundanalyzer.domain.value.EdinetDocument;
+import github.com.ioridazo.fundanalyzer.domain.value.ScrapingResult;
 import github.com.ioridazo.fundanalyzer.web.model.DateInputData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.seasar.doma.jdbc.UniqueConstraintException;
+import org.springframework.dao.DuplicateKeyException;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +29,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -326,38 +332,110 @@ class DocumentSpecificationTest {
     @Nested
     class insert {
 
-        String documentId = "documentId";
         LocalDate submitDate = LocalDate.parse("2021-09-21");
 
-        @DisplayName("insert : データベースに存在しなければ登録する")
+        @DisplayName("insert : データベースに存在しない書類を1回のバッチで登録する")
         @Test
         void _insert() {
-            var results = new Results();
-            results.setDocId(documentId);
+            var target = new Results();
+            target.setDocId("target");
+            var already = new Results();
+            already.setDocId("already");
             var edinetResponse = new EdinetResponse();
-            edinetResponse.setResults(List.of(results));
+            edinetResponse.setResults(List.of(target, already));
 
-            when(documentDao.selectBySubmitDate(submitDate)).thenReturn(List.of());
+            when(documentDao.selectDocumentIdByDocumentIdList(List.of("target", "already"))).thenReturn(List.of("already"));
 
             assertDoesNotThrow(() -> documentSpecification.insert(submitDate, edinetResponse));
-            verify(documentDao, times(1)).insert(any());
+            verify(documentDao, times(1)).batchInsert(argThat(list -> list.size() == 1 && "target".equals(list.get(0).getDocumentId())));
+            verify(documentDao, times(0)).selectByDocumentId(any());
+            verify(documentDao, times(0)).insert(any());
         }
 
         @DisplayName("insert : データベースに存在すれば登録しない")
         @Test
         void not_insert() {
             var results = new Results();
-            results.setDocId(documentId);
+            results.setDocId("documentId");
             var edinetResponse = new EdinetResponse();
             edinetResponse.setResults(List.of(results));
 
-            var document = DocumentEntity.builder().documentId(documentId).build();
-
-            when(documentDao.selectBySubmitDate(submitDate)).thenReturn(List.of(document));
+            when(documentDao.selectDocumentIdByDocumentIdList(List.of("documentId"))).thenReturn(List.of("documentId"));
 
             assertDoesNotThrow(() -> documentSpecification.insert(submitDate, edinetResponse));
+            verify(documentDao, times(0)).batchInsert(any());
             verify(documentDao, times(0)).insert(any());
         }
+
+        @DisplayName("insert : 一意制約違反のときは1件ずつ登録する")
+        @Test
+        void unique_constraint() {
+            var target = new Results();
+            target.setDocId("target");
+            var other = new Results();
+            other.setDocId("other");
+            var edinetResponse = new EdinetResponse();
+            edinetResponse.setResults(List.of(target, other));
+
+            when(documentDao.selectDocumentIdByDocumentIdList(any())).thenReturn(List.of());
+            when(documentDao.batchInsert(any())).thenThrow(new DuplicateKeyException("duplicate", Mockito.mock(UniqueConstraintException.class)));
+
+            assertDoesNotThrow(() -> documentSpecification.insert(submitDate, edinetResponse));
+            verify(documentDao, times(2)).insert(any());
+        }
+    }
+
+    @Nested
+    class updateFsStatus {
+
+        Document document = new Document(
+                "documentId",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                DocumentStatus.DONE,
+                DocumentStatus.DONE,
+                DocumentStatus.NOT_YET,
+                null,
+                DocumentStatus.NOT_YET,
+                null,
+                DocumentStatus.NOT_YET,
+                null,
+                false
+        );
+        LocalDateTime updatedAt = LocalDateTime.parse("2021-09-21T00:00:00");
+
+        @DisplayName("updateFsStatus : 財務諸表毎の処理結果を1回でまとめて更新する")
+        @Test
+        void update() {
+            doReturn(updatedAt).when(documentSpecification).nowLocalDateTime();
+
+            assertDoesNotThrow(() -> documentSpecification.updateFsStatus(document, List.of(
+                    ScrapingResult.ofDone(FinancialStatementEnum.BALANCE_SHEET, "bs"),
+                    ScrapingResult.ofError(FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT),
+                    ScrapingResult.ofDone(FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES, "ns")
+            )));
+            verify(documentDao, times(1)).update(DocumentEntity.builder()
+                    .documentId(document.getDocumentId())
+                    .scrapedBs("1")
+                    .bsDocumentPath("bs")
+                    .scrapedPl("9")
+                    .scrapedNumberOfShares("1")
+                    .numberOfSharesDocumentPath("ns")
+                    .updatedAt(updatedAt)
+                    .build());
+        }
+
+        @DisplayName("updateFsStatus : 処理結果がないときは更新しない")
+        @Test
+        void empty() {
+            assertDoesNotThrow(() -> documentSpecification.updateFsStatus(document, List.of()));
+            verify(documentDao, times(0)).update(any());
+        }
     }
 
     @Nested
@@ -9,6 +9,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.seasar.doma.jdbc.UniqueConstraintException;
+import org.springframework.dao.DuplicateKeyException;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -17,6 +19,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -117,38 +120,58 @@ class EdinetDocumentSpecificationTest {
     @Nested
     class insert {
 
-        String documentId = "documentId";
         LocalDate submitDate = LocalDate.parse("2021-09-21");
 
-        @DisplayName("insert : データベースに存在しなければ登録する")
+        @DisplayName("insert : データベースに存在しない書類を1回のバッチで登録する")
         @Test
         void _insert() {
-            var results = new Results();
-            results.setDocId(documentId);
+            var target = new Results();
+            target.setDocId("target");
+            var already = new Results();
+            already.setDocId("already");
             var edinetResponse = new EdinetResponse();
-            edinetResponse.setResults(List.of(results));
+            edinetResponse.setResults(List.of(target, already, target));
 
-            when(edinetDocumentDao.selectBySubmitDate(submitDate.toString())).thenReturn(List.of());
+            when(edinetDocumentDao.selectDocIdByDocIdList(List.of("target", "already"))).thenReturn(List.of("already"));
 
             assertDoesNotThrow(() -> edinetDocumentSpecification.insert(submitDate, edinetResponse));
-            verify(edinetDocumentDao, times(1)).insert(any());
+            verify(edinetDocumentDao, times(1)).batchInsert(argThat(list -> list.size() == 1 && "target".equals(list.get(0).getDocId())));
+            verify(edinetDocumentDao, times(0)).selectByDocId(any());
+            verify(edinetDocumentDao, times(0)).insert(any());
         }
 
         @DisplayName("insert : データベースに存在すれば登録しない")
         @Test
         void not_insert() {
             var results = new Results();
-            results.setDocId(documentId);
+            results.setDocId("documentId");
             var edinetResponse = new EdinetResponse();
             edinetResponse.setResults(List.of(results));
 
-            var edinetDocument = new EdinetDocumentEntity();
-            edinetDocument.setDocId(documentId);
-
-            when(edinetDocumentDao.selectBySubmitDate(submitDate.toString())).thenReturn(List.of(edinetDocument));
+            when(edinetDocumentDao.selectDocIdByDocIdList(List.of("documentId"))).thenReturn(List.of("documentId"));
 
             assertDoesNotThrow(() -> edinetDocumentSpecification.insert(submitDate, edinetResponse));
+            verify(edinetDocumentDao, times(0)).batchInsert(any());
             verify(edinetDocumentDao, times(0)).insert(any());
         }
+
+        @DisplayName("insert : 一意制約違反のときは1件ずつ登録する")
+        @Test
+        void unique_constraint() {
+            var target = new Results();
+            target.setDocId("target");
+            var other = new Results();
+            other.setDocId("other");
+            var edinetResponse = new EdinetResponse();
+            edinetResponse.setResults(List.of(target, other));
+
+            when(edinetDocumentDao.selectDocIdByDocIdList(any())).thenReturn(List.of());
+            when(edinetDocumentDao.batchInsert(any())).thenThrow(new DuplicateKeyException("duplicate", Mockito.mock(UniqueConstraintException.class)));
+            when(edinetDocumentDao.insert(argThat(entity -> "target".equals(entity.getDocId()))))
+                    .thenThrow(new DuplicateKeyException("duplicate", Mockito.mock(UniqueConstraintException.class)));
+
+            assertDoesNotThrow(() -> edinetDocumentSpecification.insert(submitDate, edinetResponse));
+            verify(edinetDocumentDao, times(2)).insert(any());
+        }
     }
-}
\ No newline at end of file
+}
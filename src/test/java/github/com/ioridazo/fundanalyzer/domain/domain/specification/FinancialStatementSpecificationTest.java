@@ -2,27 +2,40 @@ package github.com.ioridazo.fundanalyzer.domain.domain.specification;
 
 import github.com.ioridazo.fundanalyzer.domain.domain.dao.transaction.FinancialStatementDao;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.Subject;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.CreatedType;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentStatus;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentTypeCode;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEntity;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEnum;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.QuarterType;
 import github.com.ioridazo.fundanalyzer.domain.value.BsSubject;
+import github.com.ioridazo.fundanalyzer.domain.value.Company;
 import github.com.ioridazo.fundanalyzer.domain.value.Document;
+import github.com.ioridazo.fundanalyzer.domain.value.FinancialStatementValue;
+import github.com.ioridazo.fundanalyzer.domain.value.FinancialStatementValueMap;
 import github.com.ioridazo.fundanalyzer.domain.value.PlSubject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.seasar.doma.jdbc.UniqueConstraintException;
+import org.springframework.dao.DuplicateKeyException;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SuppressWarnings("NewClassNamingConvention")
@@ -87,6 +100,7 @@ class FinancialStatementSpecificationTest {
                             null,
                             null,
                             null,
+                            null,
                             null
                     )));
 
@@ -113,6 +127,7 @@ class FinancialStatementSpecificationTest {
                             null,
                             null,
                             null,
+                            null,
                             null
                     )));
 
@@ -148,6 +163,7 @@ class FinancialStatementSpecificationTest {
                     null,
                     null,
                     null,
+                    null,
                     null
             ));
 
@@ -175,6 +191,7 @@ class FinancialStatementSpecificationTest {
                     null,
                     null,
                     null,
+                    null,
                     null
             ));
 
@@ -210,6 +227,7 @@ class FinancialStatementSpecificationTest {
                     null,
                     null,
                     null,
+                    null,
                     null
             ));
 
@@ -237,6 +255,7 @@ class FinancialStatementSpecificationTest {
                     null,
                     null,
                     null,
+                    null,
                     null
             ));
 
@@ -245,4 +264,275 @@ class FinancialStatementSpecificationTest {
             assertEquals(0, actual.size());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class insertPreviousPeriod {
+
+        Company company = new Company("code", null, null, null, "edinetCode", null, null, null, null, false, true);
+
+        @BeforeEach
+        void setUp() {
+            doReturn(LocalDateTime.of(2022, 6, 30, 0, 0)).when(financialStatementSpecification).nowLocalDateTime();
+        }
+
+        private Document document(final DocumentTypeCode documentTypeCode) {
+            return new Document(
+                    "documentId",
+                    documentTypeCode,
+                    QuarterType.QT_4,
+                    "edinetCode",
+                    LocalDate.parse("2022-03-31"),
+                    LocalDate.parse("2022-06-25"),
+                    LocalDate.parse("2021-04-01"),
+                    LocalDate.parse("2022-03-31"),
+                    null,
+                    null,
+                    DocumentStatus.DONE,
+                    null,
+                    DocumentStatus.DONE,
+                    null,
+                    DocumentStatus.DONE,
+                    null,
+                    false
+            );
+        }
+
+        @DisplayName("insertPreviousPeriod : 前期の値を1年前の期間の導出値として登録する")
+        @Test
+        void derived() {
+            financialStatementSpecification.insertPreviousPeriod(
+                    company, FinancialStatementEnum.BALANCE_SHEET, "1", document(DocumentTypeCode.DTC_120), 100L);
+
+            verify(financialStatementDao, times(1)).insert(Mockito.argThat(entity -> {
+                assertAll(
+                        () -> assertEquals(LocalDate.parse("2020-04-01"), entity.getPeriodStart()),
+                        () -> assertEquals(LocalDate.parse("2021-03-31"), entity.getPeriodEnd()),
+                        () -> assertEquals(100L, entity.getValue().orElseThrow()),
+                        () -> assertEquals("documentId", entity.getDocumentId()),
+                        () -> assertEquals(LocalDate.parse("2022-06-25"), entity.getSubmitDate()),
+                        () -> assertTrue(entity.isDerived())
+                );
+                return true;
+            }));
+        }
+
+        @DisplayName("insertPreviousPeriod : 四半期報告書は前期の期間が一律でないため登録しない")
+        @Test
+        void quarter() {
+            financialStatementSpecification.insertPreviousPeriod(
+                    company, FinancialStatementEnum.BALANCE_SHEET, "1", document(DocumentTypeCode.DTC_140), 100L);
+
+            verify(financialStatementDao, times(0)).insert(any());
+        }
+
+        @DisplayName("insertPreviousPeriod : 前期の値が存在しないときは登録しない")
+        @Test
+        void value_is_null() {
+            financialStatementSpecification.insertPreviousPeriod(
+                    company, FinancialStatementEnum.BALANCE_SHEET, "1", document(DocumentTypeCode.DTC_120), null);
+
+            verify(financialStatementDao, times(0)).insert(any());
+        }
+    }
+
+    @Nested
+    class insert_batch {
+
+        Company company = new Company("code", null, null, null, "edinetCode", null, null, null, null, false, true);
+        Document document = new Document(
+                "documentId",
+                DocumentTypeCode.DTC_120,
+                QuarterType.QT_4,
+                "edinetCode",
+                LocalDate.parse("2022-03-31"),
+                LocalDate.parse("2022-06-25"),
+                LocalDate.parse("2021-04-01"),
+                LocalDate.parse("2022-03-31"),
+                null,
+                null,
+                DocumentStatus.DONE,
+                null,
+                DocumentStatus.DONE,
+                null,
+                DocumentStatus.DONE,
+                null,
+                false
+        );
+
+        @BeforeEach
+        void setUp() {
+            doReturn(LocalDateTime.of(2022, 6, 30, 0, 0)).when(financialStatementSpecification).nowLocalDateTime();
+        }
+
+        @DisplayName("insert : 1つの書類の値を1回のバッチで登録する")
+        @Test
+        void batch() {
+            when(financialStatementDao.selectBySubmission("edinetCode", "1", "120", LocalDate.parse("2022-06-25")))
+                    .thenReturn(List.of());
+
+            financialStatementSpecification.insert(company, FinancialStatementEnum.BALANCE_SHEET, document, List.of(
+                    FinancialStatementValue.of("1", 100L, CreatedType.AUTO),
+                    FinancialStatementValue.of("2", 200L, CreatedType.AUTO),
+                    FinancialStatementValue.ofPreviousPeriod("1", 90L)
+            ));
+
+            verify(financialStatementDao, times(1)).batchInsert(Mockito.argThat(entityList -> {
+                assertAll(
+                        () -> assertEquals(3, entityList.size()),
+                        () -> assertEquals(100L, entityList.get(0).getValue().orElseThrow()),
+                        () -> assertEquals(200L, entityList.get(1).getValue().orElseThrow()),
+                        () -> assertEquals(LocalDate.parse("2021-03-31"), entityList.get(2).getPeriodEnd()),
+                        () -> assertTrue(entityList.get(2).isDerived())
+                );
+                return true;
+            }));
+            verify(financialStatementDao, times(0)).insert(any());
+        }
+
+        @DisplayName("insert : 同じ科目の値は先の値を登録し、登録済の値は除く")
+        @Test
+        void duplicate() {
+            when(financialStatementDao.selectBySubmission("edinetCode", "1", "120", LocalDate.parse("2022-06-25")))
+                    .thenReturn(List.of(FinancialStatementEntity.of(
+                            "code", "edinetCode", "1", "2", LocalDate.parse("2021-04-01"), LocalDate.parse("2022-03-31"),
+                            200L, DocumentTypeCode.DTC_120, QuarterType.QT_4, LocalDate.parse("2022-06-25"),
+                            "documentId", "0", null)));
+
+            financialStatementSpecification.insert(company, FinancialStatementEnum.BALANCE_SHEET, document, List.of(
+                    FinancialStatementValue.of("1", 100L, CreatedType.AUTO),
+                    FinancialStatementValue.of("1", 999L, CreatedType.AUTO),
+                    FinancialStatementValue.of("2", 200L, CreatedType.AUTO)
+            ));
+
+            verify(financialStatementDao, times(1)).batchInsert(Mockito.argThat(entityList -> {
+                assertAll(
+                        () -> assertEquals(1, entityList.size()),
+                        () -> assertEquals("1", entityList.get(0).getSubjectId()),
+                        () -> assertEquals(100L, entityList.get(0).getValue().orElseThrow())
+                );
+                return true;
+            }));
+        }
+
+        @DisplayName("insert : すべて登録済のときは登録しない")
+        @Test
+        void all_present() {
+            when(financialStatementDao.selectBySubmission("edinetCode", "1", "120", LocalDate.parse("2022-06-25")))
+                    .thenReturn(List.of(FinancialStatementEntity.of(
+                            "code", "edinetCode", "1", "1", LocalDate.parse("2021-04-01"), LocalDate.parse("2022-03-31"),
+                            100L, DocumentTypeCode.DTC_120, QuarterType.QT_4, LocalDate.parse("2022-06-25"),
+                            "documentId", "0", null)));
+
+            financialStatementSpecification.insert(company, FinancialStatementEnum.BALANCE_SHEET, document, List.of(
+                    FinancialStatementValue.of("1", 100L, CreatedType.AUTO)
+            ));
+
+            verify(financialStatementDao, times(0)).batchInsert(anyList());
+        }
+
+        @DisplayName("insert : 一意制約違反のときは1件ずつ登録し、違反した値のみスキップする")
+        @Test
+        void unique_constraint() {
+            when(financialStatementDao.selectBySubmission("edinetCode", "1", "120", LocalDate.parse("2022-06-25")))
+                    .thenReturn(List.of());
+            when(financialStatementDao.batchInsert(anyList()))
+                    .thenThrow(new DuplicateKeyException("duplicate", Mockito.mock(UniqueConstraintException.class)));
+            when(financialStatementDao.insert(Mockito.argThat(entity -> entity != null && "1".equals(entity.getSubjectId()))))
+                    .thenThrow(new DuplicateKeyException("duplicate", Mockito.mock(UniqueConstraintException.class)));
+
+            financialStatementSpecification.insert(company, FinancialStatementEnum.BALANCE_SHEET, document, List.of(
+                    FinancialStatementValue.of("1", 100L, CreatedType.AUTO),
+                    FinancialStatementValue.of("2", 200L, CreatedType.AUTO)
+            ));
+
+            verify(financialStatementDao, times(2)).insert(any());
+        }
+    }
+
+    @Nested
+    class findValueMap {
+
+        private Document document(final String documentId) {
+            return new Document(documentId, DocumentTypeCode.DTC_120, QuarterType.QT_4, "edinetCode", null, null,
+                    null, null, null, null, null, null, null, null, null, null, false);
+        }
+
+        private FinancialStatementEntity entity(final String documentId, final String fsId, final String subjectId, final Long value) {
+            return FinancialStatementEntity.of(
+                    "code", "edinetCode", fsId, subjectId, null, null, value, DocumentTypeCode.DTC_120,
+                    QuarterType.QT_4, null, documentId, "0", null);
+        }
+
+        @DisplayName("findValueMap : 複数の書類の値を1回の問い合わせで取得する")
+        @Test
+        void one_query() {
+            when(financialStatementDao.selectByDocumentIdList(List.of("doc1", "doc2"))).thenReturn(List.of(
+                    entity("doc1", "1", "10", 100L),
+                    entity("doc2", "1", "10", 200L)
+            ));
+
+            var actual = financialStatementSpecification.findValueMap(List.of(document("doc1"), document("doc2"), document("doc1")));
+
+            assertAll(
+                    () -> assertEquals(Optional.of(100L), actual.findValue("doc1", FinancialStatementEnum.BALANCE_SHEET, "10")),
+                    () -> assertEquals(Optional.of(200L), actual.findValue("doc2", FinancialStatementEnum.BALANCE_SHEET, "10")),
+                    () -> assertEquals(Optional.empty(), actual.findValue("doc2", FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT, "10"))
+            );
+            verify(financialStatementDao, times(1)).selectByDocumentIdList(any());
+            verify(financialStatementDao, times(0)).selectByUniqueKey(any(), any(), any());
+        }
+
+        @DisplayName("getFinanceValue : 読み込み済の値から、値が存在する最初の科目の値を取得する")
+        @Test
+        void getFinanceValue() {
+            when(subjectSpecification.findBsSubjectList(any())).thenReturn(List.of());
+            when(subjectSpecification.findPlSubjectList(any())).thenReturn(List.of());
+            when(subjectSpecification.findBsSubjectList(BsSubject.BsEnum.TOTAL_NET_ASSETS)).thenReturn(List.of(
+                    new BsSubject("10", null, null, null),
+                    new BsSubject("11", null, null, null),
+                    new BsSubject("12", null, null, null)
+            ));
+            var valueMap = FinancialStatementValueMap.of(List.of(
+                    entity("doc1", "1", "10", null),
+                    entity("doc1", "1", "11", 300L),
+                    entity("doc1", "1", "12", 400L),
+                    entity("doc1", "4", "0", 1000L)
+            ));
+
+            var actual = financialStatementSpecification.getFinanceValue(document("doc1"), valueMap);
+
+            assertAll(
+                    () -> assertEquals(300L, actual.getNetAssets().orElseThrow()),
+                    () -> assertEquals(1000L, actual.getNumberOfShares().orElseThrow()),
+                    () -> assertTrue(actual.getTotalCurrentAssets().isEmpty())
+            );
+            verify(financialStatementDao, times(0)).selectByUniqueKey(any(), any(), any());
+        }
+
+        @DisplayName("getDerivedFinanceValue : 前期の値から導出した値を使用し、株式総数は当期の値を使用する")
+        @Test
+        void getDerivedFinanceValue() {
+            when(subjectSpecification.findBsSubjectList(any())).thenReturn(List.of());
+            when(subjectSpecification.findPlSubjectList(any())).thenReturn(List.of());
+            when(subjectSpecification.findBsSubjectList(BsSubject.BsEnum.TOTAL_NET_ASSETS)).thenReturn(List.of(
+                    new BsSubject("10", null, null, null)
+            ));
+            when(financialStatementDao.selectByDocumentIdList(List.of("doc1"))).thenReturn(List.of(
+                    entity("doc1", "1", "10", 300L),
+                    entity("doc1", "4", "0", 1000L)
+            ));
+            when(financialStatementDao.selectDerivedByDocumentIdList(List.of("doc1"))).thenReturn(List.of(
+                    entity("doc1", "1", "10", 250L)
+            ));
+
+            var valueMap = financialStatementSpecification.findValueMap(List.of(document("doc1")));
+            var derivedValueMap = financialStatementSpecification.findDerivedValueMap(List.of(document("doc1")));
+            var actual = financialStatementSpecification.getDerivedFinanceValue(document("doc1"), valueMap, derivedValueMap);
+
+            assertAll(
+                    () -> assertEquals(250L, actual.getNetAssets().orElseThrow()),
+                    () -> assertEquals(1000L, actual.getNumberOfShares().orElseThrow())
+            );
+        }
+    }
+}
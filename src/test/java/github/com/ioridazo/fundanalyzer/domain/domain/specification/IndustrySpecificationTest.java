@@ -12,6 +12,7 @@ import org.mockito.Mockito;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -36,6 +37,41 @@ class IndustrySpecificationTest {
         industrySpecification.noTargetList = List.of("銀行業", "保険業");
     }
 
+    @Nested
+    class inquiryIndustryList {
+
+        @DisplayName("inquiryIndustryList : 業種情報を一度だけ読み込み、参照ごとにデータベースへ問い合わせない")
+        @Test
+        void no_sql_per_lookup() {
+            when(industryDao.selectAll()).thenReturn(List.of(
+                    new IndustryEntity(1, "水産・農林業", null),
+                    new IndustryEntity(28, "銀行業", null),
+                    new IndustryEntity(29, "保険業", null)));
+
+            assertAll(
+                    () -> assertEquals(1, industrySpecification.convertFromNameToId("水産・農林業")),
+                    () -> assertEquals("水産・農林業", industrySpecification.convertFromIdToName(1)),
+                    () -> assertTrue(industrySpecification.isTarget(1))
+            );
+            verify(industryDao, times(1)).selectAll();
+        }
+
+        @DisplayName("inquiryIndustryList : 業種を登録したときは読み込み直す")
+        @Test
+        void reload() {
+            when(industryDao.selectAll())
+                    .thenReturn(List.of())
+                    .thenReturn(List.of(new IndustryEntity(1, "水産・農林業", null)));
+            var edinetCsvResultBean = new EdinetCsvResultBean();
+            edinetCsvResultBean.setIndustry("水産・農林業");
+
+            industrySpecification.insert(List.of(edinetCsvResultBean));
+
+            assertEquals(1, industrySpecification.convertFromNameToId("水産・農林業"));
+            verify(industryDao, times(2)).selectAll();
+        }
+    }
+
     @Nested
     class convertFromNameToId {
 
@@ -0,0 +1,187 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.specification;
+
+import github.com.ioridazo.fundanalyzer.domain.domain.dao.transaction.ScrapingHintDao;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentStatus;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentTypeCode;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEnum;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.ScrapingHintEntity;
+import github.com.ioridazo.fundanalyzer.domain.value.Document;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScrapingHintSpecificationTest {
+
+    private ScrapingHintDao scrapingHintDao;
+    private SimpleMeterRegistry meterRegistry;
+
+    private ScrapingHintSpecification scrapingHintSpecification;
+
+    @BeforeEach
+    void setUp() {
+        scrapingHintDao = Mockito.mock(ScrapingHintDao.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        scrapingHintSpecification = Mockito.spy(new ScrapingHintSpecification(scrapingHintDao, meterRegistry));
+        doReturn(LocalDateTime.of(2026, 10, 18, 0, 0)).when(scrapingHintSpecification).nowLocalDateTime();
+    }
+
+    private Document defaultDocument(final DocumentTypeCode documentTypeCode) {
+        return new Document(
+                "documentId",
+                documentTypeCode,
+                null,
+                "edinetCode",
+                null,
+                null,
+                null,
+                null,
+                DocumentStatus.DONE,
+                DocumentStatus.DONE,
+                DocumentStatus.NOT_YET,
+                null,
+                DocumentStatus.NOT_YET,
+                null,
+                DocumentStatus.NOT_YET,
+                null,
+                false
+        );
+    }
+
+    @Nested
+    class upsert {
+
+        Document document = defaultDocument(DocumentTypeCode.DTC_120);
+        File targetFile = new File("XBRL/PublicDoc/0105010_honbun_jpcrp030000-asr-001_E00000-000_2020-03-31_01_2020-06-30_ixbrl.htm");
+
+        @DisplayName("upsert : 前回の記録がないときは登録する")
+        @Test
+        void insert() {
+            when(scrapingHintDao.selectByEdinetCodeAndDocumentTypeCodeAndFinancialStatementId("edinetCode", "120", "1")).thenReturn(Optional.empty());
+
+            scrapingHintSpecification.upsert(document, FinancialStatementEnum.BALANCE_SHEET, targetFile, "keyword");
+
+            verify(scrapingHintDao, times(1)).insert(ScrapingHintEntity.of(
+                    "edinetCode", "120", FinancialStatementEnum.BALANCE_SHEET, "keyword", "0105010", LocalDateTime.of(2026, 10, 18, 0, 0)));
+            verify(scrapingHintDao, times(0)).update(any());
+        }
+
+        @DisplayName("upsert : 前回と異なるときは更新する")
+        @Test
+        void update() {
+            when(scrapingHintDao.selectByEdinetCodeAndDocumentTypeCodeAndFinancialStatementId("edinetCode", "120", "1"))
+                    .thenReturn(Optional.of(ScrapingHintEntity.of("edinetCode", "120", FinancialStatementEnum.BALANCE_SHEET, "keyword", "0105020", null)));
+
+            scrapingHintSpecification.upsert(document, FinancialStatementEnum.BALANCE_SHEET, targetFile, "keyword");
+
+            verify(scrapingHintDao, times(0)).insert(any());
+            verify(scrapingHintDao, times(1)).update(ScrapingHintEntity.of(
+                    "edinetCode", "120", FinancialStatementEnum.BALANCE_SHEET, "keyword", "0105010", LocalDateTime.of(2026, 10, 18, 0, 0)));
+        }
+
+        @DisplayName("upsert : 前回と同じときは更新しない")
+        @Test
+        void same() {
+            when(scrapingHintDao.selectByEdinetCodeAndDocumentTypeCodeAndFinancialStatementId("edinetCode", "120", "1"))
+                    .thenReturn(Optional.of(ScrapingHintEntity.of("edinetCode", "120", FinancialStatementEnum.BALANCE_SHEET, "keyword", "0105010", null)));
+
+            scrapingHintSpecification.upsert(document, FinancialStatementEnum.BALANCE_SHEET, targetFile, "keyword");
+
+            verify(scrapingHintDao, times(0)).insert(any());
+            verify(scrapingHintDao, times(0)).update(any());
+        }
+
+        @DisplayName("upsert : \"honbun\"ファイルでないときは記録しない")
+        @Test
+        void not_honbun() {
+            scrapingHintSpecification.upsert(document, FinancialStatementEnum.BALANCE_SHEET, new File("manifest_PublicDoc.xml"), "keyword");
+
+            verify(scrapingHintDao, times(0)).selectByEdinetCodeAndDocumentTypeCodeAndFinancialStatementId(any(), any(), any());
+            verify(scrapingHintDao, times(0)).insert(any());
+        }
+
+        @DisplayName("upsert : 書類種別が不明なときは記録しない")
+        @Test
+        void no_document_type_code() {
+            scrapingHintSpecification.upsert(defaultDocument(null), FinancialStatementEnum.BALANCE_SHEET, targetFile, "keyword");
+
+            verify(scrapingHintDao, times(0)).selectByEdinetCodeAndDocumentTypeCodeAndFinancialStatementId(any(), any(), any());
+            verify(scrapingHintDao, times(0)).insert(any());
+        }
+    }
+
+    @Nested
+    class findHint {
+
+        @DisplayName("findHint : 企業・書類種別・財務諸表ごとのヒントを取得する")
+        @Test
+        void document_type_code() {
+            var hint = ScrapingHintEntity.of("edinetCode", "140", FinancialStatementEnum.BALANCE_SHEET, "keyword", "0104010", null);
+            when(scrapingHintDao.selectByEdinetCodeAndDocumentTypeCodeAndFinancialStatementId("edinetCode", "140", "1"))
+                    .thenReturn(Optional.of(hint));
+
+            assertAll(
+                    () -> assertEquals(Optional.of(hint), scrapingHintSpecification
+                            .findHint(defaultDocument(DocumentTypeCode.DTC_140), FinancialStatementEnum.BALANCE_SHEET)),
+                    () -> assertEquals(Optional.empty(), scrapingHintSpecification
+                            .findHint(defaultDocument(DocumentTypeCode.DTC_120), FinancialStatementEnum.BALANCE_SHEET))
+            );
+        }
+
+        @DisplayName("findHint : 書類種別が不明なときは取得しない")
+        @Test
+        void no_document_type_code() {
+            assertEquals(Optional.empty(), scrapingHintSpecification.findHint(defaultDocument(null), FinancialStatementEnum.BALANCE_SHEET));
+            verify(scrapingHintDao, times(0)).selectByEdinetCodeAndDocumentTypeCodeAndFinancialStatementId(any(), any(), any());
+        }
+    }
+
+    @Nested
+    class filePrefix {
+
+        @DisplayName("filePrefix : \"honbun\"ファイルのファイル名から接頭辞を取得する")
+        @Test
+        void honbun() {
+            assertAll(
+                    () -> assertEquals(Optional.of("0105010"), ScrapingHintSpecification.filePrefix(new File("0105010_honbun_jpcrp030000-asr-001_ixbrl.htm"))),
+                    () -> assertEquals(Optional.of("000000"), ScrapingHintSpecification.filePrefix(new File("000000_honbun.htm"))),
+                    () -> assertEquals(Optional.empty(), ScrapingHintSpecification.filePrefix(new File("_honbun.htm"))),
+                    () -> assertEquals(Optional.empty(), ScrapingHintSpecification.filePrefix(new File("0000000_header.htm")))
+            );
+        }
+    }
+
+    @Nested
+    class recordResult {
+
+        @DisplayName("recordResult : ヒントを使用できた回数と割合を公開する")
+        @Test
+        void ratio() {
+            scrapingHintSpecification.recordResult(true);
+            scrapingHintSpecification.recordResult(true);
+            scrapingHintSpecification.recordResult(true);
+            scrapingHintSpecification.recordResult(false);
+
+            assertAll(
+                    () -> assertEquals(3, meterRegistry.get("fundanalyzer.scraping.hint").tag("result", "hit").counter().count()),
+                    () -> assertEquals(1, meterRegistry.get("fundanalyzer.scraping.hint").tag("result", "miss").counter().count()),
+                    () -> assertEquals(0.75, meterRegistry.get("fundanalyzer.scraping.hint.ratio").gauge().value())
+            );
+        }
+    }
+}
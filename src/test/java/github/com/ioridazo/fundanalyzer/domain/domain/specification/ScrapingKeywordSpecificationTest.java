@@ -0,0 +1,160 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.specification;
+
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.ScrapingKeywordEntity;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.XbrlScraping;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentTypeCode;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEnum;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.QuarterType;
+import github.com.ioridazo.fundanalyzer.domain.value.Document;
+import github.com.ioridazo.fundanalyzer.domain.value.ScrapingKeywordStatistic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class ScrapingKeywordSpecificationTest {
+
+    private XbrlScraping xbrlScraping;
+
+    private ScrapingKeywordSpecification scrapingKeywordSpecification;
+
+    @BeforeEach
+    void setUp() {
+        xbrlScraping = Mockito.mock(XbrlScraping.class);
+
+        scrapingKeywordSpecification = new ScrapingKeywordSpecification(xbrlScraping);
+        when(xbrlScraping.isConsolidated(any())).thenCallRealMethod();
+        scrapingKeywordSpecification.keywordStatisticsEnabled = true;
+    }
+
+    private Document defaultDocument(final DocumentTypeCode documentTypeCode, final QuarterType quarterType) {
+        return new Document(
+                "documentId",
+                documentTypeCode,
+                quarterType,
+                "edinetCode",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                false
+        );
+    }
+
+    @Nested
+    class sortedScrapingKeywordList {
+
+        Document document = defaultDocument(DocumentTypeCode.DTC_120, null);
+        ScrapingKeywordEntity keyword1 = new ScrapingKeywordEntity(1, "1", "keyword1", null, "remarks", null);
+        ScrapingKeywordEntity keyword2 = new ScrapingKeywordEntity(2, "1", "keyword2", 1, "remarks", null);
+        ScrapingKeywordEntity keyword3 = new ScrapingKeywordEntity(3, "1", "keyword3", 2, "remarks", null);
+        ScrapingKeywordEntity keyword4 = new ScrapingKeywordEntity(4, "1", "keyword4", 2, "remarks", null);
+
+        @DisplayName("sortedScrapingKeywordList : 合致実績がないときは優先度の順に並び替える")
+        @Test
+        void priority() {
+            var actual = scrapingKeywordSpecification.sortedScrapingKeywordList(
+                    FinancialStatementEnum.BALANCE_SHEET, document, List.of(keyword1, keyword2, keyword3));
+
+            assertEquals(List.of(keyword2, keyword3, keyword1), actual);
+        }
+
+        @DisplayName("sortedScrapingKeywordList : 優先度の順に並び替え、同じときは合致した回数の多い順にする")
+        @Test
+        void hitCount() {
+            scrapingKeywordSpecification.recordHit(FinancialStatementEnum.BALANCE_SHEET, document, "keyword1");
+            scrapingKeywordSpecification.recordHit(FinancialStatementEnum.BALANCE_SHEET, document, "keyword1");
+            scrapingKeywordSpecification.recordHit(FinancialStatementEnum.BALANCE_SHEET, document, "keyword1");
+            scrapingKeywordSpecification.recordHit(FinancialStatementEnum.BALANCE_SHEET, document, "keyword4");
+
+            var actual = scrapingKeywordSpecification.sortedScrapingKeywordList(
+                    FinancialStatementEnum.BALANCE_SHEET, document, List.of(keyword1, keyword2, keyword3, keyword4));
+
+            // 合致した回数が多くても、優先度の低いキーワードより先には試行しない
+            assertEquals(List.of(keyword2, keyword4, keyword3, keyword1), actual);
+        }
+
+        @DisplayName("sortedScrapingKeywordList : 合致実績による入れ替えは連結・個別が同じキーワードの間に限る")
+        @Test
+        void consolidated() {
+            var consolidated = new ScrapingKeywordEntity(5, "1", "jpcrp_cor:ConsolidatedBalanceSheetTextBlock", null, "remarks", null);
+            var nonConsolidated = new ScrapingKeywordEntity(6, "1", "jpcrp_cor:BalanceSheetTextBlock", null, "remarks", null);
+            var quarterlyConsolidated = new ScrapingKeywordEntity(7, "1", "jpcrp_cor:QuarterlyConsolidatedBalanceSheetTextBlock", null, "remarks", null);
+            var quarterlyNonConsolidated = new ScrapingKeywordEntity(8, "1", "jpcrp_cor:QuarterlyBalanceSheetTextBlock", null, "remarks", null);
+            scrapingKeywordSpecification.recordHit(FinancialStatementEnum.BALANCE_SHEET, document, "jpcrp_cor:QuarterlyBalanceSheetTextBlock");
+            scrapingKeywordSpecification.recordHit(FinancialStatementEnum.BALANCE_SHEET, document, "jpcrp_cor:QuarterlyBalanceSheetTextBlock");
+            scrapingKeywordSpecification.recordHit(FinancialStatementEnum.BALANCE_SHEET, document, "jpcrp_cor:QuarterlyConsolidatedBalanceSheetTextBlock");
+
+            var actual = scrapingKeywordSpecification.sortedScrapingKeywordList(
+                    FinancialStatementEnum.BALANCE_SHEET, document,
+                    List.of(consolidated, nonConsolidated, quarterlyConsolidated, quarterlyNonConsolidated));
+
+            // 個別のキーワードの合致実績が多くても、連結のキーワードより先には試行しない
+            assertEquals(List.of(quarterlyConsolidated, quarterlyNonConsolidated, consolidated, nonConsolidated), actual);
+        }
+
+        @DisplayName("sortedScrapingKeywordList : 書類種別・四半期種別が異なる合致実績は使用しない")
+        @Test
+        void other_group() {
+            scrapingKeywordSpecification.recordHit(
+                    FinancialStatementEnum.BALANCE_SHEET, defaultDocument(DocumentTypeCode.DTC_140, QuarterType.QT_1), "keyword1");
+            scrapingKeywordSpecification.recordHit(
+                    FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT, document, "keyword1");
+
+            var actual = scrapingKeywordSpecification.sortedScrapingKeywordList(
+                    FinancialStatementEnum.BALANCE_SHEET, document, List.of(keyword1, keyword2, keyword3));
+
+            assertEquals(List.of(keyword2, keyword3, keyword1), actual);
+        }
+
+        @DisplayName("sortedScrapingKeywordList : 合致実績を使用しないときは優先度の順に並び替える")
+        @Test
+        void disabled() {
+            scrapingKeywordSpecification.recordHit(FinancialStatementEnum.BALANCE_SHEET, document, "keyword1");
+            scrapingKeywordSpecification.keywordStatisticsEnabled = false;
+
+            var actual = scrapingKeywordSpecification.sortedScrapingKeywordList(
+                    FinancialStatementEnum.BALANCE_SHEET, document, List.of(keyword1, keyword2, keyword3));
+
+            assertEquals(List.of(keyword2, keyword3, keyword1), actual);
+        }
+    }
+
+    @Nested
+    class findStatistics {
+
+        @DisplayName("findStatistics : キーワードごとの合致率を取得する")
+        @Test
+        void ok() {
+            var document = defaultDocument(DocumentTypeCode.DTC_140, QuarterType.QT_1);
+            scrapingKeywordSpecification.recordHit(FinancialStatementEnum.BALANCE_SHEET, document, "keyword1");
+            scrapingKeywordSpecification.recordHit(FinancialStatementEnum.BALANCE_SHEET, document, "keyword1");
+            scrapingKeywordSpecification.recordHit(FinancialStatementEnum.BALANCE_SHEET, document, "keyword2");
+            scrapingKeywordSpecification.recordMiss(FinancialStatementEnum.BALANCE_SHEET, document);
+
+            var actual = scrapingKeywordSpecification.findStatistics();
+
+            assertAll(
+                    () -> assertEquals(2, actual.size()),
+                    () -> assertEquals(new ScrapingKeywordStatistic("貸借対照表", "140", "1", "keyword1", 2, 4, 0.5), actual.get(0)),
+                    () -> assertEquals(new ScrapingKeywordStatistic("貸借対照表", "140", "1", "keyword2", 1, 4, 0.25), actual.get(1))
+            );
+        }
+    }
+}
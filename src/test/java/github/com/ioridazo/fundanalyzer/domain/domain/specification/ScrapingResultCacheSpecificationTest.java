@@ -0,0 +1,255 @@
+package github.com.ioridazo.fundanalyzer.domain.domain.specification;
+
+import github.com.ioridazo.fundanalyzer.domain.domain.dao.transaction.ScrapingResultCacheDao;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.ScrapingKeywordEntity;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentStatus;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEnum;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.ScrapingResultCacheEntity;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.FinancialFactResultBean;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.FinancialTableResultBean;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.ScrapingResultBean;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.Unit;
+import github.com.ioridazo.fundanalyzer.domain.value.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScrapingResultCacheSpecificationTest {
+
+    private ScrapingResultCacheDao scrapingResultCacheDao;
+
+    private ScrapingResultCacheSpecification scrapingResultCacheSpecification;
+
+    @BeforeEach
+    void setUp() {
+        scrapingResultCacheDao = Mockito.mock(ScrapingResultCacheDao.class);
+
+        scrapingResultCacheSpecification = Mockito.spy(new ScrapingResultCacheSpecification(scrapingResultCacheDao));
+    }
+
+    private Document defaultDocument() {
+        return new Document(
+                "documentId",
+                null,
+                null,
+                "edinetCode",
+                null,
+                null,
+                null,
+                null,
+                DocumentStatus.DONE,
+                DocumentStatus.DONE,
+                DocumentStatus.NOT_YET,
+                null,
+                DocumentStatus.NOT_YET,
+                null,
+                DocumentStatus.NOT_YET,
+                null,
+                false
+        );
+    }
+
+    @Nested
+    class keywordVersion {
+
+        ScrapingKeywordEntity keyword1 = new ScrapingKeywordEntity(1, "1", "keyword1", 1, null, null);
+        ScrapingKeywordEntity keyword2 = new ScrapingKeywordEntity(2, "1", "keyword2", null, null, null);
+
+        @DisplayName("keywordVersion : キーワードの並び順によらず同じバージョンになる")
+        @Test
+        void same() {
+            assertEquals(
+                    scrapingResultCacheSpecification.keywordVersion(FinancialStatementEnum.BALANCE_SHEET, List.of(keyword1, keyword2)),
+                    scrapingResultCacheSpecification.keywordVersion(FinancialStatementEnum.BALANCE_SHEET, List.of(keyword2, keyword1))
+            );
+        }
+
+        @DisplayName("keywordVersion : キーワードが変わるとバージョンも変わる")
+        @Test
+        void changed() {
+            var changed = new ScrapingKeywordEntity(2, "1", "keyword2", 2, null, null);
+
+            assertAll(
+                    () -> assertNotEquals(
+                            scrapingResultCacheSpecification.keywordVersion(FinancialStatementEnum.BALANCE_SHEET, List.of(keyword1, keyword2)),
+                            scrapingResultCacheSpecification.keywordVersion(FinancialStatementEnum.BALANCE_SHEET, List.of(keyword1, changed))
+                    ),
+                    () -> assertNotEquals(
+                            scrapingResultCacheSpecification.keywordVersion(FinancialStatementEnum.BALANCE_SHEET, List.of(keyword1, keyword2)),
+                            scrapingResultCacheSpecification.keywordVersion(FinancialStatementEnum.BALANCE_SHEET, List.of(keyword1))
+                    )
+            );
+        }
+
+        @DisplayName("keywordVersion : ほかの財務諸表種別のキーワードが変わってもバージョンは変わらない")
+        @Test
+        void other_fs() {
+            var other = new ScrapingKeywordEntity(3, "2", "keyword3", null, null, null);
+
+            assertEquals(
+                    scrapingResultCacheSpecification.keywordVersion(FinancialStatementEnum.BALANCE_SHEET, List.of(keyword1, keyword2)),
+                    scrapingResultCacheSpecification.keywordVersion(FinancialStatementEnum.BALANCE_SHEET, List.of(keyword1, keyword2, other))
+            );
+        }
+    }
+
+    @Nested
+    class findCache {
+
+        Document document = defaultDocument();
+        ScrapingResultBean result = ScrapingResultBean.of(
+                List.of(FinancialFactResultBean.of("subject", null, 1000L)),
+                List.of(FinancialTableResultBean.of(null, "1", "2", Unit.MILLIONS_OF_YEN)),
+                "100"
+        );
+
+        @DisplayName("findCache : 保存したスクレイピング結果を復元する")
+        @Test
+        void present() {
+            when(scrapingResultCacheDao.selectByDocumentIdAndFinancialStatementId("documentId", "1"))
+                    .thenReturn(Optional.of(ScrapingResultCacheEntity.of(
+                            "documentId",
+                            FinancialStatementEnum.BALANCE_SHEET,
+                            "keyword",
+                            "file",
+                            "hash",
+                            "html",
+                            "version",
+                            result.toBytes(),
+                            LocalDateTime.of(2021, 5, 29, 0, 0)
+                    )));
+
+            var actual = scrapingResultCacheSpecification.findCache(document, FinancialStatementEnum.BALANCE_SHEET, "html", "version");
+
+            assertTrue(actual.isPresent());
+            assertAll(
+                    () -> assertEquals(new File("file"), actual.get().file()),
+                    () -> assertEquals("keyword", actual.get().keyword()),
+                    () -> assertEquals("hash", actual.get().fileHash()),
+                    () -> assertEquals(result, actual.get().result())
+            );
+        }
+
+        @DisplayName("findCache : キーワードのバージョンが異なるときは取得しない")
+        @Test
+        void version_mismatch() {
+            when(scrapingResultCacheDao.selectByDocumentIdAndFinancialStatementId("documentId", "1"))
+                    .thenReturn(Optional.of(ScrapingResultCacheEntity.of(
+                            "documentId",
+                            FinancialStatementEnum.BALANCE_SHEET,
+                            "keyword",
+                            "file",
+                            "hash",
+                            "html",
+                            "old",
+                            result.toBytes(),
+                            LocalDateTime.of(2021, 5, 29, 0, 0)
+                    )));
+
+            assertEquals(Optional.empty(), scrapingResultCacheSpecification.findCache(document, FinancialStatementEnum.BALANCE_SHEET, "html", "version"));
+        }
+
+        @DisplayName("findCache : 財務諸表の取得方法が異なるときは取得しない")
+        @Test
+        void extractionMode_mismatch() {
+            when(scrapingResultCacheDao.selectByDocumentIdAndFinancialStatementId("documentId", "1"))
+                    .thenReturn(Optional.of(ScrapingResultCacheEntity.of(
+                            "documentId",
+                            FinancialStatementEnum.BALANCE_SHEET,
+                            "keyword",
+                            "file",
+                            "hash",
+                            "html",
+                            "version",
+                            result.toBytes(),
+                            LocalDateTime.of(2021, 5, 29, 0, 0)
+                    )));
+
+            assertEquals(Optional.empty(), scrapingResultCacheSpecification.findCache(
+                    document, FinancialStatementEnum.BALANCE_SHEET, "inline-xbrl,html", "version"));
+        }
+
+        @DisplayName("findCache : 復元できないときは取得しない")
+        @Test
+        void broken() {
+            when(scrapingResultCacheDao.selectByDocumentIdAndFinancialStatementId("documentId", "1"))
+                    .thenReturn(Optional.of(ScrapingResultCacheEntity.of(
+                            "documentId",
+                            FinancialStatementEnum.BALANCE_SHEET,
+                            "keyword",
+                            "file",
+                            "hash",
+                            "html",
+                            "version",
+                            new byte[]{99},
+                            LocalDateTime.of(2021, 5, 29, 0, 0)
+                    )));
+
+            assertEquals(Optional.empty(), scrapingResultCacheSpecification.findCache(document, FinancialStatementEnum.BALANCE_SHEET, "html", "version"));
+        }
+    }
+
+    @Nested
+    class upsert {
+
+        Document document = defaultDocument();
+        ScrapingResultBean result = ScrapingResultBean.ofNumberOfShares("100");
+
+        @BeforeEach
+        void setUp() {
+            doReturn(LocalDateTime.of(2021, 5, 29, 0, 0)).when(scrapingResultCacheSpecification).nowLocalDateTime();
+        }
+
+        @DisplayName("upsert : 保存されていないときは登録する")
+        @Test
+        void insert() {
+            when(scrapingResultCacheDao.selectByDocumentIdAndFinancialStatementId("documentId", "4")).thenReturn(Optional.empty());
+
+            scrapingResultCacheSpecification.upsert(
+                    document, FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES, new File("file"), "keyword", "hash", "html", "version", result);
+
+            verify(scrapingResultCacheDao, times(1)).insert(any());
+            verify(scrapingResultCacheDao, times(0)).update(any());
+        }
+
+        @DisplayName("upsert : 保存されているときは更新する")
+        @Test
+        void update() {
+            when(scrapingResultCacheDao.selectByDocumentIdAndFinancialStatementId("documentId", "4"))
+                    .thenReturn(Optional.of(ScrapingResultCacheEntity.of(
+                            "documentId",
+                            FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES,
+                            "keyword",
+                            "file",
+                            "old",
+                            "html",
+                            "version",
+                            result.toBytes(),
+                            LocalDateTime.of(2021, 5, 28, 0, 0)
+                    )));
+
+            scrapingResultCacheSpecification.upsert(
+                    document, FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES, new File("file"), "keyword", "hash", "html", "version", result);
+
+            verify(scrapingResultCacheDao, times(0)).insert(any());
+            verify(scrapingResultCacheDao, times(1)).update(any());
+        }
+    }
+}
@@ -20,17 +20,25 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class SubjectSpecificationTest {
 
+    private BsSubjectDao bsSubjectDao;
+    private PlSubjectDao plSubjectDao;
+
     private SubjectSpecification subjectSpecification;
 
     @BeforeEach
     void setUp() {
+        bsSubjectDao = Mockito.mock(BsSubjectDao.class);
+        plSubjectDao = Mockito.mock(PlSubjectDao.class);
+
         subjectSpecification = Mockito.spy(new SubjectSpecification(
-                Mockito.mock(BsSubjectDao.class),
-                Mockito.mock(PlSubjectDao.class)
+                bsSubjectDao,
+                plSubjectDao
         ));
     }
 
@@ -39,7 +47,7 @@ class SubjectSpecificationTest {
 
         @BeforeEach
         void setUp() {
-            when(subjectSpecification.inquiryBsSubjectList()).thenReturn(List.of(new BsSubjectEntity("2", "1", "1", "流動資産合計")));
+            when(bsSubjectDao.selectAll()).thenReturn(List.of(new BsSubjectEntity("2", "1", "1", "流動資産合計")));
         }
 
         @DisplayName("findBsSubject : 貸借対照表の科目を取得する")
@@ -84,7 +92,7 @@ class SubjectSpecificationTest {
 
         @BeforeEach
         void setUp() {
-            when(subjectSpecification.inquiryPlSubjectList()).thenReturn(List.of(new PlSubjectEntity("3", "3", "1", "営業利益")));
+            when(plSubjectDao.selectAll()).thenReturn(List.of(new PlSubjectEntity("3", "3", "1", "営業利益")));
         }
 
         @DisplayName("findPlSubject : 損益計算書の科目を取得する")
@@ -111,8 +119,8 @@ class SubjectSpecificationTest {
 
         @BeforeEach
         void setUp() {
-            when(subjectSpecification.inquiryBsSubjectList()).thenReturn(List.of(new BsSubjectEntity("1", "1", "1", "name")));
-            when(subjectSpecification.inquiryPlSubjectList()).thenReturn(List.of(new PlSubjectEntity("1", "1", "1", "name")));
+            when(bsSubjectDao.selectAll()).thenReturn(List.of(new BsSubjectEntity("1", "1", "1", "name")));
+            when(plSubjectDao.selectAll()).thenReturn(List.of(new PlSubjectEntity("1", "1", "1", "name")));
         }
 
         @DisplayName("findSubject : BSの科目情報を取得する")
@@ -169,7 +177,7 @@ class SubjectSpecificationTest {
 
         @BeforeEach
         void setUp() {
-            when(subjectSpecification.inquiryBsSubjectList()).thenReturn(List.of(
+            when(bsSubjectDao.selectAll()).thenReturn(List.of(
                     new BsSubjectEntity("2", "1", "1", "流動資産合計"),
                     new BsSubjectEntity("20", "1", "2", "流動資産計")));
         }
@@ -202,7 +210,7 @@ class SubjectSpecificationTest {
 
         @BeforeEach
         void setUp() {
-            when(subjectSpecification.inquiryPlSubjectList()).thenReturn(List.of(
+            when(plSubjectDao.selectAll()).thenReturn(List.of(
                     new PlSubjectEntity("3", "3", "1", "営業利益"),
                     new PlSubjectEntity("4", "3", "2", "営業利益又は営業損失（△）")));
         }
@@ -229,4 +237,51 @@ class SubjectSpecificationTest {
             assertEquals(List.of(), subjectSpecification.findPlSubjectList(PlSubject.PlEnum.OPERATING_PROFIT));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class dictionary {
+
+        @BeforeEach
+        void setUp() {
+            when(bsSubjectDao.selectAll()).thenReturn(List.of(
+                    new BsSubjectEntity("2", "1", "1", "流動資産合計"),
+                    new BsSubjectEntity("20", "1", "2", "流動資産計")));
+            when(plSubjectDao.selectAll()).thenReturn(List.of(new PlSubjectEntity("3", "3", "1", "営業利益")));
+        }
+
+        @DisplayName("dictionary : 科目の参照ごとにデータベースへ問い合わせない")
+        @Test
+        void no_sql_per_lookup() {
+            for (int i = 0; i < 100; i++) {
+                subjectSpecification.findBsSubject("流動資産合計");
+                subjectSpecification.findBsSubject(BsSubject.BsEnum.TOTAL_CURRENT_ASSETS);
+                subjectSpecification.findBsSubjectList(BsSubject.BsEnum.TOTAL_CURRENT_ASSETS);
+                subjectSpecification.findPlSubject("営業利益");
+                subjectSpecification.findPlSubjectList(PlSubject.PlEnum.OPERATING_PROFIT);
+                subjectSpecification.findSubject(FinancialStatementEnum.BALANCE_SHEET, "20");
+                subjectSpecification.findSubject(FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT, "3");
+                subjectSpecification.inquiryBsSubjectList();
+                subjectSpecification.inquiryPlSubjectList();
+            }
+
+            verify(bsSubjectDao, times(1)).selectAll();
+            verify(plSubjectDao, times(1)).selectAll();
+        }
+
+        @DisplayName("dictionary : 読み込み直したときは変更後の科目を参照する")
+        @Test
+        void reload() {
+            assertNull(subjectSpecification.findPlSubject("経常利益").orElse(null));
+
+            when(plSubjectDao.selectAll()).thenReturn(List.of(
+                    new PlSubjectEntity("3", "3", "1", "営業利益"),
+                    new PlSubjectEntity("9", "4", "1", "経常利益")));
+            subjectSpecification.reload();
+
+            assertAll(
+                    () -> assertEquals("9", subjectSpecification.findPlSubject("経常利益").orElseThrow().getId()),
+                    () -> verify(plSubjectDao, times(2)).selectAll()
+            );
+        }
+    }
+}
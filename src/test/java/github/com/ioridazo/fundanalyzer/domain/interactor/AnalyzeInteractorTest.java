@@ -1,6 +1,7 @@
 package github.com.ioridazo.fundanalyzer.domain.interactor;
 
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.AnalysisResultEntity;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentTypeCode;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.StockPriceEntity;
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.AnalysisResultSpecification;
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.CompanySpecification;
@@ -12,7 +13,10 @@ import github.com.ioridazo.fundanalyzer.domain.value.AverageInfo;
 import github.com.ioridazo.fundanalyzer.domain.value.Company;
 import github.com.ioridazo.fundanalyzer.domain.value.Document;
 import github.com.ioridazo.fundanalyzer.domain.value.FinanceValue;
+import github.com.ioridazo.fundanalyzer.domain.value.FinancialStatementValueMap;
 import github.com.ioridazo.fundanalyzer.domain.value.IndicatorValue;
+import github.com.ioridazo.fundanalyzer.exception.FundanalyzerBadDataException;
+import github.com.ioridazo.fundanalyzer.exception.FundanalyzerNotExistException;
 import github.com.ioridazo.fundanalyzer.web.model.CodeInputData;
 import github.com.ioridazo.fundanalyzer.web.model.DateInputData;
 import org.junit.jupiter.api.BeforeEach;
@@ -64,7 +68,8 @@ class AnalyzeInteractorTest {
                 financialStatementSpecification,
                 analysisResultSpecification,
                 stockSpecification,
-                investmentIndicatorSpecification
+                investmentIndicatorSpecification,
+                Runnable::run
         ));
         analyzeInteractor.targetTypeCodes = List.of("120", "130");
     }
@@ -112,7 +117,7 @@ class AnalyzeInteractorTest {
                     109L
             );
 
-            when(financialStatementSpecification.getFinanceValue(document)).thenReturn(financeValue);
+            when(financialStatementSpecification.getFinanceValue(eq(document), any())).thenReturn(financeValue);
             assertDoesNotThrow(() -> analyzeInteractor.analyze(document));
             verify(analysisResultSpecification, times(1)).insert(any(), any());
         }
@@ -133,7 +138,7 @@ class AnalyzeInteractorTest {
                     null
             );
 
-            when(financialStatementSpecification.getFinanceValue(document)).thenReturn(financeValue);
+            when(financialStatementSpecification.getFinanceValue(eq(document), any())).thenReturn(financeValue);
             assertDoesNotThrow(() -> analyzeInteractor.analyze(document));
             verify(analysisResultSpecification, times(0)).insert(any(), any());
             verify(documentSpecification, times(1)).updateFsToHalfWay(any(), any());
@@ -143,18 +148,50 @@ class AnalyzeInteractorTest {
         @Test
         void inputData_present() {
             when(documentSpecification.analysisTargetList(inputData)).thenReturn(List.of(document));
-            doNothing().when(analyzeInteractor).analyze(document);
+            doNothing().when(analyzeInteractor).analyze(eq(document), any());
+            assertDoesNotThrow(() -> analyzeInteractor.analyze(inputData));
+            verify(analyzeInteractor, times(1)).analyze(eq(document), any());
+        }
+
+        @DisplayName("analyze : 提出日の書類の財務諸表の値をまとめて読み込む")
+        @Test
+        void inputData_valueMap() {
+            var document2 = new Document("documentId2", null, null, "edinetCode2", null, LocalDate.now(),
+                    null, null, null, null, null, null, null, null, null, null, false);
+            var valueMap = FinancialStatementValueMap.of(List.of());
+
+            when(documentSpecification.analysisTargetList(inputData)).thenReturn(List.of(document, document2));
+            when(financialStatementSpecification.findValueMap(List.of(document, document2))).thenReturn(valueMap);
+            doNothing().when(analyzeInteractor).analyze(any(Document.class), any());
+
+            assertDoesNotThrow(() -> analyzeInteractor.analyze(inputData));
+            verify(financialStatementSpecification, times(1)).findValueMap(any());
+            verify(analyzeInteractor, times(1)).analyze(document, valueMap);
+            verify(analyzeInteractor, times(1)).analyze(document2, valueMap);
+        }
+
+        @DisplayName("analyze : まとめて読み込めなかったときは書類ごとに読み込んで算出する")
+        @Test
+        void inputData_valueMap_failed() {
+            var document2 = new Document("documentId2", null, null, "edinetCode2", null, LocalDate.now(),
+                    null, null, null, null, null, null, null, null, null, null, false);
+
+            when(documentSpecification.analysisTargetList(inputData)).thenReturn(List.of(document, document2));
+            when(financialStatementSpecification.findValueMap(List.of(document, document2)))
+                    .thenThrow(FundanalyzerBadDataException.class);
+            doNothing().when(analyzeInteractor).analyze(any(Document.class));
+
             assertDoesNotThrow(() -> analyzeInteractor.analyze(inputData));
             verify(analyzeInteractor, times(1)).analyze(document);
+            verify(analyzeInteractor, times(1)).analyze(document2);
         }
 
         @DisplayName("analyze : 対象が存在しないときはなにもしない")
         @Test
         void inputData_empty() {
             when(documentSpecification.analysisTargetList(inputData)).thenReturn(List.of());
-            doNothing().when(analyzeInteractor).analyze(document);
             assertDoesNotThrow(() -> analyzeInteractor.analyze(inputData));
-            verify(analyzeInteractor, times(0)).analyze(document);
+            verify(analyzeInteractor, times(0)).analyze(eq(document), any());
         }
 
         @DisplayName("analyze : 投資指標を算出する")
@@ -173,7 +210,7 @@ class AnalyzeInteractorTest {
                     109L
             );
 
-            when(financialStatementSpecification.getFinanceValue(document)).thenReturn(financeValue);
+            when(financialStatementSpecification.getFinanceValue(eq(document), any())).thenReturn(financeValue);
             when(documentSpecification.findLatestDocument("edinetCode")).thenReturn(Optional.of(document));
             when(analysisResultSpecification.findAnalysisResult("documentId"))
                     .thenReturn(Optional.of(analysisResult));
@@ -199,7 +236,7 @@ class AnalyzeInteractorTest {
                     109L
             );
 
-            when(financialStatementSpecification.getFinanceValue(document)).thenReturn(financeValue);
+            when(financialStatementSpecification.getFinanceValue(eq(document), any())).thenReturn(financeValue);
             when(documentSpecification.findLatestDocument("edinetCode")).thenReturn(Optional.empty());
 
             assertDoesNotThrow(() -> analyzeInteractor.analyze(document));
@@ -223,7 +260,7 @@ class AnalyzeInteractorTest {
                     109L
             );
 
-            when(financialStatementSpecification.getFinanceValue(document)).thenReturn(financeValue);
+            when(financialStatementSpecification.getFinanceValue(eq(document), any())).thenReturn(financeValue);
             when(documentSpecification.findLatestDocument("edinetCode"))
                     .thenReturn(Optional.of(new Document(
                             "documentId2",
@@ -288,7 +325,7 @@ class AnalyzeInteractorTest {
         @CsvSource({"0,3", "1,5", "2,10"})
         void averageCorporateValue_year_isEmpty(int index, int year) {
             when(analysisResultSpecification.findLatestAnalysisResult("code")).thenReturn(Optional.of(analysisResult));
-            when(analysisResultSpecification.yearAverageCorporateValue(company, year)).thenReturn(Optional.empty());
+            when(analysisResultSpecification.yearAverageCorporateValue(company, year, List.of())).thenReturn(Optional.empty());
             var actual = analyzeInteractor.calculateCorporateValue(company);
 
             assertAll(
@@ -307,7 +344,7 @@ class AnalyzeInteractorTest {
         @Test
         void averageCorporateValue_allYear_isEmpty() {
             when(analysisResultSpecification.findLatestAnalysisResult("code")).thenReturn(Optional.of(analysisResult));
-            when(analysisResultSpecification.allYearAverageCorporateValue(company)).thenReturn(Optional.empty());
+            when(analysisResultSpecification.allYearAverageCorporateValue(company, List.of())).thenReturn(Optional.empty());
             var actual = analyzeInteractor.calculateCorporateValue(company);
 
             assertAll(
@@ -327,8 +364,8 @@ class AnalyzeInteractorTest {
         @CsvSource({"0,3", "1,5", "2,10"})
         void standardDeviation_year_isEmpty(int index, int year) {
             when(analysisResultSpecification.findLatestAnalysisResult("code")).thenReturn(Optional.of(analysisResult));
-            when(analysisResultSpecification.yearAverageCorporateValue(company, year)).thenReturn(Optional.of(BigDecimal.TEN));
-            when(analysisResultSpecification.standardDeviation(company, BigDecimal.TEN)).thenReturn(Optional.empty());
+            when(analysisResultSpecification.yearAverageCorporateValue(company, year, List.of())).thenReturn(Optional.of(BigDecimal.TEN));
+            when(analysisResultSpecification.standardDeviation(company, BigDecimal.TEN, List.of())).thenReturn(Optional.empty());
             var actual = analyzeInteractor.calculateCorporateValue(company);
 
             assertAll(
@@ -347,8 +384,8 @@ class AnalyzeInteractorTest {
         @Test
         void standardDeviation_allYear_isEmpty() {
             when(analysisResultSpecification.findLatestAnalysisResult("code")).thenReturn(Optional.of(analysisResult));
-            when(analysisResultSpecification.allYearAverageCorporateValue(company)).thenReturn(Optional.of(BigDecimal.TEN));
-            when(analysisResultSpecification.standardDeviation(company, BigDecimal.TEN)).thenReturn(Optional.empty());
+            when(analysisResultSpecification.allYearAverageCorporateValue(company, List.of())).thenReturn(Optional.of(BigDecimal.TEN));
+            when(analysisResultSpecification.standardDeviation(company, BigDecimal.TEN, List.of())).thenReturn(Optional.empty());
             var actual = analyzeInteractor.calculateCorporateValue(company);
 
             assertAll(
@@ -368,8 +405,8 @@ class AnalyzeInteractorTest {
         @CsvSource({"0,3", "1,5", "2,10"})
         void coefficientOfVariation_year_isEmpty(int index, int year) {
             when(analysisResultSpecification.findLatestAnalysisResult("code")).thenReturn(Optional.of(analysisResult));
-            when(analysisResultSpecification.yearAverageCorporateValue(company, year)).thenReturn(Optional.of(BigDecimal.TEN));
-            when(analysisResultSpecification.standardDeviation(company, BigDecimal.TEN)).thenReturn(Optional.of(BigDecimal.TEN));
+            when(analysisResultSpecification.yearAverageCorporateValue(company, year, List.of())).thenReturn(Optional.of(BigDecimal.TEN));
+            when(analysisResultSpecification.standardDeviation(company, BigDecimal.TEN, List.of())).thenReturn(Optional.of(BigDecimal.TEN));
             when(analysisResultSpecification.coefficientOfVariation(BigDecimal.TEN, BigDecimal.TEN)).thenReturn(Optional.empty());
             var actual = analyzeInteractor.calculateCorporateValue(company);
 
@@ -389,8 +426,8 @@ class AnalyzeInteractorTest {
         @Test
         void coefficientOfVariation_allYear_isEmpty() {
             when(analysisResultSpecification.findLatestAnalysisResult("code")).thenReturn(Optional.of(analysisResult));
-            when(analysisResultSpecification.allYearAverageCorporateValue(company)).thenReturn(Optional.of(BigDecimal.TEN));
-            when(analysisResultSpecification.standardDeviation(company, BigDecimal.TEN)).thenReturn(Optional.of(BigDecimal.TEN));
+            when(analysisResultSpecification.allYearAverageCorporateValue(company, List.of())).thenReturn(Optional.of(BigDecimal.TEN));
+            when(analysisResultSpecification.standardDeviation(company, BigDecimal.TEN, List.of())).thenReturn(Optional.of(BigDecimal.TEN));
             when(analysisResultSpecification.coefficientOfVariation(BigDecimal.TEN, BigDecimal.TEN)).thenReturn(Optional.empty());
             var actual = analyzeInteractor.calculateCorporateValue(company);
 
@@ -411,10 +448,10 @@ class AnalyzeInteractorTest {
         @CsvSource({"0,3", "1,5", "2,10"})
         void present_year(int index, int year) {
             when(analysisResultSpecification.findLatestAnalysisResult("code")).thenReturn(Optional.of(analysisResult));
-            when(analysisResultSpecification.yearAverageCorporateValue(company, year)).thenReturn(Optional.of(BigDecimal.TEN));
-            when(analysisResultSpecification.standardDeviation(company, BigDecimal.TEN)).thenReturn(Optional.of(BigDecimal.TEN));
+            when(analysisResultSpecification.yearAverageCorporateValue(company, year, List.of())).thenReturn(Optional.of(BigDecimal.TEN));
+            when(analysisResultSpecification.standardDeviation(company, BigDecimal.TEN, List.of())).thenReturn(Optional.of(BigDecimal.TEN));
             when(analysisResultSpecification.coefficientOfVariation(BigDecimal.TEN, BigDecimal.TEN)).thenReturn(Optional.of(BigDecimal.TEN));
-            when(analysisResultSpecification.countYear(company)).thenReturn(BigDecimal.ONE);
+            when(analysisResultSpecification.countYear(company, List.of())).thenReturn(BigDecimal.ONE);
             var actual = analyzeInteractor.calculateCorporateValue(company);
 
             assertAll(
@@ -433,10 +470,10 @@ class AnalyzeInteractorTest {
         @Test
         void present_allYear() {
             when(analysisResultSpecification.findLatestAnalysisResult("code")).thenReturn(Optional.of(analysisResult));
-            when(analysisResultSpecification.allYearAverageCorporateValue(company)).thenReturn(Optional.of(BigDecimal.TEN));
-            when(analysisResultSpecification.standardDeviation(company, BigDecimal.TEN)).thenReturn(Optional.of(BigDecimal.TEN));
+            when(analysisResultSpecification.allYearAverageCorporateValue(company, List.of())).thenReturn(Optional.of(BigDecimal.TEN));
+            when(analysisResultSpecification.standardDeviation(company, BigDecimal.TEN, List.of())).thenReturn(Optional.of(BigDecimal.TEN));
             when(analysisResultSpecification.coefficientOfVariation(BigDecimal.TEN, BigDecimal.TEN)).thenReturn(Optional.of(BigDecimal.TEN));
-            when(analysisResultSpecification.countYear(company)).thenReturn(BigDecimal.ONE);
+            when(analysisResultSpecification.countYear(company, List.of())).thenReturn(BigDecimal.ONE);
             var actual = analyzeInteractor.calculateCorporateValue(company);
 
             assertAll(
@@ -452,6 +489,67 @@ class AnalyzeInteractorTest {
         }
     }
 
+    @Nested
+    class findDerivedAnalysisResultList {
+
+        Company company = new Company("code", null, null, "edinetCode", null, null, null, null, null, false, true);
+
+        Document document(String documentId) {
+            return new Document(documentId, DocumentTypeCode.DTC_120, null, "edinetCode", LocalDate.parse("2020-06-30"),
+                    LocalDate.parse("2020-09-30"), null, null, null, null, null, null, null, null, null, null, false);
+        }
+
+        @DisplayName("findDerivedAnalysisResultList : 前期の値を登録しないときは導出しない")
+        @Test
+        void disabled() {
+            assertEquals(List.of(), analyzeInteractor.findDerivedAnalysisResultList(company));
+            verify(analysisResultSpecification, times(0)).findDerivationSourceList(any());
+        }
+
+        @DisplayName("findDerivedAnalysisResultList : 前期の値が揃っている書類から1年前の期間の企業価値を導出する")
+        @Test
+        void derived() {
+            analyzeInteractor.previousPeriodEnabled = true;
+            var complete = document("complete");
+            var incomplete = document("incomplete");
+            var derived = analysisResultEntity();
+            var financeValue = FinanceValue.of(100L, 101L, 102L, 103L, 104L, 105L, 106L, 107L, 108L, 109L);
+            var valueMap = FinancialStatementValueMap.of(List.of());
+            var derivedValueMap = FinancialStatementValueMap.of(List.of());
+
+            when(analysisResultSpecification.findDerivationSourceList(company)).thenReturn(List.of(
+                    new AnalysisResultEntity(1, "code", null, null, null, null, null, null, "120", null, null, "complete", null),
+                    new AnalysisResultEntity(2, "code", null, null, null, null, null, null, "120", null, null, "incomplete", null)
+            ));
+            when(documentSpecification.findDocument("complete")).thenReturn(complete);
+            when(documentSpecification.findDocument("incomplete")).thenReturn(incomplete);
+            when(financialStatementSpecification.findValueMap(List.of(complete, incomplete))).thenReturn(valueMap);
+            when(financialStatementSpecification.findDerivedValueMap(List.of(complete, incomplete))).thenReturn(derivedValueMap);
+            when(financialStatementSpecification.getDerivedFinanceValue(complete, valueMap, derivedValueMap)).thenReturn(financeValue);
+            when(financialStatementSpecification.getDerivedFinanceValue(incomplete, valueMap, derivedValueMap))
+                    .thenThrow(new FundanalyzerNotExistException("前期の値"));
+            when(analysisResultSpecification.derive(eq(company), eq(complete), any())).thenReturn(derived);
+
+            assertEquals(List.of(derived), analyzeInteractor.findDerivedAnalysisResultList(company));
+        }
+
+        @DisplayName("findDerivedAnalysisResultList : 前期の値を取得できなかったときは導出しない")
+        @Test
+        void bad_data() {
+            analyzeInteractor.previousPeriodEnabled = true;
+            var complete = document("complete");
+
+            when(analysisResultSpecification.findDerivationSourceList(company)).thenReturn(List.of(
+                    new AnalysisResultEntity(1, "code", null, null, null, null, null, null, "120", null, null, "complete", null)
+            ));
+            when(documentSpecification.findDocument("complete")).thenReturn(complete);
+            when(financialStatementSpecification.findDerivedValueMap(List.of(complete)))
+                    .thenThrow(new FundanalyzerBadDataException("error", new RuntimeException()));
+
+            assertEquals(List.of(), analyzeInteractor.findDerivedAnalysisResultList(company));
+        }
+    }
+
     @Nested
     class indicate {
 
@@ -9,6 +9,7 @@ import github.com.ioridazo.fundanalyzer.client.edinet.entity.response.Results;
 import github.com.ioridazo.fundanalyzer.client.file.FileOperator;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentStatus;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentTypeCode;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEnum;
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.CompanySpecification;
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.DocumentSpecification;
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.EdinetDocumentSpecification;
@@ -22,6 +23,8 @@ import github.com.ioridazo.fundanalyzer.exception.FundanalyzerRuntimeException;
 import github.com.ioridazo.fundanalyzer.web.model.DateInputData;
 import github.com.ioridazo.fundanalyzer.web.model.FinancialStatementInputData;
 import github.com.ioridazo.fundanalyzer.web.model.IdInputData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -31,6 +34,9 @@ import org.mockito.Mockito;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -49,6 +55,8 @@ class DocumentInteractorTest {
     private EdinetDocumentSpecification edinetDocumentSpecification;
     private FileOperator fileOperator;
     private EdinetClient edinetClient;
+    private SimpleMeterRegistry meterRegistry;
+    private List<ThreadPoolExecutor> executorList;
 
     private DocumentInteractor documentInteractor;
 
@@ -60,6 +68,8 @@ class DocumentInteractorTest {
         edinetDocumentSpecification = Mockito.mock(EdinetDocumentSpecification.class);
         fileOperator = Mockito.mock(FileOperator.class);
         edinetClient = Mockito.mock(EdinetClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        executorList = List.of(executor(), executor(), executor());
 
         documentInteractor = Mockito.spy(new DocumentInteractor(
                 scraping,
@@ -68,7 +78,12 @@ class DocumentInteractorTest {
                 edinetDocumentSpecification,
                 Mockito.mock(FinancialStatementSpecification.class),
                 fileOperator,
-                edinetClient
+                edinetClient,
+                Runnable::run,
+                executorList.get(0),
+                executorList.get(1),
+                executorList.get(2),
+                meterRegistry
         ));
         documentInteractor.targetTypeCodes = List.of("120");
         documentInteractor.noTargetEdinetCodes = List.of("no-target");
@@ -76,6 +91,11 @@ class DocumentInteractorTest {
         documentInteractor.removeEdinetCodes = List.of("remove");
     }
 
+    @AfterEach
+    void tearDown() {
+        executorList.forEach(ThreadPoolExecutor::shutdownNow);
+    }
+
     @Nested
     class allProcess {
 
@@ -130,15 +150,15 @@ class DocumentInteractorTest {
             edinetResponse.setMetadata(metadata);
             edinetResponse.setResults(List.of(target, already));
 
-            when(edinetClient.list(new ListRequestParameter(LocalDate.parse("2020-09-19"), ListType.DEFAULT))).thenReturn(edinetResponse);
-            when(edinetDocumentSpecification.count(inputData)).thenReturn(0);
             when(edinetClient.list(new ListRequestParameter(LocalDate.parse("2020-09-19"), ListType.GET_LIST))).thenReturn(edinetResponse);
+            when(edinetDocumentSpecification.count(inputData)).thenReturn(0);
 
             assertDoesNotThrow(() -> documentInteractor.saveEdinetList(inputData));
 
+            // 件数の比較にも書類リストを使用し、EDINETへの問い合わせは1回とする
+            verify(edinetClient, times(1)).list(any());
             verify(edinetDocumentSpecification, times(1)).insert(inputData.getDate(), edinetResponse);
-            verify(companySpecification, times(1)).insertIfNotExist(target);
-            verify(companySpecification, times(1)).insertIfNotExist(already);
+            verify(companySpecification, times(1)).insertIfNotExist(List.of(target, already));
             verify(documentSpecification, times(1)).insert(LocalDate.parse("2020-09-19"), edinetResponse);
         }
 
@@ -154,7 +174,7 @@ class DocumentInteractorTest {
             var edinetResponse = new EdinetResponse();
             edinetResponse.setMetadata(metadata);
 
-            when(edinetClient.list(new ListRequestParameter(LocalDate.parse("2020-09-19"), ListType.DEFAULT))).thenReturn(edinetResponse);
+            when(edinetClient.list(new ListRequestParameter(LocalDate.parse("2020-09-19"), ListType.GET_LIST))).thenReturn(edinetResponse);
             when(edinetDocumentSpecification.count(inputData)).thenReturn(10);
 
             assertDoesNotThrow(() -> documentInteractor.saveEdinetList(inputData));
@@ -176,7 +196,7 @@ class DocumentInteractorTest {
             var edinetResponse = new EdinetResponse();
             edinetResponse.setMetadata(metadata);
 
-            when(edinetClient.list(new ListRequestParameter(LocalDate.parse("2020-09-19"), ListType.DEFAULT))).thenReturn(edinetResponse);
+            when(edinetClient.list(new ListRequestParameter(LocalDate.parse("2020-09-19"), ListType.GET_LIST))).thenReturn(edinetResponse);
 
             assertDoesNotThrow(() -> documentInteractor.saveEdinetList(inputData));
 
@@ -391,9 +411,7 @@ class DocumentInteractorTest {
 
                 assertDoesNotThrow(() -> documentInteractor.scrape(document));
                 verify(scraping, times(0)).download(document);
-                verify(scraping, times(0)).bs(document);
-                verify(scraping, times(0)).pl(document);
-                verify(scraping, times(0)).ns(document);
+                verify(scraping, times(0)).scrape(any(), any());
             }
 
             @DisplayName("scrape : ステータス処理前であれば処理する")
@@ -423,9 +441,11 @@ class DocumentInteractorTest {
 
                 assertDoesNotThrow(() -> documentInteractor.scrape(document));
                 verify(scraping, times(1)).download(document);
-                verify(scraping, times(1)).bs(document);
-                verify(scraping, times(1)).pl(document);
-                verify(scraping, times(1)).ns(document);
+                verify(scraping, times(1)).scrape(document, List.of(
+                        FinancialStatementEnum.BALANCE_SHEET,
+                        FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT,
+                        FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES
+                ));
             }
 
             @DisplayName("scrape : ステータス失敗であれば処理する")
@@ -455,9 +475,11 @@ class DocumentInteractorTest {
 
                 assertDoesNotThrow(() -> documentInteractor.scrape(document));
                 verify(scraping, times(0)).download(document);
-                verify(scraping, times(1)).bs(document);
-                verify(scraping, times(1)).pl(document);
-                verify(scraping, times(1)).ns(document);
+                verify(scraping, times(1)).scrape(document, List.of(
+                        FinancialStatementEnum.BALANCE_SHEET,
+                        FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT,
+                        FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES
+                ));
             }
 
             @DisplayName("scrape : ステータス処理済であれば処理しない")
@@ -487,9 +509,7 @@ class DocumentInteractorTest {
 
                 assertDoesNotThrow(() -> documentInteractor.scrape(document));
                 verify(scraping, times(0)).download(document);
-                verify(scraping, times(0)).bs(document);
-                verify(scraping, times(0)).pl(document);
-                verify(scraping, times(0)).ns(document);
+                verify(scraping, times(0)).scrape(any(), any());
             }
 
             @DisplayName("scrape : 処理ステータスがすべて [9（ERROR）] のときは除外フラグをONにする")
@@ -521,6 +541,59 @@ class DocumentInteractorTest {
                 assertDoesNotThrow(() -> documentInteractor.scrape(document));
                 verify(documentSpecification, times(1)).updateRemoved(document);
             }
+
+            @DisplayName("scrape : パイプラインが有効なときは段階ごとに処理し、エラーとなったドキュメントのみ中断する")
+            @Test
+            void pipeline() {
+                var error = new Document(
+                        "error",
+                        null,
+                        null,
+                        "edinetCode",
+                        null,
+                        null,
+                        null,
+                        null,
+                        DocumentStatus.DONE,
+                        DocumentStatus.DONE,
+                        DocumentStatus.ERROR,
+                        null,
+                        DocumentStatus.ERROR,
+                        null,
+                        DocumentStatus.ERROR,
+                        null,
+                        false
+                );
+                var broken = new Document(
+                        "broken",
+                        null,
+                        null,
+                        "edinetCode",
+                        null,
+                        null,
+                        null,
+                        null,
+                        DocumentStatus.DONE,
+                        DocumentStatus.DONE,
+                        DocumentStatus.NOT_YET,
+                        null,
+                        DocumentStatus.NOT_YET,
+                        null,
+                        DocumentStatus.NOT_YET,
+                        null,
+                        false
+                );
+                documentInteractor.pipelineEnabled = true;
+
+                when(documentSpecification.findDocument("broken")).thenThrow(FundanalyzerRuntimeException.class);
+
+                assertDoesNotThrow(() -> documentInteractor.scrape(List.of(error, broken)));
+                verify(documentSpecification, times(1)).updateRemoved(error);
+                verify(documentSpecification, times(1)).findDocument("broken");
+                verify(documentInteractor, times(0)).scrape((Document) any());
+                assertEquals(1, meterRegistry.get("fundanalyzer.pipeline.service")
+                        .tags("pipeline", "document", "stage", "finish").timer().count());
+            }
         }
     }
 
@@ -737,6 +810,10 @@ class DocumentInteractorTest {
         }
     }
 
+    private static ThreadPoolExecutor executor() {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(2));
+    }
+
     private Document defaultDocument() {
         return new Document(
                 "documentId",
@@ -0,0 +1,274 @@
+package github.com.ioridazo.fundanalyzer.domain.interactor;
+
+import github.com.ioridazo.fundanalyzer.client.edinet.EdinetClient;
+import github.com.ioridazo.fundanalyzer.client.file.FileOperator;
+import github.com.ioridazo.fundanalyzer.config.AppConfig;
+import github.com.ioridazo.fundanalyzer.config.RestClientProperties;
+import github.com.ioridazo.fundanalyzer.domain.domain.dao.master.ScrapingKeywordDao;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentStatus;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentTypeCode;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.XbrlMemoryGovernor;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.XbrlScraping;
+import github.com.ioridazo.fundanalyzer.domain.domain.specification.CompanySpecification;
+import github.com.ioridazo.fundanalyzer.domain.domain.specification.DocumentSpecification;
+import github.com.ioridazo.fundanalyzer.domain.domain.specification.EdinetDocumentSpecification;
+import github.com.ioridazo.fundanalyzer.domain.domain.specification.FinancialStatementSpecification;
+import github.com.ioridazo.fundanalyzer.domain.domain.specification.ScrapingHintSpecification;
+import github.com.ioridazo.fundanalyzer.domain.domain.specification.ScrapingKeywordSpecification;
+import github.com.ioridazo.fundanalyzer.domain.domain.specification.ScrapingResultCacheSpecification;
+import github.com.ioridazo.fundanalyzer.domain.domain.specification.SubjectSpecification;
+import github.com.ioridazo.fundanalyzer.domain.value.Document;
+import github.com.ioridazo.fundanalyzer.web.model.DateInputData;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 書類の処理のパイプラインを、ローカルのEDINETのスタブに対して実行する
+ */
+@Timeout(30)
+class DocumentPipelineTest {
+
+    private static final LocalDate SUBMIT_DATE = LocalDate.parse("2021-05-09");
+
+    private static final String FAILED_DOCUMENT_ID = "S100FAIL";
+
+    @TempDir
+    Path tempDir;
+
+    private MockWebServer server;
+    private DocumentSpecification documentSpecification;
+    private SimpleMeterRegistry meterRegistry;
+    private List<ThreadPoolExecutor> executorList;
+
+    private DocumentInteractor documentInteractor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) {
+                if (Objects.requireNonNull(request.getPath()).contains(FAILED_DOCUMENT_ID)) {
+                    return new MockResponse().setResponseCode(404);
+                }
+                try {
+                    return new MockResponse()
+                            .setResponseCode(200)
+                            .setHeader("Content-Type", "application/octet-stream")
+                            .setBody(new Buffer().write(zip()));
+                } catch (final IOException e) {
+                    return new MockResponse().setResponseCode(500);
+                }
+            }
+        });
+        server.start();
+
+        documentSpecification = Mockito.mock(DocumentSpecification.class);
+        meterRegistry = new SimpleMeterRegistry();
+        executorList = List.of(executor(2, 2), executor(1, 2), executor(1, 2));
+
+        final var edinetClient = new EdinetClient(
+                new AppConfig().restTemplateEdinet(properties()),
+                new AppConfig().retryTemplateEdinet(properties()),
+                new CircuitBreakerRegistry.Builder().build(),
+                new RateLimiterRegistry.Builder().build()
+        );
+        ReflectionTestUtils.setField(edinetClient, "subscriptionKey", "subscriptionKey");
+
+        // 解凍済みのフォルダの確認以外は実際のファイル操作を実行する
+        final var fileOperator = Mockito.mock(FileOperator.class, Mockito.withSettings()
+                .useConstructor(meterRegistry)
+                .defaultAnswer(Mockito.CALLS_REAL_METHODS));
+        doReturn(Optional.empty()).when(fileOperator).findDecodedFile(any());
+
+        final var scrapingInteractor = new ScrapingInteractor(
+                Mockito.mock(ScrapingKeywordDao.class),
+                Mockito.mock(CompanySpecification.class),
+                Mockito.mock(SubjectSpecification.class),
+                documentSpecification,
+                Mockito.mock(FinancialStatementSpecification.class),
+                Mockito.mock(ScrapingResultCacheSpecification.class),
+                Mockito.mock(ScrapingKeywordSpecification.class),
+                Mockito.mock(ScrapingHintSpecification.class),
+                Mockito.mock(XbrlScraping.class),
+                Mockito.mock(XbrlMemoryGovernor.class),
+                fileOperator,
+                edinetClient,
+                Runnable::run
+        );
+        scrapingInteractor.pathEdinet = tempDir.resolve("edinet").toString();
+        scrapingInteractor.pathDecode = tempDir.resolve("decode").toString();
+        scrapingInteractor.streamDecodeEnabled = true;
+        scrapingInteractor.extractInclude = List.of("XBRL/PublicDoc/*honbun*.htm");
+
+        documentInteractor = new DocumentInteractor(
+                scrapingInteractor,
+                Mockito.mock(CompanySpecification.class),
+                documentSpecification,
+                Mockito.mock(EdinetDocumentSpecification.class),
+                Mockito.mock(FinancialStatementSpecification.class),
+                fileOperator,
+                edinetClient,
+                Runnable::run,
+                executorList.get(0),
+                executorList.get(1),
+                executorList.get(2),
+                meterRegistry
+        );
+        documentInteractor.targetTypeCodes = List.of("120");
+        documentInteractor.pipelineEnabled = true;
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        executorList.forEach(ThreadPoolExecutor::shutdownNow);
+        server.shutdown();
+    }
+
+    @DisplayName("scrape : EDINETから取得した書類を解凍して、すべての段階を処理する")
+    @Test
+    void scrape() {
+        var documentIdList = IntStream.range(0, 12).mapToObj(i -> String.format("S100%04d", i)).toList();
+        var documentList = documentIdList.stream().map(DocumentPipelineTest::notYet).toList();
+        var inputData = DateInputData.of(SUBMIT_DATE);
+
+        when(documentSpecification.inquiryTargetDocuments(inputData)).thenReturn(documentList);
+        when(documentSpecification.findDocument(any(String.class))).thenAnswer(invocation -> done(invocation.getArgument(0)));
+
+        documentInteractor.scrape(inputData);
+
+        var decode = tempDir.resolve("decode/2021/MAY/2021-05-09").toFile();
+        assertAll(
+                () -> assertEquals(12, server.getRequestCount()),
+                () -> documentIdList.forEach(documentId -> assertTrue(
+                        new File(decode, documentId + "/XBRL/PublicDoc/0101010_honbun.htm").exists(), documentId)),
+                () -> assertFalse(new File(decode, documentIdList.get(0) + "/XBRL/AuditDoc").exists()),
+                () -> assertEquals(12, meterRegistry.get("fundanalyzer.pipeline.service")
+                        .tags("pipeline", "document", "stage", "finish").timer().count())
+        );
+        verify(documentSpecification, times(12)).updateDownloadToDone(any());
+        verify(documentSpecification, times(12)).updateDecodeToDone(any());
+        verify(documentSpecification, never()).updateRemoved(any(Document.class));
+    }
+
+    @DisplayName("scrape : 取得に失敗した書類があっても、ほかの書類の処理を継続する")
+    @Test
+    void scrape_failed_document() {
+        var failed = notYet(FAILED_DOCUMENT_ID);
+        var succeeded = notYet("S1000001");
+        var inputData = DateInputData.of(SUBMIT_DATE);
+
+        when(documentSpecification.inquiryTargetDocuments(inputData)).thenReturn(List.of(failed, succeeded));
+        when(documentSpecification.findDocument(any(String.class))).thenAnswer(invocation -> done(invocation.getArgument(0)));
+
+        documentInteractor.scrape(inputData);
+
+        var decode = tempDir.resolve("decode/2021/MAY/2021-05-09").toFile();
+        assertAll(
+                () -> assertTrue(new File(decode, "S1000001/XBRL/PublicDoc/0101010_honbun.htm").exists()),
+                () -> assertFalse(new File(decode, FAILED_DOCUMENT_ID).exists())
+        );
+        verify(documentSpecification, times(1)).updateDownloadToDone(succeeded);
+        verify(documentSpecification, never()).updateDownloadToDone(failed);
+    }
+
+    private static Document notYet(final String documentId) {
+        return document(documentId, DocumentStatus.NOT_YET, DocumentStatus.NOT_YET);
+    }
+
+    private static Document done(final String documentId) {
+        return document(documentId, DocumentStatus.DONE, DocumentStatus.DONE);
+    }
+
+    private static Document document(final String documentId, final DocumentStatus downloaded, final DocumentStatus scraped) {
+        return new Document(
+                documentId,
+                DocumentTypeCode.DTC_120,
+                null,
+                "E00000",
+                null,
+                SUBMIT_DATE,
+                null,
+                null,
+                downloaded,
+                downloaded,
+                scraped,
+                null,
+                scraped,
+                null,
+                scraped,
+                null,
+                false
+        );
+    }
+
+    private static ThreadPoolExecutor executor(final int poolSize, final int queueCapacity) {
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity));
+    }
+
+    private static byte[] zip() throws IOException {
+        final var out = new ByteArrayOutputStream();
+        try (var zos = new ZipOutputStream(out, Charset.forName("MS932"))) {
+            for (String name : List.of("XBRL/PublicDoc/0101010_honbun.htm", "XBRL/AuditDoc/audit.htm")) {
+                zos.putNextEntry(new ZipEntry(name));
+                zos.write(("<html><body>" + name + "</body></html>").getBytes(StandardCharsets.UTF_8));
+                zos.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private RestClientProperties properties() {
+        final var edinet = new RestClientProperties.Settings();
+        edinet.setBaseUri(String.format("http://localhost:%s", server.getPort()));
+        edinet.setConnectTimeout(Duration.ofMillis(500));
+        edinet.setReadTimeout(Duration.ofMillis(500));
+        edinet.setMaxAttempts(1);
+        edinet.setBackOff(Duration.ofMillis(1));
+        return new RestClientProperties(Map.of("edinet", edinet));
+    }
+}
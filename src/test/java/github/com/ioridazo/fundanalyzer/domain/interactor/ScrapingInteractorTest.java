@@ -1,23 +1,36 @@
 package github.com.ioridazo.fundanalyzer.domain.interactor;
 
 import github.com.ioridazo.fundanalyzer.client.edinet.EdinetClient;
+import github.com.ioridazo.fundanalyzer.client.edinet.entity.request.AcquisitionRequestParameter;
 import github.com.ioridazo.fundanalyzer.client.file.FileOperator;
 import github.com.ioridazo.fundanalyzer.domain.domain.dao.master.ScrapingKeywordDao;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.master.ScrapingKeywordEntity;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.CreatedType;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.DocumentTypeCode;
 import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.FinancialStatementEnum;
+import github.com.ioridazo.fundanalyzer.domain.domain.entity.transaction.ScrapingHintEntity;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.XbrlFileIndex;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.XbrlInstance;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.XbrlMemoryGovernor;
 import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.XbrlScraping;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.FinancialFactResultBean;
 import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.FinancialTableResultBean;
+import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.ScrapingResultBean;
 import github.com.ioridazo.fundanalyzer.domain.domain.jsoup.bean.Unit;
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.CompanySpecification;
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.DocumentSpecification;
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.FinancialStatementSpecification;
+import github.com.ioridazo.fundanalyzer.domain.domain.specification.ScrapingHintSpecification;
+import github.com.ioridazo.fundanalyzer.domain.domain.specification.ScrapingKeywordSpecification;
+import github.com.ioridazo.fundanalyzer.domain.domain.specification.ScrapingResultCacheSpecification;
 import github.com.ioridazo.fundanalyzer.domain.domain.specification.SubjectSpecification;
 import github.com.ioridazo.fundanalyzer.domain.value.BsSubject;
 import github.com.ioridazo.fundanalyzer.domain.value.Company;
 import github.com.ioridazo.fundanalyzer.domain.value.Document;
+import github.com.ioridazo.fundanalyzer.domain.value.FinancialStatementValue;
 import github.com.ioridazo.fundanalyzer.domain.value.PlSubject;
+import github.com.ioridazo.fundanalyzer.domain.value.ScrapingResultCache;
+import github.com.ioridazo.fundanalyzer.domain.value.ScrapingResult;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerFileException;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerRestClientException;
 import github.com.ioridazo.fundanalyzer.exception.FundanalyzerRuntimeException;
@@ -30,6 +43,7 @@ import org.springframework.data.util.Pair;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -39,6 +53,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
@@ -54,7 +69,11 @@ class ScrapingInteractorTest {
     private SubjectSpecification subjectSpecification;
     private DocumentSpecification documentSpecification;
     private FinancialStatementSpecification financialStatementSpecification;
+    private ScrapingResultCacheSpecification scrapingResultCacheSpecification;
+    private ScrapingKeywordSpecification scrapingKeywordSpecification;
+    private ScrapingHintSpecification scrapingHintSpecification;
     private XbrlScraping xbrlScraping;
+    private XbrlMemoryGovernor xbrlMemoryGovernor;
     private FileOperator fileOperator;
     private EdinetClient edinetClient;
 
@@ -67,7 +86,11 @@ class ScrapingInteractorTest {
         subjectSpecification = Mockito.mock(SubjectSpecification.class);
         documentSpecification = Mockito.mock(DocumentSpecification.class);
         financialStatementSpecification = Mockito.mock(FinancialStatementSpecification.class);
+        scrapingResultCacheSpecification = Mockito.mock(ScrapingResultCacheSpecification.class);
+        scrapingKeywordSpecification = Mockito.mock(ScrapingKeywordSpecification.class);
+        scrapingHintSpecification = Mockito.mock(ScrapingHintSpecification.class);
         xbrlScraping = Mockito.mock(XbrlScraping.class);
+        xbrlMemoryGovernor = Mockito.mock(XbrlMemoryGovernor.class);
         fileOperator = Mockito.mock(FileOperator.class);
         edinetClient = Mockito.mock(EdinetClient.class);
 
@@ -77,12 +100,20 @@ class ScrapingInteractorTest {
                 subjectSpecification,
                 documentSpecification,
                 financialStatementSpecification,
+                scrapingResultCacheSpecification,
+                scrapingKeywordSpecification,
+                scrapingHintSpecification,
                 xbrlScraping,
+                xbrlMemoryGovernor,
                 fileOperator,
-                edinetClient
+                edinetClient,
+                Runnable::run
         ));
         scrapingInteractor.pathEdinet = "pathEdinet";
         scrapingInteractor.pathDecode = "pathDecode";
+
+        when(scrapingKeywordSpecification.sortedScrapingKeywordList(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(2));
     }
 
     @Nested
@@ -94,33 +125,128 @@ class ScrapingInteractorTest {
         @Test
         void execute() throws IOException {
             assertDoesNotThrow(() -> scrapingInteractor.download(document));
-            verify(edinetClient, times(1)).acquisition(any(), any());
+            verify(edinetClient, times(1)).acquisition(any(File.class), any());
+            verify(documentSpecification, times(1)).updateDownloadToDone(document);
+            verify(fileOperator, times(1)).decodeZipFile(any(), any(), any());
+            verify(documentSpecification, times(1)).updateDecodeToDone(document);
+        }
+
+        @DisplayName("download : 指定されたパターンに合致するエントリのみ解凍する")
+        @Test
+        void extract_include() throws IOException {
+            scrapingInteractor.extractInclude = List.of("XBRL/PublicDoc/*honbun*.htm", "XBRL/PublicDoc/*.xbrl");
+
+            assertDoesNotThrow(() -> scrapingInteractor.download(document));
+            verify(fileOperator, times(1)).decodeZipFile(any(), any(), argThat(filter ->
+                    filter.test("XBRL/PublicDoc/0101010_honbun.htm")
+                    && filter.test("XBRL/PublicDoc/jpcrp030000-asr-001.xbrl")
+                    && !filter.test("XBRL/PublicDoc/jpcrp030000-asr-001.xsd")
+                    && !filter.test("XBRL/AuditDoc/0101010_honbun.htm")));
+        }
+
+        @DisplayName("download : ZIPファイルから直接スクレイピングするときは解凍しない")
+        @Test
+        void archive() throws IOException {
+            scrapingInteractor.archiveEnabled = true;
+
+            assertDoesNotThrow(() -> scrapingInteractor.download(document));
+            verify(edinetClient, times(1)).acquisition(any(File.class), any());
+            verify(fileOperator, times(0)).decodeZipFile(any(), any(), any());
+            verify(documentSpecification, times(1)).updateDecodeToDone(document);
+        }
+
+        @DisplayName("download : 調査用に指定されたときはZIPファイルを解凍する")
+        @Test
+        void archive_extract() throws IOException {
+            scrapingInteractor.archiveEnabled = true;
+            scrapingInteractor.archiveExtract = true;
+
+            assertDoesNotThrow(() -> scrapingInteractor.download(document));
+            verify(fileOperator, times(1)).decodeZipFile(any(), any(), any());
+            verify(documentSpecification, times(1)).updateDecodeToDone(document);
+        }
+
+        @DisplayName("download : ダウンロードしながら解凍する")
+        @Test
+        void stream_decode() throws IOException {
+            scrapingInteractor.streamDecodeEnabled = true;
+            scrapingInteractor.extractInclude = List.of("XBRL/PublicDoc/*honbun*.htm");
+            when(edinetClient.acquisition(any(AcquisitionRequestParameter.class), any())).thenAnswer(invocation -> {
+                EdinetClient.BodyHandler<?> bodyHandler = invocation.getArgument(1);
+                return bodyHandler.handle(InputStream.nullInputStream());
+            });
+
+            assertDoesNotThrow(() -> scrapingInteractor.download(document));
+            verify(edinetClient, times(0)).acquisition(any(File.class), any());
+            verify(fileOperator, times(1)).decodeZipStream(any(), any(), any(), argThat(filter ->
+                    filter.test("XBRL/PublicDoc/0101010_honbun.htm") && !filter.test("XBRL/AuditDoc/audit.htm")));
+            verify(fileOperator, times(0)).decodeZipFile(any(), any(), any());
             verify(documentSpecification, times(1)).updateDownloadToDone(document);
-            verify(fileOperator, times(1)).decodeZipFile(any(), any());
             verify(documentSpecification, times(1)).updateDecodeToDone(document);
         }
 
+        @DisplayName("download : ZIPファイルから直接スクレイピングするときはダウンロードしながら解凍しない")
+        @Test
+        void stream_decode_archive() throws IOException {
+            scrapingInteractor.streamDecodeEnabled = true;
+            scrapingInteractor.archiveEnabled = true;
+            when(edinetClient.acquisition(any(AcquisitionRequestParameter.class), any())).thenAnswer(invocation -> {
+                EdinetClient.BodyHandler<?> bodyHandler = invocation.getArgument(1);
+                return bodyHandler.handle(InputStream.nullInputStream());
+            });
+
+            assertDoesNotThrow(() -> scrapingInteractor.download(document));
+            verify(fileOperator, times(1)).decodeZipStream(any(), any(), any(), argThat(filter ->
+                    !filter.test("XBRL/PublicDoc/0101010_honbun.htm")));
+            verify(documentSpecification, times(1)).updateDecodeToDone(document);
+        }
+
+        @DisplayName("download : ダウンロードしながらの解凍に失敗したとき")
+        @Test
+        void stream_decode_error() {
+            scrapingInteractor.streamDecodeEnabled = true;
+            when(edinetClient.acquisition(any(AcquisitionRequestParameter.class), any()))
+                    .thenThrow(new FundanalyzerRestClientException(""));
+
+            assertDoesNotThrow(() -> scrapingInteractor.download(document));
+            verify(documentSpecification, times(1)).updateDownloadToError(document);
+            verify(documentSpecification, times(0)).updateDecodeToDone(document);
+        }
+
+        @DisplayName("download : ダウンロードしながらの解凍で解凍に失敗したときは解凍の失敗として記録する")
+        @Test
+        void stream_decode_decode_error() {
+            scrapingInteractor.streamDecodeEnabled = true;
+            when(edinetClient.acquisition(any(AcquisitionRequestParameter.class), any()))
+                    .thenThrow(new FundanalyzerFileException(""));
+
+            assertDoesNotThrow(() -> scrapingInteractor.download(document));
+            verify(documentSpecification, times(1)).updateDecodeToError(document);
+            verify(documentSpecification, times(0)).updateDownloadToError(document);
+            verify(documentSpecification, times(0)).updateDownloadToHalfWay(document);
+        }
+
         @DisplayName("download : ダウンロード処理に失敗したとき")
         @Test
         void fundanalyzerRestClientException() throws IOException {
-            doThrow(new FundanalyzerRestClientException("")).when(edinetClient).acquisition(any(), any());
+            doThrow(new FundanalyzerRestClientException("")).when(edinetClient).acquisition(any(File.class), any());
             assertDoesNotThrow(() -> scrapingInteractor.download(document));
-            verify(edinetClient, times(1)).acquisition(any(), any());
+            verify(edinetClient, times(1)).acquisition(any(File.class), any());
             verify(documentSpecification, times(1)).updateDownloadToError(document);
             verify(documentSpecification, times(0)).updateDownloadToDone(document);
-            verify(fileOperator, times(0)).decodeZipFile(any(), any());
+            verify(fileOperator, times(0)).decodeZipFile(any(), any(), any());
             verify(documentSpecification, times(0)).updateDecodeToDone(document);
         }
 
         @DisplayName("download : zipファイルの解凍処理に失敗したとき")
         @Test
         void iOException() throws IOException {
-            doThrow(new IOException()).when(fileOperator).decodeZipFile(any(), any());
+            doThrow(new IOException()).when(fileOperator).decodeZipFile(any(), any(), any());
             assertDoesNotThrow(() -> scrapingInteractor.download(document));
-            verify(edinetClient, times(1)).acquisition(any(), any());
+            verify(edinetClient, times(1)).acquisition(any(File.class), any());
             verify(documentSpecification, times(0)).updateDownloadToError(document);
             verify(documentSpecification, times(1)).updateDownloadToDone(document);
-            verify(fileOperator, times(1)).decodeZipFile(any(), any());
+            verify(fileOperator, times(1)).decodeZipFile(any(), any(), any());
             verify(documentSpecification, times(0)).updateDecodeToDone(document);
             verify(documentSpecification, times(1)).updateDecodeToError(document);
         }
@@ -175,6 +301,196 @@ class ScrapingInteractorTest {
             verify(documentSpecification, times(1)).updateFsToDone(document, FinancialStatementEnum.BALANCE_SHEET, "file");
         }
 
+        @DisplayName("bs : タグ付けされた数値から貸借対照表を登録する")
+        @Test
+        void insert_fact() {
+            var bsSubject = new BsSubject("id", null, null, null);
+            var factBean = FinancialFactResultBean.of("subject", 900L, 1000L);
+
+            scrapingInteractor.inlineXbrlEnabled = true;
+            when(xbrlScraping.scrapeFinancialFacts(file, "keyword")).thenReturn(List.of(factBean));
+            when(subjectSpecification.findBsSubject("subject")).thenReturn(Optional.of(bsSubject));
+            doNothing().when(scrapingInteractor).doBsOptionOfTotalFixedLiabilitiesIfTarget(company, document);
+
+            assertDoesNotThrow(() -> scrapingInteractor.bs(document));
+            verify(financialStatementSpecification, times(1))
+                    .insert(company, FinancialStatementEnum.BALANCE_SHEET, "id", document, 1000L, CreatedType.AUTO);
+            verify(xbrlScraping, times(0)).scrapeFinancialStatement(any(), any());
+            verify(documentSpecification, times(1)).updateFsToDone(document, FinancialStatementEnum.BALANCE_SHEET, "file");
+        }
+
+        @DisplayName("bs : タグ付けされた数値が存在しないときはテーブルから登録する")
+        @Test
+        void insert_fact_fallback() {
+            var bsSubject = new BsSubject("id", null, null, null);
+            var resultBean = FinancialTableResultBean.of("subject", null, "1", Unit.THOUSANDS_OF_YEN);
+
+            scrapingInteractor.inlineXbrlEnabled = true;
+            when(xbrlScraping.scrapeFinancialFacts(file, "keyword")).thenReturn(List.of());
+            when(xbrlScraping.scrapeFinancialStatement(file, "keyword")).thenReturn(List.of(resultBean));
+            when(subjectSpecification.findBsSubject("subject")).thenReturn(Optional.of(bsSubject));
+            doNothing().when(scrapingInteractor).doBsOptionOfTotalFixedLiabilitiesIfTarget(company, document);
+
+            assertDoesNotThrow(() -> scrapingInteractor.bs(document));
+            verify(financialStatementSpecification, times(1))
+                    .insert(company, FinancialStatementEnum.BALANCE_SHEET, "id", document, 1000L, CreatedType.AUTO);
+        }
+
+        @DisplayName("bs : 前期の値を前期の財務諸表として登録する")
+        @Test
+        void insert_previousPeriod() {
+            var bsSubject = new BsSubject("id", null, null, null);
+            var resultBean = FinancialTableResultBean.of("subject", "2", "1", Unit.THOUSANDS_OF_YEN);
+
+            scrapingInteractor.previousPeriodEnabled = true;
+            when(xbrlScraping.scrapeFinancialStatement(file, "keyword")).thenReturn(List.of(resultBean));
+            when(subjectSpecification.findBsSubject("subject")).thenReturn(Optional.of(bsSubject));
+            doNothing().when(scrapingInteractor).doBsOptionOfTotalFixedLiabilitiesIfTarget(company, document);
+
+            assertDoesNotThrow(() -> scrapingInteractor.bs(document));
+            verify(financialStatementSpecification, times(1))
+                    .insert(company, FinancialStatementEnum.BALANCE_SHEET, "id", document, 1000L, CreatedType.AUTO);
+            verify(financialStatementSpecification, times(1))
+                    .insertPreviousPeriod(company, FinancialStatementEnum.BALANCE_SHEET, "id", document, 2000L);
+        }
+
+        @DisplayName("bs : 前期の値を登録しないときは当期の値のみ登録する")
+        @Test
+        void insert_previousPeriod_disabled() {
+            var bsSubject = new BsSubject("id", null, null, null);
+            var factBean = FinancialFactResultBean.of("subject", 900L, 1000L);
+
+            scrapingInteractor.inlineXbrlEnabled = true;
+            when(xbrlScraping.scrapeFinancialFacts(file, "keyword")).thenReturn(List.of(factBean));
+            when(subjectSpecification.findBsSubject("subject")).thenReturn(Optional.of(bsSubject));
+            doNothing().when(scrapingInteractor).doBsOptionOfTotalFixedLiabilitiesIfTarget(company, document);
+
+            assertDoesNotThrow(() -> scrapingInteractor.bs(document));
+            verify(financialStatementSpecification, times(0)).insertPreviousPeriod(any(), any(), any(), any(), any());
+        }
+
+        @DisplayName("bs : 1つの書類の値をまとめて登録してから、オプション処理を実行する")
+        @Test
+        void insert_batch() {
+            var bsSubject = new BsSubject("id", null, null, null);
+            var resultBean = FinancialTableResultBean.of("subject", "2", "1", Unit.THOUSANDS_OF_YEN);
+
+            scrapingInteractor.batchInsertEnabled = true;
+            scrapingInteractor.previousPeriodEnabled = true;
+            when(xbrlScraping.scrapeFinancialStatement(file, "keyword")).thenReturn(List.of(resultBean));
+            when(subjectSpecification.findBsSubject("subject")).thenReturn(Optional.of(bsSubject));
+            doNothing().when(scrapingInteractor).doBsOptionOfTotalFixedLiabilitiesIfTarget(company, document);
+
+            assertDoesNotThrow(() -> scrapingInteractor.bs(document));
+
+            var inOrder = Mockito.inOrder(financialStatementSpecification, scrapingInteractor);
+            inOrder.verify(financialStatementSpecification, times(1)).insert(company, FinancialStatementEnum.BALANCE_SHEET, document, List.of(
+                    FinancialStatementValue.of("id", 1000L, CreatedType.AUTO),
+                    FinancialStatementValue.ofPreviousPeriod("id", 2000L)
+            ));
+            inOrder.verify(scrapingInteractor, times(1)).doBsOptionOfTotalFixedLiabilitiesIfTarget(company, document);
+            verify(financialStatementSpecification, times(0)).insert(any(), any(), any(), any(), any(), any());
+            verify(financialStatementSpecification, times(0)).insertPreviousPeriod(any(), any(), any(), any(), any());
+        }
+
+        @DisplayName("bs : ファイルの内容が変わっていないときは保存済みのスクレイピング結果から登録する")
+        @Test
+        void resultCache_hit() {
+            var bsSubject = new BsSubject("id", null, null, null);
+            var result = ScrapingResultBean.ofTable(List.of(FinancialTableResultBean.of("subject", null, "1", Unit.THOUSANDS_OF_YEN)));
+
+            scrapingInteractor.resultCacheEnabled = true;
+            when(scrapingKeywordDao.selectAll()).thenReturn(List.of(scrapingKeyword));
+            when(scrapingResultCacheSpecification.keywordVersion(FinancialStatementEnum.BALANCE_SHEET, List.of(scrapingKeyword))).thenReturn("version");
+            when(scrapingResultCacheSpecification.findCache(document, FinancialStatementEnum.BALANCE_SHEET, "html", "version"))
+                    .thenReturn(Optional.of(new ScrapingResultCache(file, "keyword", "hash", result)));
+            when(xbrlScraping.hash(file)).thenReturn(Optional.of("hash"));
+            when(subjectSpecification.findBsSubject("subject")).thenReturn(Optional.of(bsSubject));
+            doNothing().when(scrapingInteractor).doBsOptionOfTotalFixedLiabilitiesIfTarget(company, document);
+
+            assertDoesNotThrow(() -> scrapingInteractor.bs(document));
+            verify(financialStatementSpecification, times(1))
+                    .insert(company, FinancialStatementEnum.BALANCE_SHEET, "id", document, 1000L, CreatedType.AUTO);
+            verify(scrapingInteractor, times(0)).findTargetFile(any(), any(), any());
+            verify(xbrlScraping, times(0)).scrapeFinancialStatement(any(), any());
+            verify(scrapingResultCacheSpecification, times(0)).upsert(any(), any(), any(), any(), any(), any(), any(), any());
+            verify(documentSpecification, times(1)).updateFsToDone(document, FinancialStatementEnum.BALANCE_SHEET, "file");
+        }
+
+        @DisplayName("bs : ファイルの内容が変わっていたときはスクレイピングし直して保存する")
+        @Test
+        void resultCache_changed() {
+            var resultBean = FinancialTableResultBean.of("subject", null, "1", Unit.THOUSANDS_OF_YEN);
+            var result = ScrapingResultBean.ofTable(List.of(resultBean));
+
+            scrapingInteractor.resultCacheEnabled = true;
+            when(scrapingKeywordDao.selectAll()).thenReturn(List.of(scrapingKeyword));
+            when(scrapingResultCacheSpecification.keywordVersion(FinancialStatementEnum.BALANCE_SHEET, List.of(scrapingKeyword))).thenReturn("version");
+            when(scrapingResultCacheSpecification.findCache(document, FinancialStatementEnum.BALANCE_SHEET, "html", "version"))
+                    .thenReturn(Optional.of(new ScrapingResultCache(file, "keyword", "hash", result)));
+            when(xbrlScraping.hash(file)).thenReturn(Optional.of("changed"));
+            when(xbrlScraping.scrapeFinancialStatement(file, "keyword")).thenReturn(List.of(resultBean));
+            doNothing().when(scrapingInteractor).doBsOptionOfTotalFixedLiabilitiesIfTarget(company, document);
+
+            assertDoesNotThrow(() -> scrapingInteractor.bs(document));
+            verify(xbrlScraping, times(1)).scrapeFinancialStatement(file, "keyword");
+            verify(scrapingResultCacheSpecification, times(1))
+                    .upsert(document, FinancialStatementEnum.BALANCE_SHEET, file, "keyword", "changed", "html", "version", result);
+            verify(scrapingResultCacheSpecification, times(1)).keywordVersion(any(), any());
+        }
+
+        @DisplayName("extractionMode : 有効な財務諸表の取得方法を優先順に並べる")
+        @Test
+        void resultCache_extractionMode() {
+            assertEquals("html", scrapingInteractor.extractionMode());
+            scrapingInteractor.inlineXbrlEnabled = true;
+            assertEquals("inline-xbrl,html", scrapingInteractor.extractionMode());
+            scrapingInteractor.xbrlInstanceEnabled = true;
+            assertEquals("xbrl-instance,inline-xbrl,html", scrapingInteractor.extractionMode());
+        }
+
+        @DisplayName("bs : スクレイピング結果を保存しないときは参照もしない")
+        @Test
+        void resultCache_disabled() {
+            doNothing().when(scrapingInteractor).doBsOptionOfTotalFixedLiabilitiesIfTarget(company, document);
+
+            assertDoesNotThrow(() -> scrapingInteractor.bs(document));
+            verify(scrapingResultCacheSpecification, times(0)).findCache(any(), any(), any(), any());
+            verify(scrapingResultCacheSpecification, times(0)).upsert(any(), any(), any(), any(), any(), any(), any(), any());
+            verify(xbrlScraping, times(0)).hash(any());
+        }
+
+        @DisplayName("bs : XBRLインスタンスの値を先に登録する")
+        @Test
+        void insert_instance() {
+            var targetFile = new File("directory/file");
+            var instance = Mockito.mock(XbrlInstance.class);
+            var subject = new BsSubject("id", "1", "1", "流動資産合計");
+
+            scrapingInteractor.xbrlInstanceEnabled = true;
+            doReturn(Pair.of(targetFile, scrapingKeyword)).when(scrapingInteractor).findTargetFile(any(), eq(FinancialStatementEnum.BALANCE_SHEET), eq(document));
+            when(xbrlScraping.isConsolidated("keyword")).thenReturn(true);
+            when(xbrlScraping.readInstance(new File("directory"))).thenReturn(Optional.of(instance));
+            when(instance.findCurrentValue(any(), eq(true))).thenReturn(Optional.empty());
+            when(instance.findCurrentValue(List.of("jppfs_cor:CurrentAssets"), true)).thenReturn(Optional.of(1000L));
+            when(subjectSpecification.findBsSubjectList(BsSubject.BsEnum.TOTAL_CURRENT_ASSETS)).thenReturn(List.of(subject));
+            doNothing().when(scrapingInteractor).doBsOptionOfTotalFixedLiabilitiesIfTarget(company, document);
+
+            assertDoesNotThrow(() -> scrapingInteractor.bs(document));
+            verify(financialStatementSpecification, times(1))
+                    .insert(company, FinancialStatementEnum.BALANCE_SHEET, "id", document, 1000L, CreatedType.AUTO);
+            verify(xbrlScraping, times(1)).scrapeFinancialStatement(targetFile, "keyword");
+        }
+
+        @DisplayName("bs : XBRLインスタンスが無効のときは読み込まない")
+        @Test
+        void insert_instance_disabled() {
+            doNothing().when(scrapingInteractor).doBsOptionOfTotalFixedLiabilitiesIfTarget(company, document);
+
+            assertDoesNotThrow(() -> scrapingInteractor.bs(document));
+            verify(xbrlScraping, times(0)).readInstance(any());
+        }
+
         @DisplayName("bs : キーワードに合致するファイルが存在しないときはエラーにする")
         @Test
         void fundanalyzerFileException() {
@@ -315,6 +631,60 @@ class ScrapingInteractorTest {
             verify(documentSpecification, times(1)).updateFsToDone(document, FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT, "file");
         }
 
+        @DisplayName("pl : タグ付けされた前期の数値を前期の財務諸表として登録する")
+        @Test
+        void insert_fact_previousPeriod() {
+            var plSubject = new PlSubject("id", null, null, null);
+            var factBean = FinancialFactResultBean.of("subject", 900L, 1000L);
+
+            scrapingInteractor.inlineXbrlEnabled = true;
+            scrapingInteractor.previousPeriodEnabled = true;
+            when(xbrlScraping.scrapeFinancialFacts(file, "keyword")).thenReturn(List.of(factBean));
+            when(subjectSpecification.findPlSubject("subject")).thenReturn(Optional.of(plSubject));
+
+            assertDoesNotThrow(() -> scrapingInteractor.pl(document));
+            verify(financialStatementSpecification, times(1))
+                    .insert(company, FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT, "id", document, 1000L, CreatedType.AUTO);
+            verify(financialStatementSpecification, times(1))
+                    .insertPreviousPeriod(company, FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT, "id", document, 900L);
+        }
+
+        @DisplayName("pl : タグ付けされた数値から損益計算書を登録する")
+        @Test
+        void insert_fact() {
+            var plSubject = new PlSubject("id", null, null, null);
+            var factBean = FinancialFactResultBean.of("subject", null, -1000L);
+
+            scrapingInteractor.inlineXbrlEnabled = true;
+            when(xbrlScraping.scrapeFinancialFacts(file, "keyword")).thenReturn(List.of(factBean));
+            when(subjectSpecification.findPlSubject("subject")).thenReturn(Optional.of(plSubject));
+
+            assertDoesNotThrow(() -> scrapingInteractor.pl(document));
+            verify(financialStatementSpecification, times(1))
+                    .insert(company, FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT, "id", document, -1000L, CreatedType.AUTO);
+            verify(xbrlScraping, times(0)).scrapeFinancialStatement(any(), any());
+        }
+
+        @DisplayName("pl : XBRLインスタンスの値を先に登録する")
+        @Test
+        void insert_instance() {
+            var targetFile = new File("directory/file");
+            var instance = Mockito.mock(XbrlInstance.class);
+            var subject = new PlSubject("id", "11", "1", "当期純利益");
+
+            scrapingInteractor.xbrlInstanceEnabled = true;
+            doReturn(Pair.of(targetFile, scrapingKeyword)).when(scrapingInteractor).findTargetFile(any(), eq(FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT), eq(document));
+            when(xbrlScraping.isConsolidated("keyword")).thenReturn(false);
+            when(xbrlScraping.readInstance(new File("directory"))).thenReturn(Optional.of(instance));
+            when(instance.findCurrentValue(any(), eq(false))).thenReturn(Optional.empty());
+            when(instance.findCurrentValue(PlSubject.PlEnum.NET_INCOME.getElementNameList(), false)).thenReturn(Optional.of(-1000L));
+            when(subjectSpecification.findPlSubjectList(PlSubject.PlEnum.NET_INCOME)).thenReturn(List.of(subject));
+
+            assertDoesNotThrow(() -> scrapingInteractor.pl(document));
+            verify(financialStatementSpecification, times(1))
+                    .insert(company, FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT, "id", document, -1000L, CreatedType.AUTO);
+        }
+
         @DisplayName("pl : キーワードに合致するファイルが存在しないときはエラーにする")
         @Test
         void fundanalyzerFileException() {
@@ -392,6 +762,143 @@ class ScrapingInteractorTest {
         }
     }
 
+    @Nested
+    class scrape {
+
+        Document document = defaultDocument(DocumentTypeCode.DTC_120);
+        Company company = defaultCompany();
+
+        File bsFile = new File("bsFile");
+        File plFile = new File("plFile");
+        File nsFile = new File("nsFile");
+        ScrapingKeywordEntity bsKeyword = new ScrapingKeywordEntity(null, "1", "bsKeyword", null, null, null);
+        ScrapingKeywordEntity plKeyword = new ScrapingKeywordEntity(null, "2", "plKeyword", null, null, null);
+        ScrapingKeywordEntity nsKeyword = new ScrapingKeywordEntity(null, "4", "nsKeyword", null, null, null);
+        XbrlFileIndex fileIndex = Mockito.mock(XbrlFileIndex.class);
+
+        @BeforeEach
+        void setUp() {
+            when(companySpecification.findCompanyByEdinetCode("edinetCode")).thenReturn(Optional.of(company));
+            when(scrapingKeywordDao.selectAll()).thenReturn(List.of(bsKeyword, plKeyword, nsKeyword));
+            when(xbrlScraping.indexFiles(any(), eq(List.of("bsKeyword", "plKeyword", "nsKeyword")))).thenReturn(fileIndex);
+            when(xbrlScraping.findFile(fileIndex, bsKeyword, document)).thenReturn(Optional.of(bsFile));
+            when(xbrlScraping.findFile(fileIndex, plKeyword, document)).thenReturn(Optional.of(plFile));
+            when(xbrlScraping.findFile(fileIndex, nsKeyword, document)).thenReturn(Optional.of(nsFile));
+            when(xbrlScraping.scrapeNumberOfShares(nsFile, "nsKeyword")).thenReturn("1000");
+            doNothing().when(scrapingInteractor).doBsOptionOfTotalFixedLiabilitiesIfTarget(company, document);
+            doNothing().when(scrapingInteractor).doBsOptionOfTotalInvestmentsAndOtherAssetsIfTarget(company, document);
+        }
+
+        @DisplayName("scrape : 企業情報とファイルの索引を1回だけ取得して財務諸表をスクレイピングする")
+        @Test
+        void all() {
+            assertDoesNotThrow(() -> scrapingInteractor.scrape(document, List.of(
+                    FinancialStatementEnum.BALANCE_SHEET,
+                    FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT,
+                    FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES
+            )));
+            verify(companySpecification, times(1)).findCompanyByEdinetCode("edinetCode");
+            verify(scrapingKeywordDao, times(1)).selectAll();
+            verify(xbrlScraping, times(1)).indexFiles(any(), any());
+            verify(xbrlScraping, times(1)).scrapeFinancialStatement(bsFile, "bsKeyword");
+            verify(xbrlScraping, times(1)).scrapeFinancialStatement(plFile, "plKeyword");
+            verify(financialStatementSpecification, times(1))
+                    .insert(company, FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES, "0", document, 1000L, CreatedType.AUTO);
+            verify(documentSpecification, times(1)).updateFsStatus(document, List.of(
+                    ScrapingResult.ofDone(FinancialStatementEnum.BALANCE_SHEET, "bsFile"),
+                    ScrapingResult.ofDone(FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT, "plFile"),
+                    ScrapingResult.ofDone(FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES, "nsFile")
+            ));
+            verify(documentSpecification, times(0)).updateFsToDone(any(), any(), any());
+        }
+
+        @DisplayName("scrape : 指定された財務諸表のみをスクレイピングする")
+        @Test
+        void target() {
+            assertDoesNotThrow(() -> scrapingInteractor.scrape(document, List.of(FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES)));
+            verify(xbrlScraping, times(0)).scrapeFinancialStatement(any(), any());
+            verify(documentSpecification, times(1)).updateFsStatus(document, List.of(
+                    ScrapingResult.ofDone(FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES, "nsFile")
+            ));
+        }
+
+        @DisplayName("scrape : 文書モデルのメモリ量の上限内で解析を開始し、文書モデルを破棄してから解放する")
+        @Test
+        void memoryGovernor() {
+            var permit = Mockito.mock(XbrlMemoryGovernor.Permit.class);
+            when(xbrlMemoryGovernor.acquire(any())).thenReturn(permit);
+
+            assertDoesNotThrow(() -> scrapingInteractor.scrape(document, List.of(FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES)));
+            verify(xbrlMemoryGovernor, times(1)).acquire(any());
+            var inOrder = Mockito.inOrder(xbrlScraping, permit);
+            inOrder.verify(xbrlScraping, times(1)).evict(any());
+            inOrder.verify(permit, times(1)).close();
+        }
+
+        @DisplayName("scrape : キーワードに合致するファイルが存在しない財務諸表はエラーにする")
+        @Test
+        void fundanalyzerFileException() {
+            when(xbrlScraping.findFile(fileIndex, plKeyword, document)).thenReturn(Optional.empty());
+
+            assertDoesNotThrow(() -> scrapingInteractor.scrape(document, List.of(
+                    FinancialStatementEnum.BALANCE_SHEET,
+                    FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT
+            )));
+            verify(documentSpecification, times(1)).updateFsStatus(document, List.of(
+                    ScrapingResult.ofDone(FinancialStatementEnum.BALANCE_SHEET, "bsFile"),
+                    ScrapingResult.ofError(FinancialStatementEnum.PROFIT_AND_LESS_STATEMENT)
+            ));
+        }
+
+        @DisplayName("scrape : ファイルを索引できないときはすべての財務諸表をエラーにする")
+        @Test
+        void indexFiles_error() {
+            when(xbrlScraping.indexFiles(any(), any())).thenThrow(FundanalyzerFileException.class);
+
+            assertDoesNotThrow(() -> scrapingInteractor.scrape(document, List.of(
+                    FinancialStatementEnum.BALANCE_SHEET,
+                    FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES
+            )));
+            verify(documentSpecification, times(1)).updateFsStatus(document, List.of(
+                    ScrapingResult.ofError(FinancialStatementEnum.BALANCE_SHEET),
+                    ScrapingResult.ofError(FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES)
+            ));
+        }
+
+        @DisplayName("scrape : 想定外のエラーのときは完了した財務諸表の処理ステータスを更新してからスローする")
+        @Test
+        void runtimeException() {
+            when(xbrlScraping.scrapeNumberOfShares(nsFile, "nsKeyword")).thenThrow(new IllegalStateException());
+
+            assertThrows(IllegalStateException.class, () -> scrapingInteractor.scrape(document, List.of(
+                    FinancialStatementEnum.BALANCE_SHEET,
+                    FinancialStatementEnum.TOTAL_NUMBER_OF_SHARES
+            )));
+            verify(documentSpecification, times(1)).updateFsStatus(document, List.of(
+                    ScrapingResult.ofDone(FinancialStatementEnum.BALANCE_SHEET, "bsFile")
+            ));
+        }
+
+        @DisplayName("scrape : 対象の財務諸表がないときは何もしない")
+        @Test
+        void empty() {
+            assertDoesNotThrow(() -> scrapingInteractor.scrape(document, List.of()));
+            verify(companySpecification, times(0)).findCompanyByEdinetCode(any());
+            verify(documentSpecification, times(0)).updateFsStatus(any(), any());
+        }
+    }
+
+    @Nested
+    class reloadSubject {
+
+        @DisplayName("reloadSubject : 科目の辞書を読み込み直す")
+        @Test
+        void reload() {
+            assertDoesNotThrow(() -> scrapingInteractor.reloadSubject());
+            verify(subjectSpecification, times(1)).reload();
+        }
+    }
+
     @Nested
     class findTargetFile {
 
@@ -399,31 +906,47 @@ class ScrapingInteractorTest {
 
         ScrapingKeywordEntity scrapingKeyword = new ScrapingKeywordEntity(
                 null,
-                null,
+                "1",
                 "keyword",
                 null,
                 "remarks",
                 null
         );
+        ScrapingKeywordEntity scrapingKeywordOfPl = new ScrapingKeywordEntity(
+                null,
+                "2",
+                "keywordOfPl",
+                null,
+                "remarks",
+                null
+        );
         File targetFile = new File("");
+        XbrlFileIndex fileIndex = Mockito.mock(XbrlFileIndex.class);
+
+        @BeforeEach
+        void setUp() {
+            when(scrapingKeywordDao.selectAll()).thenReturn(List.of(scrapingKeyword, scrapingKeywordOfPl));
+            when(xbrlScraping.indexFiles(targetFile, List.of("keyword", "keywordOfPl"))).thenReturn(fileIndex);
+        }
 
         @DisplayName("findTargetFile : フォルダから処理対象のファイルを取得する")
         @Test
         void ok() {
-            when(scrapingKeywordDao.selectByFinancialStatementId("1")).thenReturn(List.of(scrapingKeyword));
-            when(xbrlScraping.findFile(targetFile, scrapingKeyword, document)).thenReturn(Optional.of(new File("actual")));
+            when(xbrlScraping.findFile(fileIndex, scrapingKeyword, document)).thenReturn(Optional.of(new File("actual")));
 
             var actual = scrapingInteractor.findTargetFile(targetFile, FinancialStatementEnum.BALANCE_SHEET, document);
 
             assertEquals(new File("actual"), actual.getFirst());
             assertEquals(scrapingKeyword, actual.getSecond());
+            verify(xbrlScraping, times(1)).indexFiles(any(), any());
+            verify(xbrlScraping, times(0)).findFile(fileIndex, scrapingKeywordOfPl, document);
+            verify(scrapingKeywordSpecification, times(1)).recordHit(FinancialStatementEnum.BALANCE_SHEET, document, "keyword");
         }
 
         @DisplayName("findTargetFile : 対象のファイルが存在しなかったらエラー発生する")
         @Test
         void noFile() {
-            when(scrapingKeywordDao.selectByFinancialStatementId("1")).thenReturn(List.of(scrapingKeyword));
-            when(xbrlScraping.findFile(targetFile, scrapingKeyword, document)).thenThrow(FundanalyzerFileException.class);
+            when(xbrlScraping.findFile(fileIndex, scrapingKeyword, document)).thenThrow(FundanalyzerFileException.class);
 
             assertThrows(FundanalyzerFileException.class, () -> scrapingInteractor.findTargetFile(targetFile, FinancialStatementEnum.BALANCE_SHEET, document));
         }
@@ -431,52 +954,102 @@ class ScrapingInteractorTest {
         @DisplayName("findTargetFile : キーワードに合致するファイルが存在しなかったらエラー発生する")
         @Test
         void noKeyword() {
-            when(scrapingKeywordDao.selectByFinancialStatementId("1")).thenReturn(List.of(scrapingKeyword));
-            when(xbrlScraping.findFile(targetFile, scrapingKeyword, document)).thenReturn(Optional.empty());
+            when(xbrlScraping.findFile(fileIndex, scrapingKeyword, document)).thenReturn(Optional.empty());
 
             assertThrows(FundanalyzerFileException.class, () -> scrapingInteractor.findTargetFile(targetFile, FinancialStatementEnum.BALANCE_SHEET, document));
+            verify(scrapingKeywordSpecification, times(1)).recordMiss(FinancialStatementEnum.BALANCE_SHEET, document);
         }
-    }
 
-    @Nested
-    class sortedScrapingKeywordList {
-
-        @DisplayName("priority : スクレイピングするためのキーワードを並び替える")
-        @Test
-        void priority() {
-            final List<ScrapingKeywordEntity> list = List.of(
-                    new ScrapingKeywordEntity(
-                            1,
-                            null,
-                            "keyword",
-                            null,
-                            "remarks",
-                            null
-                    ),
-                    new ScrapingKeywordEntity(
-                            2,
-                            null,
-                            "keyword",
-                            1,
-                            "remarks",
-                            null
-                    ),
-                    new ScrapingKeywordEntity(
-                            3,
-                            null,
-                            "keyword",
-                            2,
-                            "remarks",
-                            null
-                    )
-            );
-
-            var actual = scrapingInteractor.sortedScrapingKeywordList(list);
-            assertAll(
-                    () -> assertEquals(2, actual.get(0).getId()),
-                    () -> assertEquals(3, actual.get(1).getId()),
-                    () -> assertEquals(1, actual.get(2).getId())
-            );
+        @DisplayName("findTargetFile : 合致実績の多いキーワードから順に試行する")
+        @Test
+        void sorted() {
+            var scrapingKeyword2 = new ScrapingKeywordEntity(null, "1", "keyword2", null, "remarks", null);
+            when(scrapingKeywordDao.selectAll()).thenReturn(List.of(scrapingKeyword, scrapingKeyword2, scrapingKeywordOfPl));
+            when(scrapingKeywordSpecification.sortedScrapingKeywordList(
+                    FinancialStatementEnum.BALANCE_SHEET, document, List.of(scrapingKeyword, scrapingKeyword2)))
+                    .thenReturn(List.of(scrapingKeyword2, scrapingKeyword));
+            when(xbrlScraping.indexFiles(targetFile, List.of("keyword", "keyword2", "keywordOfPl"))).thenReturn(fileIndex);
+            when(xbrlScraping.findFile(fileIndex, scrapingKeyword2, document)).thenReturn(Optional.of(new File("actual")));
+
+            var actual = scrapingInteractor.findTargetFile(targetFile, FinancialStatementEnum.BALANCE_SHEET, document);
+
+            assertEquals(scrapingKeyword2, actual.getSecond());
+            verify(xbrlScraping, times(0)).findFile(fileIndex, scrapingKeyword, document);
+        }
+
+        @DisplayName("findTargetFile : 前回と同じファイル・キーワードで取得できたときは索引しない")
+        @Test
+        void hint_hit() {
+            scrapingInteractor.scrapingHintEnabled = true;
+            when(scrapingHintSpecification.findHint(document, FinancialStatementEnum.BALANCE_SHEET))
+                    .thenReturn(Optional.of(ScrapingHintEntity.of("edinetCode", "120", FinancialStatementEnum.BALANCE_SHEET, "keyword", "0105010", null)));
+            when(xbrlScraping.findFile(targetFile, "0105010", "keyword")).thenReturn(Optional.of(new File("0105010_honbun.htm")));
+
+            var actual = scrapingInteractor.findTargetFile(targetFile, FinancialStatementEnum.BALANCE_SHEET, document);
+
+            assertEquals(new File("0105010_honbun.htm"), actual.getFirst());
+            assertEquals(scrapingKeyword, actual.getSecond());
+            verify(xbrlScraping, times(0)).indexFiles(any(), any());
+            verify(scrapingHintSpecification, times(1)).recordResult(true);
+            verify(scrapingHintSpecification, times(0)).upsert(any(), any(), any(), any());
+            verify(scrapingKeywordSpecification, times(0)).recordHit(any(), any(), any());
+        }
+
+        @DisplayName("findTargetFile : 前回のキーワードより先に試行するキーワードに合致するファイルがあるときはヒントを使用しない")
+        @Test
+        void hint_preceded() {
+            scrapingInteractor.scrapingHintEnabled = true;
+            var scrapingKeyword2 = new ScrapingKeywordEntity(null, "1", "keyword2", 1, "remarks", null);
+            when(scrapingKeywordDao.selectAll()).thenReturn(List.of(scrapingKeyword, scrapingKeyword2, scrapingKeywordOfPl));
+            when(scrapingKeywordSpecification.sortedScrapingKeywordList(
+                    FinancialStatementEnum.BALANCE_SHEET, document, List.of(scrapingKeyword, scrapingKeyword2)))
+                    .thenReturn(List.of(scrapingKeyword2, scrapingKeyword));
+            when(xbrlScraping.indexFiles(targetFile, List.of("keyword", "keyword2", "keywordOfPl"))).thenReturn(fileIndex);
+            when(fileIndex.findFiles("keyword2")).thenReturn(List.of(new File("0105020_honbun.htm")));
+            when(scrapingHintSpecification.findHint(document, FinancialStatementEnum.BALANCE_SHEET))
+                    .thenReturn(Optional.of(ScrapingHintEntity.of("edinetCode", "120", FinancialStatementEnum.BALANCE_SHEET, "keyword", "0105010", null)));
+            when(xbrlScraping.findFile(fileIndex, scrapingKeyword2, document)).thenReturn(Optional.of(new File("0105020_honbun.htm")));
+
+            var actual = scrapingInteractor.findTargetFile(targetFile, FinancialStatementEnum.BALANCE_SHEET, document);
+
+            assertEquals(new File("0105020_honbun.htm"), actual.getFirst());
+            assertEquals(scrapingKeyword2, actual.getSecond());
+            verify(xbrlScraping, times(0)).findFile(targetFile, "0105010", "keyword");
+            verify(xbrlScraping, times(1)).indexFiles(any(), any());
+            verify(scrapingHintSpecification, times(1)).recordResult(false);
+            verify(scrapingHintSpecification, times(1))
+                    .upsert(document, FinancialStatementEnum.BALANCE_SHEET, new File("0105020_honbun.htm"), "keyword2");
+        }
+
+        @DisplayName("findTargetFile : 前回と同じファイル・キーワードで取得できなかったときは索引から探して記録する")
+        @Test
+        void hint_miss() {
+            scrapingInteractor.scrapingHintEnabled = true;
+            when(scrapingHintSpecification.findHint(document, FinancialStatementEnum.BALANCE_SHEET))
+                    .thenReturn(Optional.of(ScrapingHintEntity.of("edinetCode", "120", FinancialStatementEnum.BALANCE_SHEET, "keyword", "0105010", null)));
+            when(xbrlScraping.findFile(targetFile, "0105010", "keyword")).thenReturn(Optional.empty());
+            when(xbrlScraping.findFile(fileIndex, scrapingKeyword, document)).thenReturn(Optional.of(new File("0105020_honbun.htm")));
+
+            var actual = scrapingInteractor.findTargetFile(targetFile, FinancialStatementEnum.BALANCE_SHEET, document);
+
+            assertEquals(new File("0105020_honbun.htm"), actual.getFirst());
+            verify(xbrlScraping, times(1)).indexFiles(any(), any());
+            verify(scrapingHintSpecification, times(1)).recordResult(false);
+            verify(scrapingHintSpecification, times(1))
+                    .upsert(document, FinancialStatementEnum.BALANCE_SHEET, new File("0105020_honbun.htm"), "keyword");
+        }
+
+        @DisplayName("findTargetFile : 前回の記録がないときは索引から探して記録する")
+        @Test
+        void hint_none() {
+            scrapingInteractor.scrapingHintEnabled = true;
+            when(scrapingHintSpecification.findHint(document, FinancialStatementEnum.BALANCE_SHEET)).thenReturn(Optional.empty());
+            when(xbrlScraping.findFile(fileIndex, scrapingKeyword, document)).thenReturn(Optional.of(new File("actual")));
+
+            assertDoesNotThrow(() -> scrapingInteractor.findTargetFile(targetFile, FinancialStatementEnum.BALANCE_SHEET, document));
+            verify(scrapingHintSpecification, times(0)).recordResult(any(Boolean.class));
+            verify(scrapingHintSpecification, times(1))
+                    .upsert(document, FinancialStatementEnum.BALANCE_SHEET, new File("actual"), "keyword");
         }
     }
 
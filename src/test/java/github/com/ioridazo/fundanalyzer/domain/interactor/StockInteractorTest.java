@@ -52,7 +52,8 @@ class StockInteractorTest {
                 companySpecification,
                 documentSpecification,
                 stockSpecification,
-                jsoupClient
+                jsoupClient,
+                Runnable::run
         ));
         stockInteractor.isNikkei = true;
         stockInteractor.isKabuoji3 = true;
@@ -74,7 +74,8 @@ class ViewCorporateInteractorTest {
                 stockSpecification,
                 Mockito.mock(InvestmentIndicatorSpecification.class),
                 viewSpecification,
-                slackClient
+                slackClient,
+                Runnable::run
         ));
         viewCorporateInteractor.configDiscountRate = BigDecimal.valueOf(120);
         viewCorporateInteractor.configOutlierOfStandardDeviation = BigDecimal.valueOf(10000);
@@ -132,6 +133,7 @@ class ViewCorporateInteractorTest {
                     LocalDate.parse("2021-05-15"),
                     null,
                     "0",
+                    null,
                     null
             );
             var plEntity = new FinancialStatementEntity(
@@ -148,6 +150,7 @@ class ViewCorporateInteractorTest {
                     LocalDate.parse("2021-05-15"),
                     null,
                     "0",
+                    null,
                     null
             );
 
@@ -56,7 +56,8 @@ class ViewEdinetInteractorTest {
                 documentSpecification,
                 financialStatementSpecification,
                 viewSpecification,
-                slackClient
+                slackClient,
+                Runnable::run
         ));
         viewEdinetInteractor.edinetListSize = 400;
         viewEdinetInteractor.updateViewEnabled = true;
@@ -0,0 +1,158 @@
+package github.com.ioridazo.fundanalyzer.domain.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NumberNormalizerTest {
+
+    @Nested
+    class parseLong {
+
+        @DisplayName("parseLong : 財務諸表に記載された数値を解析する")
+        @ParameterizedTest
+        @CsvSource({
+                "'1,000', 1000",
+                "'△1,000', -1000",
+                "'△ 1,000', -1000",
+                "'※1 1,000', 1000",
+                "'※１ 1,000', 1000",
+                "'注3 500', 500",
+                "'*2 500', 500",
+                "'１,０００', 1000",
+                "'－', 0",
+                "'―', 0",
+                "'-', 0",
+                "'1,000,000 株', 1000000",
+                "'　1,000　', 1000",
+                "'+100', 100",
+                "'9,223,372,036,854,775,807', 9223372036854775807",
+                "'△9,223,372,036,854,775,808', -9223372036854775808",
+        })
+        void parseLong_ok(final String value, final long expected) {
+            assertEquals(expected, NumberNormalizer.parseLong(value));
+        }
+
+        @DisplayName("parseLong : 数値として認識できないときはエラーにする")
+        @ParameterizedTest
+        @ValueSource(strings = {"", " ", "株", "△", "1△", "△△1", "※", "※0 1", "注6 1", "*3 1", "1.5", "(1)", "9,223,372,036,854,775,808"})
+        void parseLong_numberFormatException(final String value) {
+            assertThrows(NumberFormatException.class, () -> NumberNormalizer.parseLong(value));
+        }
+
+        @DisplayName("parseLong : 単位を乗じる")
+        @Test
+        void parseLong_multiplier() {
+            assertEquals(-1000000L, NumberNormalizer.parseLong("△1,000", 1000));
+        }
+
+        @DisplayName("parseLong : 単位を乗じて桁あふれするときはエラーにする")
+        @Test
+        void parseLong_multiplier_overflow() {
+            assertThrows(NumberFormatException.class, () -> NumberNormalizer.parseLong("9,223,372,036,854,775", 1000000));
+        }
+    }
+
+    @Nested
+    class equivalence {
+
+        // 財務諸表のセルに現れる文字列の構成要素
+        private static final List<String> TOKEN_LIST = createTokenList();
+
+        @DisplayName("equivalence : 置換を連ねた従来の解析と同じ結果になる")
+        @ParameterizedTest
+        @ValueSource(longs = {1L, 7L, 42L, 20220401L, 987654321L})
+        void same_as_replace_chain(final long seed) {
+            final Random random = new Random(seed);
+            IntStream.range(0, 20_000).forEach(i -> {
+                final StringBuilder value = new StringBuilder();
+                final int size = random.nextInt(8);
+                for (int j = 0; j < size; j++) {
+                    value.append(TOKEN_LIST.get(random.nextInt(TOKEN_LIST.size())));
+                }
+
+                assertEquals(legacy(value.toString()), normalize(value.toString()), "value:" + value);
+            });
+        }
+
+        private Optional<Long> normalize(final String value) {
+            try {
+                return Optional.of(NumberNormalizer.parseLong(value));
+            } catch (final NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+
+        // ScrapingInteractor#parseValue の従来の実装
+        private Optional<Long> legacy(final String value) {
+            try {
+                return Optional.of(Long.parseLong(value
+                        .replace("※ ", "")
+                        .replace("※1", "").replace("※１", "")
+                        .replace("※2", "").replace("※２", "")
+                        .replace("※3", "").replace("※３", "")
+                        .replace("※4", "").replace("※４", "")
+                        .replace("※5", "").replace("※５", "")
+                        .replace("※6", "").replace("※６", "")
+                        .replace("※7", "").replace("※７", "")
+                        .replace("※8", "").replace("※８", "")
+                        .replace("※9", "").replace("※９", "")
+                        .replace("※10", "").replace("※11", "")
+                        .replace("※12", "").replace("※13", "")
+                        .replace("※14", "").replace("※15", "")
+                        .replace("※16", "").replace("※17", "")
+                        .replace("注1", "").replace("注１", "")
+                        .replace("注2", "").replace("注２", "")
+                        .replace("注3", "").replace("注３", "")
+                        .replace("注4", "").replace("注４", "")
+                        .replace("注5", "").replace("注５", "")
+                        .replace("*1", "").replace("*2", "")
+                        .replace("株", "")
+                        .replace("－", "0").replace("―", "0")
+                        .replace("-", "0")
+                        .replace(" ", "").replace(" ", "")
+                        .replace(",", "")
+                        .replace("　", "")
+                        .replace("△", "-")
+                ));
+            } catch (final NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+
+        private static List<String> createTokenList() {
+            final List<String> tokenList = new ArrayList<>();
+            for (int i = 0; i <= 9; i++) {
+                tokenList.add(String.valueOf(i));
+                tokenList.add(String.valueOf((char) ('０' + i)));
+                tokenList.add(String.valueOf(i) + i + i);
+            }
+            for (int i = 1; i <= 17; i++) {
+                tokenList.add("※" + i);
+            }
+            for (int i = 1; i <= 9; i++) {
+                tokenList.add("※" + (char) ('０' + i));
+            }
+            for (int i = 1; i <= 5; i++) {
+                tokenList.add("注" + i);
+                tokenList.add("注" + (char) ('０' + i));
+            }
+            tokenList.addAll(List.of(
+                    "※ ", "*1", "*2", "株", "－", "―", "-", " ", " ", ",", "　", "△", "+", "a", ".", "(", "円"
+            ));
+            return tokenList;
+        }
+    }
+}
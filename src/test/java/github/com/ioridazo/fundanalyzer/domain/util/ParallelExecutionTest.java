@@ -0,0 +1,118 @@
+package github.com.ioridazo.fundanalyzer.domain.util;
+
+import github.com.ioridazo.fundanalyzer.exception.FundanalyzerShortCircuitException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(10)
+class ParallelExecutionTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2, new CustomizableThreadFactory("test-"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Nested
+    class forEach {
+
+        @DisplayName("forEach : 指定したスレッドプールですべての要素を処理する")
+        @Test
+        void execute() {
+            var elements = IntStream.range(0, 20).boxed().toList();
+            var processed = new CopyOnWriteArrayList<Integer>();
+            Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+            ParallelExecution.forEach(elements, element -> {
+                processed.add(element);
+                threadNames.add(Thread.currentThread().getName());
+            }, executor);
+
+            assertAll(
+                    () -> assertEquals(elements, processed.stream().sorted().toList()),
+                    () -> assertTrue(threadNames.stream().allMatch(name -> name.startsWith("test-")), threadNames::toString)
+            );
+        }
+
+        @DisplayName("forEach : 例外が発生してもすべての要素を処理してから、発生した例外を送出する")
+        @Test
+        void exception() {
+            var elements = IntStream.range(0, 10).boxed().toList();
+            var processed = new CopyOnWriteArrayList<Integer>();
+
+            var actual = assertThrows(IllegalStateException.class, () -> ParallelExecution.forEach(elements, element -> {
+                if (element == 3) {
+                    throw new IllegalStateException("error");
+                }
+                processed.add(element);
+            }, executor));
+
+            assertAll(
+                    () -> assertEquals("error", actual.getMessage()),
+                    () -> assertEquals(9, processed.size())
+            );
+        }
+
+        @DisplayName("forEach : サーキットブレーカーがオープンしたときは残りの要素を処理せずに送出する")
+        @Test
+        void shortCircuit() {
+            var elements = IntStream.range(0, 100).boxed().toList();
+            var processed = new AtomicInteger();
+
+            var actual = assertThrows(FundanalyzerShortCircuitException.class, () -> ParallelExecution.forEach(elements, element -> {
+                if (element == 3) {
+                    throw new FundanalyzerShortCircuitException("open");
+                }
+                processed.incrementAndGet();
+                sleep();
+            }, executor));
+
+            assertAll(
+                    () -> assertEquals("open", actual.getMessage()),
+                    () -> assertTrue(processed.get() < 10, "processed: " + processed.get())
+            );
+        }
+
+        @DisplayName("forEach : 要素がないときはなにもしない")
+        @Test
+        void empty() {
+            ParallelExecution.forEach(List.<Integer>of(), element -> {
+                throw new IllegalStateException();
+            }, executor);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(20);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package github.com.ioridazo.fundanalyzer.domain.util;
+
+import github.com.ioridazo.fundanalyzer.exception.FundanalyzerRuntimeException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(10)
+class StagedPipelineTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private final List<ThreadPoolExecutor> executorList = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorList.forEach(ThreadPoolExecutor::shutdownNow);
+    }
+
+    @Nested
+    class process {
+
+        @DisplayName("process : すべての要素を段階の順に処理する")
+        @Test
+        void order() {
+            var history = new ConcurrentHashMap<Integer, List<String>>();
+            var pipeline = new StagedPipeline<Integer>("test", List.of(
+                    new StagedPipeline.Stage<>("first", executor(2, 2), i -> record(history, i, "first")),
+                    new StagedPipeline.Stage<>("second", executor(1, 1), i -> record(history, i, "second")),
+                    new StagedPipeline.Stage<>("third", executor(2, 2), i -> record(history, i, "third"))
+            ), meterRegistry);
+
+            pipeline.process(elements(20), (i, e) -> {
+            });
+
+            assertAll(
+                    () -> assertEquals(20, history.size()),
+                    () -> history.values().forEach(actual -> assertEquals(List.of("first", "second", "third"), actual))
+            );
+        }
+
+        @DisplayName("process : 例外が発生した要素のみ後段に進めず、ほかの要素の処理を継続する")
+        @Test
+        void error() {
+            var completed = new CopyOnWriteArrayList<Integer>();
+            var failed = new ConcurrentHashMap<Integer, RuntimeException>();
+            var pipeline = new StagedPipeline<Integer>("test", List.of(
+                    new StagedPipeline.Stage<>("first", executor(2, 2), i -> {
+                        if (i % 3 == 0) {
+                            throw new IllegalStateException("error " + i);
+                        }
+                    }),
+                    new StagedPipeline.Stage<>("second", executor(2, 2), completed::add)
+            ), meterRegistry);
+
+            pipeline.process(elements(9), failed::put);
+
+            assertAll(
+                    () -> assertEquals(List.of(1, 2, 4, 5, 7, 8), completed.stream().sorted().toList()),
+                    () -> assertEquals(List.of(0, 3, 6), failed.keySet().stream().sorted().toList()),
+                    () -> assertEquals("error 3", failed.get(3).getMessage())
+            );
+        }
+
+        @DisplayName("process : 後段が詰まっているときは、受け付ける件数を超えて前段から投入しない")
+        @Test
+        void back_pressure() {
+            var inFlight = new AtomicInteger();
+            var maxInFlight = new AtomicInteger();
+            var pipeline = new StagedPipeline<Integer>("test", List.of(
+                    new StagedPipeline.Stage<>("first", executor(2, 1), i -> inFlight.incrementAndGet()),
+                    new StagedPipeline.Stage<>("second", executor(1, 1), i -> {
+                        maxInFlight.accumulateAndGet(inFlight.get(), Math::max);
+                        sleep();
+                        inFlight.decrementAndGet();
+                    })
+            ), meterRegistry);
+
+            pipeline.process(elements(10), (i, e) -> {
+            });
+
+            // 後段のスレッド数とキュー（2件）、後段への投入を待つ前段のスレッド数とキュー（3件）を超えない
+            assertAll(
+                    () -> assertEquals(0, inFlight.get()),
+                    () -> assertTrue(maxInFlight.get() <= 5, "maxInFlight: " + maxInFlight.get())
+            );
+        }
+
+        @DisplayName("process : 段階ごとの処理時間とキューの待ち件数を記録する")
+        @Test
+        void metrics() {
+            var pipeline = new StagedPipeline<Integer>("test", List.of(
+                    new StagedPipeline.Stage<>("first", executor(1, 5), i -> {
+                    }),
+                    new StagedPipeline.Stage<>("second", executor(1, 5), i -> {
+                        if (i == 0) {
+                            throw new IllegalStateException();
+                        }
+                    })
+            ), meterRegistry);
+
+            pipeline.process(elements(5), (i, e) -> {
+            });
+
+            assertAll(
+                    () -> assertEquals(5, meterRegistry.get("fundanalyzer.pipeline.service")
+                            .tags("pipeline", "test", "stage", "first").timer().count()),
+                    () -> assertEquals(5, meterRegistry.get("fundanalyzer.pipeline.service")
+                            .tags("pipeline", "test", "stage", "second").timer().count()),
+                    () -> assertEquals(0, meterRegistry.get("fundanalyzer.pipeline.queue")
+                            .tags("pipeline", "test", "stage", "second").gauge().value())
+            );
+        }
+
+        @DisplayName("process : スレッドプールに拒否された要素は例外として処理する")
+        @Test
+        void rejected() {
+            var failed = new ConcurrentHashMap<Integer, RuntimeException>();
+            var second = executor(1, 1);
+            second.shutdown();
+            var pipeline = new StagedPipeline<Integer>("test", List.of(
+                    new StagedPipeline.Stage<>("first", executor(1, 1), i -> {
+                    }),
+                    new StagedPipeline.Stage<>("second", second, i -> {
+                    })
+            ), meterRegistry);
+
+            pipeline.process(elements(3), failed::put);
+
+            assertAll(
+                    () -> assertEquals(List.of(0, 1, 2), failed.keySet().stream().sorted().toList()),
+                    () -> assertInstanceOf(RejectedExecutionException.class, failed.get(0))
+            );
+        }
+
+        @DisplayName("process : 要素がないときはなにもしない")
+        @Test
+        void empty() {
+            var executor = executor(1, 1);
+            var pipeline = new StagedPipeline<Integer>("test", List.of(
+                    new StagedPipeline.Stage<>("first", executor, i -> {
+                    })
+            ), meterRegistry);
+
+            pipeline.process(List.of(), (i, e) -> {
+            });
+
+            assertEquals(0, executor.getTaskCount());
+        }
+    }
+
+    // アプリケーションの設定と同じく、スレッド数とキューの容量の合計をキューの容量とする
+    @Nested
+    class constructor {
+
+        @DisplayName("constructor : キューの容量がないスレッドプールは使用できない")
+        @Test
+        void no_capacity() {
+            var executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+            executorList.add(executor);
+            var stageList = List.of(new StagedPipeline.Stage<Integer>("first", executor, i -> {
+            }));
+
+            assertThrows(FundanalyzerRuntimeException.class, () -> new StagedPipeline<>("test", stageList, meterRegistry));
+        }
+    }
+
+    private ThreadPoolExecutor executor(final int poolSize, final int queueCapacity) {
+        var executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(poolSize + queueCapacity));
+        executorList.add(executor);
+        return executor;
+    }
+
+    private static List<Integer> elements(final int size) {
+        return IntStream.range(0, size).boxed().toList();
+    }
+
+    private static void record(final Map<Integer, List<String>> history, final Integer element, final String stage) {
+        history.computeIfAbsent(element, k -> Collections.synchronizedList(new ArrayList<>())).add(stage);
+    }
+
+    private static void sleep() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(20);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}